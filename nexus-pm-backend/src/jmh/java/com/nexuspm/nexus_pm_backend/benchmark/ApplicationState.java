@@ -0,0 +1,78 @@
+package com.nexuspm.nexus_pm_backend.benchmark;
+
+import com.nexuspm.nexus_pm_backend.NexusPmBackendApplication;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The application booted once per trial against the selected database, with the synthetic
+ * dataset loaded. {@code postgres} needs a Docker daemon for Testcontainers.
+ */
+@State(Scope.Benchmark)
+public class ApplicationState {
+
+	@Param({"h2", "postgres"})
+	public String database;
+
+	@Param("20")
+	public int projects;
+
+	@Param("500")
+	public int issuesPerProject;
+
+	ConfigurableApplicationContext context;
+	SyntheticDataset dataset;
+	private PostgreSQLContainer<?> postgres;
+
+	@Setup(Level.Trial)
+	public void start() {
+		List<String> args = new ArrayList<>(List.of(
+				"--server.port=0",
+				"--spring.jpa.show-sql=false",
+				"--spring.jpa.properties.hibernate.format_sql=false",
+				"--logging.level.root=WARN",
+				"--logging.level.com.nexuspm=WARN"));
+		if ("postgres".equals(database)) {
+			postgres = new PostgreSQLContainer<>(DockerImageName.parse("postgres:16-alpine"));
+			postgres.start();
+			String url = postgres.getJdbcUrl();
+			// jsonb columns are mapped as plain strings
+			url += (url.contains("?") ? "&" : "?") + "stringtype=unspecified";
+			args.add("--spring.datasource.url=" + url);
+			args.add("--spring.datasource.username=" + postgres.getUsername());
+			args.add("--spring.datasource.password=" + postgres.getPassword());
+			args.add("--spring.datasource.driver-class-name=org.postgresql.Driver");
+			args.add("--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.PostgreSQLDialect");
+		} else if (!"h2".equals(database)) {
+			throw new IllegalArgumentException("Unknown database: " + database);
+		}
+		context = new SpringApplicationBuilder(NexusPmBackendApplication.class).run(args.toArray(String[]::new));
+		int users = Math.max(50, projects * 5);
+		dataset = SyntheticDataset.generate(context, 42L, users, projects, 10, issuesPerProject);
+	}
+
+	@TearDown(Level.Trial)
+	public void stop() {
+		if (context != null) {
+			context.close();
+		}
+		if (postgres != null) {
+			postgres.stop();
+		}
+	}
+
+	<T> T bean(Class<T> type) {
+		return context.getBean(type);
+	}
+}
@@ -0,0 +1,124 @@
+package com.nexuspm.nexus_pm_backend.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nexuspm.nexus_pm_backend.dto.IssueDetailDto;
+import com.nexuspm.nexus_pm_backend.model.Issue;
+import com.nexuspm.nexus_pm_backend.model.IssueLabel;
+import com.nexuspm.nexus_pm_backend.model.Project;
+import com.nexuspm.nexus_pm_backend.model.Sprint;
+import com.nexuspm.nexus_pm_backend.model.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson cost of the issue graph the issue endpoints return (entity with its references and
+ * collections initialised) next to the flat detail read model carrying the same information.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class IssueSerializationBenchmark {
+
+	@Param({"5", "50"})
+	public int collectionSize;
+
+	private ObjectMapper objectMapper;
+	private Issue issue;
+	private IssueDetailDto detail;
+
+	@Setup
+	public void setUp() {
+		// Same defaults as the MVC message converters
+		objectMapper = Jackson2ObjectMapperBuilder.json().build();
+		Random random = new Random(17);
+
+		User reporter = user(0);
+		Project project = new Project();
+		project.setId(UUID.randomUUID());
+		project.setName("Benchmark project");
+		project.setKey("BP");
+		project.setLead(reporter);
+		project.setCreatedAt(LocalDateTime.now());
+
+		Sprint sprint = new Sprint();
+		sprint.setId(UUID.randomUUID());
+		sprint.setName("Sprint 1");
+		sprint.setStatus(Sprint.SprintStatus.ACTIVE);
+		sprint.setProject(project);
+
+		issue = SyntheticDataset.randomIssue(random);
+		issue.setId(UUID.randomUUID());
+		issue.setKey("BP-1");
+		issue.setProject(project);
+		issue.setReporter(reporter);
+		issue.setAssignee(user(1));
+		issue.setSprint(sprint);
+		issue.setCreatedAt(LocalDateTime.now());
+		issue.setUpdatedAt(LocalDateTime.now());
+
+		List<IssueDetailDto.LabelRef> labelRefs = new ArrayList<>();
+		List<IssueDetailDto.UserRef> watcherRefs = new ArrayList<>();
+		for (int i = 0; i < collectionSize; i++) {
+			IssueLabel label = new IssueLabel();
+			label.setId(UUID.randomUUID());
+			label.setName(SyntheticDataset.WORDS[i % SyntheticDataset.WORDS.length] + i);
+			label.setProject(project);
+			issue.getLabels().add(label);
+			labelRefs.add(new IssueDetailDto.LabelRef(label.getId(), label.getName(), label.getColor()));
+
+			User watcher = user(i + 2);
+			issue.getWatchers().add(watcher);
+			watcherRefs.add(new IssueDetailDto.UserRef(watcher.getId(), watcher.getFullName(), watcher.getAvatarUrl()));
+		}
+
+		detail = new IssueDetailDto(issue.getId(), issue.getKey(), issue.getTitle(), issue.getDescription(),
+				issue.getType(), issue.getStatus(), issue.getPriority(), issue.getStoryPoints(),
+				issue.getEstimateHours(), issue.getTimeSpentHours(), issue.getResolution(), issue.getDueDate(),
+				issue.getCreatedAt(), issue.getUpdatedAt(), issue.getResolvedAt(),
+				project.getId(), project.getKey(), project.getName(),
+				new IssueDetailDto.UserRef(reporter.getId(), reporter.getFullName(), reporter.getAvatarUrl()),
+				new IssueDetailDto.UserRef(issue.getAssignee().getId(), issue.getAssignee().getFullName(), null),
+				sprint.getId(), sprint.getName(), null, List.of(),
+				List.copyOf(labelRefs), List.copyOf(watcherRefs), List.of(), 0);
+	}
+
+	@Benchmark
+	public byte[] serializeIssueEntity() throws Exception {
+		return objectMapper.writeValueAsBytes(issue);
+	}
+
+	@Benchmark
+	public byte[] serializeIssueDetailDto() throws Exception {
+		return objectMapper.writeValueAsBytes(detail);
+	}
+
+	private static User user(int n) {
+		User user = new User();
+		user.setId(UUID.randomUUID());
+		user.setEmail("user" + n + "@bench.nexuspm.local");
+		user.setFirstName("User" + n);
+		user.setLastName("Bench");
+		user.setCreatedAt(LocalDateTime.now());
+		return user;
+	}
+}
@@ -0,0 +1,77 @@
+package com.nexuspm.nexus_pm_backend.benchmark;
+
+import com.nexuspm.nexus_pm_backend.model.Issue;
+import com.nexuspm.nexus_pm_backend.service.IssueService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class IssueServiceBenchmark {
+
+	@State(Scope.Thread)
+	public static class Cursor {
+		private final Random random = new Random(7);
+		IssueService issueService;
+		SyntheticDataset dataset;
+		Pageable pageable = PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "createdAt"));
+
+		@Setup(Level.Trial)
+		public void setUp(ApplicationState app) {
+			issueService = app.bean(IssueService.class);
+			dataset = app.dataset;
+		}
+
+		UUID project() {
+			return dataset.projectIds.get(random.nextInt(dataset.projectIds.size()));
+		}
+
+		UUID member(UUID projectId) {
+			var members = dataset.memberIdsByProject.get(projectId);
+			return members.get(random.nextInt(members.size()));
+		}
+
+		String term() {
+			return SyntheticDataset.WORDS[random.nextInt(SyntheticDataset.WORDS.length)];
+		}
+
+		Issue issue() {
+			return SyntheticDataset.randomIssue(random);
+		}
+	}
+
+	/**
+	 * Includes the project and reporter lookups, key allocation and the after-commit listeners'
+	 * synchronous share.
+	 */
+	@Benchmark
+	public Issue createIssue(Cursor cursor) {
+		UUID projectId = cursor.project();
+		return cursor.issueService.createIssue(cursor.issue(), projectId, cursor.member(projectId));
+	}
+
+	@Benchmark
+	public Page<Issue> searchIssuesByProject(Cursor cursor) {
+		return cursor.issueService.searchIssuesByProject(cursor.project(), cursor.term(), cursor.pageable);
+	}
+}
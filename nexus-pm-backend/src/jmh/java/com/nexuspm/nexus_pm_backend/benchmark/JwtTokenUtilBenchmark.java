@@ -0,0 +1,80 @@
+package com.nexuspm.nexus_pm_backend.benchmark;
+
+import com.nexuspm.nexus_pm_backend.model.User;
+import com.nexuspm.nexus_pm_backend.security.JwtPrincipal;
+import com.nexuspm.nexus_pm_backend.security.JwtTokenUtil;
+import com.nexuspm.nexus_pm_backend.security.JwtVerificationCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token checks done on every authenticated request. No Spring context: the util is wired by hand
+ * the way the container would.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtTokenUtilBenchmark {
+
+	private JwtTokenUtil jwtTokenUtil;
+	private JwtVerificationCache verificationCache;
+	private User user;
+	private String token;
+
+	@Setup
+	public void setUp() {
+		jwtTokenUtil = new JwtTokenUtil();
+		ReflectionTestUtils.setField(jwtTokenUtil, "jwtSecret", "benchmark-secret-benchmark-secret-benchmark-secret-0123456789");
+		ReflectionTestUtils.setField(jwtTokenUtil, "jwtExpiration", TimeUnit.HOURS.toMillis(1));
+		ReflectionTestUtils.setField(jwtTokenUtil, "refreshTokenExpiration", TimeUnit.DAYS.toMillis(7));
+		ReflectionTestUtils.invokeMethod(jwtTokenUtil, "init");
+		verificationCache = new JwtVerificationCache(10_000, Duration.ofMinutes(10),
+				new StaticListableBeanFactory().getBeanProvider(MeterRegistry.class));
+
+		user = new User();
+		user.setId(UUID.randomUUID());
+		user.setEmail("bench@nexuspm.local");
+		user.setFirstName("Bench");
+		user.setLastName("User");
+		token = jwtTokenUtil.generateToken(user);
+	}
+
+	@Benchmark
+	public Boolean validateToken() {
+		return jwtTokenUtil.validateToken(token);
+	}
+
+	@Benchmark
+	public Boolean validateTokenForUser() {
+		return jwtTokenUtil.validateToken(token, user);
+	}
+
+	@Benchmark
+	public JwtPrincipal verifyToken() {
+		return jwtTokenUtil.verifyToken(token);
+	}
+
+	// What the authentication filter does once a token has been seen
+	@Benchmark
+	public JwtPrincipal verifyToken_cached() {
+		return verificationCache.verify(token, jwtTokenUtil::verifyToken);
+	}
+}
@@ -0,0 +1,74 @@
+package com.nexuspm.nexus_pm_backend.benchmark;
+
+import com.nexuspm.nexus_pm_backend.repository.ProjectMemberRepository;
+import com.nexuspm.nexus_pm_backend.service.ProjectService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The membership check guarding most project endpoints, through the cache and straight to the
+ * repository for comparison.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProjectServiceBenchmark {
+
+	@State(Scope.Thread)
+	public static class Cursor {
+		private final Random random = new Random(11);
+		ProjectService projectService;
+		ProjectMemberRepository projectMemberRepository;
+		SyntheticDataset dataset;
+
+		@Setup(Level.Trial)
+		public void setUp(ApplicationState app) {
+			projectService = app.bean(ProjectService.class);
+			projectMemberRepository = app.bean(ProjectMemberRepository.class);
+			dataset = app.dataset;
+		}
+
+		UUID project() {
+			return dataset.projectIds.get(random.nextInt(dataset.projectIds.size()));
+		}
+
+		UUID pick(List<UUID> ids) {
+			return ids.get(random.nextInt(ids.size()));
+		}
+	}
+
+	@Benchmark
+	public boolean isUserMemberOfProject_member(Cursor cursor) {
+		UUID projectId = cursor.project();
+		return cursor.projectService.isUserMemberOfProject(projectId, cursor.pick(cursor.dataset.memberIdsByProject.get(projectId)));
+	}
+
+	@Benchmark
+	public boolean isUserMemberOfProject_nonMember(Cursor cursor) {
+		UUID projectId = cursor.project();
+		return cursor.projectService.isUserMemberOfProject(projectId, cursor.pick(cursor.dataset.nonMemberIdsByProject.get(projectId)));
+	}
+
+	@Benchmark
+	public boolean membershipQuery_uncached(Cursor cursor) {
+		UUID projectId = cursor.project();
+		UUID userId = cursor.pick(cursor.dataset.memberIdsByProject.get(projectId));
+		return cursor.projectMemberRepository.findByProjectIdAndUserId(projectId, userId).isPresent();
+	}
+}
@@ -0,0 +1,73 @@
+package com.nexuspm.nexus_pm_backend.benchmark;
+
+import com.nexuspm.nexus_pm_backend.model.Sprint;
+import com.nexuspm.nexus_pm_backend.repository.SprintRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link Sprint#getCompletedStoryPoints()} on a sprint already in memory, and the way request
+ * handlers see it: load the sprint, then touch the lazily loaded counters.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SprintBenchmark {
+
+	@State(Scope.Thread)
+	public static class Cursor {
+		private final Random random = new Random(13);
+		SprintRepository sprintRepository;
+		TransactionTemplate readOnly;
+		SyntheticDataset dataset;
+		Sprint loaded;
+
+		@Setup(Level.Trial)
+		public void setUp(ApplicationState app) {
+			sprintRepository = app.bean(SprintRepository.class);
+			readOnly = new TransactionTemplate(app.bean(PlatformTransactionManager.class));
+			readOnly.setReadOnly(true);
+			dataset = app.dataset;
+			UUID sprintId = dataset.sprintIds.get(0);
+			loaded = readOnly.execute(status -> {
+				Sprint sprint = sprintRepository.findById(sprintId).orElseThrow();
+				sprint.getCompletedStoryPoints();
+				return sprint;
+			});
+		}
+
+		UUID sprint() {
+			return dataset.sprintIds.get(random.nextInt(dataset.sprintIds.size()));
+		}
+	}
+
+	@Benchmark
+	public int completedStoryPoints_inMemory(Cursor cursor) {
+		return cursor.loaded.getCompletedStoryPoints();
+	}
+
+	@Benchmark
+	public Integer completedStoryPoints_loaded(Cursor cursor) {
+		UUID sprintId = cursor.sprint();
+		return cursor.readOnly.execute(status -> cursor.sprintRepository.findById(sprintId)
+				.map(Sprint::getCompletedStoryPoints)
+				.orElse(0));
+	}
+}
@@ -0,0 +1,133 @@
+package com.nexuspm.nexus_pm_backend.benchmark;
+
+import com.nexuspm.nexus_pm_backend.model.Issue;
+import com.nexuspm.nexus_pm_backend.model.Project;
+import com.nexuspm.nexus_pm_backend.model.ProjectMember;
+import com.nexuspm.nexus_pm_backend.model.Sprint;
+import com.nexuspm.nexus_pm_backend.model.User;
+import com.nexuspm.nexus_pm_backend.repository.UserRepository;
+import com.nexuspm.nexus_pm_backend.service.IssueService;
+import com.nexuspm.nexus_pm_backend.service.ProjectService;
+import com.nexuspm.nexus_pm_backend.service.SprintService;
+import org.springframework.context.ApplicationContext;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * Seeds users, projects, memberships, one active sprint per project and issues through the
+ * regular services, so keys, sequences and sprint counters are exactly what production writes.
+ * The same seed always yields the same dataset.
+ */
+public final class SyntheticDataset {
+
+	static final String[] WORDS = {
+			"login", "deploy", "cache", "timeout", "dashboard", "export", "billing", "search", "upload",
+			"sprint", "report", "webhook", "migration", "permissions", "notification", "latency", "mobile",
+			"invoice", "onboarding", "audit", "sync", "retry", "pagination", "session", "schema"
+	};
+
+	final List<UUID> userIds = new ArrayList<>();
+	final List<UUID> projectIds = new ArrayList<>();
+	final List<UUID> sprintIds = new ArrayList<>();
+	final Map<UUID, List<UUID>> memberIdsByProject = new HashMap<>();
+	final Map<UUID, List<UUID>> nonMemberIdsByProject = new HashMap<>();
+
+	private SyntheticDataset() {
+	}
+
+	static SyntheticDataset generate(ApplicationContext context, long seed, int users, int projects,
+			int membersPerProject, int issuesPerProject) {
+		UserRepository userRepository = context.getBean(UserRepository.class);
+		ProjectService projectService = context.getBean(ProjectService.class);
+		SprintService sprintService = context.getBean(SprintService.class);
+		IssueService issueService = context.getBean(IssueService.class);
+		Random random = new Random(seed);
+		SyntheticDataset dataset = new SyntheticDataset();
+
+		List<User> newUsers = new ArrayList<>(users);
+		for (int i = 0; i < users; i++) {
+			User user = new User();
+			user.setEmail("user" + i + "@bench.nexuspm.local");
+			user.setPasswordHash("{noop}benchmark");
+			user.setFirstName("User" + i);
+			user.setLastName(WORDS[random.nextInt(WORDS.length)]);
+			newUsers.add(user);
+		}
+		userRepository.saveAll(newUsers).forEach(user -> dataset.userIds.add(user.getId()));
+
+		for (int p = 0; p < projects; p++) {
+			UUID leadId = dataset.userIds.get(random.nextInt(users));
+			Project project = new Project();
+			project.setName("Benchmark project " + p);
+			project.setKey("BP" + p);
+			project.setDescription("Synthetic project " + p);
+			UUID projectId = projectService.createProject(project, leadId).getId();
+			dataset.projectIds.add(projectId);
+
+			List<UUID> members = new ArrayList<>();
+			members.add(leadId);
+			List<UUID> candidates = new ArrayList<>(dataset.userIds);
+			candidates.remove(leadId);
+			Collections.shuffle(candidates, random);
+			for (UUID userId : candidates.subList(0, Math.min(membersPerProject - 1, candidates.size()))) {
+				projectService.addMemberToProject(projectId, userId, ProjectMember.MemberRole.DEVELOPER);
+				members.add(userId);
+			}
+			dataset.memberIdsByProject.put(projectId, members);
+			List<UUID> nonMembers = new ArrayList<>(dataset.userIds);
+			nonMembers.removeAll(members);
+			dataset.nonMemberIdsByProject.put(projectId, nonMembers);
+
+			Sprint sprint = new Sprint();
+			sprint.setName("Sprint " + p);
+			sprint.setStatus(Sprint.SprintStatus.ACTIVE);
+			sprint.setStartDate(LocalDateTime.now().minusDays(7));
+			sprint.setEndDate(LocalDateTime.now().plusDays(7));
+			sprint = sprintService.createSprint(sprint, projectId);
+			dataset.sprintIds.add(sprint.getId());
+
+			for (int i = 0; i < issuesPerProject; i++) {
+				Issue issue = randomIssue(random);
+				// A third of the issues are in the sprint, so its counters have something to add up
+				if (i % 3 == 0) {
+					issue.setSprint(sprint);
+				}
+				issueService.createIssue(issue, projectId, members.get(random.nextInt(members.size())));
+			}
+		}
+		return dataset;
+	}
+
+	static Issue randomIssue(Random random) {
+		Issue issue = new Issue();
+		issue.setTitle(sentence(random, 4 + random.nextInt(4)));
+		issue.setDescription(sentence(random, 20 + random.nextInt(40)));
+		issue.setType(pick(random, Issue.IssueType.values()));
+		issue.setStatus(pick(random, Issue.IssueStatus.values()));
+		issue.setPriority(pick(random, Issue.IssuePriority.values()));
+		issue.setStoryPoints(random.nextInt(4) == 0 ? null : 1 + random.nextInt(13));
+		return issue;
+	}
+
+	static String sentence(Random random, int words) {
+		StringBuilder text = new StringBuilder();
+		for (int i = 0; i < words; i++) {
+			if (i > 0) {
+				text.append(' ');
+			}
+			text.append(WORDS[random.nextInt(WORDS.length)]);
+		}
+		return text.toString();
+	}
+
+	private static <T> T pick(Random random, T[] values) {
+		return values[random.nextInt(values.length)];
+	}
+}
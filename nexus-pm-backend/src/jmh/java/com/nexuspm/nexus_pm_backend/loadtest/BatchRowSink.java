@@ -0,0 +1,64 @@
+package com.nexuspm.nexus_pm_backend.loadtest;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+/**
+ * Batched prepared inserts for databases without a COPY protocol (the embedded H2).
+ */
+final class BatchRowSink implements RowSink {
+
+	private static final int BATCH_SIZE = 5_000;
+
+	private final PreparedStatement statement;
+	private final int columns;
+	private int pending;
+	private long rows;
+
+	BatchRowSink(Connection connection, String table, String... columns) throws SQLException {
+		this.columns = columns.length;
+		StringBuilder sql = new StringBuilder("INSERT INTO ").append(RowSink.quote(table))
+				.append(" (").append(RowSink.columnList(columns)).append(") VALUES (");
+		for (int i = 0; i < columns.length; i++) {
+			sql.append(i == 0 ? "?" : ", ?");
+		}
+		this.statement = connection.prepareStatement(sql.append(')').toString());
+	}
+
+	@Override
+	public void row(Object... values) throws SQLException {
+		if (values.length != columns) {
+			throw new IllegalArgumentException("Expected " + columns + " values but got " + values.length);
+		}
+		for (int i = 0; i < values.length; i++) {
+			statement.setObject(i + 1, values[i]);
+		}
+		statement.addBatch();
+		rows++;
+		if (++pending == BATCH_SIZE) {
+			flush();
+		}
+	}
+
+	private void flush() throws SQLException {
+		if (pending > 0) {
+			statement.executeBatch();
+			pending = 0;
+		}
+	}
+
+	@Override
+	public long rows() {
+		return rows;
+	}
+
+	@Override
+	public void close() throws SQLException {
+		try {
+			flush();
+		} finally {
+			statement.close();
+		}
+	}
+}
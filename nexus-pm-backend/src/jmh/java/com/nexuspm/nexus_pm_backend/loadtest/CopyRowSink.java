@@ -0,0 +1,76 @@
+package com.nexuspm.nexus_pm_backend.loadtest;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+
+/**
+ * Streams rows into Postgres as CSV through the COPY protocol, which skips per-statement
+ * parsing and planning and is an order of magnitude faster than batched inserts.
+ */
+final class CopyRowSink implements RowSink {
+
+	private final int columns;
+	private final Writer writer;
+	private long rows;
+
+	CopyRowSink(PGConnection connection, String table, String... columns) throws SQLException {
+		this.columns = columns.length;
+		String sql = "COPY " + RowSink.quote(table) + " (" + RowSink.columnList(columns) + ") FROM STDIN WITH (FORMAT csv)";
+		this.writer = new BufferedWriter(new OutputStreamWriter(
+				new PGCopyOutputStream(connection, sql, 1 << 20), StandardCharsets.UTF_8), 1 << 16);
+	}
+
+	@Override
+	public void row(Object... values) throws SQLException {
+		if (values.length != columns) {
+			throw new IllegalArgumentException("Expected " + columns + " values but got " + values.length);
+		}
+		try {
+			for (int i = 0; i < values.length; i++) {
+				if (i > 0) {
+					writer.write(',');
+				}
+				write(values[i]);
+			}
+			writer.write('\n');
+		} catch (IOException e) {
+			throw new SQLException("COPY failed after " + rows + " rows", e);
+		}
+		rows++;
+	}
+
+	private void write(Object value) throws IOException {
+		if (value == null) {
+			// An unquoted empty field is NULL in CSV mode; empty strings are written as ""
+			return;
+		}
+		if (value instanceof String text) {
+			writer.write('"');
+			writer.write(text.replace("\"", "\"\""));
+			writer.write('"');
+		} else {
+			writer.write(value.toString());
+		}
+	}
+
+	@Override
+	public long rows() {
+		return rows;
+	}
+
+	@Override
+	public void close() throws SQLException {
+		try {
+			writer.close();
+		} catch (IOException e) {
+			throw new SQLException("COPY failed after " + rows + " rows", e);
+		}
+	}
+}
@@ -0,0 +1,466 @@
+package com.nexuspm.nexus_pm_backend.loadtest;
+
+import com.nexuspm.nexus_pm_backend.model.Issue;
+import com.nexuspm.nexus_pm_backend.model.ProjectMember;
+import com.nexuspm.nexus_pm_backend.model.Sprint;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Bulk-loads a {@link TenantPlan} straight into the schema, bypassing the services: users,
+ * projects, memberships, sprints, issues, threaded comments and watchers, followed by the sprint
+ * counters the services would otherwise have maintained. Each table is written in one pass split
+ * across worker connections by project, with {@code COPY} on Postgres and batched inserts on H2.
+ *
+ * <p>Every row comes from the plan's seeded per-project random streams, so the same plan and
+ * as-of time always produce the same rows. Issues are spread over the project's lifetime, older
+ * ones mostly closed inside completed sprints and the newest ones in the active sprint or the
+ * backlog; comment and watcher counts are geometric, so most issues have a few and some have many.
+ */
+@Slf4j
+public final class LargeTenantGenerator {
+
+	private static final String[] WORDS = {
+			"login", "deploy", "cache", "timeout", "dashboard", "export", "billing", "search", "upload",
+			"sprint", "report", "webhook", "migration", "permissions", "notification", "latency", "mobile",
+			"invoice", "onboarding", "audit", "sync", "retry", "pagination", "session", "schema", "android",
+			"checkout", "payment", "token", "refresh", "import", "filter", "sorting", "avatar", "email",
+			"digest", "queue", "worker", "backup", "restore", "locale", "timezone", "chart", "widget"
+	};
+
+	private static final Issue.IssueType[] TYPES = Issue.IssueType.values();
+	private static final int[] TYPE_WEIGHTS = {2, 25, 38, 25, 10};
+
+	private static final Issue.IssuePriority[] PRIORITIES = Issue.IssuePriority.values();
+	private static final int[] PRIORITY_WEIGHTS = {5, 20, 45, 22, 8};
+
+	private static final Issue.IssueStatus[] STATUSES = Issue.IssueStatus.values();
+	private static final int[] ACTIVE_SPRINT_WEIGHTS = {30, 25, 15, 10, 10, 5, 5};
+	private static final int[] BACKLOG_WEIGHTS = {70, 5, 0, 0, 0, 20, 5};
+
+	private static final int[] STORY_POINTS = {1, 2, 3, 5, 8, 13};
+	private static final String[] RESOLUTIONS = {"Done", "Done", "Fixed", "Fixed", "Won't Do", "Duplicate"};
+
+	private static final int SPRINT_DAYS = 14;
+
+	private final TenantPlan plan;
+	private final LocalDateTime asOf;
+	private final int threads;
+	private final int userChunks;
+
+	public LargeTenantGenerator(TenantPlan plan, LocalDateTime asOf, int threads) {
+		this.plan = plan;
+		this.asOf = asOf;
+		this.threads = Math.max(1, threads);
+		this.userChunks = Math.max(this.threads, plan.users() / 10_000 + 1);
+	}
+
+	/** Whether this plan's rows are already present, so a rerun against the same database is a no-op. */
+	public boolean isLoaded(DataSource dataSource) throws SQLException {
+		try (Connection connection = dataSource.getConnection();
+			 PreparedStatement statement = connection.prepareStatement(
+					 "SELECT COUNT(*) FROM \"projects\" WHERE \"id\" = ?")) {
+			statement.setObject(1, plan.projectId(0));
+			try (ResultSet rows = statement.executeQuery()) {
+				return rows.next() && rows.getLong(1) > 0;
+			}
+		}
+	}
+
+	/** Loads every table and returns the row count written to each. */
+	public Map<String, Long> load(DataSource dataSource) throws SQLException {
+		long started = System.nanoTime();
+		Map<String, Long> rows = new LinkedHashMap<>();
+		ExecutorService workers = Executors.newFixedThreadPool(threads);
+		try {
+			rows.put("users", pass(workers, dataSource, userChunks, "users", this::writeUsers,
+					"id", "email", "password_hash", "first_name", "last_name", "provider", "role", "is_active",
+					"security_stamp", "is_email_verified", "two_factor_enabled", "timezone", "theme", "preferences",
+					"created_at", "updated_at"));
+			rows.put("projects", pass(workers, dataSource, plan.projects(), "projects", this::writeProject,
+					"id", "name", "key", "description", "status", "visibility", "settings", "start_date",
+					"created_at", "updated_at", "lead_id"));
+			rows.put("project_members", pass(workers, dataSource, plan.projects(), "project_members", this::writeMembers,
+					"id", "role", "permissions", "joined_at", "project_id", "user_id"));
+			rows.put("project_issue_sequences", pass(workers, dataSource, plan.projects(), "project_issue_sequences",
+					this::writeSequence, "project_id", "next_value", "updated_at"));
+			rows.put("sprints", pass(workers, dataSource, plan.projects(), "sprints", this::writeSprints,
+					"id", "name", "status", "goal", "start_date", "end_date", "capacity_hours", "created_at",
+					"updated_at", "completed_at", "project_id"));
+			rows.put("issues", pass(workers, dataSource, plan.projects(), "issues", this::writeIssues,
+					"id", "key", "title", "description", "type", "status", "priority", "story_points",
+					"estimate_hours", "time_spent_hours", "resolution", "due_date", "custom_fields", "created_at",
+					"updated_at", "resolved_at", "project_id", "reporter_id", "assignee_id", "parent_id", "sprint_id"));
+			rows.put("comments", pass(workers, dataSource, plan.projects(), "comments", this::writeComments,
+					"id", "content", "is_internal", "created_at", "updated_at", "issue_id", "author_id", "parent_id"));
+			rows.put("issue_watchers", pass(workers, dataSource, plan.projects(), "issue_watchers", this::writeWatchers,
+					"issue_id", "user_id"));
+		} finally {
+			workers.shutdownNow();
+		}
+		rows.putAll(aggregate(dataSource));
+		log.info("Loaded {} issues in {} projects in {}s: {}", plan.totalIssues(), plan.projects(),
+				Duration.ofNanos(System.nanoTime() - started).toSeconds(), rows);
+		return rows;
+	}
+
+	@FunctionalInterface
+	private interface PartWriter {
+		void write(RowSink sink, int part) throws SQLException;
+	}
+
+	@FunctionalInterface
+	private interface IssueVisitor {
+		void visit(GeneratedIssue issue) throws SQLException;
+	}
+
+	private record GeneratedIssue(long index, int number, Issue.IssueStatus status, int reporter, int assignee,
+			LocalDateTime createdAt) {
+
+		boolean isDone() {
+			return status == Issue.IssueStatus.RESOLVED || status == Issue.IssueStatus.CLOSED;
+		}
+	}
+
+	/**
+	 * Writes one table with every worker streaming its share of the parts over its own connection,
+	 * committing once at the end. Parts are dealt round-robin so the large projects spread out.
+	 */
+	private long pass(ExecutorService workers, DataSource dataSource, int parts, String table, PartWriter writer,
+			String... columns) throws SQLException {
+		long started = System.nanoTime();
+		List<Future<Long>> results = new ArrayList<>();
+		for (int worker = 0; worker < threads; worker++) {
+			int first = worker;
+			results.add(workers.submit(() -> {
+				try (Connection connection = dataSource.getConnection()) {
+					connection.setAutoCommit(false);
+					long written;
+					try (RowSink sink = RowSink.open(connection, table, columns)) {
+						for (int part = first; part < parts; part += threads) {
+							writer.write(sink, part);
+						}
+						written = sink.rows();
+					}
+					connection.commit();
+					return written;
+				}
+			}));
+		}
+		long rows = 0;
+		try {
+			for (Future<Long> result : results) {
+				rows += result.get();
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new SQLException("Interrupted while loading " + table, e);
+		} catch (ExecutionException e) {
+			results.forEach(result -> result.cancel(true));
+			throw e.getCause() instanceof SQLException sql ? sql : new SQLException("Failed to load " + table, e.getCause());
+		}
+		double seconds = Math.max(1, System.nanoTime() - started) / 1e9;
+		log.info("{}: {} rows in {}s ({} rows/s)", table, rows, String.format("%.1f", seconds), (long) (rows / seconds));
+		return rows;
+	}
+
+	private void writeUsers(RowSink sink, int chunk) throws SQLException {
+		int from = (int) ((long) plan.users() * chunk / userChunks);
+		int to = (int) ((long) plan.users() * (chunk + 1) / userChunks);
+		LocalDateTime joined = asOf.minusYears(3);
+		for (int user = from; user < to; user++) {
+			sink.row(plan.userId(user), "user" + user + "@loadtest.nexuspm.local", null,
+					"User" + user, WORDS[user % WORDS.length], "local", "MEMBER", true,
+					0L, true, false, "UTC", "system", "{}",
+					joined.plusMinutes(user), joined.plusMinutes(user));
+		}
+	}
+
+	private void writeProject(RowSink sink, int project) throws SQLException {
+		LocalDateTime createdAt = projectStart(project).minusDays(1);
+		sink.row(plan.projectId(project), "Load test project " + project, plan.projectKey(project),
+				"Synthetic project with " + plan.issueCount(project) + " issues", "ACTIVE", "PRIVATE", "{}",
+				createdAt, createdAt, createdAt, plan.memberUserId(project, 0));
+	}
+
+	private void writeMembers(RowSink sink, int project) throws SQLException {
+		int[] members = plan.members(project);
+		LocalDateTime joinedAt = projectStart(project).minusDays(1);
+		ProjectMember.MemberRole[] roles = ProjectMember.MemberRole.values();
+		for (int member = 0; member < members.length; member++) {
+			// The lead first, then a mostly-developer team
+			ProjectMember.MemberRole role = member == 0 ? ProjectMember.MemberRole.LEAD
+					: member % 10 == 0 ? ProjectMember.MemberRole.MANAGER
+					: roles[2 + member % (roles.length - 2)];
+			sink.row(plan.memberId(project, member), role.name(), "{}", joinedAt.plusHours(member),
+					plan.projectId(project), plan.userId(members[member]));
+		}
+	}
+
+	private void writeSequence(RowSink sink, int project) throws SQLException {
+		sink.row(plan.projectId(project), (long) plan.issueCount(project) + 1, asOf);
+	}
+
+	private void writeSprints(RowSink sink, int project) throws SQLException {
+		int completed = plan.completedSprints(project);
+		for (int sprint = 0; sprint < plan.sprintCount(project); sprint++) {
+			LocalDateTime start = sprintStart(project, sprint);
+			LocalDateTime end = start.plusDays(SPRINT_DAYS);
+			Sprint.SprintStatus status = sprint < completed ? Sprint.SprintStatus.COMPLETED
+					: sprint == completed ? Sprint.SprintStatus.ACTIVE : Sprint.SprintStatus.PLANNED;
+			sink.row(plan.sprintId(project, sprint), "Sprint " + (sprint + 1), status.name(),
+					"Ship " + WORDS[(project + sprint) % WORDS.length] + " improvements", start, end,
+					(double) plan.members(project).length * 60, start.minusDays(2), start.minusDays(2),
+					status == Sprint.SprintStatus.COMPLETED ? end : null, plan.projectId(project));
+		}
+	}
+
+	private void writeIssues(RowSink sink, int project) throws SQLException {
+		SplittableRandom details = plan.random(TenantPlan.ISSUE, project);
+		int completed = plan.completedSprints(project);
+		int[] parentCandidates = new int[16];
+		int[] candidateCount = {0};
+		issues(project, issue -> {
+			Issue.IssueType type = weighted(details, TYPES, TYPE_WEIGHTS);
+			Long parent = null;
+			if (type == Issue.IssueType.SUBTASK) {
+				if (candidateCount[0] == 0) {
+					type = Issue.IssueType.TASK;
+				} else {
+					int candidate = parentCandidates[details.nextInt(Math.min(candidateCount[0], parentCandidates.length))];
+					parent = plan.issueOffset(project) + candidate;
+				}
+			} else if (type != Issue.IssueType.EPIC) {
+				parentCandidates[candidateCount[0]++ % parentCandidates.length] = issue.number() - 1;
+			}
+
+			Integer storyPoints = null;
+			if (type != Issue.IssueType.EPIC && type != Issue.IssueType.SUBTASK && details.nextInt(5) > 0) {
+				storyPoints = STORY_POINTS[details.nextInt(STORY_POINTS.length)];
+			}
+			Double estimate = details.nextBoolean() ? (double) (storyPoints != null ? storyPoints * 4 : 1 + details.nextInt(16)) : null;
+			LocalDateTime resolvedAt = null;
+			String resolution = null;
+			double spent = 0.0;
+			if (issue.isDone()) {
+				resolvedAt = min(issue.createdAt().plusHours(4 + details.nextInt(21 * 24)), asOf);
+				resolution = RESOLUTIONS[details.nextInt(RESOLUTIONS.length)];
+				spent = estimate != null ? Math.round(estimate * (0.5 + details.nextDouble())) : 1 + details.nextInt(8);
+			}
+			LocalDateTime updatedAt = resolvedAt != null ? resolvedAt
+					: min(issue.createdAt().plusHours(details.nextInt(10 * 24)), asOf);
+			LocalDateTime dueDate = details.nextInt(10) < 3 ? issue.createdAt().plusDays(14 + details.nextInt(46)) : null;
+			int sprint = sprintOf(project, issue, details, completed);
+
+			sink.row(plan.issueId(issue.index()), plan.projectKey(project) + "-" + issue.number(),
+					sentence(details, 4 + details.nextInt(5)), sentence(details, 10 + details.nextInt(40)),
+					type.name(), issue.status().name(), weighted(details, PRIORITIES, PRIORITY_WEIGHTS).name(),
+					storyPoints, estimate, spent, resolution, dueDate, "{}", issue.createdAt(), updatedAt, resolvedAt,
+					plan.projectId(project), plan.userId(issue.reporter()),
+					issue.assignee() < 0 ? null : plan.userId(issue.assignee()),
+					parent == null ? null : plan.issueId(parent),
+					sprint < 0 ? null : plan.sprintId(project, sprint));
+		});
+	}
+
+	private void writeComments(RowSink sink, int project) throws SQLException {
+		SplittableRandom random = plan.random(TenantPlan.COMMENT, project);
+		int[] members = plan.members(project);
+		int[] topLevel = new int[TenantPlan.MAX_COMMENTS];
+		issues(project, issue -> {
+			int count = geometric(random, issue.isDone() ? 4.0 : 2.0, TenantPlan.MAX_COMMENTS);
+			int roots = 0;
+			LocalDateTime at = issue.createdAt();
+			for (int comment = 0; comment < count; comment++) {
+				at = min(at.plusMinutes(5 + (long) (-Math.log(1 - random.nextDouble()) * 12 * 60)), asOf);
+				Integer parent = null;
+				if (roots > 0 && random.nextInt(10) < 3) {
+					parent = topLevel[random.nextInt(roots)];
+				} else {
+					topLevel[roots++] = comment;
+				}
+				int roll = random.nextInt(20);
+				int author = roll < 5 && issue.assignee() >= 0 ? issue.assignee()
+						: roll < 8 ? issue.reporter() : members[skewed(random, members.length)];
+				sink.row(plan.commentId(issue.index(), comment), sentence(random, 5 + random.nextInt(36)),
+						random.nextInt(20) == 0, at, at, plan.issueId(issue.index()), plan.userId(author),
+						parent == null ? null : plan.commentId(issue.index(), parent));
+			}
+		});
+	}
+
+	private void writeWatchers(RowSink sink, int project) throws SQLException {
+		SplittableRandom random = plan.random(TenantPlan.WATCHER, project);
+		int[] members = plan.members(project);
+		int[] watchers = new int[members.length + 2];
+		issues(project, issue -> {
+			int count = 0;
+			watchers[count++] = issue.reporter();
+			if (issue.assignee() >= 0 && issue.assignee() != issue.reporter() && random.nextBoolean()) {
+				watchers[count++] = issue.assignee();
+			}
+			int extra = geometric(random, 1.0, members.length);
+			for (int i = 0; i < extra; i++) {
+				int user = members[random.nextInt(members.length)];
+				if (!contains(watchers, count, user)) {
+					watchers[count++] = user;
+				}
+			}
+			for (int i = 0; i < count; i++) {
+				sink.row(plan.issueId(issue.index()), plan.userId(watchers[i]));
+			}
+		});
+	}
+
+	/**
+	 * Replays the skeleton of a project's issues (number, status, people and creation time) from
+	 * its own random stream, so the comment and watcher passes see the same issues without holding
+	 * them in memory.
+	 */
+	private void issues(int project, IssueVisitor visitor) throws SQLException {
+		SplittableRandom random = plan.random(TenantPlan.PROJECT, project);
+		int[] members = plan.members(project);
+		int count = plan.issueCount(project);
+		LocalDateTime start = projectStart(project);
+		long span = Duration.between(start, asOf).getSeconds();
+		LocalDateTime activeStart = sprintStart(project, plan.activeSprint(project));
+		for (int number = 1; number <= count; number++) {
+			LocalDateTime createdAt = start.plusSeconds((long) ((double) span * (number - 1) / count) + random.nextInt(3600));
+			Issue.IssueStatus status;
+			if (createdAt.isBefore(activeStart)) {
+				status = random.nextInt(10) < 7
+						? (random.nextInt(10) < 9 ? (random.nextBoolean() ? Issue.IssueStatus.CLOSED : Issue.IssueStatus.RESOLVED) : Issue.IssueStatus.OPEN)
+						: weighted(random, STATUSES, BACKLOG_WEIGHTS);
+			} else {
+				status = weighted(random, STATUSES, ACTIVE_SPRINT_WEIGHTS);
+			}
+			int reporter = members[skewed(random, members.length)];
+			int assignee = random.nextInt(5) == 0 ? -1 : members[skewed(random, members.length)];
+			visitor.visit(new GeneratedIssue(plan.issueOffset(project) + number - 1, number, status, reporter,
+					assignee, createdAt));
+		}
+	}
+
+	/** Old work sits in the completed sprint it was created in; new work in the active or planned sprint. */
+	private int sprintOf(int project, GeneratedIssue issue, SplittableRandom random, int completed) {
+		LocalDateTime firstSprint = sprintStart(project, 0);
+		if (issue.createdAt().isBefore(sprintStart(project, completed))) {
+			if (issue.createdAt().isBefore(firstSprint) || random.nextInt(10) >= 7) {
+				return -1;
+			}
+			return Math.min(completed - 1, (int) (Duration.between(firstSprint, issue.createdAt()).toDays() / SPRINT_DAYS));
+		}
+		if (issue.isDone() || random.nextInt(10) < 6) {
+			return completed;
+		}
+		return random.nextInt(4) == 0 ? completed + 1 : -1;
+	}
+
+	/**
+	 * Sprint counters and per-status counts, derived in SQL from the loaded issues the same way
+	 * {@code SprintAggregateService.recompute} would.
+	 */
+	private Map<String, Long> aggregate(DataSource dataSource) throws SQLException {
+		Map<String, Long> rows = new LinkedHashMap<>();
+		try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+			rows.put("sprint_stats", (long) statement.executeUpdate(
+					"INSERT INTO \"sprint_stats\" (\"sprint_id\", \"total_story_points\", \"completed_story_points\", "
+							+ "\"issue_count\", \"completed_issue_count\", \"updated_at\") "
+							+ "SELECT s.\"id\", COALESCE(SUM(i.\"story_points\"), 0), "
+							+ "COALESCE(SUM(CASE WHEN i.\"status\" IN ('RESOLVED', 'CLOSED') THEN i.\"story_points\" END), 0), "
+							+ "COUNT(i.\"id\"), COUNT(CASE WHEN i.\"status\" IN ('RESOLVED', 'CLOSED') THEN 1 END), CURRENT_TIMESTAMP "
+							+ "FROM \"sprints\" s JOIN \"projects\" p ON p.\"id\" = s.\"project_id\" "
+							+ "LEFT JOIN \"issues\" i ON i.\"sprint_id\" = s.\"id\" "
+							+ "WHERE p.\"key\" LIKE 'LT%' GROUP BY s.\"id\""));
+			rows.put("sprint_status_counts", (long) statement.executeUpdate(
+					"INSERT INTO \"sprint_status_counts\" (\"sprint_id\", \"status\", \"issue_count\") "
+							+ "SELECT i.\"sprint_id\", i.\"status\", COUNT(*) FROM \"issues\" i "
+							+ "JOIN \"projects\" p ON p.\"id\" = i.\"project_id\" "
+							+ "WHERE i.\"sprint_id\" IS NOT NULL AND p.\"key\" LIKE 'LT%' "
+							+ "GROUP BY i.\"sprint_id\", i.\"status\""));
+			if (connection.getMetaData().getDatabaseProductName().equals("PostgreSQL")) {
+				// Fresh statistics, otherwise the first queries are planned against empty tables
+				statement.execute("ANALYZE");
+			}
+		}
+		return rows;
+	}
+
+	private LocalDateTime projectStart(int project) {
+		return sprintStart(project, 0).minusDays(30);
+	}
+
+	/** Sprints are back to back and the active one is half way through at the as-of time. */
+	private LocalDateTime sprintStart(int project, int sprint) {
+		return asOf.minusDays(SPRINT_DAYS / 2 + (long) SPRINT_DAYS * (plan.activeSprint(project) - sprint));
+	}
+
+	private static <T> T weighted(SplittableRandom random, T[] values, int[] weights) {
+		int total = 0;
+		for (int weight : weights) {
+			total += weight;
+		}
+		int roll = random.nextInt(total);
+		for (int i = 0; i < values.length; i++) {
+			roll -= weights[i];
+			if (roll < 0) {
+				return values[i];
+			}
+		}
+		return values[values.length - 1];
+	}
+
+	/** Geometric count with the given mean, capped. */
+	private static int geometric(SplittableRandom random, double mean, int max) {
+		double q = mean / (1 + mean);
+		return Math.min(max, (int) (Math.log(1 - random.nextDouble()) / Math.log(q)));
+	}
+
+	/** Index biased towards the front, so a few members do most of a project's work. */
+	private static int skewed(SplittableRandom random, int size) {
+		double roll = random.nextDouble();
+		return (int) (size * roll * roll);
+	}
+
+	private static boolean contains(int[] values, int count, int value) {
+		for (int i = 0; i < count; i++) {
+			if (values[i] == value) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static LocalDateTime min(LocalDateTime a, LocalDateTime b) {
+		return a.isBefore(b) ? a : b;
+	}
+
+	static String sentence(SplittableRandom random, int words) {
+		StringBuilder text = new StringBuilder();
+		for (int i = 0; i < words; i++) {
+			if (i > 0) {
+				text.append(' ');
+			}
+			text.append(WORDS[random.nextInt(WORDS.length)]);
+		}
+		text.setCharAt(0, Character.toUpperCase(text.charAt(0)));
+		return text.toString();
+	}
+}
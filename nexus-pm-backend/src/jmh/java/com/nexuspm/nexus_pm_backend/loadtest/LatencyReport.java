@@ -0,0 +1,93 @@
+package com.nexuspm.nexus_pm_backend.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-endpoint latency histograms for one load run. Latencies are recorded in microseconds with
+ * three significant digits; failed requests (transport errors and non-2xx answers) are counted
+ * but kept out of the histograms.
+ */
+public final class LatencyReport {
+
+	private static final long HIGHEST_MICROS = TimeUnit.MINUTES.toMicros(5);
+
+	private final Map<String, Endpoint> endpoints = new ConcurrentHashMap<>();
+	private volatile Duration measured = Duration.ZERO;
+
+	private static final class Endpoint {
+		final Histogram latency = new ConcurrentHistogram(HIGHEST_MICROS, 3);
+		final LongAdder errors = new LongAdder();
+	}
+
+	void record(String endpoint, long nanos, boolean success) {
+		Endpoint stats = endpoints.computeIfAbsent(endpoint, name -> new Endpoint());
+		if (success) {
+			stats.latency.recordValue(Math.min(HIGHEST_MICROS, Math.max(1, nanos / 1_000)));
+		} else {
+			stats.errors.increment();
+		}
+	}
+
+	void measured(Duration measured) {
+		this.measured = measured;
+	}
+
+	public long requests() {
+		return endpoints.values().stream().mapToLong(e -> e.latency.getTotalCount() + e.errors.sum()).sum();
+	}
+
+	public long errors() {
+		return endpoints.values().stream().mapToLong(e -> e.errors.sum()).sum();
+	}
+
+	public void print(PrintStream out) {
+		double seconds = Math.max(1, measured.toMillis()) / 1000.0;
+		out.printf(Locale.ROOT, "%-26s %9s %7s %8s %9s %9s %9s %9s %9s%n",
+				"endpoint", "requests", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+		new TreeMap<>(endpoints).forEach((name, stats) -> {
+			Histogram latency = stats.latency;
+			long count = latency.getTotalCount() + stats.errors.sum();
+			out.printf(Locale.ROOT, "%-26s %9d %7d %8.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+					name, count, stats.errors.sum(), count / seconds,
+					millis(latency, 50), millis(latency, 90), millis(latency, 99), millis(latency, 99.9),
+					latency.getMaxValue() / 1000.0);
+		});
+		out.printf(Locale.ROOT, "%d requests, %d errors in %.0fs (%.1f req/s)%n",
+				requests(), errors(), seconds, requests() / seconds);
+	}
+
+	/** One CSV row per endpoint, for comparing runs. */
+	public void writeCsv(Path file) throws IOException {
+		if (file.getParent() != null) {
+			Files.createDirectories(file.getParent());
+		}
+		try (Writer out = Files.newBufferedWriter(file)) {
+			out.write("endpoint,requests,errors,p50_ms,p90_ms,p99_ms,p999_ms,max_ms\n");
+			for (Map.Entry<String, Endpoint> entry : new TreeMap<>(endpoints).entrySet()) {
+				Histogram latency = entry.getValue().latency;
+				out.write(String.format(Locale.ROOT, "%s,%d,%d,%.3f,%.3f,%.3f,%.3f,%.3f%n", entry.getKey(),
+						latency.getTotalCount() + entry.getValue().errors.sum(), entry.getValue().errors.sum(),
+						millis(latency, 50), millis(latency, 90), millis(latency, 99), millis(latency, 99.9),
+						latency.getMaxValue() / 1000.0));
+			}
+		}
+	}
+
+	private static double millis(Histogram latency, double percentile) {
+		return latency.getValueAtPercentile(percentile) / 1000.0;
+	}
+}
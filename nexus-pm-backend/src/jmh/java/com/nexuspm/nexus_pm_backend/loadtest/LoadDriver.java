@@ -0,0 +1,281 @@
+package com.nexuspm.nexus_pm_backend.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Replays a mix of read and write requests against the REST API of a tenant loaded from a
+ * {@link TenantPlan}. Issues are picked uniformly across the tenant, so the large projects get
+ * proportionally more traffic, and every request acts as a member of the project it touches.
+ *
+ * <p>Without a target rate each client sends its next request as soon as the previous one
+ * answers (closed loop). With a rate, requests are scheduled at fixed intervals and latency is
+ * measured from the scheduled time, so a stalled server is charged for the requests queued behind
+ * it instead of hiding them (coordinated omission).
+ */
+@Slf4j
+public final class LoadDriver {
+
+	private static final String[] SEARCH_TERMS = {"login", "cache", "timeout", "billing", "export", "sync", "webhook"};
+	private static final String[] STATUS_CHANGES = {"IN_PROGRESS", "IN_REVIEW", "TESTING", "RESOLVED"};
+	private static final int MAX_FAILURES_LOGGED = 20;
+
+	private final HttpClient client;
+	private final String baseUrl;
+	private final TenantPlan plan;
+	private final List<Operation> operations;
+	private final int totalWeight;
+	private final AtomicInteger failuresLogged = new AtomicInteger();
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	// Where each project's deep listing walk has got to, keyed by the listing path
+	private final Map<String, CursorTrail> cursorTrails = new ConcurrentHashMap<>();
+
+	@FunctionalInterface
+	private interface RequestFactory {
+		HttpRequest.Builder create(SplittableRandom random);
+	}
+
+	@FunctionalInterface
+	private interface ResponseListener {
+		void onResponse(HttpResponse<String> response);
+	}
+
+	private record Operation(String name, int weight, RequestFactory request, ResponseListener listener) {
+
+		Operation(String name, int weight, RequestFactory request) {
+			this(name, weight, request, null);
+		}
+	}
+
+	private record CursorTrail(String cursor, int depth, int maxDepth) {
+	}
+
+	/**
+	 * @param baseUrl the server root including the servlet context path, e.g. {@code http://localhost:8080/api}
+	 */
+	public LoadDriver(String baseUrl, TenantPlan plan) {
+		this.client = HttpClient.newBuilder()
+				.version(HttpClient.Version.HTTP_1_1)
+				.connectTimeout(Duration.ofSeconds(10))
+				.build();
+		this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+		this.plan = plan;
+		// Roughly the shape of board and issue-page traffic: mostly reads, one request in eight a write
+		this.operations = List.of(
+				new Operation("GET issues/project", 20, random -> get("/api/issues/project/" + projectId(random)
+						+ "?size=20")),
+				new Operation("GET issues/project deep", 4, this::deepPage, this::followCursor),
+				new Operation("GET issues/{id}", 10, random -> get("/api/issues/" + issueId(random))),
+				new Operation("GET issues/{id}/detail", 18, random -> get("/api/issues/" + issueId(random) + "/detail")),
+				new Operation("GET comments", 12, random -> get("/api/comments?issueId=" + issueId(random))),
+				new Operation("GET issues/search", 5, random -> get("/api/issues/search?q="
+						+ SEARCH_TERMS[random.nextInt(SEARCH_TERMS.length)] + "&projectId=" + projectId(random))),
+				new Operation("GET projects/{id}/summary", 5, random -> get("/api/projects/" + projectId(random) + "/summary")),
+				new Operation("GET sprints/{id}/progress", 5, this::sprintProgress),
+				new Operation("GET notifications/unread", 8, random -> get("/api/notifications/unread-count?userId="
+						+ memberId(random, plan.projectOf(issueIndex(random))))),
+				new Operation("POST comments", 8, this::addComment),
+				new Operation("PATCH issues/{id}/status", 5, random -> request("/api/issues/" + issueId(random) + "/status")
+						.header("Content-Type", "application/json")
+						.method("PATCH", HttpRequest.BodyPublishers.ofString("{\"status\":\""
+								+ STATUS_CHANGES[random.nextInt(STATUS_CHANGES.length)] + "\"}"))));
+		this.totalWeight = operations.stream().mapToInt(Operation::weight).sum();
+	}
+
+	/**
+	 * Drives the API from {@code clients} threads for the warmup plus the measured duration.
+	 *
+	 * @param rate target requests per second across all clients, or 0 to run closed loop
+	 */
+	public LatencyReport run(int clients, Duration warmup, Duration duration, double rate) throws InterruptedException {
+		LatencyReport report = new LatencyReport();
+		long start = System.nanoTime();
+		long measureFrom = start + warmup.toNanos();
+		long end = measureFrom + duration.toNanos();
+		long interval = rate > 0 ? (long) (TimeUnit.SECONDS.toNanos(1) / rate) : 0;
+		AtomicLong tickets = new AtomicLong();
+		log.info("Driving {} with {} clients for {}s after {}s warmup{}", baseUrl, clients, duration.toSeconds(),
+				warmup.toSeconds(), rate > 0 ? " at " + rate + " req/s" : "");
+
+		ExecutorService executor = Executors.newFixedThreadPool(clients);
+		for (int c = 0; c < clients; c++) {
+			SplittableRandom random = new SplittableRandom(plan.seed() * 31 + c);
+			executor.execute(() -> drive(random, start, measureFrom, end, interval, tickets, report));
+		}
+		executor.shutdown();
+		if (!executor.awaitTermination(warmup.plus(duration).plusMinutes(1).toMillis(), TimeUnit.MILLISECONDS)) {
+			executor.shutdownNow();
+		}
+		report.measured(duration);
+		return report;
+	}
+
+	private void drive(SplittableRandom random, long start, long measureFrom, long end, long interval,
+			AtomicLong tickets, LatencyReport report) {
+		while (!Thread.currentThread().isInterrupted()) {
+			long intended;
+			if (interval > 0) {
+				intended = start + tickets.getAndIncrement() * interval;
+				if (intended >= end) {
+					return;
+				}
+				for (long wait = intended - System.nanoTime(); wait > 0; wait = intended - System.nanoTime()) {
+					LockSupport.parkNanos(wait);
+				}
+			} else {
+				intended = System.nanoTime();
+				if (intended >= end) {
+					return;
+				}
+			}
+
+			Operation operation = pick(random);
+			HttpRequest request = operation.request().create(random).build();
+			boolean success;
+			try {
+				int statusCode;
+				if (operation.listener() != null) {
+					HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+					statusCode = response.statusCode();
+					operation.listener().onResponse(response);
+				} else {
+					statusCode = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+				}
+				success = statusCode / 100 == 2;
+				if (!success) {
+					logFailure(request, "HTTP " + statusCode);
+				}
+			} catch (IOException e) {
+				success = false;
+				logFailure(request, e.toString());
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			}
+			if (intended >= measureFrom) {
+				report.record(operation.name(), System.nanoTime() - intended, success);
+			}
+		}
+	}
+
+	private Operation pick(SplittableRandom random) {
+		int roll = random.nextInt(totalWeight);
+		for (Operation operation : operations) {
+			roll -= operation.weight();
+			if (roll < 0) {
+				return operation;
+			}
+		}
+		return operations.get(operations.size() - 1);
+	}
+
+	/**
+	 * The next page of a walk down one project's issue listing. The listing is keyset paginated,
+	 * so a deep page can only be reached by following {@code nextCursor}; each walk goes a random
+	 * number of pages deep before starting over, one measured request per page.
+	 */
+	private HttpRequest.Builder deepPage(SplittableRandom random) {
+		int project = plan.projectOf(issueIndex(random));
+		String listing = "/api/issues/project/" + plan.projectId(project);
+		CursorTrail trail = cursorTrails.get(trailKey(listing));
+		if (trail == null) {
+			int pages = Math.max(1, Math.min(500, plan.issueCount(project) / 20));
+			cursorTrails.putIfAbsent(trailKey(listing), new CursorTrail(null, 0, 1 + random.nextInt(pages)));
+			return get(listing + "?size=20");
+		}
+		return trail.cursor() == null
+				? get(listing + "?size=20")
+				: get(listing + "?size=20&cursor=" + trail.cursor());
+	}
+
+	private void followCursor(HttpResponse<String> response) {
+		String key = response.uri().getPath();
+		CursorTrail trail = cursorTrails.get(key);
+		if (trail == null) {
+			return;
+		}
+		String next = null;
+		if (response.statusCode() / 100 == 2) {
+			try {
+				JsonNode nextCursor = objectMapper.readTree(response.body()).path("nextCursor");
+				next = nextCursor.isTextual() ? nextCursor.asText() : null;
+			} catch (IOException e) {
+				// Unparseable page: start the walk over
+			}
+		}
+		if (next == null || trail.depth() + 1 >= trail.maxDepth()) {
+			cursorTrails.remove(key, trail);
+		} else {
+			cursorTrails.replace(key, trail, new CursorTrail(next, trail.depth() + 1, trail.maxDepth()));
+		}
+	}
+
+	private String trailKey(String listing) {
+		return URI.create(baseUrl + listing).getPath();
+	}
+
+	private HttpRequest.Builder sprintProgress(SplittableRandom random) {
+		int project = plan.projectOf(issueIndex(random));
+		return get("/api/sprints/" + plan.sprintId(project, plan.activeSprint(project)) + "/progress");
+	}
+
+	private HttpRequest.Builder addComment(SplittableRandom random) {
+		long issue = issueIndex(random);
+		String body = "{\"issueId\":\"" + plan.issueId(issue) + "\",\"content\":\""
+				+ LargeTenantGenerator.sentence(random, 5 + random.nextInt(20)) + "\"}";
+		return request("/api/comments?userId=" + memberId(random, plan.projectOf(issue)))
+				.header("Content-Type", "application/json")
+				.POST(HttpRequest.BodyPublishers.ofString(body));
+	}
+
+	private long issueIndex(SplittableRandom random) {
+		return random.nextLong(plan.totalIssues());
+	}
+
+	private UUID issueId(SplittableRandom random) {
+		return plan.issueId(issueIndex(random));
+	}
+
+	private UUID projectId(SplittableRandom random) {
+		return plan.projectId(plan.projectOf(issueIndex(random)));
+	}
+
+	private UUID memberId(SplittableRandom random, int project) {
+		return plan.memberUserId(project, random.nextInt(plan.members(project).length));
+	}
+
+	private HttpRequest.Builder get(String path) {
+		return request(path).GET();
+	}
+
+	private HttpRequest.Builder request(String path) {
+		return HttpRequest.newBuilder(URI.create(baseUrl + path))
+				.timeout(Duration.ofSeconds(30))
+				.header("Accept", "application/json");
+	}
+
+	private void logFailure(HttpRequest request, String reason) {
+		if (failuresLogged.incrementAndGet() <= MAX_FAILURES_LOGGED) {
+			log.warn("{} {} failed: {}", request.method(), request.uri(), reason);
+		}
+	}
+}
@@ -0,0 +1,137 @@
+package com.nexuspm.nexus_pm_backend.loadtest;
+
+import com.nexuspm.nexus_pm_backend.NexusPmBackendApplication;
+import com.nexuspm.nexus_pm_backend.search.IssueSearchIndexer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import javax.sql.DataSource;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Loads a synthetic tenant and drives mixed traffic at it, printing p50/p99 latency per endpoint.
+ * By default the application is booted in-process on a random port against embedded H2 or a
+ * Testcontainers Postgres; with {@code --base-url} an already running server is driven instead,
+ * loading its database through {@code --jdbc-url} unless {@code --skip-load} is given.
+ *
+ * <pre>
+ * --scale=small|medium|large   tenant size (large: 500 projects, 50k users, 2M issues)
+ * --seed=42                    dataset and traffic seed
+ * --as-of=2026-01-01           anchor date for generated timestamps (default today)
+ * --database=h2|postgres       database of the in-process server
+ * --base-url=URL               drive an external server, e.g. http://localhost:8080/api
+ * --jdbc-url, --jdbc-user, --jdbc-password   database of the external server
+ * --skip-load                  the tenant is already loaded
+ * --load-threads=4             parallel loader connections
+ * --clients=32                 concurrent HTTP clients
+ * --rate=0                     target req/s across all clients; 0 runs closed loop
+ * --warmup=30  --duration=120  seconds
+ * --report=target/loadtest-report.csv
+ * </pre>
+ */
+@Slf4j
+public final class LoadTest {
+
+	private LoadTest() {
+	}
+
+	public static void main(String[] args) throws Exception {
+		Map<String, String> options = parse(args);
+		TenantPlan plan = TenantPlan.of(TenantPlan.Scale.parse(options.getOrDefault("scale", "small")),
+				Long.parseLong(options.getOrDefault("seed", "42")));
+		LocalDate asOf = options.containsKey("as-of") ? LocalDate.parse(options.get("as-of")) : LocalDate.now();
+		LargeTenantGenerator generator = new LargeTenantGenerator(plan, asOf.atStartOfDay(),
+				Integer.parseInt(options.getOrDefault("load-threads", "4")));
+
+		ConfigurableApplicationContext context = null;
+		PostgreSQLContainer<?> postgres = null;
+		try {
+			String baseUrl = options.get("base-url");
+			DataSource dataSource;
+			if (baseUrl != null) {
+				dataSource = options.containsKey("jdbc-url") ? new DriverManagerDataSource(options.get("jdbc-url"),
+						options.getOrDefault("jdbc-user", ""), options.getOrDefault("jdbc-password", "")) : null;
+			} else {
+				List<String> appArgs = new ArrayList<>(List.of(
+						"--server.port=0",
+						"--spring.jpa.show-sql=false",
+						"--spring.jpa.properties.hibernate.format_sql=false",
+						"--logging.level.root=WARN",
+						"--logging.level.com.nexuspm.nexus_pm_backend.loadtest=INFO"));
+				if ("postgres".equals(options.getOrDefault("database", "h2"))) {
+					postgres = new PostgreSQLContainer<>(DockerImageName.parse("postgres:16-alpine"));
+					postgres.start();
+					String url = postgres.getJdbcUrl();
+					// jsonb columns are mapped as plain strings
+					url += (url.contains("?") ? "&" : "?") + "stringtype=unspecified";
+					appArgs.add("--spring.datasource.url=" + url);
+					appArgs.add("--spring.datasource.username=" + postgres.getUsername());
+					appArgs.add("--spring.datasource.password=" + postgres.getPassword());
+					appArgs.add("--spring.datasource.driver-class-name=org.postgresql.Driver");
+					appArgs.add("--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.PostgreSQLDialect");
+				}
+				context = new SpringApplicationBuilder(NexusPmBackendApplication.class).run(appArgs.toArray(String[]::new));
+				dataSource = context.getBean(DataSource.class);
+				baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port") + "/api";
+			}
+
+			if (!options.containsKey("skip-load")) {
+				if (dataSource == null) {
+					throw new IllegalArgumentException("--jdbc-url is needed to load an external server's database");
+				}
+				if (generator.isLoaded(dataSource)) {
+					log.info("Tenant with seed {} is already loaded, skipping", plan.seed());
+				} else {
+					generator.load(dataSource);
+					if (context != null) {
+						// The in-process search index was built at startup, before the tenant existed
+						log.info("Reindexed {} issues", context.getBean(IssueSearchIndexer.class).reindexAll());
+					}
+				}
+			}
+
+			LatencyReport report = new LoadDriver(baseUrl, plan).run(
+					Integer.parseInt(options.getOrDefault("clients", "32")),
+					Duration.ofSeconds(Long.parseLong(options.getOrDefault("warmup", "30"))),
+					Duration.ofSeconds(Long.parseLong(options.getOrDefault("duration", "120"))),
+					Double.parseDouble(options.getOrDefault("rate", "0")));
+			report.print(System.out);
+			Path csv = Path.of(options.getOrDefault("report", "target/loadtest-report.csv"));
+			report.writeCsv(csv);
+			log.info("Report written to {}", csv.toAbsolutePath());
+		} finally {
+			if (context != null) {
+				context.close();
+			}
+			if (postgres != null) {
+				postgres.stop();
+			}
+		}
+	}
+
+	private static Map<String, String> parse(String[] args) {
+		Map<String, String> options = new HashMap<>();
+		for (String arg : args) {
+			if (!arg.startsWith("--")) {
+				throw new IllegalArgumentException("Unexpected argument: " + arg);
+			}
+			int equals = arg.indexOf('=');
+			if (equals < 0) {
+				options.put(arg.substring(2), "true");
+			} else {
+				options.put(arg.substring(2, equals), arg.substring(equals + 1));
+			}
+		}
+		return options;
+	}
+}
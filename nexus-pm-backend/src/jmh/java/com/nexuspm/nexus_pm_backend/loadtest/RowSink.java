@@ -0,0 +1,43 @@
+package com.nexuspm.nexus_pm_backend.loadtest;
+
+import org.postgresql.PGConnection;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Bulk writer for one table. On Postgres rows are streamed with {@code COPY ... FROM STDIN};
+ * elsewhere they go through batched prepared inserts. Values are written in column order and
+ * {@code null} means SQL NULL.
+ */
+interface RowSink extends AutoCloseable {
+
+	void row(Object... values) throws SQLException;
+
+	long rows();
+
+	@Override
+	void close() throws SQLException;
+
+	static RowSink open(Connection connection, String table, String... columns) throws SQLException {
+		if (connection.isWrapperFor(PGConnection.class)) {
+			return new CopyRowSink(connection.unwrap(PGConnection.class), table, columns);
+		}
+		return new BatchRowSink(connection, table, columns);
+	}
+
+	static String quote(String identifier) {
+		return '"' + identifier + '"';
+	}
+
+	static String columnList(String... columns) {
+		StringBuilder list = new StringBuilder();
+		for (String column : columns) {
+			if (list.length() > 0) {
+				list.append(", ");
+			}
+			list.append(quote(column));
+		}
+		return list.toString();
+	}
+}
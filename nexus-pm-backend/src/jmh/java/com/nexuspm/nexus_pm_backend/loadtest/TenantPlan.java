@@ -0,0 +1,233 @@
+package com.nexuspm.nexus_pm_backend.loadtest;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+/**
+ * Shape of a synthetic tenant: how many issues, members and sprints each project gets, and the
+ * ids of every generated row. Ids are derived from the seed and a row's index rather than stored,
+ * so the load driver can address any issue or member without reading the dataset back.
+ *
+ * <p>Issues per project follow a Zipf distribution (exponent 1), so a few projects hold a large
+ * share of the tenant the way real ones do; membership grows with the square root of project size
+ * and each project gets a two-week sprint per ~150 issues, plus one active and one planned sprint.
+ */
+public final class TenantPlan {
+
+	static final int USER = 1;
+	static final int PROJECT = 2;
+	static final int MEMBER = 3;
+	static final int SPRINT = 4;
+	static final int ISSUE = 5;
+	static final int COMMENT = 6;
+	static final int WATCHER = 7;
+
+	/** Upper bounds that keep child indexes inside their parent's id range. */
+	static final int MAX_MEMBERS = 400;
+	static final int MAX_SPRINTS = 200;
+	static final int MAX_COMMENTS = 200;
+
+	private static final int MIN_ISSUES = 20;
+	private static final int ISSUES_PER_SPRINT = 150;
+
+	public enum Scale {
+		SMALL(20, 2_000, 20_000),
+		MEDIUM(100, 10_000, 200_000),
+		LARGE(500, 50_000, 2_000_000);
+
+		final int projects;
+		final int users;
+		final int issues;
+
+		Scale(int projects, int users, int issues) {
+			this.projects = projects;
+			this.users = users;
+			this.issues = issues;
+		}
+
+		public static Scale parse(String value) {
+			return valueOf(value.trim().toUpperCase(Locale.ROOT));
+		}
+	}
+
+	private final long seed;
+	private final int users;
+	private final int[] issueCounts;
+	private final long[] issueOffsets;
+	private final int[][] members;
+	private final long totalIssues;
+
+	private TenantPlan(long seed, int users, int[] issueCounts, int[][] members) {
+		this.seed = seed;
+		this.users = users;
+		this.issueCounts = issueCounts;
+		this.members = members;
+		this.issueOffsets = new long[issueCounts.length + 1];
+		for (int p = 0; p < issueCounts.length; p++) {
+			issueOffsets[p + 1] = issueOffsets[p] + issueCounts[p];
+		}
+		this.totalIssues = issueOffsets[issueCounts.length];
+	}
+
+	public static TenantPlan of(Scale scale, long seed) {
+		return of(seed, scale.projects, scale.users, scale.issues);
+	}
+
+	public static TenantPlan of(long seed, int projects, int users, int issues) {
+		if (projects <= 0 || users <= 0 || issues < projects * MIN_ISSUES) {
+			throw new IllegalArgumentException("Need at least one project, one user and "
+					+ MIN_ISSUES + " issues per project");
+		}
+		SplittableRandom random = new SplittableRandom(mix(seed));
+
+		// Zipf weights by rank, with ranks shuffled so the largest project is not always project 0
+		int[] ranks = new int[projects];
+		for (int p = 0; p < projects; p++) {
+			ranks[p] = p + 1;
+		}
+		for (int p = projects - 1; p > 0; p--) {
+			int other = random.nextInt(p + 1);
+			int rank = ranks[p];
+			ranks[p] = ranks[other];
+			ranks[other] = rank;
+		}
+		double weightSum = 0;
+		for (int rank : ranks) {
+			weightSum += 1.0 / rank;
+		}
+		int spread = issues - projects * MIN_ISSUES;
+		int[] issueCounts = new int[projects];
+		int assigned = 0;
+		int largest = 0;
+		for (int p = 0; p < projects; p++) {
+			issueCounts[p] = MIN_ISSUES + (int) (spread * (1.0 / ranks[p]) / weightSum);
+			assigned += issueCounts[p];
+			if (issueCounts[p] > issueCounts[largest]) {
+				largest = p;
+			}
+		}
+		issueCounts[largest] += issues - assigned;
+
+		int[][] members = new int[projects][];
+		for (int p = 0; p < projects; p++) {
+			int size = Math.min(users, clamp((int) (2 * Math.sqrt(issueCounts[p])), 5, MAX_MEMBERS));
+			Set<Integer> chosen = new HashSet<>(size * 2);
+			int[] projectMembers = new int[size];
+			int filled = 0;
+			while (filled < size) {
+				int user = random.nextInt(users);
+				if (chosen.add(user)) {
+					projectMembers[filled++] = user;
+				}
+			}
+			members[p] = projectMembers;
+		}
+		return new TenantPlan(seed, users, issueCounts, members);
+	}
+
+	public long seed() {
+		return seed;
+	}
+
+	public int users() {
+		return users;
+	}
+
+	public int projects() {
+		return issueCounts.length;
+	}
+
+	public long totalIssues() {
+		return totalIssues;
+	}
+
+	public int issueCount(int project) {
+		return issueCounts[project];
+	}
+
+	long issueOffset(int project) {
+		return issueOffsets[project];
+	}
+
+	/** The project owning the issue at a tenant-wide index. */
+	public int projectOf(long issueIndex) {
+		int found = Arrays.binarySearch(issueOffsets, issueIndex);
+		return found >= 0 ? found : -found - 2;
+	}
+
+	/** Member user indexes of a project; the first one leads it. */
+	int[] members(int project) {
+		return members[project];
+	}
+
+	public int completedSprints(int project) {
+		return Math.min(MAX_SPRINTS - 2, issueCounts[project] / ISSUES_PER_SPRINT);
+	}
+
+	/** Completed sprints, then the active one, then one planned. */
+	public int sprintCount(int project) {
+		return completedSprints(project) + 2;
+	}
+
+	public int activeSprint(int project) {
+		return completedSprints(project);
+	}
+
+	public String projectKey(int project) {
+		return String.format(Locale.ROOT, "LT%03d", project);
+	}
+
+	public UUID userId(int user) {
+		return id(USER, user);
+	}
+
+	public UUID projectId(int project) {
+		return id(PROJECT, project);
+	}
+
+	public UUID memberId(int project, int member) {
+		return id(MEMBER, (long) project * MAX_MEMBERS + member);
+	}
+
+	public UUID memberUserId(int project, int member) {
+		return userId(members[project][member]);
+	}
+
+	public UUID sprintId(int project, int sprint) {
+		return id(SPRINT, (long) project * MAX_SPRINTS + sprint);
+	}
+
+	public UUID issueId(long issueIndex) {
+		return id(ISSUE, issueIndex);
+	}
+
+	public UUID commentId(long issueIndex, int comment) {
+		return id(COMMENT, issueIndex * MAX_COMMENTS + comment);
+	}
+
+	/** Independent, reproducible random stream for one kind of row in one project. */
+	SplittableRandom random(int kind, int project) {
+		return new SplittableRandom(mix(seed ^ mix((long) kind << 32 | project)));
+	}
+
+	private UUID id(int kind, long index) {
+		// Version 4 / IETF variant bits, so the ids look like any other random UUID
+		long msb = (mix(seed + kind) & 0xFFFFFFFFFFFF0FFFL) | 0x0000000000004000L;
+		long lsb = (index & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+		return new UUID(msb, lsb);
+	}
+
+	private static long mix(long value) {
+		value = (value ^ (value >>> 30)) * 0xBF58476D1CE4E5B9L;
+		value = (value ^ (value >>> 27)) * 0x94D049BB133111EBL;
+		return value ^ (value >>> 31);
+	}
+
+	private static int clamp(int value, int min, int max) {
+		return Math.max(min, Math.min(max, value));
+	}
+}
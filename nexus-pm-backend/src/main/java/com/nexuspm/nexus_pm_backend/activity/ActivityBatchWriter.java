@@ -0,0 +1,81 @@
+package com.nexuspm.nexus_pm_backend.activity;
+
+import com.nexuspm.nexus_pm_backend.config.DatabasePlatform;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Plain JDBC batch inserts into {@code activities}; going through JPA would mean an entity
+ * instance, a persistence context entry and a flush per row for data nothing reads back.
+ */
+@Component
+public class ActivityBatchWriter {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private final int batchSize;
+    private final String insertSql;
+
+    public ActivityBatchWriter(DataSource dataSource,
+                               DatabasePlatform databasePlatform,
+                               @Value("${app.activity.batch-size:500}") int batchSize) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.batchSize = Math.max(1, batchSize);
+        this.insertSql = buildInsertSql(databasePlatform.isPostgres());
+    }
+
+    private static String buildInsertSql(boolean postgres) {
+        // Postgres will not assign varchar parameters to jsonb columns without a cast
+        String json = postgres ? "CAST(? AS jsonb)" : "?";
+        return "INSERT INTO activities (id, action, entity_type, entity_id, project_id, user_id, description, " +
+                "old_values, new_values, metadata, ip_address, user_agent, created_at) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?, " + json + ", " + json + ", " + json + ", ?, ?, ?)";
+    }
+
+    public void write(List<ActivityEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(insertSql, events, batchSize, (ps, event) -> {
+            ps.setObject(1, event.getId());
+            ps.setString(2, event.getAction().name());
+            ps.setString(3, event.getEntityType());
+            ps.setString(4, event.getEntityId());
+            ps.setObject(5, event.getProjectId());
+            ps.setObject(6, event.getUserId());
+            ps.setString(7, event.getDescription());
+            ps.setString(8, event.getOldValues());
+            ps.setString(9, event.getNewValues());
+            ps.setString(10, event.getMetadata() != null ? event.getMetadata() : "{}");
+            ps.setString(11, event.getIpAddress());
+            ps.setString(12, event.getUserAgent());
+            ps.setTimestamp(13, Timestamp.valueOf(event.getCreatedAt()));
+        });
+    }
+
+    /**
+     * Ids among {@code ids} that are already stored; used to skip duplicates when replaying
+     * the write-ahead file.
+     */
+    public Set<UUID> findExistingIds(Collection<UUID> ids) {
+        if (ids.isEmpty()) {
+            return Set.of();
+        }
+        List<UUID> existing = namedJdbcTemplate.queryForList("SELECT id FROM activities WHERE id IN (:ids)",
+                new MapSqlParameterSource("ids", ids), UUID.class);
+        return existing.stream().collect(Collectors.toCollection(HashSet::new));
+    }
+}
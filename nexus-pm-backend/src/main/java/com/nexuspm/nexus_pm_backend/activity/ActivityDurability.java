@@ -0,0 +1,10 @@
+package com.nexuspm.nexus_pm_backend.activity;
+
+public enum ActivityDurability {
+    // Written in the mutating transaction; commits or rolls back with it
+    SYNC,
+    // Queued after commit and written in batches; a crash loses what is still queued
+    ASYNC,
+    // As ASYNC, but appended to a local write-ahead file first and replayed on startup
+    ASYNC_WAL
+}
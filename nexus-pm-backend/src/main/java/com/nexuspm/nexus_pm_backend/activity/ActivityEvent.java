@@ -0,0 +1,33 @@
+package com.nexuspm.nexus_pm_backend.activity;
+
+import com.nexuspm.nexus_pm_backend.model.Activity;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * One row for the {@code activities} table, captured on the request thread (actor, IP and
+ * user agent) and written later by {@link ActivityBatchWriter}. The id is assigned up front so
+ * a write-ahead replay can tell which entries already reached the database.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ActivityEvent {
+    private UUID id;
+    private Activity.ActivityAction action;
+    private String entityType;
+    private String entityId;
+    private UUID projectId;
+    private UUID userId;
+    private String description;
+    private String oldValues;
+    private String newValues;
+    private String metadata;
+    private String ipAddress;
+    private String userAgent;
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,74 @@
+package com.nexuspm.nexus_pm_backend.activity;
+
+import com.nexuspm.nexus_pm_backend.event.CommentChangedEvent;
+import com.nexuspm.nexus_pm_backend.event.IssueChangedEvent;
+import com.nexuspm.nexus_pm_backend.event.ProjectMemberChangedEvent;
+import com.nexuspm.nexus_pm_backend.event.SprintChangedEvent;
+import com.nexuspm.nexus_pm_backend.model.Activity.ActivityAction;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Turns the service layer's change events into activity entries. Runs synchronously inside the
+ * publishing transaction so the recorder can see the actor and request, and so SYNC durability
+ * writes atomically with the change.
+ */
+@Component
+@RequiredArgsConstructor
+public class ActivityEventListener {
+
+    private final ActivityRecorder recorder;
+
+    @EventListener
+    public void onIssueChanged(IssueChangedEvent event) {
+        ActivityAction action = switch (event.getChangeType()) {
+            case CREATED -> ActivityAction.CREATED;
+            case STATUS_CHANGED -> ActivityAction.TRANSITIONED;
+            case ASSIGNED -> ActivityAction.ASSIGNED;
+            case UNASSIGNED -> ActivityAction.UNASSIGNED;
+            case MOVED -> ActivityAction.MOVED;
+            case TIME_LOGGED -> ActivityAction.LOGGED_TIME;
+            case DELETED -> ActivityAction.DELETED;
+            case UPDATED, WATCHERS_CHANGED -> ActivityAction.UPDATED;
+        };
+        recorder.record(action, "ISSUE", event.getIssueId(), event.getProjectId(), describe(event.getChangeType()));
+    }
+
+    @EventListener
+    public void onSprintChanged(SprintChangedEvent event) {
+        ActivityAction action = switch (event.getChangeType()) {
+            case CREATED -> ActivityAction.CREATED;
+            case UPDATED -> ActivityAction.UPDATED;
+            case STARTED -> ActivityAction.STARTED_SPRINT;
+            case COMPLETED -> ActivityAction.COMPLETED_SPRINT;
+            case CANCELLED -> ActivityAction.CANCELLED_SPRINT;
+            case DELETED -> ActivityAction.DELETED;
+        };
+        recorder.record(action, "SPRINT", event.getSprintId(), event.getProjectId(), describe(event.getChangeType()));
+    }
+
+    @EventListener
+    public void onCommentChanged(CommentChangedEvent event) {
+        ActivityAction action = switch (event.getChangeType()) {
+            case CREATED -> ActivityAction.COMMENTED;
+            case UPDATED -> ActivityAction.UPDATED;
+            case DELETED -> ActivityAction.DELETED;
+        };
+        recorder.record(action, "COMMENT", event.getCommentId(), event.getProjectId(), describe(event.getChangeType()));
+    }
+
+    @EventListener
+    public void onMemberChanged(ProjectMemberChangedEvent event) {
+        ActivityAction action = switch (event.getChangeType()) {
+            case ADDED -> ActivityAction.JOINED_PROJECT;
+            case ROLE_CHANGED -> ActivityAction.UPDATED;
+            case REMOVED -> ActivityAction.LEFT_PROJECT;
+        };
+        recorder.record(action, "PROJECT_MEMBER", event.getUserId(), event.getProjectId(), describe(event.getChangeType()));
+    }
+
+    private static String describe(Enum<?> changeType) {
+        return changeType.name().toLowerCase().replace('_', ' ');
+    }
+}
@@ -0,0 +1,217 @@
+package com.nexuspm.nexus_pm_backend.activity;
+
+import com.nexuspm.nexus_pm_backend.config.DatabasePlatform;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Maintains the monthly partitions of {@code activities} created by V10: keeps
+ * {@code months-ahead} future partitions in place and, for months older than
+ * {@code app.activity.retention-months}, detaches the partition, exports it to a gzipped CSV under
+ * {@code archive-dir} and drops it. Dropping a partition is a metadata change, unlike deleting
+ * millions of rows. Databases without partitioning (H2 in dev) are left to
+ * {@code RetentionService}, which deletes expired rows in chunks.
+ */
+@Slf4j
+@Service
+public class ActivityPartitionService {
+
+    private static final String PARENT_TABLE = "activities";
+    private static final Pattern PARTITION_NAME = Pattern.compile("activities_p(\\d{4})(\\d{2})");
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final boolean partitioned;
+    private final int monthsAhead;
+    private final int retentionMonths;
+    private final boolean archive;
+    private final Path archiveDir;
+    private final int exportFetchSize;
+
+    public ActivityPartitionService(DataSource dataSource,
+                                    DatabasePlatform databasePlatform,
+                                    PlatformTransactionManager transactionManager,
+                                    @Value("${app.activity.partitions.months-ahead:3}") int monthsAhead,
+                                    @Value("${app.activity.retention-months:13}") int retentionMonths,
+                                    @Value("${app.activity.partitions.archive:true}") boolean archive,
+                                    @Value("${app.activity.partitions.archive-dir:./data/activity-archive}") String archiveDir,
+                                    @Value("${app.activity.partitions.export-fetch-size:5000}") int exportFetchSize) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.partitioned = databasePlatform.isPostgres();
+        this.monthsAhead = Math.max(1, monthsAhead);
+        this.retentionMonths = Math.max(1, retentionMonths);
+        this.archive = archive;
+        this.archiveDir = Paths.get(archiveDir);
+        this.exportFetchSize = exportFetchSize;
+    }
+
+    @Scheduled(cron = "${app.activity.partitions.cron:0 30 3 * * *}")
+    public void maintain() {
+        if (!partitioned) {
+            return;
+        }
+        YearMonth cutoff = YearMonth.now().minusMonths(retentionMonths);
+        try {
+            createFuturePartitions();
+            detachExpiredPartitions(cutoff);
+            archiveDetachedPartitions();
+        } catch (RuntimeException e) {
+            log.error("Activity partition maintenance failed: {}", e.getMessage(), e);
+        }
+    }
+
+    void createFuturePartitions() {
+        YearMonth month = YearMonth.now();
+        for (int i = 0; i <= monthsAhead; i++, month = month.plusMonths(1)) {
+            // Fails if the default partition already holds rows for the month; logged, and the
+            // rows stay queryable there
+            String name = partitionName(month);
+            try {
+                jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + name + " PARTITION OF " + PARENT_TABLE +
+                        " FOR VALUES FROM ('" + month.atDay(1) + "') TO ('" + month.plusMonths(1).atDay(1) + "')");
+            } catch (RuntimeException e) {
+                log.warn("Could not create activity partition {}: {}", name, e.getMessage());
+            }
+        }
+    }
+
+    void detachExpiredPartitions(YearMonth cutoff) {
+        List<String> attached = jdbcTemplate.queryForList(
+                "SELECT c.relname FROM pg_inherits i " +
+                "JOIN pg_class c ON c.oid = i.inhrelid " +
+                "JOIN pg_class p ON p.oid = i.inhparent " +
+                "WHERE p.relname = ?", String.class, PARENT_TABLE);
+        for (String name : attached) {
+            Optional<YearMonth> month = partitionMonth(name);
+            if (month.isPresent() && month.get().isBefore(cutoff)) {
+                jdbcTemplate.execute("ALTER TABLE " + PARENT_TABLE + " DETACH PARTITION " + name);
+                log.info("Detached expired activity partition {}", name);
+            }
+        }
+    }
+
+    /**
+     * Detached partitions are archived and dropped here rather than right after detaching, so
+     * one left behind by a failed export is picked up on the next run.
+     */
+    void archiveDetachedPartitions() {
+        List<String> detached = jdbcTemplate.queryForList(
+                "SELECT c.relname FROM pg_class c " +
+                "WHERE c.relname LIKE 'activities\\_p%' AND c.relkind = 'r' AND NOT c.relispartition", String.class);
+        for (String name : detached) {
+            if (partitionMonth(name).isEmpty()) {
+                continue;
+            }
+            if (archive) {
+                Path file = export(name);
+                log.info("Archived activity partition {} to {}", name, file);
+            }
+            jdbcTemplate.execute("DROP TABLE " + name);
+            log.info("Dropped activity partition {}", name);
+        }
+    }
+
+    private Path export(String table) {
+        try {
+            Files.createDirectories(archiveDir);
+            Path target = archiveDir.resolve(table + ".csv.gz");
+            Path temp = archiveDir.resolve(table + ".csv.gz.tmp");
+            try (Writer out = new BufferedWriter(new OutputStreamWriter(
+                    new GZIPOutputStream(Files.newOutputStream(temp)), StandardCharsets.UTF_8))) {
+                // Postgres only streams with a cursor inside a transaction
+                readOnlyTransaction.executeWithoutResult(status -> {
+                    JdbcTemplate streaming = new JdbcTemplate(jdbcTemplate.getDataSource());
+                    streaming.setFetchSize(exportFetchSize);
+                    streaming.query("SELECT * FROM " + table + " ORDER BY created_at", rs -> {
+                        writeCsv(rs, out);
+                        return null;
+                    });
+                });
+            }
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            return target;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not archive activity partition " + table, e);
+        }
+    }
+
+    private static void writeCsv(ResultSet rs, Writer out) throws SQLException {
+        try {
+            ResultSetMetaData meta = rs.getMetaData();
+            int columns = meta.getColumnCount();
+            for (int i = 1; i <= columns; i++) {
+                out.write((i > 1 ? "," : "") + meta.getColumnName(i));
+            }
+            out.write('\n');
+            while (rs.next()) {
+                for (int i = 1; i <= columns; i++) {
+                    if (i > 1) {
+                        out.write(',');
+                    }
+                    String value = rs.getString(i);
+                    if (value != null) {
+                        out.write('"' + value.replace("\"", "\"\"") + '"');
+                    }
+                }
+                out.write('\n');
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public boolean isPartitioned() {
+        return partitioned;
+    }
+
+    /**
+     * Start of the oldest retained month. Partitions before it are dropped here; elsewhere
+     * {@code RetentionService} deletes the rows before it, so both paths keep the same history.
+     */
+    public LocalDateTime retentionCutoff() {
+        return YearMonth.now().minusMonths(retentionMonths).atDay(1).atStartOfDay();
+    }
+
+    static String partitionName(YearMonth month) {
+        return "activities_p" + month.format(PARTITION_SUFFIX);
+    }
+
+    static Optional<YearMonth> partitionMonth(String name) {
+        Matcher matcher = PARTITION_NAME.matcher(name);
+        if (!matcher.matches()) {
+            return Optional.empty();
+        }
+        return Optional.of(YearMonth.of(Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2))));
+    }
+}
@@ -0,0 +1,293 @@
+package com.nexuspm.nexus_pm_backend.activity;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nexuspm.nexus_pm_backend.model.Activity;
+import com.nexuspm.nexus_pm_backend.security.CurrentUser;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Audit pipeline for the {@code activities} table. Callers hand over an {@link ActivityEvent}
+ * and return immediately; depending on {@code app.activity.durability} the row is written in
+ * the caller's transaction, or queued after commit and written in JDBC batches by a scheduled
+ * flush. When the bounded queue is full the caller writes its own row in a transaction of its
+ * own, so a backlog slows writers down instead of growing memory or dropping audit entries; a
+ * row that cannot be written then is retried by the next flush.
+ */
+@Slf4j
+@Component
+public class ActivityRecorder {
+
+    private static final int MAX_USER_AGENT_LENGTH = 255;
+
+    private final ActivityBatchWriter writer;
+    private final TransactionTemplate overflowTransaction;
+    private final ActivityDurability durability;
+    private final BlockingQueue<ActivityEvent> queue;
+    private final int batchSize;
+    private final ActivityWriteAheadLog writeAheadLog;
+    private final List<ActivityEvent> retry = new ArrayList<>();
+    private final Object flushLock = new Object();
+
+    private final Timer flushTimer;
+    private final Counter writtenCounter;
+    private final Counter overflowCounter;
+    private final Counter failedCounter;
+
+    public ActivityRecorder(ActivityBatchWriter writer,
+                            PlatformTransactionManager transactionManager,
+                            ObjectMapper objectMapper,
+                            MeterRegistry meterRegistry,
+                            @Value("${app.activity.durability:async}") String durability,
+                            @Value("${app.activity.queue-capacity:10000}") int queueCapacity,
+                            @Value("${app.activity.batch-size:500}") int batchSize,
+                            @Value("${app.activity.wal-dir:./data/activity-wal}") String walDir,
+                            @Value("${app.activity.wal-fsync:false}") boolean walFsync) {
+        this.writer = writer;
+        this.overflowTransaction = new TransactionTemplate(transactionManager);
+        // enqueue() runs from afterCommit, where joining would write into the finished transaction
+        this.overflowTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.durability = ActivityDurability.valueOf(durability.trim().toUpperCase().replace('-', '_'));
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, queueCapacity));
+        this.batchSize = Math.max(1, batchSize);
+        this.writeAheadLog = this.durability == ActivityDurability.ASYNC_WAL
+                ? new ActivityWriteAheadLog(Paths.get(walDir), objectMapper, walFsync)
+                : null;
+
+        Gauge.builder("activity.queue.depth", queue, BlockingQueue::size)
+                .description("Activity entries waiting to be written")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("activity.flush")
+                .description("Time to write one batch of activity entries")
+                .register(meterRegistry);
+        this.writtenCounter = Counter.builder("activity.written").register(meterRegistry);
+        this.overflowCounter = Counter.builder("activity.overflow")
+                .description("Entries written by the caller because the queue was full")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("activity.write.failures").register(meterRegistry);
+        log.info("Activity recording durability: {}", this.durability);
+    }
+
+    /**
+     * Builds an entry for the current actor and request and records it.
+     */
+    public void record(Activity.ActivityAction action, String entityType, Object entityId, UUID projectId, String description) {
+        ActivityEvent event = new ActivityEvent();
+        event.setId(UUID.randomUUID());
+        event.setAction(action);
+        event.setEntityType(entityType);
+        event.setEntityId(String.valueOf(entityId));
+        event.setProjectId(projectId);
+        event.setUserId(CurrentUser.id());
+        event.setDescription(description);
+        event.setCreatedAt(LocalDateTime.now());
+        HttpServletRequest request = currentRequest();
+        if (request != null) {
+            event.setIpAddress(request.getRemoteAddr());
+            String userAgent = request.getHeader("User-Agent");
+            if (userAgent != null && userAgent.length() > MAX_USER_AGENT_LENGTH) {
+                userAgent = userAgent.substring(0, MAX_USER_AGENT_LENGTH);
+            }
+            event.setUserAgent(userAgent);
+        }
+        record(event);
+    }
+
+    public void record(ActivityEvent event) {
+        if (durability == ActivityDurability.SYNC) {
+            writer.write(List.of(event));
+            writtenCounter.increment();
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // Rolled-back work leaves no audit trail
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue(event);
+                }
+            });
+        } else {
+            enqueue(event);
+        }
+    }
+
+    private void enqueue(ActivityEvent event) {
+        boolean queued;
+        if (writeAheadLog != null) {
+            // Same monitor as rotate(), so every entry in a sealed segment is already queued
+            synchronized (writeAheadLog) {
+                appendToWriteAheadLog(event);
+                queued = queue.offer(event);
+            }
+        } else {
+            queued = queue.offer(event);
+        }
+        if (!queued) {
+            overflowCounter.increment();
+            if (!writeOverflow(event)) {
+                synchronized (flushLock) {
+                    retry.add(event);
+                }
+            }
+        }
+    }
+
+    private boolean writeOverflow(ActivityEvent event) {
+        try {
+            Boolean written = overflowTransaction.execute(status -> {
+                boolean ok = writeBatch(List.of(event));
+                if (!ok) {
+                    status.setRollbackOnly();
+                }
+                return ok;
+            });
+            return Boolean.TRUE.equals(written);
+        } catch (RuntimeException e) {
+            // No connection or the commit failed
+            failedCounter.increment();
+            log.warn("Failed to write activity {}: {}", event.getId(), e.getMessage());
+            return false;
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.activity.flush-interval-ms:500}")
+    public void flush() {
+        synchronized (flushLock) {
+            List<Path> sealed = rotateWriteAheadLog();
+            // Only what was queued before the rotation; later entries wait for the next run
+            int remaining = queue.size() + retry.size();
+            boolean succeeded = true;
+            while (remaining > 0) {
+                List<ActivityEvent> batch = new ArrayList<>(retry);
+                retry.clear();
+                if (batch.size() < batchSize) {
+                    queue.drainTo(batch, batchSize - batch.size());
+                }
+                if (batch.isEmpty()) {
+                    break;
+                }
+                remaining -= batch.size();
+                if (!writeBatch(batch)) {
+                    retry.addAll(batch);
+                    succeeded = false;
+                    break;
+                }
+            }
+            if (succeeded && !sealed.isEmpty()) {
+                writeAheadLog.delete(sealed);
+            }
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void replayWriteAheadLog() {
+        if (writeAheadLog == null) {
+            return;
+        }
+        for (Path segment : writeAheadLog.recoveredSegments()) {
+            try {
+                List<ActivityEvent> events = writeAheadLog.read(segment);
+                int replayed = 0;
+                for (int from = 0; from < events.size(); from += batchSize) {
+                    List<ActivityEvent> chunk = events.subList(from, Math.min(events.size(), from + batchSize));
+                    Set<UUID> existing = writer.findExistingIds(chunk.stream().map(ActivityEvent::getId).toList());
+                    List<ActivityEvent> missing = chunk.stream().filter(e -> !existing.contains(e.getId())).toList();
+                    writer.write(missing);
+                    replayed += missing.size();
+                }
+                writeAheadLog.delete(List.of(segment));
+                log.info("Replayed {} activity entries from {}", replayed, segment.getFileName());
+            } catch (IOException | RuntimeException e) {
+                log.error("Activity WAL replay failed for {}, keeping it for the next start: {}",
+                        segment.getFileName(), e.getMessage());
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+        if (writeAheadLog != null) {
+            try {
+                writeAheadLog.close();
+            } catch (IOException e) {
+                log.warn("Could not close activity WAL: {}", e.getMessage());
+            }
+        }
+    }
+
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    private boolean writeBatch(List<ActivityEvent> batch) {
+        Timer.Sample sample = Timer.start();
+        try {
+            writer.write(batch);
+            writtenCounter.increment(batch.size());
+            return true;
+        } catch (RuntimeException e) {
+            failedCounter.increment(batch.size());
+            log.warn("Failed to write {} activity entries: {}", batch.size(), e.getMessage());
+            return false;
+        } finally {
+            sample.stop(flushTimer);
+        }
+    }
+
+    private void appendToWriteAheadLog(ActivityEvent event) {
+        try {
+            writeAheadLog.append(event);
+        } catch (IOException e) {
+            // Still queued; only crash recovery is lost for this entry
+            log.warn("Could not append activity {} to WAL: {}", event.getId(), e.getMessage());
+        }
+    }
+
+    private List<Path> rotateWriteAheadLog() {
+        if (writeAheadLog == null) {
+            return List.of();
+        }
+        try {
+            return writeAheadLog.rotate();
+        } catch (IOException e) {
+            log.warn("Could not rotate activity WAL: {}", e.getMessage());
+            return List.of();
+        }
+    }
+
+    private static HttpServletRequest currentRequest() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        return attributes instanceof ServletRequestAttributes servletAttributes ? servletAttributes.getRequest() : null;
+    }
+}
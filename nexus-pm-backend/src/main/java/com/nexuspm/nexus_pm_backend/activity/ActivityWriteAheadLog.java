@@ -0,0 +1,145 @@
+package com.nexuspm.nexus_pm_backend.activity;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Append-only JSON-lines segments under {@code app.activity.wal-dir}. The recorder appends
+ * before queueing; a flush rotates to a new segment first and, once everything queued before
+ * the rotation is in the database, deletes the older segments. Whatever is left on disk at
+ * startup was never confirmed written and is replayed.
+ */
+@Slf4j
+class ActivityWriteAheadLog {
+
+    private static final String SEGMENT_PREFIX = "activity-";
+    private static final String SEGMENT_SUFFIX = ".wal";
+
+    private final Path directory;
+    private final ObjectMapper objectMapper;
+    private final boolean fsync;
+    private final List<Path> recovered;
+    private long segmentSequence;
+    private Path currentSegment;
+    private FileChannel channel;
+    private BufferedWriter writer;
+
+    ActivityWriteAheadLog(Path directory, ObjectMapper objectMapper, boolean fsync) {
+        this.directory = directory;
+        this.objectMapper = objectMapper;
+        this.fsync = fsync;
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot create activity WAL directory " + directory, e);
+        }
+        try {
+            this.recovered = new ArrayList<>(existingSegments());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot list activity WAL directory " + directory, e);
+        }
+    }
+
+    /**
+     * Segments left over from a previous run, oldest first. They are excluded from
+     * {@link #rotate()} until replayed and passed to {@link #delete(List)}.
+     */
+    synchronized List<Path> recoveredSegments() {
+        return new ArrayList<>(recovered);
+    }
+
+    private List<Path> existingSegments() throws IOException {
+        List<Path> segments = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, SEGMENT_PREFIX + "*" + SEGMENT_SUFFIX)) {
+            stream.forEach(segments::add);
+        }
+        segments.remove(currentSegment);
+        segments.sort(null);
+        return segments;
+    }
+
+    List<ActivityEvent> read(Path segment) throws IOException {
+        List<ActivityEvent> events = new ArrayList<>();
+        for (String line : Files.readAllLines(segment, StandardCharsets.UTF_8)) {
+            if (line.isBlank()) {
+                continue;
+            }
+            try {
+                events.add(objectMapper.readValue(line, ActivityEvent.class));
+            } catch (IOException e) {
+                // A torn last line from a crash mid-append
+                log.warn("Skipping unreadable activity WAL entry in {}: {}", segment.getFileName(), e.getMessage());
+            }
+        }
+        return events;
+    }
+
+    synchronized void append(ActivityEvent event) throws IOException {
+        if (writer == null) {
+            openSegment();
+        }
+        writer.write(objectMapper.writeValueAsString(event));
+        writer.newLine();
+        writer.flush();
+        if (fsync) {
+            channel.force(false);
+        }
+    }
+
+    /**
+     * Closes the current segment and returns every segment written by this run that precedes
+     * the next append.
+     */
+    synchronized List<Path> rotate() throws IOException {
+        if (writer != null) {
+            writer.close();
+            writer = null;
+            channel = null;
+        }
+        currentSegment = null;
+        List<Path> sealed = existingSegments();
+        sealed.removeAll(recovered);
+        return sealed;
+    }
+
+    synchronized void delete(List<Path> segments) {
+        recovered.removeAll(segments);
+        for (Path segment : segments) {
+            try {
+                Files.deleteIfExists(segment);
+            } catch (IOException e) {
+                log.warn("Could not delete activity WAL segment {}: {}", segment.getFileName(), e.getMessage());
+            }
+        }
+    }
+
+    synchronized void close() throws IOException {
+        if (writer != null) {
+            writer.close();
+            writer = null;
+            channel = null;
+        }
+    }
+
+    private void openSegment() throws IOException {
+        // Zero-padded so lexical order is creation order
+        String name = String.format("%s%013d-%06d%s", SEGMENT_PREFIX, System.currentTimeMillis(), segmentSequence++, SEGMENT_SUFFIX);
+        currentSegment = directory.resolve(name);
+        channel = FileChannel.open(currentSegment, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND);
+        writer = new BufferedWriter(Channels.newWriter(channel, StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,30 @@
+package com.nexuspm.nexus_pm_backend.cache;
+
+/**
+ * Broadcasts cache invalidations to the other nodes so their near caches do not serve stale
+ * entries. A {@code null} key means the whole cache was cleared.
+ */
+public interface CacheInvalidationBus {
+
+    void publish(String cacheName, String key);
+
+    void addListener(Listener listener);
+
+    @FunctionalInterface
+    interface Listener {
+        void onInvalidation(String cacheName, String key);
+    }
+
+    /**
+     * Used when Redis is disabled: there are no other nodes to tell.
+     */
+    CacheInvalidationBus LOCAL_ONLY = new CacheInvalidationBus() {
+        @Override
+        public void publish(String cacheName, String key) {
+        }
+
+        @Override
+        public void addListener(Listener listener) {
+        }
+    };
+}
@@ -0,0 +1,23 @@
+package com.nexuspm.nexus_pm_backend.cache;
+
+public final class CacheNames {
+
+    // "projectId:userId" -> Boolean
+    public static final String PROJECT_MEMBERSHIP = "projectMembership";
+
+    // projectId -> UUID of the ACTIVE sprint, or null when there is none
+    public static final String ACTIVE_SPRINT_IDS = "activeSprintIds";
+
+    // projectId -> ProjectSummaryDto; short TTL, evicted on issue, sprint and member writes
+    public static final String PROJECT_SUMMARY = "projectSummary";
+
+    // userId -> Long security stamp, or null for missing/inactive users; evicted whenever the
+    // stamp is bumped so revocation is visible on the next request
+    public static final String USER_SECURITY_STAMPS = "userSecurityStamps";
+
+    // issueId -> IssueDetailDto; evicted on issue, comment and attachment writes of that issue
+    public static final String ISSUE_DETAIL = "issueDetail";
+
+    private CacheNames() {
+    }
+}
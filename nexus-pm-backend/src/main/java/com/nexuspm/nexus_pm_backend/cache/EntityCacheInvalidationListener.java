@@ -0,0 +1,85 @@
+package com.nexuspm.nexus_pm_backend.cache;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * The Hibernate second-level cache lives in each node's heap, so committed updates and deletes
+ * of cached entities are broadcast and the other nodes evict their copy.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EntityCacheInvalidationListener implements PostCommitUpdateEventListener, PostCommitDeleteEventListener {
+
+    private static final String ENTITY_PREFIX = "entity:";
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private SessionFactoryImplementor sessionFactory;
+
+    @PostConstruct
+    public void register() {
+        sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        EventListenerRegistry registry = sessionFactory.getServiceRegistry().getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_COMMIT_UPDATE, this);
+        registry.appendListeners(EventType.POST_COMMIT_DELETE, this);
+        cacheInvalidationBus.addListener(this::onRemoteInvalidation);
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        publish(event.getPersister(), event.getId());
+    }
+
+    @Override
+    public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        publish(event.getPersister(), event.getId());
+    }
+
+    @Override
+    public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return persister.canWriteToCache();
+    }
+
+    private void publish(EntityPersister persister, Object id) {
+        if (persister.canWriteToCache()) {
+            cacheInvalidationBus.publish(ENTITY_PREFIX + persister.getEntityName(), String.valueOf(id));
+        }
+    }
+
+    private void onRemoteInvalidation(String cacheName, String key) {
+        if (!cacheName.startsWith(ENTITY_PREFIX)) {
+            return;
+        }
+        String entityName = cacheName.substring(ENTITY_PREFIX.length());
+        if (key == null) {
+            sessionFactory.getCache().evictEntityData(entityName);
+        } else {
+            // Every cached entity uses a UUID identifier
+            sessionFactory.getCache().evictEntityData(entityName, UUID.fromString(key));
+        }
+        log.debug("Evicted {} {} from second-level cache", entityName, key);
+    }
+}
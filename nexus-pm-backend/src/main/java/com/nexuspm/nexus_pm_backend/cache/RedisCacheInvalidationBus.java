@@ -0,0 +1,60 @@
+package com.nexuspm.nexus_pm_backend.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Pub/sub invalidation over a single Redis channel. Messages are {@code nodeId|cacheName|key};
+ * a node ignores its own messages since it already evicted locally.
+ */
+@Slf4j
+public class RedisCacheInvalidationBus implements CacheInvalidationBus, MessageListener {
+
+    static final String CHANNEL = "nexuspm:cache-invalidation";
+    private static final String CLEAR_ALL = "*";
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final StringRedisTemplate redisTemplate;
+    private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+
+    public RedisCacheInvalidationBus(StringRedisTemplate redisTemplate, RedisMessageListenerContainer container) {
+        this.redisTemplate = redisTemplate;
+        container.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    @Override
+    public void publish(String cacheName, String key) {
+        try {
+            redisTemplate.convertAndSend(CHANNEL, nodeId + "|" + cacheName + "|" + (key != null ? key : CLEAR_ALL));
+        } catch (RuntimeException e) {
+            // Remote entries still expire through their TTL
+            log.warn("Could not publish invalidation for cache {}: {}", cacheName, e.getMessage());
+        }
+    }
+
+    @Override
+    public void addListener(Listener listener) {
+        listeners.add(listener);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split("\\|", 3);
+        if (parts.length != 3 || nodeId.equals(parts[0])) {
+            return;
+        }
+        String key = CLEAR_ALL.equals(parts[2]) ? null : parts[2];
+        for (Listener listener : listeners) {
+            listener.onInvalidation(parts[1], key);
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package com.nexuspm.nexus_pm_backend.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Caffeine near cache in front of a shared Redis cache. Reads fall through local -> Redis ->
+ * loader; writes and evictions go to both levels and are broadcast so other nodes drop their
+ * local copy. Keys are normalized to strings so they survive the trip over the bus.
+ */
+@Slf4j
+public class TwoLevelCache extends AbstractValueAdaptingCache {
+
+    private final String name;
+    private final Cache<String, Object> local;
+    private final RedisTemplate<String, Object> redis;
+    private final Duration remoteTtl;
+    private final CacheInvalidationBus bus;
+    private final LongAdder remoteHits = new LongAdder();
+    private final LongAdder remoteMisses = new LongAdder();
+    private final LongAdder puts = new LongAdder();
+
+    public TwoLevelCache(String name, Cache<String, Object> local, RedisTemplate<String, Object> redis,
+                         Duration remoteTtl, CacheInvalidationBus bus) {
+        super(true);
+        this.name = name;
+        this.local = local;
+        this.redis = redis;
+        this.remoteTtl = remoteTtl;
+        this.bus = bus;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return local;
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        String localKey = String.valueOf(key);
+        Object value = local.getIfPresent(localKey);
+        if (value == null) {
+            value = readRemote(localKey);
+            if (value != null) {
+                local.put(localKey, value);
+            }
+        }
+        return value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        Object value = local.get(String.valueOf(key), localKey -> {
+            Object remote = readRemote(localKey);
+            if (remote != null) {
+                return remote;
+            }
+            try {
+                Object loaded = toStoreValue(valueLoader.call());
+                writeRemote(localKey, loaded);
+                return loaded;
+            } catch (Exception e) {
+                throw new ValueRetrievalException(key, valueLoader, e);
+            }
+        });
+        return (T) fromStoreValue(value);
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        String localKey = String.valueOf(key);
+        Object storeValue = toStoreValue(value);
+        local.put(localKey, storeValue);
+        writeRemote(localKey, storeValue);
+        puts.increment();
+        bus.publish(name, localKey);
+    }
+
+    @Override
+    public void evict(Object key) {
+        String localKey = String.valueOf(key);
+        local.invalidate(localKey);
+        if (redis != null) {
+            try {
+                redis.delete(remoteKey(localKey));
+            } catch (RuntimeException e) {
+                log.warn("Could not evict {} from remote cache {}: {}", localKey, name, e.getMessage());
+            }
+        }
+        bus.publish(name, localKey);
+    }
+
+    @Override
+    public void clear() {
+        local.invalidateAll();
+        if (redis != null) {
+            try (Cursor<String> keys = redis.scan(ScanOptions.scanOptions().match(remoteKey("*")).count(500).build())) {
+                List<String> batch = new ArrayList<>();
+                while (keys.hasNext()) {
+                    batch.add(keys.next());
+                    if (batch.size() == 500) {
+                        redis.delete(batch);
+                        batch.clear();
+                    }
+                }
+                if (!batch.isEmpty()) {
+                    redis.delete(batch);
+                }
+            } catch (RuntimeException e) {
+                log.warn("Could not clear remote cache {}: {}", name, e.getMessage());
+            }
+        }
+        bus.publish(name, null);
+    }
+
+    // Called for invalidations broadcast by other nodes; the remote level is already updated
+    void evictLocal(String key) {
+        if (key == null) {
+            local.invalidateAll();
+        } else {
+            local.invalidate(key);
+        }
+    }
+
+    Cache<String, Object> getLocalCache() {
+        return local;
+    }
+
+    long getRemoteHits() {
+        return remoteHits.sum();
+    }
+
+    long getRemoteMisses() {
+        return remoteMisses.sum();
+    }
+
+    long getPuts() {
+        return puts.sum();
+    }
+
+    boolean hasRemote() {
+        return redis != null;
+    }
+
+    private Object readRemote(String key) {
+        if (redis == null) {
+            return null;
+        }
+        try {
+            Object value = redis.opsForValue().get(remoteKey(key));
+            if (value != null) {
+                remoteHits.increment();
+            } else {
+                remoteMisses.increment();
+            }
+            return value;
+        } catch (RuntimeException e) {
+            // Redis being down degrades to local caching rather than failing the request
+            log.warn("Remote cache {} unavailable: {}", name, e.getMessage());
+            remoteMisses.increment();
+            return null;
+        }
+    }
+
+    private void writeRemote(String key, Object value) {
+        if (redis == null) {
+            return;
+        }
+        try {
+            redis.opsForValue().set(remoteKey(key), value, remoteTtl);
+        } catch (RuntimeException e) {
+            log.warn("Could not write {} to remote cache {}: {}", key, name, e.getMessage());
+        }
+    }
+
+    private String remoteKey(String key) {
+        return "nexuspm:cache:" + name + ":" + key;
+    }
+}
@@ -0,0 +1,56 @@
+package com.nexuspm.nexus_pm_backend.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.CaffeineSpec;
+import org.springframework.cache.Cache;
+import org.springframework.cache.transaction.AbstractTransactionSupportingCacheManager;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Creates a {@link TwoLevelCache} per configured name. Caches are transaction aware, so puts
+ * and evictions made inside a transaction only happen after it commits and another node can
+ * never re-cache the pre-commit value.
+ */
+public class TwoLevelCacheManager extends AbstractTransactionSupportingCacheManager {
+
+    private final Map<String, CacheSpec> cacheSpecs;
+    private final RedisTemplate<String, Object> redis;
+    private final CacheInvalidationBus bus;
+
+    /**
+     * Near cache settings (a Caffeine spec string) and Redis TTL for one cache.
+     */
+    public record CacheSpec(String localSpec, Duration remoteTtl) {
+    }
+
+    public TwoLevelCacheManager(Map<String, CacheSpec> cacheSpecs, RedisTemplate<String, Object> redis,
+                                CacheInvalidationBus bus) {
+        this.cacheSpecs = cacheSpecs;
+        this.redis = redis;
+        this.bus = bus;
+        setTransactionAware(true);
+        bus.addListener(this::onRemoteInvalidation);
+    }
+
+    @Override
+    protected Collection<? extends Cache> loadCaches() {
+        List<Cache> caches = new ArrayList<>(cacheSpecs.size());
+        cacheSpecs.forEach((name, spec) -> caches.add(new TwoLevelCache(name,
+                Caffeine.from(CaffeineSpec.parse(spec.localSpec())).recordStats().build(),
+                redis, spec.remoteTtl(), bus)));
+        return caches;
+    }
+
+    private void onRemoteInvalidation(String cacheName, String key) {
+        Cache cache = lookupCache(cacheName);
+        if (cache instanceof TwoLevelCache twoLevelCache) {
+            twoLevelCache.evictLocal(key);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.nexuspm.nexus_pm_backend.cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.binder.cache.CacheMeterBinder;
+
+/**
+ * Reports {@code cache.gets{result=hit|miss}} over both levels, plus per-level counters so the
+ * near cache hit ratio can be told apart from Redis round trips.
+ */
+public class TwoLevelCacheMetrics extends CacheMeterBinder<TwoLevelCache> {
+
+    private final TwoLevelCache cache;
+
+    public TwoLevelCacheMetrics(TwoLevelCache cache, Iterable<Tag> tags) {
+        super(cache, cache.getName(), tags);
+        this.cache = cache;
+    }
+
+    @Override
+    protected Long size() {
+        return cache.getLocalCache().estimatedSize();
+    }
+
+    @Override
+    protected long hitCount() {
+        return cache.getLocalCache().stats().hitCount() + cache.getRemoteHits();
+    }
+
+    @Override
+    protected Long missCount() {
+        return cache.hasRemote() ? cache.getRemoteMisses() : cache.getLocalCache().stats().missCount();
+    }
+
+    @Override
+    protected Long evictionCount() {
+        return cache.getLocalCache().stats().evictionCount();
+    }
+
+    @Override
+    protected long putCount() {
+        return cache.getPuts();
+    }
+
+    @Override
+    protected void bindImplementationSpecificMetrics(MeterRegistry registry) {
+        FunctionCounter.builder("cache.level.gets", cache, c -> c.getLocalCache().stats().hitCount())
+                .tags(getTagsWithCacheName()).tag("level", "local").tag("result", "hit")
+                .description("Near cache lookups").register(registry);
+        FunctionCounter.builder("cache.level.gets", cache, c -> c.getLocalCache().stats().missCount())
+                .tags(getTagsWithCacheName()).tag("level", "local").tag("result", "miss")
+                .description("Near cache lookups").register(registry);
+        if (cache.hasRemote()) {
+            FunctionCounter.builder("cache.level.gets", cache, TwoLevelCache::getRemoteHits)
+                    .tags(getTagsWithCacheName()).tag("level", "remote").tag("result", "hit")
+                    .description("Redis cache lookups").register(registry);
+            FunctionCounter.builder("cache.level.gets", cache, TwoLevelCache::getRemoteMisses)
+                    .tags(getTagsWithCacheName()).tag("level", "remote").tag("result", "miss")
+                    .description("Redis cache lookups").register(registry);
+        }
+    }
+}
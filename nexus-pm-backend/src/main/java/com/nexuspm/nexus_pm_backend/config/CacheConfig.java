@@ -0,0 +1,80 @@
+package com.nexuspm.nexus_pm_backend.config;
+
+import com.nexuspm.nexus_pm_backend.cache.CacheInvalidationBus;
+import com.nexuspm.nexus_pm_backend.cache.CacheNames;
+import com.nexuspm.nexus_pm_backend.cache.RedisCacheInvalidationBus;
+import com.nexuspm.nexus_pm_backend.cache.TwoLevelCache;
+import com.nexuspm.nexus_pm_backend.cache.TwoLevelCacheManager;
+import com.nexuspm.nexus_pm_backend.cache.TwoLevelCacheMetrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.metrics.cache.CacheMeterBinderProvider;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Spring caches are two-level (Caffeine near cache + Redis) when {@code app.redis.enabled=true}
+ * and local-only otherwise. Entity lookups by id go through the Hibernate second-level cache
+ * configured in application.yml; both are invalidated across nodes by the same bus.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    @Bean
+    public CacheInvalidationBus cacheInvalidationBus(ObjectProvider<StringRedisTemplate> stringRedisTemplate,
+                                                     ObjectProvider<RedisMessageListenerContainer> listenerContainer) {
+        StringRedisTemplate template = stringRedisTemplate.getIfAvailable();
+        RedisMessageListenerContainer container = listenerContainer.getIfAvailable();
+        if (template == null || container == null) {
+            return CacheInvalidationBus.LOCAL_ONLY;
+        }
+        return new RedisCacheInvalidationBus(template, container);
+    }
+
+    @Bean
+    public CacheManager cacheManager(ObjectProvider<RedisConnectionFactory> redisConnectionFactory,
+                                     CacheInvalidationBus cacheInvalidationBus,
+                                     @Value("${app.cache.local-spec:maximumSize=10000,expireAfterWrite=5m}") String localSpec,
+                                     @Value("${app.cache.remote-ttl:30m}") Duration remoteTtl,
+                                     @Value("${app.cache.summary-spec:maximumSize=1000,expireAfterWrite=30s}") String summarySpec,
+                                     @Value("${app.cache.summary-remote-ttl:30s}") Duration summaryRemoteTtl,
+                                     @Value("${app.cache.security-stamp-spec:maximumSize=50000,expireAfterWrite=1m}") String securityStampSpec,
+                                     @Value("${app.cache.security-stamp-remote-ttl:1m}") Duration securityStampRemoteTtl,
+                                     @Value("${app.cache.issue-detail-spec:maximumSize=5000,expireAfterWrite=10m}") String issueDetailSpec,
+                                     @Value("${app.cache.issue-detail-remote-ttl:10m}") Duration issueDetailRemoteTtl) {
+        RedisTemplate<String, Object> redis = null;
+        RedisConnectionFactory connectionFactory = redisConnectionFactory.getIfAvailable();
+        if (connectionFactory != null) {
+            redis = new RedisTemplate<>();
+            redis.setConnectionFactory(connectionFactory);
+            redis.setKeySerializer(new StringRedisSerializer());
+            redis.setValueSerializer(new JdkSerializationRedisSerializer());
+            redis.afterPropertiesSet();
+        }
+        Map<String, TwoLevelCacheManager.CacheSpec> specs = new LinkedHashMap<>();
+        specs.put(CacheNames.PROJECT_MEMBERSHIP, new TwoLevelCacheManager.CacheSpec(localSpec, remoteTtl));
+        specs.put(CacheNames.ACTIVE_SPRINT_IDS, new TwoLevelCacheManager.CacheSpec(localSpec, remoteTtl));
+        specs.put(CacheNames.PROJECT_SUMMARY, new TwoLevelCacheManager.CacheSpec(summarySpec, summaryRemoteTtl));
+        specs.put(CacheNames.USER_SECURITY_STAMPS, new TwoLevelCacheManager.CacheSpec(securityStampSpec, securityStampRemoteTtl));
+        specs.put(CacheNames.ISSUE_DETAIL, new TwoLevelCacheManager.CacheSpec(issueDetailSpec, issueDetailRemoteTtl));
+        return new TwoLevelCacheManager(specs, redis, cacheInvalidationBus);
+    }
+
+    @Bean
+    public CacheMeterBinderProvider<TwoLevelCache> twoLevelCacheMeterBinderProvider() {
+        return TwoLevelCacheMetrics::new;
+    }
+}
@@ -13,9 +13,9 @@ import java.sql.Connection;
 import java.sql.DatabaseMetaData;
 import java.sql.ResultSet;
 
-// @Slf4j
+@Slf4j
 // @Configuration
-// @RequiredArgsConstructor
+@RequiredArgsConstructor
 public class DataInitializationConfig {
 
     private final AuthService authService;
@@ -0,0 +1,38 @@
+package com.nexuspm.nexus_pm_backend.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+
+/**
+ * The database product behind the application's {@link DataSource}, detected once at startup for
+ * the components that issue Postgres-only SQL. Anything else, including H2 in development and
+ * tests, gets the portable path.
+ */
+@Slf4j
+@Component
+public class DatabasePlatform {
+
+    private final boolean postgres;
+
+    public DatabasePlatform(DataSource dataSource) {
+        this.postgres = detectPostgres(dataSource);
+    }
+
+    private static boolean detectPostgres(DataSource dataSource) {
+        try {
+            String product = JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+            return "PostgreSQL".equalsIgnoreCase(product);
+        } catch (Exception e) {
+            log.warn("Could not detect database product, Postgres-specific SQL disabled: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    public boolean isPostgres() {
+        return postgres;
+    }
+}
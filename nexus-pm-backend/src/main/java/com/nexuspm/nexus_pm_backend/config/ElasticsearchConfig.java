@@ -0,0 +1,40 @@
+package com.nexuspm.nexus_pm_backend.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.elasticsearch.client.ClientConfiguration;
+import org.springframework.data.elasticsearch.client.elc.ElasticsearchConfiguration;
+import org.springframework.util.StringUtils;
+
+import java.time.Duration;
+
+/**
+ * Elasticsearch auto-configuration is excluded in {@code NexusPmBackendApplication}, so the
+ * client is only created when {@code app.search.engine=elasticsearch}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.search.engine", havingValue = "elasticsearch")
+public class ElasticsearchConfig extends ElasticsearchConfiguration {
+
+    @Value("${app.search.elasticsearch.uris:localhost:9200}")
+    private String[] uris;
+
+    @Value("${app.search.elasticsearch.username:}")
+    private String username;
+
+    @Value("${app.search.elasticsearch.password:}")
+    private String password;
+
+    @Override
+    public ClientConfiguration clientConfiguration() {
+        ClientConfiguration.TerminalClientConfigurationBuilder builder = ClientConfiguration.builder()
+                .connectedTo(uris)
+                .withConnectTimeout(Duration.ofSeconds(5))
+                .withSocketTimeout(Duration.ofSeconds(30));
+        if (StringUtils.hasText(username)) {
+            builder.withBasicAuth(username, password);
+        }
+        return builder.build();
+    }
+}
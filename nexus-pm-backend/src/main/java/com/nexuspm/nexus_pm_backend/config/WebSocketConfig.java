@@ -0,0 +1,111 @@
+package com.nexuspm.nexus_pm_backend.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nexuspm.nexus_pm_backend.realtime.LocalRealtimeRelay;
+import com.nexuspm.nexus_pm_backend.realtime.ProjectTopicSubscriptionInterceptor;
+import com.nexuspm.nexus_pm_backend.realtime.RealtimeRelay;
+import com.nexuspm.nexus_pm_backend.realtime.RedisRealtimeRelay;
+import com.nexuspm.nexus_pm_backend.service.ProjectService;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.config.ChannelRegistration;
+import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
+import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
+import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
+
+/**
+ * STOMP over WebSocket at {@code /api/ws}. Clients subscribe to {@code /topic/projects/{id}}
+ * and receive {@code RealtimeEvent}s. Slow consumers are bounded by the transport limits: a
+ * session whose send buffer or send time exceeds them is closed rather than buffering without
+ * limit, and the client reconnects and refetches.
+ */
+@Configuration
+@EnableWebSocketMessageBroker
+public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
+
+    private final ProjectService projectService;
+    private final TaskScheduler heartbeatScheduler;
+
+    @Value("${app.cors.allowed-origins}")
+    private String allowedOrigins;
+
+    @Value("${app.realtime.heartbeat-ms:10000}")
+    private long heartbeatMs;
+
+    @Value("${app.realtime.send-time-limit-ms:10000}")
+    private int sendTimeLimitMs;
+
+    @Value("${app.realtime.send-buffer-size-limit:524288}")
+    private int sendBufferSizeLimit;
+
+    @Value("${app.realtime.message-size-limit:65536}")
+    private int messageSizeLimit;
+
+    @Value("${app.realtime.outbound-threads:8}")
+    private int outboundThreads;
+
+    // The broker's own scheduler bean, so heartbeats run on a pool the context starts and stops;
+    // lazy because that bean is defined by the configuration this class feeds
+    public WebSocketConfig(@Lazy ProjectService projectService,
+                           @Lazy @Qualifier("messageBrokerTaskScheduler") TaskScheduler heartbeatScheduler) {
+        this.projectService = projectService;
+        this.heartbeatScheduler = heartbeatScheduler;
+    }
+
+    @Override
+    public void registerStompEndpoints(StompEndpointRegistry registry) {
+        registry.addEndpoint("/ws")
+                .setAllowedOriginPatterns(allowedOrigins.split(","));
+    }
+
+    @Override
+    public void configureMessageBroker(MessageBrokerRegistry registry) {
+        registry.enableSimpleBroker("/topic")
+                .setHeartbeatValue(new long[]{heartbeatMs, heartbeatMs})
+                .setTaskScheduler(heartbeatScheduler);
+        registry.setApplicationDestinationPrefixes("/app");
+    }
+
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        registration.setSendTimeLimit(sendTimeLimitMs)
+                .setSendBufferSizeLimit(sendBufferSizeLimit)
+                .setMessageSizeLimit(messageSizeLimit);
+    }
+
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        registration.interceptors(new ProjectTopicSubscriptionInterceptor(projectService));
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        registration.taskExecutor()
+                .corePoolSize(outboundThreads)
+                .maxPoolSize(outboundThreads);
+    }
+
+    @Bean
+    public RealtimeRelay realtimeRelay(SimpMessagingTemplate messagingTemplate,
+                                       ObjectMapper objectMapper,
+                                       ObjectProvider<StringRedisTemplate> redisTemplate,
+                                       ObjectProvider<RedisMessageListenerContainer> listenerContainer) {
+        RealtimeRelay localRelay = new LocalRealtimeRelay(messagingTemplate);
+        StringRedisTemplate template = redisTemplate.getIfAvailable();
+        RedisMessageListenerContainer container = listenerContainer.getIfAvailable();
+        if (template == null || container == null) {
+            return localRelay;
+        }
+        return new RedisRealtimeRelay(template, container, objectMapper, localRelay);
+    }
+}
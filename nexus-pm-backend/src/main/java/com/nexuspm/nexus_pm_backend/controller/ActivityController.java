@@ -0,0 +1,62 @@
+package com.nexuspm.nexus_pm_backend.controller;
+
+import com.nexuspm.nexus_pm_backend.dto.ActivityDto;
+import com.nexuspm.nexus_pm_backend.observability.QueryBudget;
+import com.nexuspm.nexus_pm_backend.service.ActivityService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/activities")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*", maxAge = 3600)
+public class ActivityController {
+
+    private final ActivityService activityService;
+
+    @GetMapping("/project/{projectId}")
+    @QueryBudget(2)
+    public ResponseEntity<?> getProjectFeed(
+            @PathVariable UUID projectId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime since,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime until,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        try {
+            Page<ActivityDto> activities = activityService.findProjectFeed(projectId, since, until, page, size);
+            return ResponseEntity.ok(activities);
+        } catch (Exception e) {
+            log.error("Error fetching project activity: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    @GetMapping("/user/{userId}")
+    @QueryBudget(2)
+    public ResponseEntity<?> getUserFeed(
+            @PathVariable UUID userId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime since,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime until,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        try {
+            Page<ActivityDto> activities = activityService.findUserFeed(userId, since, until, page, size);
+            return ResponseEntity.ok(activities);
+        } catch (Exception e) {
+            log.error("Error fetching user activity: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(Map.of("error", e.getMessage()));
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package com.nexuspm.nexus_pm_backend.controller;
+
+import com.nexuspm.nexus_pm_backend.dto.AttachmentDto;
+import com.nexuspm.nexus_pm_backend.model.Attachment;
+import com.nexuspm.nexus_pm_backend.observability.QueryBudget;
+import com.nexuspm.nexus_pm_backend.service.AttachmentService;
+import com.nexuspm.nexus_pm_backend.thumbnail.ThumbnailContent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/attachments")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*", maxAge = 3600)
+public class AttachmentController {
+
+    private final AttachmentService attachmentService;
+
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<?> upload(@RequestParam UUID issueId,
+                                    @RequestParam UUID userId,
+                                    @RequestParam("file") MultipartFile file) {
+        try (InputStream content = file.getInputStream()) {
+            AttachmentDto attachment = attachmentService.upload(
+                    issueId, userId, file.getOriginalFilename(), file.getContentType(), content);
+            return ResponseEntity.status(HttpStatus.CREATED).body(attachment);
+        } catch (Exception e) {
+            log.error("Error uploading attachment: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    @GetMapping
+    public ResponseEntity<?> getAttachmentsByIssue(@RequestParam UUID issueId) {
+        try {
+            List<AttachmentDto> attachments = attachmentService.findByIssueId(issueId);
+            return ResponseEntity.ok(attachments);
+        } catch (Exception e) {
+            log.error("Error fetching attachments: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    /**
+     * Serves the content with a strong ETag (the content hash, which never changes for an
+     * attachment), answers conditional requests with 304 and single byte ranges with 206.
+     */
+    @GetMapping("/{id}/content")
+    @QueryBudget(3)
+    public ResponseEntity<?> download(@PathVariable UUID id,
+                                      @RequestHeader(value = HttpHeaders.RANGE, required = false) String rangeHeader,
+                                      @RequestHeader(value = HttpHeaders.IF_RANGE, required = false) String ifRange,
+                                      WebRequest request) {
+        Attachment attachment;
+        try {
+            attachment = attachmentService.getAttachment(id);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .body(Map.of("error", e.getMessage()));
+        }
+
+        String etag = "\"" + attachment.getContentSha256() + "\"";
+        long lastModified = attachment.getCreatedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        if (request.checkNotModified(etag, lastModified)) {
+            return null;
+        }
+
+        long size = attachment.getFileSize();
+        long start = 0;
+        long length = size;
+        HttpStatus status = HttpStatus.OK;
+        HttpHeaders headers = new HttpHeaders();
+        // A stale If-Range means the client's partial copy is of other content: send it all
+        if (rangeHeader != null && (ifRange == null || ifRange.equals(etag))) {
+            try {
+                List<HttpRange> ranges = HttpRange.parseRanges(rangeHeader);
+                if (ranges.size() == 1) {
+                    start = ranges.get(0).getRangeStart(size);
+                    if (start >= size) {
+                        throw new IllegalArgumentException("Range starts beyond the end of the content");
+                    }
+                    length = ranges.get(0).getRangeEnd(size) - start + 1;
+                    status = HttpStatus.PARTIAL_CONTENT;
+                    headers.set(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + (start + length - 1) + "/" + size);
+                }
+            } catch (IllegalArgumentException e) {
+                return ResponseEntity.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE)
+                    .header(HttpHeaders.CONTENT_RANGE, "bytes */" + size)
+                    .build();
+            }
+        }
+
+        headers.setETag(etag);
+        headers.setLastModified(lastModified);
+        headers.setCacheControl(CacheControl.maxAge(365, TimeUnit.DAYS).cachePrivate().immutable());
+        headers.set(HttpHeaders.ACCEPT_RANGES, "bytes");
+        headers.setContentLength(length);
+        headers.setContentType(MediaType.parseMediaType(attachment.getContentType()));
+        headers.set("X-Content-Type-Options", "nosniff");
+        headers.setContentDisposition(ContentDisposition.attachment()
+                .filename(attachment.getOriginalFilename(), StandardCharsets.UTF_8)
+                .build());
+
+        long position = start;
+        long count = length;
+        StreamingResponseBody body = out -> attachmentService.transferTo(attachment, position, count, Channels.newChannel(out));
+        return new ResponseEntity<>(body, headers, status);
+    }
+
+    @GetMapping("/{id}/thumbnail")
+    @QueryBudget(3)
+    public ResponseEntity<?> thumbnail(@PathVariable UUID id,
+                                       @RequestParam(required = false) Integer size,
+                                       WebRequest request) {
+        try {
+            Attachment attachment = attachmentService.getAttachment(id);
+            Optional<ThumbnailContent> thumbnail = attachmentService.findThumbnail(attachment, size);
+            if (thumbnail.isEmpty()) {
+                if (attachmentService.isThumbnailPending(attachment)) {
+                    return ResponseEntity.status(HttpStatus.ACCEPTED)
+                        .header(HttpHeaders.RETRY_AFTER, "2")
+                        .body(Map.of("status", "PENDING"));
+                }
+                return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(Map.of("error", "No thumbnail for attachment: " + id));
+            }
+            String etag = "\"" + thumbnail.get().getSha256() + "\"";
+            if (request.checkNotModified(etag)) {
+                return null;
+            }
+            return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.maxAge(365, TimeUnit.DAYS).cachePrivate().immutable())
+                .contentType(MediaType.IMAGE_PNG)
+                .body(thumbnail.get().getContent());
+        } catch (Exception e) {
+            log.error("Error fetching thumbnail: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<?> deleteAttachment(@PathVariable UUID id) {
+        try {
+            attachmentService.deleteAttachment(id);
+            return ResponseEntity.ok(Map.of("message", "Attachment deleted successfully"));
+        } catch (Exception e) {
+            log.error("Error deleting attachment: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(Map.of("error", e.getMessage()));
+        }
+    }
+}
@@ -18,10 +18,10 @@ import org.springframework.web.bind.annotation.*;
 import java.util.Map;
 import java.util.stream.Collectors;
 
-// @Slf4j
+@Slf4j
 // @RestController
 // @RequestMapping("/api/auth")
-// @RequiredArgsConstructor
+@RequiredArgsConstructor
 // @CrossOrigin(origins = "*", maxAge = 3600)
 public class AuthController {
 
@@ -121,6 +121,20 @@ public class AuthController {
         return ResponseEntity.ok(Map.of("message", "Logged out successfully"));
     }
 
+    @PostMapping("/logout-all")
+    public ResponseEntity<?> logoutEverywhere() {
+        try {
+            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+            authService.logoutEverywhere(authentication.getName());
+            return ResponseEntity.ok(Map.of("message", "Logged out from all sessions"));
+
+        } catch (Exception e) {
+            log.error("Logout everywhere error: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(Map.of("error", e.getMessage()));
+        }
+    }
+
     // Demo credentials endpoint
     @PostMapping("/create-demo")
     public ResponseEntity<?> createDemoCredentials() {
@@ -0,0 +1,109 @@
+package com.nexuspm.nexus_pm_backend.controller;
+
+import com.nexuspm.nexus_pm_backend.dto.CommentDto;
+import com.nexuspm.nexus_pm_backend.dto.CommentRequest;
+import com.nexuspm.nexus_pm_backend.observability.QueryBudget;
+import com.nexuspm.nexus_pm_backend.service.CommentService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/comments")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*", maxAge = 3600)
+public class CommentController {
+
+    private final CommentService commentService;
+
+    @GetMapping
+    @QueryBudget(5)
+    public ResponseEntity<?> getThreads(
+            @RequestParam UUID issueId,
+            @RequestParam(defaultValue = "true") boolean includeReplies,
+            @RequestParam(defaultValue = "true") boolean includeInternal,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        try {
+            Page<CommentDto> threads = commentService.getThreads(issueId, includeInternal, includeReplies, page, size);
+            return ResponseEntity.ok(threads);
+        } catch (Exception e) {
+            log.error("Error fetching comment threads: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    @GetMapping("/thread")
+    @QueryBudget(4)
+    public ResponseEntity<?> getThread(@RequestParam UUID issueId,
+                                       @RequestParam(defaultValue = "true") boolean includeInternal) {
+        try {
+            List<CommentDto> thread = commentService.getThread(issueId, includeInternal);
+            return ResponseEntity.ok(thread);
+        } catch (Exception e) {
+            log.error("Error fetching comment thread: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    @GetMapping("/{id}/replies")
+    @QueryBudget(4)
+    public ResponseEntity<?> getReplies(@PathVariable UUID id,
+                                        @RequestParam(defaultValue = "true") boolean includeInternal) {
+        try {
+            List<CommentDto> replies = commentService.getReplies(id, includeInternal);
+            return ResponseEntity.ok(replies);
+        } catch (Exception e) {
+            log.error("Error fetching comment replies: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    @PostMapping
+    public ResponseEntity<?> addComment(@RequestParam UUID userId, @Valid @RequestBody CommentRequest request) {
+        try {
+            CommentDto comment = commentService.addComment(userId, request);
+            return ResponseEntity.status(HttpStatus.CREATED).body(comment);
+        } catch (Exception e) {
+            log.error("Error adding comment: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    @PutMapping("/{id}")
+    public ResponseEntity<?> updateComment(@PathVariable UUID id, @RequestBody Map<String, String> request) {
+        try {
+            CommentDto comment = commentService.updateComment(id, request.get("content"));
+            return ResponseEntity.ok(comment);
+        } catch (Exception e) {
+            log.error("Error updating comment: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<?> deleteComment(@PathVariable UUID id) {
+        try {
+            commentService.deleteComment(id);
+            return ResponseEntity.ok(Map.of("message", "Comment deleted successfully"));
+        } catch (Exception e) {
+            log.error("Error deleting comment: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(Map.of("error", e.getMessage()));
+        }
+    }
+}
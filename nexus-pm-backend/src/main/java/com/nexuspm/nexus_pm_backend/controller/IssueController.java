@@ -1,6 +1,17 @@
 package com.nexuspm.nexus_pm_backend.controller;
 
+import com.nexuspm.nexus_pm_backend.dto.CursorPage;
+import com.nexuspm.nexus_pm_backend.dto.IssueDetailDto;
+import com.nexuspm.nexus_pm_backend.dto.IssueImportResult;
+import com.nexuspm.nexus_pm_backend.dto.IssueSummaryDto;
+import com.nexuspm.nexus_pm_backend.mapper.IssueMapper;
 import com.nexuspm.nexus_pm_backend.model.Issue;
+import com.nexuspm.nexus_pm_backend.observability.QueryBudget;
+import com.nexuspm.nexus_pm_backend.search.IssueSearchEngine;
+import com.nexuspm.nexus_pm_backend.search.IssueSearchIndexer;
+import com.nexuspm.nexus_pm_backend.search.IssueSearchQuery;
+import com.nexuspm.nexus_pm_backend.service.IssueDetailService;
+import com.nexuspm.nexus_pm_backend.service.IssueImportService;
 import com.nexuspm.nexus_pm_backend.service.IssueService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -8,13 +19,17 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.InputStream;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.UUID;
 
@@ -26,26 +41,42 @@ import java.util.UUID;
 public class IssueController {
 
     private final IssueService issueService;
+    private final IssueDetailService issueDetailService;
+    private final IssueImportService issueImportService;
+    private final IssueSearchEngine issueSearchEngine;
+    private final IssueSearchIndexer issueSearchIndexer;
+    private final IssueMapper issueMapper;
 
+    // With search: a Page of issues, honouring page, sortBy and sortDir. Without: a CursorPage
+    // newest first, paged by passing nextCursor back as cursor; page and sort params are rejected.
     @GetMapping("/project/{projectId}")
+    @QueryBudget(4)
     public ResponseEntity<?> getIssuesByProject(
             @PathVariable UUID projectId,
-            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(required = false) Integer page,
             @RequestParam(defaultValue = "10") int size,
-            @RequestParam(defaultValue = "createdAt") String sortBy,
-            @RequestParam(defaultValue = "desc") String sortDir,
-            @RequestParam(required = false) String search) {
+            @RequestParam(required = false) String sortBy,
+            @RequestParam(required = false) String sortDir,
+            @RequestParam(required = false) String search,
+            @RequestParam(required = false) String cursor) {
         try {
-            Sort.Direction direction = sortDir.equalsIgnoreCase("desc") ? Sort.Direction.DESC : Sort.Direction.ASC;
-            Pageable pageable = PageRequest.of(page, size, Sort.by(direction, sortBy));
-
             if (search != null && !search.trim().isEmpty()) {
+                Sort.Direction direction = "asc".equalsIgnoreCase(sortDir) ? Sort.Direction.ASC : Sort.Direction.DESC;
+                Pageable pageable = PageRequest.of(page != null ? page : 0, size,
+                        Sort.by(direction, sortBy != null ? sortBy : "createdAt"));
                 Page<Issue> issues = issueService.searchIssuesByProject(projectId, search, pageable);
-                return ResponseEntity.ok(issues);
-            } else {
-                List<Issue> issues = issueService.findByProjectId(projectId);
-                return ResponseEntity.ok(issues);
+                return ResponseEntity.ok(issues.map(issueMapper::toDto));
+            }
+            if (page != null || sortBy != null || sortDir != null) {
+                return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(Map.of("error", "page, sortBy and sortDir apply to search only; page this listing with cursor"));
             }
+            // Keyset pagination on (createdAt, id); pass nextCursor back for the following page
+            CursorPage<IssueSummaryDto> issues = issueService.findIssueSummariesByProject(projectId, cursor, size);
+            return ResponseEntity.ok(issues);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(Map.of("error", e.getMessage()));
         } catch (Exception e) {
             log.error("Error getting issues: {}", e.getMessage());
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -54,11 +85,12 @@ public class IssueController {
     }
 
     @GetMapping("/{id}")
+    @QueryBudget(2)
     public ResponseEntity<?> getIssueById(@PathVariable UUID id) {
         try {
             Issue issue = issueService.findById(id)
                     .orElseThrow(() -> new RuntimeException("Issue not found"));
-            return ResponseEntity.ok(issue);
+            return ResponseEntity.ok(issueMapper.toDto(issue));
         } catch (Exception e) {
             log.error("Error getting issue: {}", e.getMessage());
             return ResponseEntity.status(HttpStatus.NOT_FOUND)
@@ -66,6 +98,19 @@ public class IssueController {
         }
     }
 
+    @GetMapping("/{id}/detail")
+    @QueryBudget(8)
+    public ResponseEntity<?> getIssueDetail(@PathVariable UUID id) {
+        try {
+            IssueDetailDto detail = issueDetailService.getIssueDetail(id);
+            return ResponseEntity.ok(detail);
+        } catch (Exception e) {
+            log.error("Error getting issue detail: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .body(Map.of("error", e.getMessage()));
+        }
+    }
+
     @PostMapping
     public ResponseEntity<?> createIssue(@RequestBody Map<String, Object> issueRequest) {
         try {
@@ -87,7 +132,7 @@ public class IssueController {
             UUID reporterId = UUID.fromString((String) issueRequest.get("reporterId"));
             
             Issue savedIssue = issueService.createIssue(issue, projectId, reporterId);
-            return ResponseEntity.status(HttpStatus.CREATED).body(savedIssue);
+            return ResponseEntity.status(HttpStatus.CREATED).body(issueMapper.toDto(savedIssue));
 
         } catch (Exception e) {
             log.error("Error creating issue: {}", e.getMessage());
@@ -100,7 +145,7 @@ public class IssueController {
     public ResponseEntity<?> updateIssue(@PathVariable UUID id, @RequestBody Issue issueUpdate) {
         try {
             Issue updatedIssue = issueService.updateIssue(id, issueUpdate);
-            return ResponseEntity.ok(updatedIssue);
+            return ResponseEntity.ok(issueMapper.toDto(updatedIssue));
         } catch (Exception e) {
             log.error("Error updating issue: {}", e.getMessage());
             return ResponseEntity.status(HttpStatus.BAD_REQUEST)
@@ -113,7 +158,7 @@ public class IssueController {
         try {
             Issue.IssueStatus status = Issue.IssueStatus.valueOf(statusRequest.get("status"));
             Issue updatedIssue = issueService.updateIssueStatus(id, status);
-            return ResponseEntity.ok(updatedIssue);
+            return ResponseEntity.ok(issueMapper.toDto(updatedIssue));
         } catch (Exception e) {
             log.error("Error updating issue status: {}", e.getMessage());
             return ResponseEntity.status(HttpStatus.BAD_REQUEST)
@@ -126,7 +171,7 @@ public class IssueController {
         try {
             UUID assigneeId = UUID.fromString(assignRequest.get("assigneeId"));
             Issue updatedIssue = issueService.assignIssue(id, assigneeId);
-            return ResponseEntity.ok(updatedIssue);
+            return ResponseEntity.ok(issueMapper.toDto(updatedIssue));
         } catch (Exception e) {
             log.error("Error assigning issue: {}", e.getMessage());
             return ResponseEntity.status(HttpStatus.BAD_REQUEST)
@@ -138,7 +183,7 @@ public class IssueController {
     public ResponseEntity<?> unassignIssue(@PathVariable UUID id) {
         try {
             Issue updatedIssue = issueService.unassignIssue(id);
-            return ResponseEntity.ok(updatedIssue);
+            return ResponseEntity.ok(issueMapper.toDto(updatedIssue));
         } catch (Exception e) {
             log.error("Error unassigning issue: {}", e.getMessage());
             return ResponseEntity.status(HttpStatus.BAD_REQUEST)
@@ -157,4 +202,92 @@ public class IssueController {
                 .body(Map.of("error", e.getMessage()));
         }
     }
+
+    @PostMapping("/import")
+    public ResponseEntity<?> importIssues(
+            InputStream body,
+            @RequestHeader(value = HttpHeaders.CONTENT_TYPE, required = false) String contentType,
+            @RequestParam(required = false) String format,
+            @RequestParam(required = false) UUID projectId,
+            @RequestParam(required = false) UUID reporterId,
+            @RequestParam(required = false) String jobId) {
+        try {
+            IssueImportService.Format importFormat = resolveImportFormat(format, contentType);
+            IssueImportResult result = issueImportService.importIssues(body, importFormat, projectId, reporterId, jobId);
+            HttpStatus status = result.getStatus() == IssueImportResult.ImportStatus.FAILED
+                    ? HttpStatus.BAD_REQUEST : HttpStatus.OK;
+            return ResponseEntity.status(status).body(result);
+        } catch (Exception e) {
+            log.error("Error importing issues: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    @GetMapping("/import/{jobId}")
+    public ResponseEntity<?> getImportStatus(@PathVariable String jobId) {
+        return issueImportService.getImportStatus(jobId)
+                .<ResponseEntity<?>>map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(Map.of("error", "Import job not found")));
+    }
+
+    @GetMapping("/search")
+    @QueryBudget(5)
+    public ResponseEntity<?> searchIssues(
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) UUID projectId,
+            @RequestParam(required = false) List<Issue.IssueStatus> status,
+            @RequestParam(required = false) List<Issue.IssuePriority> priority,
+            @RequestParam(required = false) UUID assigneeId,
+            @RequestParam(required = false) List<String> label,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        try {
+            IssueSearchQuery query = new IssueSearchQuery();
+            query.setText(q);
+            query.setProjectId(projectId);
+            if (status != null) {
+                query.setStatuses(status);
+            }
+            if (priority != null) {
+                query.setPriorities(priority);
+            }
+            query.setAssigneeId(assigneeId);
+            if (label != null) {
+                query.setLabels(label);
+            }
+            query.setPage(Math.max(page, 0));
+            query.setSize(Math.min(Math.max(size, 1), 100));
+            return ResponseEntity.ok(issueSearchEngine.search(query));
+        } catch (Exception e) {
+            log.error("Error searching issues: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    @PostMapping("/search/reindex")
+    @QueryBudget(QueryBudget.UNLIMITED)
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<?> reindexIssues() {
+        try {
+            long indexed = issueSearchIndexer.reindexAll();
+            return ResponseEntity.ok(Map.of("indexed", indexed));
+        } catch (Exception e) {
+            log.error("Error reindexing issues: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    private IssueImportService.Format resolveImportFormat(String format, String contentType) {
+        if (format != null) {
+            return IssueImportService.Format.valueOf(format.toUpperCase(Locale.ROOT));
+        }
+        if (contentType != null && contentType.toLowerCase(Locale.ROOT).contains("csv")) {
+            return IssueImportService.Format.CSV;
+        }
+        return IssueImportService.Format.NDJSON;
+    }
 }
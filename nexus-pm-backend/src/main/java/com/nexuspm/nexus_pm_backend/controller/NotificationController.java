@@ -0,0 +1,78 @@
+package com.nexuspm.nexus_pm_backend.controller;
+
+import com.nexuspm.nexus_pm_backend.dto.NotificationDto;
+import com.nexuspm.nexus_pm_backend.observability.QueryBudget;
+import com.nexuspm.nexus_pm_backend.service.NotificationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/notifications")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*", maxAge = 3600)
+public class NotificationController {
+
+    private final NotificationService notificationService;
+
+    @GetMapping
+    @QueryBudget(3)
+    public ResponseEntity<?> getNotifications(
+            @RequestParam UUID userId,
+            @RequestParam(defaultValue = "false") boolean unreadOnly,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        try {
+            Page<NotificationDto> notifications = notificationService.findByUserId(userId, unreadOnly, page, size);
+            return ResponseEntity.ok(notifications);
+        } catch (Exception e) {
+            log.error("Error fetching notifications: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    @GetMapping("/unread-count")
+    @QueryBudget(2)
+    public ResponseEntity<?> getUnreadCount(@RequestParam UUID userId) {
+        try {
+            return ResponseEntity.ok(Map.of("unreadCount", notificationService.getUnreadCount(userId)));
+        } catch (Exception e) {
+            log.error("Error fetching unread count: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    @PostMapping("/read")
+    public ResponseEntity<?> markAsRead(@RequestParam UUID userId, @RequestBody List<UUID> notificationIds) {
+        try {
+            int updated = notificationService.markAsRead(userId, notificationIds);
+            return ResponseEntity.ok(Map.of("updated", updated));
+        } catch (Exception e) {
+            log.error("Error marking notifications as read: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    @PostMapping("/read-all")
+    public ResponseEntity<?> markAllAsRead(@RequestParam UUID userId) {
+        try {
+            int updated = notificationService.markAllAsRead(userId);
+            return ResponseEntity.ok(Map.of("updated", updated));
+        } catch (Exception e) {
+            log.error("Error marking all notifications as read: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(Map.of("error", e.getMessage()));
+        }
+    }
+}
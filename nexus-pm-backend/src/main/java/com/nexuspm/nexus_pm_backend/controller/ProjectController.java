@@ -1,8 +1,12 @@
 package com.nexuspm.nexus_pm_backend.controller;
 
+import com.nexuspm.nexus_pm_backend.dto.ProjectSummaryDto;
+import com.nexuspm.nexus_pm_backend.mapper.ProjectMapper;
 import com.nexuspm.nexus_pm_backend.model.Project;
 import com.nexuspm.nexus_pm_backend.model.ProjectMember;
+import com.nexuspm.nexus_pm_backend.observability.QueryBudget;
 import com.nexuspm.nexus_pm_backend.service.ProjectService;
+import com.nexuspm.nexus_pm_backend.service.ProjectSummaryService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -28,6 +32,8 @@ import java.util.UUID;
 public class ProjectController {
 
     private final ProjectService projectService;
+    private final ProjectSummaryService projectSummaryService;
+    private final ProjectMapper projectMapper;
 
     @GetMapping
     public ResponseEntity<?> getAllProjects(
@@ -42,11 +48,11 @@ public class ProjectController {
 
             if (search != null && !search.trim().isEmpty()) {
                 Page<Project> projects = projectService.searchProjects(search, pageable);
-                return ResponseEntity.ok(projects);
+                return ResponseEntity.ok(projects.map(projectMapper::toDto));
             } else {
                 // For now, return all projects - in production, you'd filter by user access
                 List<Project> projects = projectService.findAll();
-                return ResponseEntity.ok(projects);
+                return ResponseEntity.ok(projectMapper.toDtos(projects));
             }
         } catch (Exception e) {
             log.error("Error getting projects: {}", e.getMessage());
@@ -56,11 +62,12 @@ public class ProjectController {
     }
 
     @GetMapping("/{id}")
+    @QueryBudget(2)
     public ResponseEntity<?> getProjectById(@PathVariable UUID id) {
         try {
             Project project = projectService.findById(id)
                     .orElseThrow(() -> new RuntimeException("Project not found"));
-            return ResponseEntity.ok(project);
+            return ResponseEntity.ok(projectMapper.toDto(project));
         } catch (Exception e) {
             log.error("Error getting project: {}", e.getMessage());
             return ResponseEntity.status(HttpStatus.NOT_FOUND)
@@ -73,7 +80,7 @@ public class ProjectController {
         try {
             Project project = projectService.findByKey(key)
                     .orElseThrow(() -> new RuntimeException("Project not found"));
-            return ResponseEntity.ok(project);
+            return ResponseEntity.ok(projectMapper.toDto(project));
         } catch (Exception e) {
             log.error("Error getting project by key: {}", e.getMessage());
             return ResponseEntity.status(HttpStatus.NOT_FOUND)
@@ -103,7 +110,7 @@ public class ProjectController {
             UUID leadId = UUID.fromString((String) projectRequest.get("leadId"));
             
             Project savedProject = projectService.createProject(project, leadId);
-            return ResponseEntity.status(HttpStatus.CREATED).body(savedProject);
+            return ResponseEntity.status(HttpStatus.CREATED).body(projectMapper.toDto(savedProject));
 
         } catch (Exception e) {
             log.error("Error creating project: {}", e.getMessage());
@@ -117,7 +124,7 @@ public class ProjectController {
     public ResponseEntity<?> updateProject(@PathVariable UUID id, @RequestBody Project projectUpdate) {
         try {
             Project updatedProject = projectService.updateProject(id, projectUpdate);
-            return ResponseEntity.ok(updatedProject);
+            return ResponseEntity.ok(projectMapper.toDto(updatedProject));
         } catch (Exception e) {
             log.error("Error updating project: {}", e.getMessage());
             return ResponseEntity.status(HttpStatus.BAD_REQUEST)
@@ -131,7 +138,7 @@ public class ProjectController {
         try {
             Project.ProjectStatus status = Project.ProjectStatus.valueOf(statusRequest.get("status"));
             Project updatedProject = projectService.updateProjectStatus(id, status);
-            return ResponseEntity.ok(updatedProject);
+            return ResponseEntity.ok(projectMapper.toDto(updatedProject));
         } catch (Exception e) {
             log.error("Error updating project status: {}", e.getMessage());
             return ResponseEntity.status(HttpStatus.BAD_REQUEST)
@@ -152,12 +159,26 @@ public class ProjectController {
         }
     }
 
+    @GetMapping("/{id}/summary")
+    @QueryBudget(3)
+    public ResponseEntity<?> getProjectSummary(@PathVariable UUID id) {
+        try {
+            ProjectSummaryDto summary = projectSummaryService.getSummary(id);
+            return ResponseEntity.ok(summary);
+        } catch (Exception e) {
+            log.error("Error getting project summary: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(Map.of("error", e.getMessage()));
+        }
+    }
+
     // Project Members endpoints
     @GetMapping("/{id}/members")
+    @QueryBudget(2)
     public ResponseEntity<?> getProjectMembers(@PathVariable UUID id) {
         try {
             List<ProjectMember> members = projectService.getProjectMembers(id);
-            return ResponseEntity.ok(members);
+            return ResponseEntity.ok(projectMapper.toMemberDtos(members));
         } catch (Exception e) {
             log.error("Error getting project members: {}", e.getMessage());
             return ResponseEntity.status(HttpStatus.NOT_FOUND)
@@ -173,7 +194,7 @@ public class ProjectController {
             ProjectMember.MemberRole role = ProjectMember.MemberRole.valueOf((String) memberRequest.get("role"));
             
             ProjectMember member = projectService.addMemberToProject(id, userId, role);
-            return ResponseEntity.status(HttpStatus.CREATED).body(member);
+            return ResponseEntity.status(HttpStatus.CREATED).body(projectMapper.toMemberDto(member));
         } catch (Exception e) {
             log.error("Error adding project member: {}", e.getMessage());
             return ResponseEntity.status(HttpStatus.BAD_REQUEST)
@@ -188,7 +209,7 @@ public class ProjectController {
         try {
             ProjectMember.MemberRole role = ProjectMember.MemberRole.valueOf(roleRequest.get("role"));
             ProjectMember updatedMember = projectService.updateMemberRole(id, userId, role);
-            return ResponseEntity.ok(updatedMember);
+            return ResponseEntity.ok(projectMapper.toMemberDto(updatedMember));
         } catch (Exception e) {
             log.error("Error updating member role: {}", e.getMessage());
             return ResponseEntity.status(HttpStatus.BAD_REQUEST)
@@ -0,0 +1,66 @@
+package com.nexuspm.nexus_pm_backend.controller;
+
+import com.nexuspm.nexus_pm_backend.dto.SprintBurndownDto;
+import com.nexuspm.nexus_pm_backend.dto.SprintProgressDto;
+import com.nexuspm.nexus_pm_backend.observability.QueryBudget;
+import com.nexuspm.nexus_pm_backend.service.SprintAggregateService;
+import com.nexuspm.nexus_pm_backend.service.SprintBurndownService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+import java.util.UUID;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/sprints")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*", maxAge = 3600)
+public class SprintController {
+
+    private final SprintAggregateService sprintAggregateService;
+    private final SprintBurndownService sprintBurndownService;
+
+    @GetMapping("/{id}/progress")
+    @QueryBudget(3)
+    public ResponseEntity<?> getSprintProgress(@PathVariable UUID id) {
+        try {
+            SprintProgressDto progress = sprintAggregateService.getProgress(id);
+            return ResponseEntity.ok(progress);
+        } catch (Exception e) {
+            log.error("Error getting sprint progress: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    @PostMapping("/{id}/progress/recompute")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<?> recomputeSprintProgress(@PathVariable UUID id) {
+        try {
+            SprintProgressDto progress = sprintAggregateService.recompute(id);
+            return ResponseEntity.ok(progress);
+        } catch (Exception e) {
+            log.error("Error recomputing sprint progress: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    @GetMapping("/{id}/burndown")
+    @QueryBudget(3)
+    public ResponseEntity<?> getSprintBurndown(@PathVariable UUID id) {
+        try {
+            SprintBurndownDto burndown = sprintBurndownService.getBurndown(id);
+            return ResponseEntity.ok(burndown);
+        } catch (Exception e) {
+            log.error("Error getting sprint burndown: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .body(Map.of("error", e.getMessage()));
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.nexuspm.nexus_pm_backend.dto;
+
+import com.nexuspm.nexus_pm_backend.model.Activity;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Activity feed row, filled by a JPQL constructor expression.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ActivityDto {
+    private UUID id;
+    private Activity.ActivityAction action;
+    private String entityType;
+    private String entityId;
+    private String description;
+    private UUID userId;
+    private UUID projectId;
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,23 @@
+package com.nexuspm.nexus_pm_backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AttachmentDto {
+    private UUID id;
+    private UUID issueId;
+    private String originalFilename;
+    private String contentType;
+    private Long fileSize;
+    private String contentSha256;
+    private Boolean isImage;
+    private UUID uploadedById;
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,23 @@
+package com.nexuspm.nexus_pm_backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BurndownPointDto {
+    private LocalDateTime at;
+    private int totalPoints;
+    private int completedPoints;
+    private int remainingPoints;
+    private int scopeAdded;
+    private int scopeRemoved;
+
+    public BurndownPointDto(LocalDateTime at, int totalPoints, int completedPoints, int scopeAdded, int scopeRemoved) {
+        this(at, totalPoints, completedPoints, totalPoints - completedPoints, scopeAdded, scopeRemoved);
+    }
+}
@@ -0,0 +1,44 @@
+package com.nexuspm.nexus_pm_backend.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * A comment with its author flattened in, and the replies beneath it once the thread has been
+ * assembled. {@code replyCount} counts every descendant, not just direct replies.
+ */
+@Data
+@NoArgsConstructor
+public class CommentDto {
+    private UUID id;
+    private UUID parentId;
+    private String content;
+    private Boolean isInternal;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private UUID authorId;
+    private String authorName;
+    private String authorAvatarUrl;
+    private long replyCount;
+    private List<CommentDto> replies = new ArrayList<>();
+
+    // Used by JPQL constructor expressions and the thread row mapper
+    public CommentDto(UUID id, UUID parentId, String content, Boolean isInternal,
+                      LocalDateTime createdAt, LocalDateTime updatedAt,
+                      UUID authorId, String authorName, String authorAvatarUrl) {
+        this.id = id;
+        this.parentId = parentId;
+        this.content = content;
+        this.isInternal = isInternal;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        this.authorId = authorId;
+        this.authorName = authorName;
+        this.authorAvatarUrl = authorAvatarUrl;
+    }
+}
@@ -0,0 +1,19 @@
+package com.nexuspm.nexus_pm_backend.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.Data;
+
+import java.util.UUID;
+
+@Data
+public class CommentRequest {
+    private UUID issueId;
+
+    // Set when replying to another comment
+    private UUID parentId;
+
+    @NotBlank(message = "Content is required")
+    private String content;
+
+    private Boolean isInternal = false;
+}
@@ -0,0 +1,81 @@
+package com.nexuspm.nexus_pm_backend.dto;
+
+import com.nexuspm.nexus_pm_backend.model.Issue;
+import lombok.Value;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Read model for the issue detail page: the issue, its to-one references and every collection,
+ * assembled from a fixed set of queries. Immutable because the same instance is handed out
+ * from the cache; Serializable because it is cached in Redis.
+ */
+@Value
+public class IssueDetailDto implements Serializable {
+
+    UUID id;
+    String key;
+    String title;
+    String description;
+    Issue.IssueType type;
+    Issue.IssueStatus status;
+    Issue.IssuePriority priority;
+    Integer storyPoints;
+    Double estimateHours;
+    Double timeSpentHours;
+    String resolution;
+    LocalDateTime dueDate;
+    LocalDateTime createdAt;
+    LocalDateTime updatedAt;
+    LocalDateTime resolvedAt;
+    UUID projectId;
+    String projectKey;
+    String projectName;
+    UserRef reporter;
+    UserRef assignee;
+    UUID sprintId;
+    String sprintName;
+    IssueRef parent;
+    List<IssueRef> subtasks;
+    List<LabelRef> labels;
+    List<UserRef> watchers;
+    List<AttachmentRef> attachments;
+    long commentCount;
+
+    @Value
+    public static class UserRef implements Serializable {
+        UUID id;
+        String name;
+        String avatarUrl;
+    }
+
+    @Value
+    public static class IssueRef implements Serializable {
+        UUID id;
+        String key;
+        String title;
+        Issue.IssueStatus status;
+    }
+
+    @Value
+    public static class LabelRef implements Serializable {
+        UUID id;
+        String name;
+        String color;
+    }
+
+    @Value
+    public static class AttachmentRef implements Serializable {
+        UUID id;
+        String originalFilename;
+        String contentType;
+        Long fileSize;
+        Boolean isImage;
+        UUID uploadedById;
+        String uploadedByName;
+        LocalDateTime createdAt;
+    }
+}
@@ -0,0 +1,39 @@
+package com.nexuspm.nexus_pm_backend.dto;
+
+import com.nexuspm.nexus_pm_backend.model.Issue;
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * An issue as returned by the write and lookup endpoints. To-one associations are carried as
+ * ids only, which a Hibernate proxy answers without loading, so mapping never triggers a query;
+ * the detail endpoint ({@link IssueDetailDto}) is the place for names and collections.
+ */
+@Value
+@Builder
+public class IssueDto {
+    UUID id;
+    String key;
+    String title;
+    String description;
+    Issue.IssueType type;
+    Issue.IssueStatus status;
+    Issue.IssuePriority priority;
+    Integer storyPoints;
+    Double estimateHours;
+    Double timeSpentHours;
+    String resolution;
+    LocalDateTime dueDate;
+    String customFields;
+    LocalDateTime createdAt;
+    LocalDateTime updatedAt;
+    LocalDateTime resolvedAt;
+    UUID projectId;
+    UUID reporterId;
+    UUID assigneeId;
+    UUID sprintId;
+    UUID parentId;
+}
@@ -0,0 +1,23 @@
+package com.nexuspm.nexus_pm_backend.dto;
+
+import lombok.Data;
+
+/**
+ * One issue in a bulk import file (NDJSON object or CSV record). Values are kept as text
+ * so a bad value is reported against its row instead of failing the whole file.
+ */
+@Data
+public class IssueImportRow {
+    private String projectId;
+    private String projectKey;
+    private String title;
+    private String description;
+    private String type;
+    private String status;
+    private String priority;
+    private String storyPoints;
+    private String estimateHours;
+    private String dueDate;
+    private String reporterEmail;
+    private String assigneeEmail;
+}
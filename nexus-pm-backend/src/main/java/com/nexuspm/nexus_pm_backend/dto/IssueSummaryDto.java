@@ -0,0 +1,32 @@
+package com.nexuspm.nexus_pm_backend.dto;
+
+import com.nexuspm.nexus_pm_backend.model.Issue;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Flat read model for issue lists, filled directly by a JPQL constructor expression
+ * so no entity or lazy association is loaded.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class IssueSummaryDto {
+    private UUID id;
+    private String key;
+    private String title;
+    private Issue.IssueType type;
+    private Issue.IssueStatus status;
+    private Issue.IssuePriority priority;
+    private Integer storyPoints;
+    private LocalDateTime dueDate;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private UUID assigneeId;
+    private String assigneeName;
+    private UUID sprintId;
+}
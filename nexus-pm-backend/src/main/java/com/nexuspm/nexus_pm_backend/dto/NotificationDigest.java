@@ -0,0 +1,23 @@
+package com.nexuspm.nexus_pm_backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * One user's pending notifications for a digest email. {@code notifications} is capped;
+ * {@code totalCount} is how many were pending in the window.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationDigest {
+    private UUID userId;
+    private String email;
+    private String recipientName;
+    private List<NotificationDto> notifications;
+    private int totalCount;
+}
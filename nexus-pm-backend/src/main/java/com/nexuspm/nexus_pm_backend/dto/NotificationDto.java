@@ -0,0 +1,28 @@
+package com.nexuspm.nexus_pm_backend.dto;
+
+import com.nexuspm.nexus_pm_backend.model.Notification;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Notification list row, filled by a JPQL constructor expression.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationDto {
+    private UUID id;
+    private String title;
+    private String message;
+    private Notification.NotificationType type;
+    private Boolean isRead;
+    private String entityType;
+    private String entityId;
+    private String actionUrl;
+    private LocalDateTime createdAt;
+    private LocalDateTime readAt;
+}
@@ -0,0 +1,30 @@
+package com.nexuspm.nexus_pm_backend.dto;
+
+import com.nexuspm.nexus_pm_backend.model.Project;
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * A project without its members, sprints, issues or labels; those have their own endpoints.
+ */
+@Value
+@Builder
+public class ProjectDto {
+    UUID id;
+    String name;
+    String key;
+    String description;
+    Project.ProjectStatus status;
+    Project.ProjectVisibility visibility;
+    String avatarUrl;
+    String repositoryUrl;
+    LocalDateTime startDate;
+    LocalDateTime endDate;
+    String settings;
+    LocalDateTime createdAt;
+    LocalDateTime updatedAt;
+    UUID leadId;
+}
@@ -0,0 +1,19 @@
+package com.nexuspm.nexus_pm_backend.dto;
+
+import com.nexuspm.nexus_pm_backend.model.ProjectMember;
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Value
+@Builder
+public class ProjectMemberDto {
+    UUID id;
+    UUID projectId;
+    ProjectMember.MemberRole role;
+    String permissions;
+    LocalDateTime joinedAt;
+    UserDto user;
+}
@@ -0,0 +1,62 @@
+package com.nexuspm.nexus_pm_backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Everything the project dashboard shows. Serializable because it is cached in Redis.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectSummaryDto implements Serializable {
+
+    private UUID projectId;
+    private long totalIssues;
+    private long openIssues;
+    private long completedIssues;
+    private long overdueIssues;
+    private long unassignedIssues;
+    private long totalStoryPoints;
+    private long completedStoryPoints;
+    private Map<String, Long> issuesByStatus = new LinkedHashMap<>();
+    private Map<String, Long> issuesByPriority = new LinkedHashMap<>();
+    private Map<String, Long> issuesByType = new LinkedHashMap<>();
+    private List<AssigneeSummary> issuesByAssignee = new ArrayList<>();
+    private long memberCount;
+    private Map<String, Long> sprintsByStatus = new LinkedHashMap<>();
+    private ActiveSprintSummary activeSprint;
+    private LocalDateTime generatedAt;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class AssigneeSummary implements Serializable {
+        private UUID userId;
+        private String name;
+        private long issueCount;
+        private long openIssueCount;
+        private long storyPoints;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ActiveSprintSummary implements Serializable {
+        private UUID id;
+        private String name;
+        private LocalDateTime endDate;
+        private int totalStoryPoints;
+        private int completedStoryPoints;
+        private double progress;
+    }
+}
@@ -0,0 +1,21 @@
+package com.nexuspm.nexus_pm_backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SprintBurndownDto {
+    private UUID sprintId;
+    private LocalDateTime startDate;
+    private LocalDateTime endDate;
+    // Remaining points when the sprint started; the ideal line runs from here to zero at endDate
+    private Integer committedPoints;
+    private List<BurndownPointDto> points;
+}
@@ -0,0 +1,22 @@
+package com.nexuspm.nexus_pm_backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SprintProgressDto {
+    private UUID sprintId;
+    private int totalStoryPoints;
+    private int completedStoryPoints;
+    private int remainingStoryPoints;
+    private int issueCount;
+    private int completedIssueCount;
+    private double progress;
+    private Map<String, Integer> issuesByStatus;
+}
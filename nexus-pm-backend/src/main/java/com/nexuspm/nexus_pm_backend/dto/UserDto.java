@@ -0,0 +1,23 @@
+package com.nexuspm.nexus_pm_backend.dto;
+
+import com.nexuspm.nexus_pm_backend.model.User;
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.UUID;
+
+/**
+ * Public profile of a user, as embedded in other responses. Unlike the entity it never exposes
+ * the password hash, security stamp or two-factor secret.
+ */
+@Value
+@Builder
+public class UserDto {
+    UUID id;
+    String email;
+    String firstName;
+    String lastName;
+    String fullName;
+    String avatarUrl;
+    User.UserRole role;
+}
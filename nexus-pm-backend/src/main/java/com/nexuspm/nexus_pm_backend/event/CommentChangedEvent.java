@@ -0,0 +1,20 @@
+package com.nexuspm.nexus_pm_backend.event;
+
+import lombok.Value;
+
+import java.util.UUID;
+
+/**
+ * Published whenever a comment is written.
+ */
+@Value
+public class CommentChangedEvent {
+    UUID commentId;
+    UUID issueId;
+    UUID projectId;
+    ChangeType changeType;
+
+    public enum ChangeType {
+        CREATED, UPDATED, DELETED
+    }
+}
@@ -0,0 +1,24 @@
+package com.nexuspm.nexus_pm_backend.event;
+
+import lombok.Value;
+
+import java.util.UUID;
+
+/**
+ * Published by the service layer whenever an issue is written. Listeners that only care
+ * about committed data should use {@code @TransactionalEventListener}.
+ *
+ * <p>{@code parentId} is captured while the issue is still loaded, so listeners running after
+ * commit know the parent even of a deleted issue.
+ */
+@Value
+public class IssueChangedEvent {
+    UUID issueId;
+    UUID projectId;
+    UUID parentId;
+    ChangeType changeType;
+
+    public enum ChangeType {
+        CREATED, UPDATED, STATUS_CHANGED, ASSIGNED, UNASSIGNED, MOVED, WATCHERS_CHANGED, TIME_LOGGED, DELETED
+    }
+}
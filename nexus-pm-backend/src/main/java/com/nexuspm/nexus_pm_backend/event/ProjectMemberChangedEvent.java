@@ -0,0 +1,19 @@
+package com.nexuspm.nexus_pm_backend.event;
+
+import lombok.Value;
+
+import java.util.UUID;
+
+/**
+ * Published by {@code ProjectService} when a user joins, leaves or changes role in a project.
+ */
+@Value
+public class ProjectMemberChangedEvent {
+    UUID projectId;
+    UUID userId;
+    ChangeType changeType;
+
+    public enum ChangeType {
+        ADDED, ROLE_CHANGED, REMOVED
+    }
+}
@@ -0,0 +1,19 @@
+package com.nexuspm.nexus_pm_backend.event;
+
+import lombok.Value;
+
+import java.util.UUID;
+
+/**
+ * Published by {@code SprintService} whenever a sprint is written.
+ */
+@Value
+public class SprintChangedEvent {
+    UUID sprintId;
+    UUID projectId;
+    ChangeType changeType;
+
+    public enum ChangeType {
+        CREATED, UPDATED, STARTED, COMPLETED, CANCELLED, DELETED
+    }
+}
@@ -0,0 +1,17 @@
+package com.nexuspm.nexus_pm_backend.mapper;
+
+import org.mapstruct.MapperConfig;
+import org.mapstruct.MappingConstants;
+import org.mapstruct.ReportingPolicy;
+
+/**
+ * Shared settings for the entity to DTO mappers. Implementations are generated at compile time
+ * as plain getter/builder calls, so there is no reflection at runtime. An unmapped DTO property
+ * fails the build instead of silently serializing as null.
+ */
+@MapperConfig(
+        componentModel = MappingConstants.ComponentModel.SPRING,
+        unmappedTargetPolicy = ReportingPolicy.ERROR
+)
+public interface DtoMapperConfig {
+}
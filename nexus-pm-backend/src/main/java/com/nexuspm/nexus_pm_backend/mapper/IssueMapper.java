@@ -0,0 +1,22 @@
+package com.nexuspm.nexus_pm_backend.mapper;
+
+import com.nexuspm.nexus_pm_backend.dto.IssueDto;
+import com.nexuspm.nexus_pm_backend.model.Issue;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+import java.util.List;
+
+@Mapper(config = DtoMapperConfig.class)
+public interface IssueMapper {
+
+    // Only ids are read from the to-one associations; a lazy proxy returns its id without loading
+    @Mapping(target = "projectId", source = "project.id")
+    @Mapping(target = "reporterId", source = "reporter.id")
+    @Mapping(target = "assigneeId", source = "assignee.id")
+    @Mapping(target = "sprintId", source = "sprint.id")
+    @Mapping(target = "parentId", source = "parent.id")
+    IssueDto toDto(Issue issue);
+
+    List<IssueDto> toDtos(List<Issue> issues);
+}
@@ -0,0 +1,25 @@
+package com.nexuspm.nexus_pm_backend.mapper;
+
+import com.nexuspm.nexus_pm_backend.dto.ProjectDto;
+import com.nexuspm.nexus_pm_backend.dto.ProjectMemberDto;
+import com.nexuspm.nexus_pm_backend.model.Project;
+import com.nexuspm.nexus_pm_backend.model.ProjectMember;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+import java.util.List;
+
+@Mapper(config = DtoMapperConfig.class, uses = UserMapper.class)
+public interface ProjectMapper {
+
+    @Mapping(target = "leadId", source = "lead.id")
+    ProjectDto toDto(Project project);
+
+    List<ProjectDto> toDtos(List<Project> projects);
+
+    // Reads member.user, so load members with their users fetched
+    @Mapping(target = "projectId", source = "project.id")
+    ProjectMemberDto toMemberDto(ProjectMember member);
+
+    List<ProjectMemberDto> toMemberDtos(List<ProjectMember> members);
+}
@@ -0,0 +1,11 @@
+package com.nexuspm.nexus_pm_backend.mapper;
+
+import com.nexuspm.nexus_pm_backend.dto.UserDto;
+import com.nexuspm.nexus_pm_backend.model.User;
+import org.mapstruct.Mapper;
+
+@Mapper(config = DtoMapperConfig.class)
+public interface UserMapper {
+
+    UserDto toDto(User user);
+}
@@ -37,6 +37,9 @@ public class Attachment {
     @Column(name = "content_type", nullable = false)
     private String contentType;
     
+    @Column(name = "content_sha256", length = 64)
+    private String contentSha256;
+    
     @Column(name = "is_image")
     private Boolean isImage = false;
     
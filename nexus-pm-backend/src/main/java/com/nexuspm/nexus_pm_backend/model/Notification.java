@@ -35,6 +35,10 @@ public class Notification {
     @Column(name = "is_read")
     private Boolean isRead = false;
     
+    // Set once the notification went out in an email digest (or no longer needs to)
+    @Column(name = "is_email_sent")
+    private Boolean isEmailSent = false;
+    
     @Column(name = "entity_type")
     private String entityType;
     
@@ -0,0 +1,28 @@
+package com.nexuspm.nexus_pm_backend.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * Unread notification count per user, kept in step by the notification engine so the badge is
+ * a primary-key read instead of a COUNT over {@code notifications}. A separate table rather than
+ * a column on {@link User}, whose cached rows would otherwise be invalidated on every fan-out.
+ */
+@Entity
+@Table(name = "notification_counters")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationCounter {
+
+    @Id
+    @Column(name = "user_id", updatable = false, nullable = false)
+    private UUID userId;
+
+    @Column(name = "unread_count", nullable = false)
+    private long unreadCount;
+}
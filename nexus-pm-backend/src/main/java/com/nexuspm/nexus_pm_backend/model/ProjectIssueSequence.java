@@ -0,0 +1,42 @@
+package com.nexuspm.nexus_pm_backend.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Per-project counter backing issue key numbers. {@code nextValue} is the first number
+ * that has not been handed out yet; allocators reserve blocks by advancing it.
+ */
+@Entity
+@Table(name = "project_issue_sequences")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectIssueSequence {
+
+    @Id
+    @Column(name = "project_id", updatable = false, nullable = false)
+    private UUID projectId;
+
+    @Column(name = "next_value", nullable = false)
+    private Long nextValue = 1L;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    public ProjectIssueSequence(UUID projectId, Long nextValue) {
+        this.projectId = projectId;
+        this.nextValue = nextValue;
+    }
+
+    @PrePersist
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+}
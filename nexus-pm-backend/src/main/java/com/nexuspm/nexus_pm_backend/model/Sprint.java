@@ -1,9 +1,14 @@
 package com.nexuspm.nexus_pm_backend.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.GenericGenerator;
 
 import java.time.LocalDateTime;
@@ -12,6 +17,8 @@ import java.util.Set;
 import java.util.UUID;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(name = "sprints")
 @Data
 @NoArgsConstructor
@@ -66,6 +73,16 @@ public class Sprint {
     @OneToMany(mappedBy = "sprint", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private Set<Issue> issues = new HashSet<>();
     
+    // Shares the sprint id; counters are maintained by SprintAggregateService. Every sprint has a
+    // row (created with the sprint, backfilled by V17), so the lazy proxy never dangles
+    @OneToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "id", insertable = false, updatable = false,
+            foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
+    @JsonIgnore
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private SprintStats stats;
+    
     // Helper methods
     public boolean isActive() {
         return status == SprintStatus.ACTIVE;
@@ -84,24 +101,19 @@ public class Sprint {
     }
     
     public int getTotalStoryPoints() {
-        return issues.stream()
-                .filter(issue -> issue.getStoryPoints() != null)
-                .mapToInt(Issue::getStoryPoints)
-                .sum();
+        return stats != null ? stats.getTotalStoryPoints() : 0;
     }
     
     public int getCompletedStoryPoints() {
-        return issues.stream()
-                .filter(Issue::isCompleted)
-                .filter(issue -> issue.getStoryPoints() != null)
-                .mapToInt(Issue::getStoryPoints)
-                .sum();
+        return stats != null ? stats.getCompletedStoryPoints() : 0;
+    }
+    
+    public int getRemainingStoryPoints() {
+        return stats != null ? stats.getRemainingStoryPoints() : 0;
     }
     
     public double getProgress() {
-        int total = getTotalStoryPoints();
-        if (total == 0) return 0.0;
-        return (double) getCompletedStoryPoints() / total * 100;
+        return stats != null ? stats.getProgress() : 0.0;
     }
     
     public long getDaysRemaining() {
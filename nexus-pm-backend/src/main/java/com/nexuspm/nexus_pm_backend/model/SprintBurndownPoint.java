@@ -0,0 +1,59 @@
+package com.nexuspm.nexus_pm_backend.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.GenericGenerator;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * One sample of a sprint's totals. Every counter change appends a RAW sample; the compaction
+ * job later folds the RAW samples of a closed bucket into a single BUCKET sample carrying the
+ * bucket's last totals and its summed scope changes.
+ */
+@Entity
+@Table(name = "sprint_burndown_points")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SprintBurndownPoint {
+
+    @Id
+    @GeneratedValue(generator = "UUID")
+    @GenericGenerator(name = "UUID", strategy = "org.hibernate.id.UUIDGenerator")
+    @Column(name = "id", updatable = false, nullable = false)
+    private UUID id;
+
+    @Column(name = "sprint_id", nullable = false)
+    private UUID sprintId;
+
+    @Column(name = "recorded_at", nullable = false)
+    private LocalDateTime recordedAt;
+
+    @Column(name = "total_points", nullable = false)
+    private int totalPoints;
+
+    @Column(name = "completed_points", nullable = false)
+    private int completedPoints;
+
+    @Column(name = "scope_added", nullable = false)
+    private int scopeAdded;
+
+    @Column(name = "scope_removed", nullable = false)
+    private int scopeRemoved;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "resolution", nullable = false)
+    private Resolution resolution = Resolution.RAW;
+
+    public int getRemainingPoints() {
+        return totalPoints - completedPoints;
+    }
+
+    public enum Resolution {
+        RAW, BUCKET
+    }
+}
@@ -0,0 +1,60 @@
+package com.nexuspm.nexus_pm_backend.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Running totals for a sprint, maintained by {@code SprintAggregateService} with relative
+ * updates whenever an issue enters, leaves or changes inside the sprint. Kept out of
+ * {@link Sprint} so counter updates do not invalidate the cached sprint rows.
+ */
+@Entity
+@Table(name = "sprint_stats")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SprintStats {
+
+    @Id
+    @Column(name = "sprint_id", updatable = false, nullable = false)
+    private UUID sprintId;
+
+    @Column(name = "total_story_points", nullable = false)
+    private int totalStoryPoints;
+
+    @Column(name = "completed_story_points", nullable = false)
+    private int completedStoryPoints;
+
+    @Column(name = "issue_count", nullable = false)
+    private int issueCount;
+
+    @Column(name = "completed_issue_count", nullable = false)
+    private int completedIssueCount;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    public SprintStats(UUID sprintId) {
+        this.sprintId = sprintId;
+    }
+
+    public int getRemainingStoryPoints() {
+        return totalStoryPoints - completedStoryPoints;
+    }
+
+    public double getProgress() {
+        if (totalStoryPoints == 0) return 0.0;
+        return (double) completedStoryPoints / totalStoryPoints * 100;
+    }
+
+    @PrePersist
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+}
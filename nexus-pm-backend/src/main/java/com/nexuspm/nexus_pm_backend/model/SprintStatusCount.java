@@ -0,0 +1,42 @@
+package com.nexuspm.nexus_pm_backend.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.util.UUID;
+
+/**
+ * Number of issues in a sprint per status. One row per (sprint, status) is created with the
+ * sprint, so counters are only ever adjusted with relative updates.
+ */
+@Entity
+@Table(name = "sprint_status_counts")
+@IdClass(SprintStatusCount.Key.class)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SprintStatusCount {
+
+    @Id
+    @Column(name = "sprint_id", updatable = false, nullable = false)
+    private UUID sprintId;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", updatable = false, nullable = false)
+    private Issue.IssueStatus status;
+
+    @Column(name = "issue_count", nullable = false)
+    private int issueCount;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private UUID sprintId;
+        private Issue.IssueStatus status;
+    }
+}
@@ -0,0 +1,45 @@
+package com.nexuspm.nexus_pm_backend.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.GenericGenerator;
+
+import java.util.UUID;
+
+/**
+ * A generated rendition of an image blob, itself stored as a blob under its own hash.
+ * {@code sizePx} is the configured bound on the longer edge.
+ */
+@Entity
+@Table(name = "thumbnails", uniqueConstraints = @UniqueConstraint(columnNames = {"content_sha256", "size_px"}))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class Thumbnail {
+
+    @Id
+    @GeneratedValue(generator = "UUID")
+    @GenericGenerator(name = "UUID", strategy = "org.hibernate.id.UUIDGenerator")
+    @Column(name = "id", updatable = false, nullable = false)
+    private UUID id;
+
+    @Column(name = "content_sha256", nullable = false, length = 64)
+    private String contentSha256;
+
+    @Column(name = "size_px", nullable = false)
+    private int sizePx;
+
+    @Column(name = "thumbnail_sha256", nullable = false, length = 64)
+    private String thumbnailSha256;
+
+    @Column(name = "width", nullable = false)
+    private int width;
+
+    @Column(name = "height", nullable = false)
+    private int height;
+
+    @Column(name = "byte_size", nullable = false)
+    private long byteSize;
+}
@@ -4,6 +4,8 @@ import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.GenericGenerator;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -13,6 +15,8 @@ import java.time.LocalDateTime;
 import java.util.*;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(name = "users")
 @Data
 @NoArgsConstructor
@@ -54,6 +58,11 @@ public class User implements UserDetails {
     @Column(name = "is_active")
     private Boolean isActive = true;
     
+    // Bumped on password/role change, deactivation and "log out everywhere"; tokens issued
+    // with an older stamp are rejected
+    @Column(name = "security_stamp", nullable = false)
+    private Long securityStamp = 0L;
+    
     @Column(name = "is_email_verified")
     private Boolean isEmailVerified = false;
     
@@ -0,0 +1,50 @@
+package com.nexuspm.nexus_pm_backend.observability;
+
+import io.micrometer.core.instrument.Metrics;
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Wraps the application's {@link DataSource} in a datasource-proxy so every statement and
+ * connection checkout passes through {@link JdbcMetricsListener}. The pool stays reachable
+ * through {@code unwrap}, so the Hikari pool metrics are still bound.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.observability.jdbc.enabled", havingValue = "true", matchIfMissing = true)
+public class DataSourceProxyPostProcessor implements BeanPostProcessor {
+
+    private final Duration slowQueryThreshold;
+    private final boolean logParameters;
+
+    public DataSourceProxyPostProcessor(
+            @Value("${app.observability.slow-query.threshold:200ms}") Duration slowQueryThreshold,
+            @Value("${app.observability.slow-query.log-parameters:false}") boolean logParameters) {
+        this.slowQueryThreshold = slowQueryThreshold;
+        this.logParameters = logParameters;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!(bean instanceof DataSource dataSource) || bean instanceof ProxyDataSource) {
+            return bean;
+        }
+        // The global registry rather than an injected one: resolving the MeterRegistry bean while
+        // the DataSource is still being created would pull the metric binders (Hibernate, caches,
+        // the pool itself) into a cycle. Boot adds every registry to the global composite.
+        JdbcMetricsListener listener = new JdbcMetricsListener(Metrics.globalRegistry, slowQueryThreshold, logParameters);
+        log.info("Instrumenting DataSource '{}', slow query threshold {}", beanName, slowQueryThreshold);
+        return ProxyDataSourceBuilder.create(beanName, dataSource)
+                .listener(listener)
+                .methodListener(listener)
+                .build();
+    }
+}
@@ -0,0 +1,135 @@
+package com.nexuspm.nexus_pm_backend.observability;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.MethodExecutionContext;
+import net.ttddyy.dsproxy.listener.MethodExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryUtils;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times every JDBC statement into {@code db.queries} (tagged by statement type and outcome),
+ * adds it to the current request's {@link RequestQueryStats} and its query budget, and logs statements slower than
+ * {@code app.observability.slow-query.threshold} together with their bind parameters. Calls to
+ * {@code DataSource.getConnection()} are timed as pool wait.
+ */
+@Slf4j
+public class JdbcMetricsListener implements QueryExecutionListener, MethodExecutionListener {
+
+    private static final int MAX_PARAMETER_LENGTH = 100;
+    private static final int MAX_ENTRY_LENGTH = 4000;
+
+    private final MeterRegistry meterRegistry;
+    private final long slowQueryNanos;
+    private final boolean logParameters;
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+    private final Counter slowQueries;
+
+    // Statements on one connection run one at a time, so one start time per thread is enough
+    private final ThreadLocal<long[]> startedAt = ThreadLocal.withInitial(() -> new long[2]);
+
+    public JdbcMetricsListener(MeterRegistry meterRegistry, Duration slowQueryThreshold, boolean logParameters) {
+        this.meterRegistry = meterRegistry;
+        this.slowQueryNanos = slowQueryThreshold.toNanos();
+        this.logParameters = logParameters;
+        this.slowQueries = Counter.builder("db.queries.slow")
+                .description("Statements slower than app.observability.slow-query.threshold")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        RequestQueryStats stats = RequestQueryStats.current();
+        if (stats != null) {
+            stats.beforeQuery();
+        }
+        startedAt.get()[0] = System.nanoTime();
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        long nanos = System.nanoTime() - startedAt.get()[0];
+        String type = queryInfoList.isEmpty() ? "OTHER" : QueryUtils.getQueryType(queryInfoList.get(0).getQuery()).name();
+        timers.computeIfAbsent(type + ':' + execInfo.isSuccess(), key -> Timer.builder("db.queries")
+                        .description("JDBC statement execution time")
+                        .tag("type", type)
+                        .tag("outcome", execInfo.isSuccess() ? "success" : "error")
+                        .register(meterRegistry))
+                .record(nanos, TimeUnit.NANOSECONDS);
+
+        RequestQueryStats stats = RequestQueryStats.current();
+        if (stats != null) {
+            stats.recordQuery(nanos);
+        }
+        if (nanos >= slowQueryNanos) {
+            slowQueries.increment();
+            log.warn("Slow query ({} ms{}): {}", TimeUnit.NANOSECONDS.toMillis(nanos),
+                    execInfo.isBatch() ? ", batch of " + execInfo.getBatchSize() : "", describe(queryInfoList));
+        }
+    }
+
+    @Override
+    public void beforeMethod(MethodExecutionContext executionContext) {
+        if (isGetConnection(executionContext)) {
+            startedAt.get()[1] = System.nanoTime();
+        }
+    }
+
+    @Override
+    public void afterMethod(MethodExecutionContext executionContext) {
+        if (isGetConnection(executionContext)) {
+            RequestQueryStats stats = RequestQueryStats.current();
+            if (stats != null) {
+                stats.recordConnectionWait(System.nanoTime() - startedAt.get()[1]);
+            }
+        }
+    }
+
+    private static boolean isGetConnection(MethodExecutionContext executionContext) {
+        return executionContext.getTarget() instanceof DataSource
+                && "getConnection".equals(executionContext.getMethod().getName());
+    }
+
+    private String describe(List<QueryInfo> queries) {
+        StringBuilder entry = new StringBuilder();
+        for (QueryInfo query : queries) {
+            if (entry.length() > 0) {
+                entry.append("; ");
+            }
+            entry.append(query.getQuery());
+            if (logParameters) {
+                for (List<ParameterSetOperation> parameters : query.getParametersList()) {
+                    entry.append(" [");
+                    for (int i = 0; i < parameters.size(); i++) {
+                        Object[] args = parameters.get(i).getArgs();
+                        entry.append(i == 0 ? "" : ", ").append(abbreviate(args.length > 1 ? args[1] : null));
+                    }
+                    entry.append(']');
+                }
+            }
+            if (entry.length() > MAX_ENTRY_LENGTH) {
+                entry.setLength(MAX_ENTRY_LENGTH);
+                entry.append("...");
+                break;
+            }
+        }
+        return entry.toString();
+    }
+
+    private static String abbreviate(Object value) {
+        String text = String.valueOf(value);
+        return text.length() > MAX_PARAMETER_LENGTH ? text.substring(0, MAX_PARAMETER_LENGTH) + "..." : text;
+    }
+}
@@ -0,0 +1,27 @@
+package com.nexuspm.nexus_pm_backend.observability;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Maximum number of SQL statements one request to the annotated handler may run, including
+ * lazy loads triggered while its response is serialized. On a controller class it applies to
+ * every handler without its own budget; handlers with neither fall back to
+ * {@code app.observability.query-budget.default}.
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface QueryBudget {
+
+    /**
+     * For handlers whose statement count grows with the data by design, such as bulk jobs run in
+     * the request.
+     */
+    int UNLIMITED = 0;
+
+    int value();
+}
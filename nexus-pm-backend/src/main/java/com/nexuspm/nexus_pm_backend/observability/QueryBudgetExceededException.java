@@ -0,0 +1,13 @@
+package com.nexuspm.nexus_pm_backend.observability;
+
+/**
+ * Thrown in place of the first statement beyond a request's {@link QueryBudget} when
+ * {@code app.observability.query-budget.mode} is {@code fail}, so the stack trace points at the
+ * code issuing the extra queries.
+ */
+public class QueryBudgetExceededException extends RuntimeException {
+
+    public QueryBudgetExceededException(String endpoint, int budget) {
+        super(endpoint + " exceeded its query budget of " + budget + " statements");
+    }
+}
@@ -0,0 +1,11 @@
+package com.nexuspm.nexus_pm_backend.observability;
+
+/**
+ * What happens when a request runs more statements than its {@link QueryBudget}.
+ */
+public enum QueryBudgetMode {
+    /** Finish the request and log a warning. */
+    LOG,
+    /** Abort the request at the first statement over budget; meant for tests. */
+    FAIL
+}
@@ -0,0 +1,117 @@
+package com.nexuspm.nexus_pm_backend.observability;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.web.util.OnCommittedResponseWrapper;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Locale;
+
+/**
+ * Counts the SQL statements each request runs into {@code http.server.requests.queries}
+ * (tagged like {@code http.server.requests}) and enforces the handler's {@link QueryBudget}:
+ * a request over budget, which is usually N+1 loading, is logged and counted in
+ * {@code http.server.requests.query.budget.exceeded}, or aborted in {@link QueryBudgetMode#FAIL}.
+ * With {@code app.observability.server-timing} the counts are also reported in a
+ * {@code Server-Timing} header that browser dev tools show next to the request.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class RequestMetricsFilter extends OncePerRequestFilter {
+
+    private final MeterRegistry meterRegistry;
+    private final boolean serverTiming;
+    private final int defaultBudget;
+    private final QueryBudgetMode budgetMode;
+
+    public RequestMetricsFilter(MeterRegistry meterRegistry,
+                                @Value("${app.observability.server-timing:false}") boolean serverTiming,
+                                @Value("${app.observability.query-budget.default:0}") int defaultBudget,
+                                @Value("${app.observability.query-budget.mode:log}") String budgetMode) {
+        this.meterRegistry = meterRegistry;
+        this.serverTiming = serverTiming;
+        this.defaultBudget = defaultBudget;
+        this.budgetMode = QueryBudgetMode.valueOf(budgetMode.trim().toUpperCase());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        RequestQueryStats stats = RequestQueryStats.begin(defaultBudget, budgetMode,
+                request.getMethod() + " " + request.getRequestURI());
+        request.setAttribute(RequestQueryStats.ATTRIBUTE, stats);
+        ServerTimingResponse timing = serverTiming ? new ServerTimingResponse(response, stats, System.nanoTime()) : null;
+        try {
+            filterChain.doFilter(request, timing != null ? timing : response);
+        } finally {
+            if (timing != null && !response.isCommitted()) {
+                // Bodies that were never flushed are committed by the container after this returns
+                timing.onResponseCommitted();
+            }
+            RequestQueryStats.end();
+            String uri = uriTemplate(request);
+            DistributionSummary.builder("http.server.requests.queries")
+                    .description("SQL statements executed per request")
+                    .tag("method", request.getMethod())
+                    .tag("uri", uri)
+                    .register(meterRegistry)
+                    .record(stats.getStatements());
+            if (stats.isOverBudget()) {
+                meterRegistry.counter("http.server.requests.query.budget.exceeded",
+                        "method", request.getMethod(), "uri", uri).increment();
+                log.warn("{} ran {} SQL statements, over its budget of {}; likely N+1 loading",
+                        stats.getEndpoint(), stats.getStatements(), stats.getBudget());
+            }
+        }
+    }
+
+    private static String uriTemplate(HttpServletRequest request) {
+        // The route template rather than the raw path, so ids do not explode the tag values
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : "UNKNOWN";
+    }
+
+    /**
+     * Adds the header at the last moment before the response commits, which for streamed
+     * bodies is the first flush, so the numbers cover everything done until then.
+     */
+    private static final class ServerTimingResponse extends OnCommittedResponseWrapper {
+
+        private final RequestQueryStats stats;
+        private final long started;
+        private boolean written;
+
+        ServerTimingResponse(HttpServletResponse response, RequestQueryStats stats, long started) {
+            super(response);
+            this.stats = stats;
+            this.started = started;
+        }
+
+        @Override
+        protected void onResponseCommitted() {
+            if (written) {
+                return;
+            }
+            written = true;
+            HttpServletResponse response = (HttpServletResponse) getResponse();
+            response.setHeader("Server-Timing", String.format(Locale.ROOT,
+                    "db;desc=\"%d queries\";dur=%.1f, pool;dur=%.1f, app;dur=%.1f",
+                    stats.getStatements(), stats.getQueryNanos() / 1e6, stats.getConnectionWaitNanos() / 1e6,
+                    (System.nanoTime() - started) / 1e6));
+            // Lets the cross-origin frontend read the timings too
+            response.setHeader("Timing-Allow-Origin", "*");
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.nexuspm.nexus_pm_backend.observability;
+
+/**
+ * JDBC work done on the current thread while a request is being handled: statements executed,
+ * time spent executing them and time spent waiting for a pooled connection, checked against the
+ * request's {@link QueryBudget}. Opened and closed by {@link RequestMetricsFilter}, which also
+ * exposes it as the {@link #ATTRIBUTE} request attribute, and filled in by
+ * {@link JdbcMetricsListener}; work on other threads (async listeners, scheduled jobs) is not
+ * attributed to the request.
+ */
+public final class RequestQueryStats {
+
+    public static final String ATTRIBUTE = RequestQueryStats.class.getName();
+
+    private static final ThreadLocal<RequestQueryStats> CURRENT = new ThreadLocal<>();
+
+    private final QueryBudgetMode mode;
+    private int budget;
+    private String endpoint;
+    private boolean exceeded;
+    private int statements;
+    private long queryNanos;
+    private long connectionWaitNanos;
+
+    private RequestQueryStats(int budget, QueryBudgetMode mode, String endpoint) {
+        this.budget = budget;
+        this.mode = mode;
+        this.endpoint = endpoint;
+    }
+
+    static RequestQueryStats begin(int budget, QueryBudgetMode mode, String endpoint) {
+        RequestQueryStats stats = new RequestQueryStats(budget, mode, endpoint);
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Stats of the request handled by this thread, or {@code null} outside a request.
+     */
+    public static RequestQueryStats current() {
+        return CURRENT.get();
+    }
+
+    void limit(int budget, String endpoint) {
+        this.budget = budget;
+        this.endpoint = endpoint;
+    }
+
+    /**
+     * Called before each statement; in {@link QueryBudgetMode#FAIL} the statement over budget
+     * is not run.
+     */
+    void beforeQuery() {
+        if (budget > 0 && statements >= budget) {
+            exceeded = true;
+            if (mode == QueryBudgetMode.FAIL) {
+                throw new QueryBudgetExceededException(endpoint, budget);
+            }
+        }
+    }
+
+    void recordQuery(long nanos) {
+        statements++;
+        queryNanos += nanos;
+    }
+
+    void recordConnectionWait(long nanos) {
+        connectionWaitNanos += nanos;
+    }
+
+    public int getBudget() {
+        return budget;
+    }
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    /**
+     * Whether the request tried to run more statements than its budget allows.
+     */
+    public boolean isOverBudget() {
+        return exceeded;
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    public long getQueryNanos() {
+        return queryNanos;
+    }
+
+    public long getConnectionWaitNanos() {
+        return connectionWaitNanos;
+    }
+}
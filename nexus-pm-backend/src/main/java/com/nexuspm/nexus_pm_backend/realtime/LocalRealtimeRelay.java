@@ -0,0 +1,22 @@
+package com.nexuspm.nexus_pm_backend.realtime;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.MessagingException;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+@Slf4j
+@RequiredArgsConstructor
+public class LocalRealtimeRelay implements RealtimeRelay {
+
+    private final SimpMessagingTemplate messagingTemplate;
+
+    @Override
+    public void broadcast(RealtimeEvent event) {
+        try {
+            messagingTemplate.convertAndSend(PROJECT_TOPIC_PREFIX + event.getProjectId(), event);
+        } catch (MessagingException e) {
+            log.warn("Could not deliver {} event for project {}: {}", event.getEntity(), event.getProjectId(), e.getMessage());
+        }
+    }
+}
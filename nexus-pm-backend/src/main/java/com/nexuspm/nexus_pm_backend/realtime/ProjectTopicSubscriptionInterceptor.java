@@ -0,0 +1,59 @@
+package com.nexuspm.nexus_pm_backend.realtime;
+
+import com.nexuspm.nexus_pm_backend.security.JwtPrincipal;
+import com.nexuspm.nexus_pm_backend.service.ProjectService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessagingException;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.core.Authentication;
+
+import java.security.Principal;
+import java.util.UUID;
+
+/**
+ * Only lets clients subscribe to project topics. When the handshake carried an authenticated
+ * {@link JwtPrincipal}, the user must also be a member of the project (a cached lookup).
+ */
+@RequiredArgsConstructor
+public class ProjectTopicSubscriptionInterceptor implements ChannelInterceptor {
+
+    private final ProjectService projectService;
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || accessor.getCommand() != StompCommand.SUBSCRIBE) {
+            return message;
+        }
+
+        String destination = accessor.getDestination();
+        if (destination == null || !destination.startsWith(RealtimeRelay.PROJECT_TOPIC_PREFIX)) {
+            throw new MessagingException("Subscriptions are only allowed to " + RealtimeRelay.PROJECT_TOPIC_PREFIX + "{projectId}");
+        }
+
+        UUID projectId;
+        try {
+            projectId = UUID.fromString(destination.substring(RealtimeRelay.PROJECT_TOPIC_PREFIX.length()));
+        } catch (IllegalArgumentException e) {
+            throw new MessagingException("Invalid project id in destination: " + destination);
+        }
+
+        JwtPrincipal principal = jwtPrincipal(accessor.getUser());
+        if (principal != null && !projectService.isUserMemberOfProject(projectId, principal.getUserId())) {
+            throw new MessagingException("Not a member of project " + projectId);
+        }
+        return message;
+    }
+
+    private JwtPrincipal jwtPrincipal(Principal user) {
+        if (user instanceof Authentication authentication && authentication.getPrincipal() instanceof JwtPrincipal principal) {
+            return principal;
+        }
+        return null;
+    }
+}
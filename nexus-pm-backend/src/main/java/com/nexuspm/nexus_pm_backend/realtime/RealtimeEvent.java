@@ -0,0 +1,57 @@
+package com.nexuspm.nexus_pm_backend.realtime;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.util.UUID;
+
+/**
+ * What a client receives on {@code /topic/projects/{projectId}}. Deliberately thin: it says
+ * what changed, and the client refetches what it displays.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RealtimeEvent implements Serializable {
+
+    public static final String ISSUE = "issue";
+    public static final String SPRINT = "sprint";
+    public static final String COMMENT = "comment";
+    public static final String MEMBER = "member";
+    // The node dropped events for this project; clients should reload everything they show
+    public static final String RESYNC = "resync";
+
+    private static final String CREATED = "CREATED";
+    private static final String DELETED = "DELETED";
+
+    private String entity;
+    private UUID entityId;
+    private UUID projectId;
+    // Issue id for comments, null otherwise
+    private UUID parentId;
+    private String change;
+    private long timestamp;
+
+    String coalesceKey() {
+        // Member events carry the user id, which is the same in every project the user joins
+        return projectId + ":" + entity + ":" + entityId;
+    }
+
+    /**
+     * Folds a later event for the same entity into this one: a delete always wins, and an
+     * entity created inside the window is still reported as created.
+     */
+    RealtimeEvent merge(RealtimeEvent later) {
+        String mergedChange;
+        if (DELETED.equals(later.change)) {
+            mergedChange = DELETED;
+        } else if (CREATED.equals(change) || DELETED.equals(change)) {
+            mergedChange = change;
+        } else {
+            mergedChange = later.change;
+        }
+        return new RealtimeEvent(entity, entityId, projectId, parentId, mergedChange, later.timestamp);
+    }
+}
@@ -0,0 +1,100 @@
+package com.nexuspm.nexus_pm_backend.realtime;
+
+import com.nexuspm.nexus_pm_backend.event.CommentChangedEvent;
+import com.nexuspm.nexus_pm_backend.event.IssueChangedEvent;
+import com.nexuspm.nexus_pm_backend.event.ProjectMemberChangedEvent;
+import com.nexuspm.nexus_pm_backend.event.SprintChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Turns committed service-layer events into {@link RealtimeEvent}s. Events are held for one
+ * flush interval and coalesced per entity, so dragging a card across the board or a bulk
+ * import sends one message per issue rather than one per write. If more than
+ * {@code app.realtime.max-pending} entities are waiting, further events collapse into a single
+ * {@link RealtimeEvent#RESYNC} per project instead of growing the queue.
+ */
+@Slf4j
+@Component
+public class RealtimeEventPublisher {
+
+    private final RealtimeRelay relay;
+    private final int maxPending;
+    private final Map<String, RealtimeEvent> pending = new ConcurrentHashMap<>();
+    private final Set<UUID> resyncProjects = ConcurrentHashMap.newKeySet();
+
+    public RealtimeEventPublisher(RealtimeRelay relay,
+                                  @Value("${app.realtime.max-pending:10000}") int maxPending) {
+        this.relay = relay;
+        this.maxPending = Math.max(1, maxPending);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onIssueChanged(IssueChangedEvent event) {
+        enqueue(RealtimeEvent.ISSUE, event.getIssueId(), event.getProjectId(), null, event.getChangeType().name());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onSprintChanged(SprintChangedEvent event) {
+        enqueue(RealtimeEvent.SPRINT, event.getSprintId(), event.getProjectId(), null, event.getChangeType().name());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCommentChanged(CommentChangedEvent event) {
+        enqueue(RealtimeEvent.COMMENT, event.getCommentId(), event.getProjectId(), event.getIssueId(),
+                event.getChangeType().name());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMemberChanged(ProjectMemberChangedEvent event) {
+        enqueue(RealtimeEvent.MEMBER, event.getUserId(), event.getProjectId(), null, event.getChangeType().name());
+    }
+
+    void enqueue(String entity, UUID entityId, UUID projectId, UUID parentId, String change) {
+        if (projectId == null || resyncProjects.contains(projectId)) {
+            return;
+        }
+        RealtimeEvent event = new RealtimeEvent(entity, entityId, projectId, parentId, change, System.currentTimeMillis());
+        String key = event.coalesceKey();
+        if (pending.size() >= maxPending && !pending.containsKey(key)) {
+            resyncProjects.add(projectId);
+            return;
+        }
+        pending.merge(key, event, RealtimeEvent::merge);
+    }
+
+    @Scheduled(fixedDelayString = "${app.realtime.flush-interval-ms:250}")
+    public void flush() {
+        if (pending.isEmpty() && resyncProjects.isEmpty()) {
+            return;
+        }
+        List<UUID> resync = new ArrayList<>(resyncProjects);
+        resyncProjects.removeAll(resync);
+        long now = System.currentTimeMillis();
+        for (UUID projectId : resync) {
+            relay.broadcast(new RealtimeEvent(RealtimeEvent.RESYNC, projectId, projectId, null, null, now));
+        }
+        if (!resync.isEmpty()) {
+            log.info("Realtime queue overflowed, sent resync to {} projects", resync.size());
+        }
+
+        for (String key : new ArrayList<>(pending.keySet())) {
+            RealtimeEvent event = pending.remove(key);
+            // A resync for the project already covers anything still queued for it
+            if (event != null && !resync.contains(event.getProjectId())) {
+                relay.broadcast(event);
+            }
+        }
+    }
+}
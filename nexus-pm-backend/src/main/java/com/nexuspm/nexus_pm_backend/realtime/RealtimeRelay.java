@@ -0,0 +1,12 @@
+package com.nexuspm.nexus_pm_backend.realtime;
+
+/**
+ * Delivers events to subscribed clients. With Redis enabled every node's subscribers are
+ * reached; otherwise only this node's.
+ */
+public interface RealtimeRelay {
+
+    String PROJECT_TOPIC_PREFIX = "/topic/projects/";
+
+    void broadcast(RealtimeEvent event);
+}
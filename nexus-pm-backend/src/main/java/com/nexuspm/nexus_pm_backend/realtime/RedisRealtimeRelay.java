@@ -0,0 +1,54 @@
+package com.nexuspm.nexus_pm_backend.realtime;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.io.IOException;
+
+/**
+ * Publishes every event on one Redis channel; each node, including the sender, delivers what
+ * it receives to its own WebSocket subscribers. If Redis is unreachable the event still reaches
+ * this node's clients.
+ */
+@Slf4j
+public class RedisRealtimeRelay implements RealtimeRelay, MessageListener {
+
+    static final String CHANNEL = "nexuspm:realtime";
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final RealtimeRelay localRelay;
+
+    public RedisRealtimeRelay(StringRedisTemplate redisTemplate, RedisMessageListenerContainer container,
+                              ObjectMapper objectMapper, RealtimeRelay localRelay) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.localRelay = localRelay;
+        container.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    @Override
+    public void broadcast(RealtimeEvent event) {
+        try {
+            redisTemplate.convertAndSend(CHANNEL, objectMapper.writeValueAsString(event));
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("Could not relay {} event through Redis, delivering locally: {}", event.getEntity(), e.getMessage());
+            localRelay.broadcast(event);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            localRelay.broadcast(objectMapper.readValue(message.getBody(), RealtimeEvent.class));
+        } catch (IOException e) {
+            log.warn("Dropping unreadable realtime message: {}", e.getMessage());
+        }
+    }
+}
@@ -1,9 +1,11 @@
 package com.nexuspm.nexus_pm_backend.repository;
 
+import com.nexuspm.nexus_pm_backend.dto.ActivityDto;
 import com.nexuspm.nexus_pm_backend.model.Activity;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -37,6 +39,7 @@ public interface ActivityRepository extends JpaRepository<Activity, UUID> {
     @Query("SELECT a FROM Activity a WHERE a.createdAt >= :since ORDER BY a.createdAt DESC")
     Page<Activity> findRecentActivities(@Param("since") LocalDateTime since, Pageable pageable);
     
+    // Feed queries bound created_at so Postgres only scans the monthly partitions in range (V10)
     @Query("SELECT a FROM Activity a WHERE a.project.id = :projectId AND a.createdAt >= :since ORDER BY a.createdAt DESC")
     List<Activity> findRecentActivitiesByProject(@Param("projectId") UUID projectId, 
                                                 @Param("since") LocalDateTime since);
@@ -45,14 +48,40 @@ public interface ActivityRepository extends JpaRepository<Activity, UUID> {
     List<Activity> findRecentActivitiesByUser(@Param("userId") UUID userId, 
                                             @Param("since") LocalDateTime since);
     
+    // Outer joins keep system entries (no user) and account events (no project)
+    @Query(value = "SELECT new com.nexuspm.nexus_pm_backend.dto.ActivityDto(a.id, a.action, a.entityType, " +
+                   "a.entityId, a.description, u.id, p.id, a.createdAt) " +
+                   "FROM Activity a LEFT JOIN a.user u LEFT JOIN a.project p " +
+                   "WHERE a.project.id = :projectId AND a.createdAt >= :since AND a.createdAt < :until " +
+                   "ORDER BY a.createdAt DESC",
+           countQuery = "SELECT COUNT(a) FROM Activity a WHERE a.project.id = :projectId " +
+                        "AND a.createdAt >= :since AND a.createdAt < :until")
+    Page<ActivityDto> findProjectFeed(@Param("projectId") UUID projectId,
+                                      @Param("since") LocalDateTime since,
+                                      @Param("until") LocalDateTime until,
+                                      Pageable pageable);
+    
+    @Query(value = "SELECT new com.nexuspm.nexus_pm_backend.dto.ActivityDto(a.id, a.action, a.entityType, " +
+                   "a.entityId, a.description, u.id, p.id, a.createdAt) " +
+                   "FROM Activity a LEFT JOIN a.user u LEFT JOIN a.project p " +
+                   "WHERE a.user.id = :userId AND a.createdAt >= :since AND a.createdAt < :until " +
+                   "ORDER BY a.createdAt DESC",
+           countQuery = "SELECT COUNT(a) FROM Activity a WHERE a.user.id = :userId " +
+                        "AND a.createdAt >= :since AND a.createdAt < :until")
+    Page<ActivityDto> findUserFeed(@Param("userId") UUID userId,
+                                   @Param("since") LocalDateTime since,
+                                   @Param("until") LocalDateTime until,
+                                   Pageable pageable);
+    
     @Query("SELECT COUNT(a) FROM Activity a WHERE a.project.id = :projectId")
     long countByProjectId(@Param("projectId") UUID projectId);
     
     @Query("SELECT COUNT(a) FROM Activity a WHERE a.user.id = :userId")
     long countByUserId(@Param("userId") UUID userId);
     
-    @Query("SELECT a FROM Activity a WHERE a.createdAt < :dateTime")
-    List<Activity> findOldActivities(@Param("dateTime") LocalDateTime dateTime);
-    
-    void deleteByCreatedAtBefore(LocalDateTime dateTime);
+    // One bounded chunk of the retention purge on unpartitioned databases
+    @Modifying
+    @Query(value = "DELETE FROM activities WHERE id IN (SELECT id FROM activities " +
+                   "WHERE created_at < :cutoff LIMIT :limit)", nativeQuery = true)
+    int deleteCreatedBefore(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
 }
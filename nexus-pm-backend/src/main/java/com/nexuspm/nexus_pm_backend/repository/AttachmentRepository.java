@@ -0,0 +1,30 @@
+package com.nexuspm.nexus_pm_backend.repository;
+
+import com.nexuspm.nexus_pm_backend.model.Attachment;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface AttachmentRepository extends JpaRepository<Attachment, UUID> {
+
+    @Query("SELECT a FROM Attachment a WHERE a.issue.id = :issueId ORDER BY a.createdAt ASC")
+    List<Attachment> findByIssueId(@Param("issueId") UUID issueId);
+
+    @Query("SELECT a.issue.id, a.id, a.originalFilename, a.contentType, a.fileSize, a.isImage, a.createdAt, " +
+           "u.id, u.firstName, u.lastName FROM Attachment a JOIN a.uploadedBy u " +
+           "WHERE a.issue.id IN :issueIds ORDER BY a.createdAt ASC")
+    List<Object[]> findRowsByIssueIds(@Param("issueIds") Collection<UUID> issueIds);
+
+    long countByContentSha256(String contentSha256);
+
+    @Modifying
+    @Query("UPDATE Attachment a SET a.thumbnailPath = :thumbnailPath WHERE a.contentSha256 = :contentSha256")
+    int updateThumbnailPath(@Param("contentSha256") String contentSha256, @Param("thumbnailPath") String thumbnailPath);
+}
@@ -1,5 +1,6 @@
 package com.nexuspm.nexus_pm_backend.repository;
 
+import com.nexuspm.nexus_pm_backend.dto.CommentDto;
 import com.nexuspm.nexus_pm_backend.model.Comment;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -9,6 +10,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -35,6 +37,9 @@ public interface CommentRepository extends JpaRepository<Comment, UUID> {
     @Query("SELECT COUNT(c) FROM Comment c WHERE c.issue.id = :issueId")
     long countByIssueId(@Param("issueId") UUID issueId);
     
+    @Query("SELECT c.issue.id, COUNT(c) FROM Comment c WHERE c.issue.id IN :issueIds GROUP BY c.issue.id")
+    List<Object[]> countByIssueIds(@Param("issueIds") Collection<UUID> issueIds);
+    
     @Query("SELECT COUNT(c) FROM Comment c WHERE c.author.id = :authorId")
     long countByAuthorId(@Param("authorId") UUID authorId);
     
@@ -43,4 +48,27 @@ public interface CommentRepository extends JpaRepository<Comment, UUID> {
     
     @Query("SELECT c FROM Comment c WHERE c.issue.project.id = :projectId ORDER BY c.createdAt DESC")
     Page<Comment> findByProjectId(@Param("projectId") UUID projectId, Pageable pageable);
+
+    @Query(value = "SELECT new com.nexuspm.nexus_pm_backend.dto.CommentDto(c.id, p.id, c.content, c.isInternal, " +
+                   "c.createdAt, c.updatedAt, a.id, CONCAT(a.firstName, ' ', a.lastName), a.avatarUrl) " +
+                   "FROM Comment c JOIN c.author a LEFT JOIN c.parent p " +
+                   "WHERE c.issue.id = :issueId AND p.id IS NULL AND (:includeInternal = true OR c.isInternal = false) " +
+                   "ORDER BY c.createdAt ASC, c.id ASC",
+           countQuery = "SELECT COUNT(c) FROM Comment c " +
+                        "WHERE c.issue.id = :issueId AND c.parent IS NULL AND (:includeInternal = true OR c.isInternal = false)")
+    Page<CommentDto> findTopLevelDtosByIssueId(@Param("issueId") UUID issueId,
+                                               @Param("includeInternal") boolean includeInternal,
+                                               Pageable pageable);
+
+    // The whole thread of an issue in one statement; the tree is assembled from parentId
+    @Query("SELECT new com.nexuspm.nexus_pm_backend.dto.CommentDto(c.id, p.id, c.content, c.isInternal, " +
+           "c.createdAt, c.updatedAt, a.id, CONCAT(a.firstName, ' ', a.lastName), a.avatarUrl) " +
+           "FROM Comment c JOIN c.author a LEFT JOIN c.parent p " +
+           "WHERE c.issue.id = :issueId AND (:includeInternal = true OR c.isInternal = false) " +
+           "ORDER BY c.createdAt ASC, c.id ASC")
+    List<CommentDto> findDtosByIssueId(@Param("issueId") UUID issueId,
+                                       @Param("includeInternal") boolean includeInternal);
+
+    @Query("SELECT c.issue.id, c.content FROM Comment c WHERE c.issue.id IN :issueIds AND c.isInternal = false")
+    List<Object[]> findContentByIssueIds(@Param("issueIds") Collection<UUID> issueIds);
 }
@@ -0,0 +1,96 @@
+package com.nexuspm.nexus_pm_backend.repository;
+
+import com.nexuspm.nexus_pm_backend.dto.CommentDto;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Recursive CTE queries over the comment tree. Each call walks every level below the given
+ * comments in one statement, however deep the thread goes; {@code maxDepth} only guards against
+ * pathological nesting. Internal comments are skipped together with the replies beneath them.
+ */
+@Repository
+public class CommentThreadRepository {
+
+    private static final String DESCENDANTS_CTE =
+            "WITH RECURSIVE thread (id, parent_id, root_id, depth) AS (" +
+            "  SELECT c.id, c.parent_id, c.parent_id, 1 FROM comments c " +
+            "  WHERE c.parent_id IN (:rootIds) AND (:includeInternal = true OR c.is_internal = false)" +
+            "  UNION ALL" +
+            "  SELECT c.id, c.parent_id, t.root_id, t.depth + 1 FROM comments c JOIN thread t ON c.parent_id = t.id " +
+            "  WHERE t.depth < :maxDepth AND (:includeInternal = true OR c.is_internal = false)" +
+            ") ";
+
+    private static final String DESCENDANTS_SQL = DESCENDANTS_CTE +
+            "SELECT c.id, c.parent_id, c.content, c.is_internal, c.created_at, c.updated_at, " +
+            "u.id AS author_id, u.first_name, u.last_name, u.avatar_url " +
+            "FROM thread t JOIN comments c ON c.id = t.id JOIN users u ON u.id = c.author_id " +
+            "ORDER BY c.created_at ASC, c.id ASC";
+
+    private static final String COUNT_SQL = DESCENDANTS_CTE +
+            "SELECT root_id, COUNT(*) AS reply_count FROM thread GROUP BY root_id";
+
+    private static final RowMapper<CommentDto> ROW_MAPPER = (rs, rowNum) -> new CommentDto(
+            rs.getObject("id", UUID.class),
+            rs.getObject("parent_id", UUID.class),
+            rs.getString("content"),
+            rs.getBoolean("is_internal"),
+            toLocalDateTime(rs.getTimestamp("created_at")),
+            toLocalDateTime(rs.getTimestamp("updated_at")),
+            rs.getObject("author_id", UUID.class),
+            rs.getString("first_name") + " " + rs.getString("last_name"),
+            rs.getString("avatar_url"));
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public CommentThreadRepository(DataSource dataSource) {
+        this.jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+    }
+
+    /**
+     * Every reply at any depth below {@code rootIds}, oldest first, so parents precede children.
+     */
+    public List<CommentDto> findDescendants(Collection<UUID> rootIds, boolean includeInternal, int maxDepth) {
+        if (rootIds.isEmpty()) {
+            return List.of();
+        }
+        return jdbcTemplate.query(DESCENDANTS_SQL, params(rootIds, includeInternal, maxDepth), ROW_MAPPER);
+    }
+
+    /**
+     * Number of replies at any depth below each of {@code rootIds}; roots without replies are absent.
+     */
+    public Map<UUID, Long> countDescendants(Collection<UUID> rootIds, boolean includeInternal, int maxDepth) {
+        Map<UUID, Long> counts = new HashMap<>();
+        if (rootIds.isEmpty()) {
+            return counts;
+        }
+        jdbcTemplate.query(COUNT_SQL, params(rootIds, includeInternal, maxDepth),
+                rs -> {
+                    counts.put(rs.getObject("root_id", UUID.class), rs.getLong("reply_count"));
+                });
+        return counts;
+    }
+
+    private static MapSqlParameterSource params(Collection<UUID> rootIds, boolean includeInternal, int maxDepth) {
+        return new MapSqlParameterSource()
+                .addValue("rootIds", rootIds)
+                .addValue("includeInternal", includeInternal)
+                .addValue("maxDepth", maxDepth);
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+}
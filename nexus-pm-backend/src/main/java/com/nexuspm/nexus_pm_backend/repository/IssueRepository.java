@@ -1,5 +1,6 @@
 package com.nexuspm.nexus_pm_backend.repository;
 
+import com.nexuspm.nexus_pm_backend.dto.IssueSummaryDto;
 import com.nexuspm.nexus_pm_backend.model.Issue;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -9,6 +10,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -55,6 +57,39 @@ public interface IssueRepository extends JpaRepository<Issue, UUID> {
     Page<Issue> searchIssuesByProject(@Param("projectId") UUID projectId, 
                                     @Param("search") String search, 
                                     Pageable pageable);
+
+    // Postgres only (V5 migration): ranked tsvector match plus trigram similarity on title and key;
+    // keyPrefix comes from LikePatterns.prefix
+    @Query(value = "SELECT i.* FROM issues i, websearch_to_tsquery('english', :search) q " +
+                   "WHERE i.project_id = :projectId AND " +
+                   "(i.search_vector @@ q OR i.title % :search OR i.key ILIKE :keyPrefix ESCAPE '\\') " +
+                   "ORDER BY ts_rank_cd(i.search_vector, q) + similarity(i.title, :search) DESC, i.created_at DESC",
+           countQuery = "SELECT COUNT(*) FROM issues i, websearch_to_tsquery('english', :search) q " +
+                        "WHERE i.project_id = :projectId AND " +
+                        "(i.search_vector @@ q OR i.title % :search OR i.key ILIKE :keyPrefix ESCAPE '\\')",
+           nativeQuery = true)
+    Page<Issue> fullTextSearchIssuesByProject(@Param("projectId") UUID projectId,
+                                              @Param("search") String search,
+                                              @Param("keyPrefix") String keyPrefix,
+                                              Pageable pageable);
+    
+    @Query("SELECT new com.nexuspm.nexus_pm_backend.dto.IssueSummaryDto(i.id, i.key, i.title, i.type, i.status, " +
+           "i.priority, i.storyPoints, i.dueDate, i.createdAt, i.updatedAt, a.id, CONCAT(a.firstName, ' ', a.lastName), s.id) " +
+           "FROM Issue i LEFT JOIN i.assignee a LEFT JOIN i.sprint s " +
+           "WHERE i.project.id = :projectId " +
+           "ORDER BY i.createdAt DESC, i.id DESC")
+    List<IssueSummaryDto> findSummariesByProject(@Param("projectId") UUID projectId, Pageable pageable);
+    
+    @Query("SELECT new com.nexuspm.nexus_pm_backend.dto.IssueSummaryDto(i.id, i.key, i.title, i.type, i.status, " +
+           "i.priority, i.storyPoints, i.dueDate, i.createdAt, i.updatedAt, a.id, CONCAT(a.firstName, ' ', a.lastName), s.id) " +
+           "FROM Issue i LEFT JOIN i.assignee a LEFT JOIN i.sprint s " +
+           "WHERE i.project.id = :projectId AND " +
+           "(i.createdAt < :createdAt OR (i.createdAt = :createdAt AND i.id < :id)) " +
+           "ORDER BY i.createdAt DESC, i.id DESC")
+    List<IssueSummaryDto> findSummariesByProjectAfter(@Param("projectId") UUID projectId,
+                                                     @Param("createdAt") LocalDateTime createdAt,
+                                                     @Param("id") UUID id,
+                                                     Pageable pageable);
     
     @Query("SELECT i FROM Issue i JOIN i.watchers w WHERE w.id = :userId")
     List<Issue> findWatchedIssuesByUserId(@Param("userId") UUID userId);
@@ -83,21 +118,49 @@ public interface IssueRepository extends JpaRepository<Issue, UUID> {
            "i.status IN ('RESOLVED', 'CLOSED') AND i.storyPoints IS NOT NULL")
     Integer sumCompletedStoryPointsBySprintId(@Param("sprintId") UUID sprintId);
     
-    @Query("SELECT i FROM Issue i LEFT JOIN FETCH i.comments WHERE i.id = :id")
-    Optional<Issue> findByIdWithComments(@Param("id") UUID id);
+    @Query("SELECT i FROM Issue i LEFT JOIN FETCH i.watchers WHERE i.id = :id")
+    Optional<Issue> findByIdWithWatchers(@Param("id") UUID id);
+    
+    // Issue detail: to-one references joined in one statement, collections by the IN-list queries below
+    @Query("SELECT i FROM Issue i JOIN FETCH i.project JOIN FETCH i.reporter LEFT JOIN FETCH i.assignee " +
+           "LEFT JOIN FETCH i.sprint LEFT JOIN FETCH i.parent WHERE i.id IN :issueIds")
+    List<Issue> findWithReferencesByIdIn(@Param("issueIds") Collection<UUID> issueIds);
     
-    @Query("SELECT i FROM Issue i LEFT JOIN FETCH i.attachments WHERE i.id = :id")
-    Optional<Issue> findByIdWithAttachments(@Param("id") UUID id);
+    @Query("SELECT i.id, l.id, l.name, l.color FROM Issue i JOIN i.labels l WHERE i.id IN :issueIds ORDER BY l.name")
+    List<Object[]> findLabelRowsByIssueIds(@Param("issueIds") Collection<UUID> issueIds);
     
-    @Query("SELECT i FROM Issue i LEFT JOIN FETCH i.labels WHERE i.id = :id")
-    Optional<Issue> findByIdWithLabels(@Param("id") UUID id);
+    @Query("SELECT i.id, w.id, w.firstName, w.lastName, w.avatarUrl FROM Issue i JOIN i.watchers w " +
+           "WHERE i.id IN :issueIds ORDER BY w.firstName, w.lastName")
+    List<Object[]> findWatcherRowsByIssueIds(@Param("issueIds") Collection<UUID> issueIds);
     
-    @Query("SELECT i FROM Issue i LEFT JOIN FETCH i.watchers WHERE i.id = :id")
-    Optional<Issue> findByIdWithWatchers(@Param("id") UUID id);
+    @Query("SELECT s.parent.id, s.id, s.key, s.title, s.status FROM Issue s WHERE s.parent.id IN :issueIds ORDER BY s.createdAt")
+    List<Object[]> findSubtaskRowsByParentIds(@Param("issueIds") Collection<UUID> issueIds);
     
     @Query("SELECT i FROM Issue i WHERE i.updatedAt >= :since ORDER BY i.updatedAt DESC")
     List<Issue> findRecentlyUpdatedIssues(@Param("since") LocalDateTime since, Pageable pageable);
     
     @Query("SELECT MAX(CAST(SUBSTRING(i.key, LENGTH(i.project.key) + 2) AS int)) FROM Issue i WHERE i.project.id = :projectId")
     Integer findMaxIssueNumberByProjectId(@Param("projectId") UUID projectId);
+
+    @Query("SELECT i.id, l.name FROM Issue i JOIN i.labels l WHERE i.id IN :issueIds")
+    List<Object[]> findLabelNamesByIssueIds(@Param("issueIds") Collection<UUID> issueIds);
+
+    @Query("SELECT i.status, COUNT(i), COALESCE(SUM(i.storyPoints), 0) FROM Issue i " +
+           "WHERE i.sprint.id = :sprintId GROUP BY i.status")
+    List<Object[]> aggregateBySprintIdGroupByStatus(@Param("sprintId") UUID sprintId);
+
+    // One row per (status, priority, type, assignee) cell; callers roll the cells up into breakdowns
+    @Query("SELECT i.status, i.priority, i.type, a.id, a.firstName, a.lastName, COUNT(i), " +
+           "COALESCE(SUM(i.storyPoints), 0), " +
+           "SUM(CASE WHEN i.dueDate < :now AND i.status NOT IN ('RESOLVED', 'CLOSED') THEN 1 ELSE 0 END) " +
+           "FROM Issue i LEFT JOIN i.assignee a WHERE i.project.id = :projectId " +
+           "GROUP BY i.status, i.priority, i.type, a.id, a.firstName, a.lastName")
+    List<Object[]> summarizeByProjectId(@Param("projectId") UUID projectId, @Param("now") LocalDateTime now);
+
+    // Notification header: key, title, reporter id, assignee id (null when unassigned)
+    @Query("SELECT i.key, i.title, i.reporter.id, a.id FROM Issue i LEFT JOIN i.assignee a WHERE i.id = :issueId")
+    List<Object[]> findNotificationHeader(@Param("issueId") UUID issueId);
+
+    @Query("SELECT w.id FROM Issue i JOIN i.watchers w WHERE i.id = :issueId AND w.isActive = true")
+    List<UUID> findActiveWatcherIds(@Param("issueId") UUID issueId);
 }
@@ -0,0 +1,29 @@
+package com.nexuspm.nexus_pm_backend.repository;
+
+/**
+ * Builds {@code LIKE} patterns from user input for queries declaring {@code ESCAPE '\'}, so
+ * {@code %} and {@code _} typed by the user match themselves instead of acting as wildcards.
+ */
+public final class LikePatterns {
+
+    public static final char ESCAPE = '\\';
+
+    private LikePatterns() {
+    }
+
+    public static String prefix(String value) {
+        return escape(value) + "%";
+    }
+
+    static String escape(String value) {
+        StringBuilder escaped = new StringBuilder(value.length() + 8);
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '%' || c == '_' || c == ESCAPE) {
+                escaped.append(ESCAPE);
+            }
+            escaped.append(c);
+        }
+        return escaped.toString();
+    }
+}
@@ -0,0 +1,76 @@
+package com.nexuspm.nexus_pm_backend.repository;
+
+import com.nexuspm.nexus_pm_backend.config.DatabasePlatform;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Plain SQL over {@code notification_counters}, since creating a missing row needs an upsert and
+ * JPQL has none. Postgres gets {@code ON CONFLICT}; other databases (H2 in development and tests)
+ * get a standard {@code MERGE} that only inserts.
+ */
+@Repository
+public class NotificationCounterRepository {
+
+    private static final String INSERT_IF_MISSING_POSTGRES =
+            "INSERT INTO notification_counters (user_id, unread_count) VALUES (:userId, 0) " +
+            "ON CONFLICT (user_id) DO NOTHING";
+
+    private static final String INSERT_IF_MISSING_PORTABLE =
+            "MERGE INTO notification_counters c USING (VALUES (CAST(:userId AS UUID))) AS s (user_id) " +
+            "ON c.user_id = s.user_id " +
+            "WHEN NOT MATCHED THEN INSERT (user_id, unread_count) VALUES (s.user_id, 0)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final String insertIfMissingSql;
+
+    public NotificationCounterRepository(DataSource dataSource, DatabasePlatform databasePlatform) {
+        this.jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+        this.insertIfMissingSql = databasePlatform.isPostgres() ? INSERT_IF_MISSING_POSTGRES : INSERT_IF_MISSING_PORTABLE;
+    }
+
+    public Optional<Long> findUnreadCount(UUID userId) {
+        List<Long> counts = jdbcTemplate.queryForList(
+                "SELECT unread_count FROM notification_counters WHERE user_id = :userId",
+                new MapSqlParameterSource("userId", userId), Long.class);
+        return counts.stream().findFirst();
+    }
+
+    public List<UUID> findExistingUserIds(Collection<UUID> userIds) {
+        return jdbcTemplate.queryForList(
+                "SELECT user_id FROM notification_counters WHERE user_id IN (:userIds)",
+                new MapSqlParameterSource("userIds", userIds), UUID.class);
+    }
+
+    // Concurrent fan-outs may both see the row missing; the loser's insert is a no-op
+    public int insertIfMissing(UUID userId) {
+        return jdbcTemplate.update(insertIfMissingSql, new MapSqlParameterSource("userId", userId));
+    }
+
+    // Relative update so concurrent fan-outs never lose an increment
+    public int increment(Collection<UUID> userIds, long delta) {
+        return jdbcTemplate.update(
+                "UPDATE notification_counters SET unread_count = unread_count + :delta WHERE user_id IN (:userIds)",
+                new MapSqlParameterSource("userIds", userIds).addValue("delta", delta));
+    }
+
+    public int decrement(UUID userId, long count) {
+        return jdbcTemplate.update(
+                "UPDATE notification_counters SET unread_count = CASE WHEN unread_count > :count " +
+                "THEN unread_count - :count ELSE 0 END WHERE user_id = :userId",
+                new MapSqlParameterSource("userId", userId).addValue("count", count));
+    }
+
+    public int set(UUID userId, long count) {
+        return jdbcTemplate.update(
+                "UPDATE notification_counters SET unread_count = :count WHERE user_id = :userId",
+                new MapSqlParameterSource("userId", userId).addValue("count", count));
+    }
+}
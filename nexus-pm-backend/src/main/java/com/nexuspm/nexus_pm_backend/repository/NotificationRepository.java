@@ -1,5 +1,6 @@
 package com.nexuspm.nexus_pm_backend.repository;
 
+import com.nexuspm.nexus_pm_backend.dto.NotificationDto;
 import com.nexuspm.nexus_pm_backend.model.Notification;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -10,6 +11,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -41,8 +43,46 @@ public interface NotificationRepository extends JpaRepository<Notification, UUID
     @Query("UPDATE Notification n SET n.isRead = true, n.readAt = :readAt WHERE n.id IN :notificationIds")
     int markAsReadByIds(@Param("notificationIds") List<UUID> notificationIds, @Param("readAt") LocalDateTime readAt);
     
-    @Query("SELECT n FROM Notification n WHERE n.createdAt < :dateTime")
-    List<Notification> findOldNotifications(@Param("dateTime") LocalDateTime dateTime);
+    // Only rows that were unread, so the count can be taken off the user's unread counter
+    @Modifying
+    @Query("UPDATE Notification n SET n.isRead = true, n.readAt = :readAt " +
+           "WHERE n.user.id = :userId AND n.id IN :notificationIds AND n.isRead = false")
+    int markAsReadByUserIdAndIds(@Param("userId") UUID userId,
+                                 @Param("notificationIds") List<UUID> notificationIds,
+                                 @Param("readAt") LocalDateTime readAt);
+    
+    @Query(value = "SELECT new com.nexuspm.nexus_pm_backend.dto.NotificationDto(n.id, n.title, n.message, n.type, " +
+                   "n.isRead, n.entityType, n.entityId, n.actionUrl, n.createdAt, n.readAt) " +
+                   "FROM Notification n WHERE n.user.id = :userId AND (:unreadOnly = false OR n.isRead = false)",
+           countQuery = "SELECT COUNT(n) FROM Notification n WHERE n.user.id = :userId AND (:unreadOnly = false OR n.isRead = false)")
+    Page<NotificationDto> findDtosByUserId(@Param("userId") UUID userId,
+                                           @Param("unreadOnly") boolean unreadOnly,
+                                           Pageable pageable);
+    
+    // Digest candidates: unread, not yet emailed, and older than the window's cutoff; keyset paged by user id
+    @Query("SELECT DISTINCT n.user.id FROM Notification n WHERE n.isEmailSent = false AND n.isRead = false " +
+           "AND n.createdAt < :cutoff AND n.user.isActive = true ORDER BY n.user.id")
+    List<UUID> findUserIdsWithPendingEmail(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+    
+    @Query("SELECT DISTINCT n.user.id FROM Notification n WHERE n.isEmailSent = false AND n.isRead = false " +
+           "AND n.createdAt < :cutoff AND n.user.isActive = true AND n.user.id > :afterUserId ORDER BY n.user.id")
+    List<UUID> findUserIdsWithPendingEmailAfter(@Param("cutoff") LocalDateTime cutoff,
+                                                @Param("afterUserId") UUID afterUserId,
+                                                Pageable pageable);
     
-    void deleteByUserIdAndCreatedAtBefore(UUID userId, LocalDateTime dateTime);
+    @Query("SELECT n FROM Notification n JOIN FETCH n.user WHERE n.user.id IN :userIds " +
+           "AND n.isEmailSent = false AND n.isRead = false AND n.createdAt < :cutoff ORDER BY n.createdAt DESC")
+    List<Notification> findPendingEmailByUserIds(@Param("userIds") Collection<UUID> userIds,
+                                                 @Param("cutoff") LocalDateTime cutoff);
+    
+    @Modifying
+    @Query("UPDATE Notification n SET n.isEmailSent = true WHERE n.user.id IN :userIds " +
+           "AND n.isEmailSent = false AND n.createdAt < :cutoff")
+    int markEmailSent(@Param("userIds") Collection<UUID> userIds, @Param("cutoff") LocalDateTime cutoff);
+    
+    // One bounded chunk of the retention purge; callers loop until fewer than :limit rows go
+    @Modifying
+    @Query(value = "DELETE FROM notifications WHERE id IN (SELECT id FROM notifications " +
+                   "WHERE is_read = true AND created_at < :cutoff LIMIT :limit)", nativeQuery = true)
+    int deleteReadCreatedBefore(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
 }
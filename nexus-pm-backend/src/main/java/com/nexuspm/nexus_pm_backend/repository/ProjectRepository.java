@@ -9,6 +9,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -20,6 +21,8 @@ public interface ProjectRepository extends JpaRepository<Project, UUID> {
     
     Optional<Project> findByKeyIgnoreCase(String key);
     
+    List<Project> findByKeyIn(Collection<String> keys);
+    
     boolean existsByKey(String key);
     
     boolean existsByKeyIgnoreCase(String key);
@@ -39,6 +42,18 @@ public interface ProjectRepository extends JpaRepository<Project, UUID> {
            "LOWER(p.key) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
            "LOWER(p.description) LIKE LOWER(CONCAT('%', :search, '%')))")
     Page<Project> searchProjects(@Param("search") String search, Pageable pageable);
+
+    // Postgres only (V5 migration): ranked tsvector match plus trigram similarity on name and key;
+    // keyPrefix comes from LikePatterns.prefix
+    @Query(value = "SELECT p.* FROM projects p, websearch_to_tsquery('english', :search) q " +
+                   "WHERE p.search_vector @@ q OR p.name % :search OR p.key ILIKE :keyPrefix ESCAPE '\\' " +
+                   "ORDER BY ts_rank_cd(p.search_vector, q) + similarity(p.name, :search) DESC, p.name ASC",
+           countQuery = "SELECT COUNT(*) FROM projects p, websearch_to_tsquery('english', :search) q " +
+                        "WHERE p.search_vector @@ q OR p.name % :search OR p.key ILIKE :keyPrefix ESCAPE '\\'",
+           nativeQuery = true)
+    Page<Project> fullTextSearchProjects(@Param("search") String search,
+                                         @Param("keyPrefix") String keyPrefix,
+                                         Pageable pageable);
     
     @Query("SELECT p FROM Project p JOIN p.members pm WHERE pm.user.id = :userId")
     List<Project> findProjectsByUserId(@Param("userId") UUID userId);
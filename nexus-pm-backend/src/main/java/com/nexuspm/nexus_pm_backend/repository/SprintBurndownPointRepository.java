@@ -0,0 +1,41 @@
+package com.nexuspm.nexus_pm_backend.repository;
+
+import com.nexuspm.nexus_pm_backend.dto.BurndownPointDto;
+import com.nexuspm.nexus_pm_backend.model.SprintBurndownPoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface SprintBurndownPointRepository extends JpaRepository<SprintBurndownPoint, UUID> {
+
+    // Served by idx_burndown_sprint_recorded as one range scan
+    @Query("SELECT new com.nexuspm.nexus_pm_backend.dto.BurndownPointDto(p.recordedAt, p.totalPoints, " +
+           "p.completedPoints, p.scopeAdded, p.scopeRemoved) FROM SprintBurndownPoint p " +
+           "WHERE p.sprintId = :sprintId ORDER BY p.recordedAt ASC")
+    List<BurndownPointDto> findSeriesBySprintId(@Param("sprintId") UUID sprintId);
+
+    @Query("SELECT DISTINCT p.sprintId FROM SprintBurndownPoint p " +
+           "WHERE p.resolution = 'RAW' AND p.recordedAt < :before")
+    List<UUID> findSprintIdsWithRawPointsBefore(@Param("before") LocalDateTime before);
+
+    @Query("SELECT p FROM SprintBurndownPoint p WHERE p.sprintId = :sprintId AND p.resolution = 'RAW' " +
+           "AND p.recordedAt < :before ORDER BY p.recordedAt ASC")
+    List<SprintBurndownPoint> findRawPointsBefore(@Param("sprintId") UUID sprintId,
+                                                  @Param("before") LocalDateTime before);
+
+    @Modifying
+    @Query("DELETE FROM SprintBurndownPoint p WHERE p.id IN :ids")
+    void deleteByIdIn(@Param("ids") Collection<UUID> ids);
+
+    @Modifying
+    @Query("DELETE FROM SprintBurndownPoint p WHERE p.sprintId = :sprintId")
+    void deleteBySprintId(@Param("sprintId") UUID sprintId);
+}
@@ -1,6 +1,8 @@
 package com.nexuspm.nexus_pm_backend.repository;
 
+import com.nexuspm.nexus_pm_backend.cache.CacheNames;
 import com.nexuspm.nexus_pm_backend.model.Sprint;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -25,6 +27,10 @@ public interface SprintRepository extends JpaRepository<Sprint, UUID> {
     
     @Query("SELECT s FROM Sprint s WHERE s.project.id = :projectId AND s.status = 'ACTIVE'")
     Optional<Sprint> findActiveSprintByProjectId(@Param("projectId") UUID projectId);
+
+    @Cacheable(cacheNames = CacheNames.ACTIVE_SPRINT_IDS, key = "#p0")
+    @Query("SELECT s.id FROM Sprint s WHERE s.project.id = :projectId AND s.status = 'ACTIVE'")
+    Optional<UUID> findActiveSprintIdByProjectId(@Param("projectId") UUID projectId);
     
     @Query("SELECT s FROM Sprint s WHERE s.project.id = :projectId AND s.status = 'PLANNED' ORDER BY s.createdAt ASC")
     List<Sprint> findPlannedSprintsByProjectId(@Param("projectId") UUID projectId);
@@ -58,4 +64,7 @@ public interface SprintRepository extends JpaRepository<Sprint, UUID> {
     
     @Query("SELECT AVG(s.velocity) FROM Sprint s WHERE s.project.id = :projectId AND s.velocity IS NOT NULL AND s.status = 'COMPLETED'")
     Double findAverageVelocityByProjectId(@Param("projectId") UUID projectId);
+
+    @Query("SELECT s.status, COUNT(s) FROM Sprint s WHERE s.project.id = :projectId GROUP BY s.status")
+    List<Object[]> countByProjectIdGroupByStatus(@Param("projectId") UUID projectId);
 }
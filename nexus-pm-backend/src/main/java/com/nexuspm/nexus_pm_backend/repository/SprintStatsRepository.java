@@ -0,0 +1,34 @@
+package com.nexuspm.nexus_pm_backend.repository;
+
+import com.nexuspm.nexus_pm_backend.model.SprintStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface SprintStatsRepository extends JpaRepository<SprintStats, UUID> {
+
+    // Relative update: concurrent issue changes in one sprint never lose an increment
+    @Modifying
+    @Query("UPDATE SprintStats s SET s.totalStoryPoints = s.totalStoryPoints + :points, " +
+           "s.completedStoryPoints = s.completedStoryPoints + :completedPoints, " +
+           "s.issueCount = s.issueCount + :issues, " +
+           "s.completedIssueCount = s.completedIssueCount + :completedIssues, " +
+           "s.updatedAt = :now WHERE s.sprintId = :sprintId")
+    int applyDelta(@Param("sprintId") UUID sprintId,
+                   @Param("points") int points,
+                   @Param("completedPoints") int completedPoints,
+                   @Param("issues") int issues,
+                   @Param("completedIssues") int completedIssues,
+                   @Param("now") LocalDateTime now);
+
+    // Scalar read so a managed (pre-update) SprintStats in the persistence context is bypassed
+    @Query("SELECT s.totalStoryPoints, s.completedStoryPoints FROM SprintStats s WHERE s.sprintId = :sprintId")
+    List<Object[]> findPointTotals(@Param("sprintId") UUID sprintId);
+}
@@ -0,0 +1,29 @@
+package com.nexuspm.nexus_pm_backend.repository;
+
+import com.nexuspm.nexus_pm_backend.model.Issue;
+import com.nexuspm.nexus_pm_backend.model.SprintStatusCount;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface SprintStatusCountRepository extends JpaRepository<SprintStatusCount, SprintStatusCount.Key> {
+
+    List<SprintStatusCount> findBySprintId(UUID sprintId);
+
+    @Modifying
+    @Query("UPDATE SprintStatusCount c SET c.issueCount = c.issueCount + :delta " +
+           "WHERE c.sprintId = :sprintId AND c.status = :status")
+    int applyDelta(@Param("sprintId") UUID sprintId,
+                   @Param("status") Issue.IssueStatus status,
+                   @Param("delta") int delta);
+
+    @Modifying
+    @Query("DELETE FROM SprintStatusCount c WHERE c.sprintId = :sprintId")
+    void deleteBySprintId(@Param("sprintId") UUID sprintId);
+}
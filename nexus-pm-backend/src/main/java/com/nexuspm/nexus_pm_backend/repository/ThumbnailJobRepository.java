@@ -0,0 +1,47 @@
+package com.nexuspm.nexus_pm_backend.repository;
+
+import com.nexuspm.nexus_pm_backend.model.ThumbnailJob;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface ThumbnailJobRepository extends JpaRepository<ThumbnailJob, UUID> {
+
+    Optional<ThumbnailJob> findByContentSha256(String contentSha256);
+
+    boolean existsByContentSha256(String contentSha256);
+
+    @Query("SELECT j.id FROM ThumbnailJob j WHERE j.status = 'PENDING' AND j.nextAttemptAt <= :now ORDER BY j.nextAttemptAt ASC")
+    List<UUID> findDueIds(@Param("now") LocalDateTime now, Pageable pageable);
+
+    // Only one node wins the PENDING -> RUNNING transition for a job
+    @Modifying
+    @Query("UPDATE ThumbnailJob j SET j.status = 'RUNNING', j.attempts = j.attempts + 1, j.updatedAt = :now " +
+           "WHERE j.id = :id AND j.status = 'PENDING'")
+    int claim(@Param("id") UUID id, @Param("now") LocalDateTime now);
+
+    // attempts counts the stalled run too, since claim() increments it
+    @Modifying
+    @Query("UPDATE ThumbnailJob j SET j.status = 'PENDING', j.updatedAt = :now " +
+           "WHERE j.status = 'RUNNING' AND j.updatedAt < :staleBefore AND j.attempts < :maxAttempts")
+    int requeueStale(@Param("staleBefore") LocalDateTime staleBefore,
+                     @Param("maxAttempts") int maxAttempts,
+                     @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE ThumbnailJob j SET j.status = 'FAILED', j.lastError = :error, j.updatedAt = :now " +
+           "WHERE j.status = 'RUNNING' AND j.updatedAt < :staleBefore AND j.attempts >= :maxAttempts")
+    int failStale(@Param("staleBefore") LocalDateTime staleBefore,
+                  @Param("maxAttempts") int maxAttempts,
+                  @Param("error") String error,
+                  @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,16 @@
+package com.nexuspm.nexus_pm_backend.repository;
+
+import com.nexuspm.nexus_pm_backend.model.Thumbnail;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface ThumbnailRepository extends JpaRepository<Thumbnail, UUID> {
+
+    List<Thumbnail> findByContentSha256OrderBySizePxAsc(String contentSha256);
+
+    long countByThumbnailSha256(String thumbnailSha256);
+}
@@ -9,6 +9,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -36,6 +37,9 @@ public interface UserRepository extends JpaRepository<User, UUID> {
            "LOWER(u.email) LIKE LOWER(CONCAT('%', :search, '%')))")
     Page<User> searchActiveUsers(@Param("search") String search, Pageable pageable);
     
+    @Query("SELECT u FROM User u WHERE LOWER(u.email) IN :emails")
+    List<User> findByEmailsIgnoreCase(@Param("emails") Collection<String> emails);
+    
     @Query("SELECT u FROM User u WHERE u.isActive = true AND u.id IN :userIds")
     List<User> findActiveUsersByIds(@Param("userIds") List<UUID> userIds);
     
@@ -45,6 +49,9 @@ public interface UserRepository extends JpaRepository<User, UUID> {
     @Query("SELECT u FROM User u WHERE u.isEmailVerified = false AND u.createdAt < :dateTime")
     List<User> findUnverifiedUsersCreatedBefore(@Param("dateTime") LocalDateTime dateTime);
     
+    @Query("SELECT u.securityStamp FROM User u WHERE u.id = :id AND u.isActive = true")
+    Optional<Long> findActiveSecurityStampById(@Param("id") UUID id);
+    
     @Query("SELECT COUNT(u) FROM User u WHERE u.isActive = true")
     long countActiveUsers();
     
@@ -0,0 +1,166 @@
+package com.nexuspm.nexus_pm_backend.search;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.FieldValue;
+import co.elastic.clients.elasticsearch._types.query_dsl.BoolQuery;
+import co.elastic.clients.elasticsearch._types.query_dsl.Query;
+import co.elastic.clients.elasticsearch._types.query_dsl.TextQueryType;
+import co.elastic.clients.elasticsearch.core.BulkRequest;
+import co.elastic.clients.elasticsearch.core.BulkResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.elasticsearch.client.elc.NativeQuery;
+import org.springframework.data.elasticsearch.client.elc.NativeQueryBuilder;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.IndexOperations;
+import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.SearchHits;
+import org.springframework.data.elasticsearch.core.query.HighlightQuery;
+import org.springframework.data.elasticsearch.core.query.IndexQuery;
+import org.springframework.data.elasticsearch.core.query.IndexQueryBuilder;
+import org.springframework.data.elasticsearch.core.query.highlight.Highlight;
+import org.springframework.data.elasticsearch.core.query.highlight.HighlightField;
+import org.springframework.data.elasticsearch.core.query.highlight.HighlightParameters;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.search.engine", havingValue = "elasticsearch")
+public class ElasticsearchIssueSearchEngine implements IssueSearchEngine {
+
+    private static final List<String> SEARCH_FIELDS = List.of("key^4", "title^3", "labels^2", "description", "comments^0.5");
+
+    private final ElasticsearchOperations operations;
+    private final ElasticsearchClient client;
+
+    @EventListener(ContextRefreshedEvent.class)
+    public void createIndexIfMissing() {
+        IndexOperations indexOperations = operations.indexOps(IssueSearchDocument.class);
+        if (!indexOperations.exists()) {
+            indexOperations.createWithMapping();
+            log.info("Created Elasticsearch index for issues");
+        }
+    }
+
+    @Override
+    public void index(Collection<IssueSearchDocument> documents) {
+        List<IndexQuery> queries = documents.stream()
+                .map(document -> new IndexQueryBuilder().withId(document.getId()).withObject(document).build())
+                .collect(Collectors.toList());
+        operations.bulkIndex(queries, IssueSearchDocument.class);
+    }
+
+    @Override
+    public void delete(Collection<UUID> issueIds) {
+        if (issueIds.isEmpty()) {
+            return;
+        }
+        // One bulk request for the whole batch, like bulkIndex above, instead of a round trip per id
+        String index = operations.getIndexCoordinatesFor(IssueSearchDocument.class).getIndexName();
+        BulkRequest.Builder request = new BulkRequest.Builder();
+        for (UUID issueId : issueIds) {
+            request.operations(op -> op.delete(d -> d.index(index).id(issueId.toString())));
+        }
+        BulkResponse response;
+        try {
+            response = client.bulk(request.build());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Bulk delete from the issue index failed", e);
+        }
+        // Already-missing documents are not errors; anything else fails the batch so the indexer retries it
+        if (response.errors()) {
+            List<String> failed = response.items().stream()
+                    .filter(item -> item.error() != null)
+                    .map(item -> item.id() + ": " + item.error().reason())
+                    .collect(Collectors.toList());
+            throw new IllegalStateException("Bulk delete from the issue index failed for " + failed);
+        }
+    }
+
+    @Override
+    public IssueSearchResult search(IssueSearchQuery query) {
+        BoolQuery.Builder bool = new BoolQuery.Builder();
+        if (query.hasText()) {
+            bool.must(m -> m.multiMatch(mm -> mm
+                    .query(query.getText())
+                    .fields(SEARCH_FIELDS)
+                    .type(TextQueryType.BestFields)));
+        }
+        // Filters do not contribute to the score and are cached by Elasticsearch
+        if (query.getProjectId() != null) {
+            bool.filter(term("projectId", query.getProjectId().toString()));
+        }
+        if (!query.getStatuses().isEmpty()) {
+            bool.filter(terms("status", query.getStatuses().stream().map(Enum::name).collect(Collectors.toList())));
+        }
+        if (!query.getPriorities().isEmpty()) {
+            bool.filter(terms("priority", query.getPriorities().stream().map(Enum::name).collect(Collectors.toList())));
+        }
+        if (query.getAssigneeId() != null) {
+            bool.filter(term("assigneeId", query.getAssigneeId().toString()));
+        }
+        for (String label : query.getLabels()) {
+            bool.filter(term("labels", label));
+        }
+
+        NativeQueryBuilder builder = NativeQuery.builder()
+                .withQuery(q -> q.bool(bool.build()))
+                .withPageable(PageRequest.of(query.getPage(), query.getSize()))
+                .withTrackScores(true);
+        if (query.hasText()) {
+            // The html encoder escapes the stored text so only our markers reach the client as markup
+            HighlightParameters parameters = HighlightParameters.builder()
+                    .withEncoder("html")
+                    .withPreTags("<em>")
+                    .withPostTags("</em>")
+                    .withFragmentSize(160)
+                    .withNumberOfFragments(3)
+                    .build();
+            builder.withHighlightQuery(new HighlightQuery(new Highlight(parameters, List.of(
+                    new HighlightField("title"), new HighlightField("description"), new HighlightField("comments"))),
+                    IssueSearchDocument.class));
+        } else {
+            builder.withSort(Sort.by(Sort.Direction.DESC, "updatedAt"));
+        }
+
+        SearchHits<IssueSearchDocument> searchHits = operations.search(builder.build(), IssueSearchDocument.class);
+        List<IssueSearchResult.Hit> hits = searchHits.getSearchHits().stream()
+                .map(ElasticsearchIssueSearchEngine::toHit)
+                .collect(Collectors.toList());
+        return new IssueSearchResult(searchHits.getTotalHits(), query.getPage(), query.getSize(), hits);
+    }
+
+    @Override
+    public boolean isEphemeral() {
+        return false;
+    }
+
+    private static IssueSearchResult.Hit toHit(SearchHit<IssueSearchDocument> searchHit) {
+        IssueSearchDocument document = searchHit.getContent();
+        return new IssueSearchResult.Hit(document.getId(), document.getKey(), document.getTitle(),
+                document.getStatus(), document.getPriority(), document.getAssigneeId(),
+                searchHit.getScore(), searchHit.getHighlightFields());
+    }
+
+    private static Query term(String field, String value) {
+        return Query.of(q -> q.term(t -> t.field(field).value(value)));
+    }
+
+    private static Query terms(String field, List<String> values) {
+        List<FieldValue> fieldValues = values.stream().map(FieldValue::of).collect(Collectors.toList());
+        return Query.of(q -> q.terms(t -> t.field(field).terms(v -> v.value(fieldValues))));
+    }
+}
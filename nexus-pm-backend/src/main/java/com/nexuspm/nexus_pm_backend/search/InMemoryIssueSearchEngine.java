@@ -0,0 +1,257 @@
+package com.nexuspm.nexus_pm_backend.search;
+
+import com.nexuspm.nexus_pm_backend.model.Issue;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.HtmlUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Embedded inverted index so search works without an Elasticsearch cluster. Ranking is BM25
+ * over field-weighted term frequencies; the index is rebuilt from the database on startup.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.search.engine", havingValue = "memory", matchIfMissing = true)
+public class InMemoryIssueSearchEngine implements IssueSearchEngine {
+
+    private static final Pattern TOKEN = Pattern.compile("[\\p{L}\\p{N}]+");
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final double KEY_WEIGHT = 4.0;
+    private static final double TITLE_WEIGHT = 3.0;
+    private static final double LABEL_WEIGHT = 2.0;
+    private static final double DESCRIPTION_WEIGHT = 1.0;
+    private static final double COMMENT_WEIGHT = 0.5;
+    private static final int FRAGMENT_RADIUS = 80;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, IndexedIssue> documents = new HashMap<>();
+    private final Map<String, Map<String, Double>> postings = new HashMap<>();
+    private double totalLength;
+
+    @Override
+    public void index(Collection<IssueSearchDocument> batch) {
+        lock.writeLock().lock();
+        try {
+            for (IssueSearchDocument document : batch) {
+                remove(document.getId());
+                IndexedIssue indexed = new IndexedIssue(document, termFrequencies(document));
+                documents.put(document.getId(), indexed);
+                indexed.terms.forEach((term, frequency) ->
+                        postings.computeIfAbsent(term, t -> new HashMap<>()).put(document.getId(), frequency));
+                totalLength += indexed.length;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void delete(Collection<UUID> issueIds) {
+        lock.writeLock().lock();
+        try {
+            issueIds.forEach(id -> remove(id.toString()));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public IssueSearchResult search(IssueSearchQuery query) {
+        List<String> queryTerms = query.hasText() ? tokenize(query.getText()) : List.of();
+
+        lock.readLock().lock();
+        try {
+            Map<String, Double> scores = new HashMap<>();
+            if (queryTerms.isEmpty()) {
+                documents.keySet().forEach(id -> scores.put(id, 0.0));
+            } else {
+                double averageLength = documents.isEmpty() ? 1.0 : totalLength / documents.size();
+                for (String term : new LinkedHashSet<>(queryTerms)) {
+                    Map<String, Double> matches = postings.getOrDefault(term, Map.of());
+                    if (matches.isEmpty()) {
+                        continue;
+                    }
+                    double idf = Math.log(1 + (documents.size() - matches.size() + 0.5) / (matches.size() + 0.5));
+                    matches.forEach((id, frequency) -> {
+                        double norm = 1 - B + B * documents.get(id).length / averageLength;
+                        scores.merge(id, idf * frequency * (K1 + 1) / (frequency + K1 * norm), Double::sum);
+                    });
+                }
+            }
+
+            List<IndexedIssue> ranked = scores.keySet().stream()
+                    .map(documents::get)
+                    .filter(indexed -> matchesFilters(indexed.document, query))
+                    .sorted(Comparator.<IndexedIssue>comparingDouble(indexed -> scores.get(indexed.document.getId())).reversed()
+                            .thenComparing(indexed -> indexed.document.getUpdatedAt(),
+                                    Comparator.nullsLast(Comparator.<LocalDateTime>reverseOrder())))
+                    .collect(Collectors.toList());
+
+            int from = Math.min(query.getPage() * query.getSize(), ranked.size());
+            int to = Math.min(from + query.getSize(), ranked.size());
+            Set<String> highlightTerms = new LinkedHashSet<>(queryTerms);
+            List<IssueSearchResult.Hit> hits = new ArrayList<>(to - from);
+            for (IndexedIssue indexed : ranked.subList(from, to)) {
+                IssueSearchDocument document = indexed.document;
+                hits.add(new IssueSearchResult.Hit(document.getId(), document.getKey(), document.getTitle(),
+                        document.getStatus(), document.getPriority(), document.getAssigneeId(),
+                        scores.get(document.getId()).floatValue(), highlight(document, highlightTerms)));
+            }
+            return new IssueSearchResult(ranked.size(), query.getPage(), query.getSize(), hits);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean isEphemeral() {
+        return true;
+    }
+
+    private void remove(String id) {
+        IndexedIssue previous = documents.remove(id);
+        if (previous == null) {
+            return;
+        }
+        totalLength -= previous.length;
+        for (String term : previous.terms.keySet()) {
+            Map<String, Double> matches = postings.get(term);
+            if (matches != null) {
+                matches.remove(id);
+                if (matches.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+    }
+
+    private static boolean matchesFilters(IssueSearchDocument document, IssueSearchQuery query) {
+        if (query.getProjectId() != null && !query.getProjectId().toString().equals(document.getProjectId())) {
+            return false;
+        }
+        if (!query.getStatuses().isEmpty() && query.getStatuses().stream()
+                .map(Issue.IssueStatus::name).noneMatch(status -> status.equals(document.getStatus()))) {
+            return false;
+        }
+        if (!query.getPriorities().isEmpty() && query.getPriorities().stream()
+                .map(Issue.IssuePriority::name).noneMatch(priority -> priority.equals(document.getPriority()))) {
+            return false;
+        }
+        if (query.getAssigneeId() != null && !query.getAssigneeId().toString().equals(document.getAssigneeId())) {
+            return false;
+        }
+        return query.getLabels().isEmpty() || document.getLabels().containsAll(query.getLabels());
+    }
+
+    private static Map<String, Double> termFrequencies(IssueSearchDocument document) {
+        Map<String, Double> frequencies = new HashMap<>();
+        // "NEX-12" indexes as "nex" and "12", as the query does, so a key search hits both terms
+        addTerms(frequencies, document.getKey(), KEY_WEIGHT);
+        addTerms(frequencies, document.getTitle(), TITLE_WEIGHT);
+        addTerms(frequencies, document.getDescription(), DESCRIPTION_WEIGHT);
+        document.getLabels().forEach(label -> addTerms(frequencies, label, LABEL_WEIGHT));
+        document.getComments().forEach(comment -> addTerms(frequencies, comment, COMMENT_WEIGHT));
+        return frequencies;
+    }
+
+    private static void addTerms(Map<String, Double> frequencies, String text, double weight) {
+        for (String term : tokenize(text)) {
+            frequencies.merge(term, weight, Double::sum);
+        }
+    }
+
+    private static List<String> tokenize(String text) {
+        List<String> terms = new ArrayList<>();
+        if (text == null) {
+            return terms;
+        }
+        Matcher matcher = TOKEN.matcher(text.toLowerCase(Locale.ROOT));
+        while (matcher.find()) {
+            terms.add(matcher.group());
+        }
+        return terms;
+    }
+
+    private static Map<String, List<String>> highlight(IssueSearchDocument document, Set<String> terms) {
+        Map<String, List<String>> highlights = new HashMap<>();
+        if (terms.isEmpty()) {
+            return highlights;
+        }
+        addHighlight(highlights, "title", document.getTitle(), terms, false);
+        addHighlight(highlights, "description", document.getDescription(), terms, true);
+        for (String comment : document.getComments()) {
+            addHighlight(highlights, "comments", comment, terms, true);
+        }
+        return highlights;
+    }
+
+    private static void addHighlight(Map<String, List<String>> highlights, String field, String text,
+                                     Set<String> terms, boolean fragment) {
+        if (text == null) {
+            return;
+        }
+        Matcher matcher = TOKEN.matcher(text);
+        int firstMatch = -1;
+        while (matcher.find()) {
+            if (terms.contains(matcher.group().toLowerCase(Locale.ROOT))) {
+                firstMatch = matcher.start();
+                break;
+            }
+        }
+        if (firstMatch < 0) {
+            return;
+        }
+
+        int from = fragment ? Math.max(0, firstMatch - FRAGMENT_RADIUS) : 0;
+        int to = fragment ? Math.min(text.length(), firstMatch + FRAGMENT_RADIUS * 2) : text.length();
+        String window = text.substring(from, to);
+
+        StringBuilder marked = new StringBuilder(from > 0 ? "..." : "");
+        Matcher windowMatcher = TOKEN.matcher(window);
+        int last = 0;
+        while (windowMatcher.find()) {
+            if (terms.contains(windowMatcher.group().toLowerCase(Locale.ROOT))) {
+                // Fragments are rendered as HTML, so only the markers may be markup
+                marked.append(HtmlUtils.htmlEscape(window.substring(last, windowMatcher.start())))
+                        .append("<em>").append(HtmlUtils.htmlEscape(windowMatcher.group())).append("</em>");
+                last = windowMatcher.end();
+            }
+        }
+        marked.append(HtmlUtils.htmlEscape(window.substring(last)));
+        if (to < text.length()) {
+            marked.append("...");
+        }
+        highlights.computeIfAbsent(field, f -> new ArrayList<>()).add(marked.toString());
+    }
+
+    private static final class IndexedIssue {
+        private final IssueSearchDocument document;
+        private final Map<String, Double> terms;
+        private final double length;
+
+        IndexedIssue(IssueSearchDocument document, Map<String, Double> terms) {
+            this.document = document;
+            this.terms = terms;
+            this.length = terms.values().stream().mapToDouble(Double::doubleValue).sum();
+        }
+    }
+}
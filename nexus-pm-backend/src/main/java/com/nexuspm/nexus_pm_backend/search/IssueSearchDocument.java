@@ -0,0 +1,59 @@
+package com.nexuspm.nexus_pm_backend.search;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.elasticsearch.annotations.DateFormat;
+import org.springframework.data.elasticsearch.annotations.Document;
+import org.springframework.data.elasticsearch.annotations.Field;
+import org.springframework.data.elasticsearch.annotations.FieldType;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Search index representation of an issue. Comment bodies and label names are denormalized
+ * into the issue so one query ranks across all of them.
+ */
+@Data
+@NoArgsConstructor
+@Document(indexName = "issues")
+public class IssueSearchDocument {
+
+    @Id
+    private String id;
+
+    @Field(type = FieldType.Keyword)
+    private String projectId;
+
+    @Field(type = FieldType.Keyword)
+    private String key;
+
+    @Field(type = FieldType.Text, analyzer = "english")
+    private String title;
+
+    @Field(type = FieldType.Text, analyzer = "english")
+    private String description;
+
+    @Field(type = FieldType.Keyword)
+    private String type;
+
+    @Field(type = FieldType.Keyword)
+    private String status;
+
+    @Field(type = FieldType.Keyword)
+    private String priority;
+
+    @Field(type = FieldType.Keyword)
+    private String assigneeId;
+
+    @Field(type = FieldType.Keyword)
+    private List<String> labels = new ArrayList<>();
+
+    @Field(type = FieldType.Text, analyzer = "english")
+    private List<String> comments = new ArrayList<>();
+
+    @Field(type = FieldType.Date, format = DateFormat.date_hour_minute_second_millis)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,22 @@
+package com.nexuspm.nexus_pm_backend.search;
+
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * Full-text issue index. {@code app.search.engine} selects the implementation:
+ * {@code elasticsearch} for deployments with a cluster, {@code memory} (default) for dev and tests.
+ */
+public interface IssueSearchEngine {
+
+    void index(Collection<IssueSearchDocument> documents);
+
+    void delete(Collection<UUID> issueIds);
+
+    IssueSearchResult search(IssueSearchQuery query);
+
+    /**
+     * Whether the index lives in this process and has to be rebuilt on startup.
+     */
+    boolean isEphemeral();
+}
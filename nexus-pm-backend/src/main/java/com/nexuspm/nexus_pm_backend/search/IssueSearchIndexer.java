@@ -0,0 +1,170 @@
+package com.nexuspm.nexus_pm_backend.search;
+
+import com.nexuspm.nexus_pm_backend.event.CommentChangedEvent;
+import com.nexuspm.nexus_pm_backend.event.IssueChangedEvent;
+import com.nexuspm.nexus_pm_backend.model.Issue;
+import com.nexuspm.nexus_pm_backend.repository.CommentRepository;
+import com.nexuspm.nexus_pm_backend.repository.IssueRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps the search index in step with the database. Committed {@link IssueChangedEvent}s and
+ * {@link CommentChangedEvent}s (comment bodies are indexed too) only mark an issue dirty; a
+ * scheduled flush reloads dirty issues in batches (labels and comments with one query each) and
+ * pushes them to the engine, so a burst of edits to one issue costs a single index write.
+ */
+@Slf4j
+@Component
+public class IssueSearchIndexer {
+
+    private final IssueSearchEngine searchEngine;
+    private final IssueRepository issueRepository;
+    private final CommentRepository commentRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final int batchSize;
+    private final Set<UUID> pending = ConcurrentHashMap.newKeySet();
+
+    public IssueSearchIndexer(IssueSearchEngine searchEngine,
+                              IssueRepository issueRepository,
+                              CommentRepository commentRepository,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${app.search.index-batch-size:200}") int batchSize) {
+        this.searchEngine = searchEngine;
+        this.issueRepository = issueRepository;
+        this.commentRepository = commentRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onIssueChanged(IssueChangedEvent event) {
+        pending.add(event.getIssueId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCommentChanged(CommentChangedEvent event) {
+        pending.add(event.getIssueId());
+    }
+
+    @Scheduled(fixedDelayString = "${app.search.flush-interval-ms:1000}")
+    public void flush() {
+        while (!pending.isEmpty()) {
+            List<UUID> batch = new ArrayList<>(batchSize);
+            Iterator<UUID> iterator = pending.iterator();
+            while (iterator.hasNext() && batch.size() < batchSize) {
+                batch.add(iterator.next());
+                iterator.remove();
+            }
+            try {
+                indexBatch(batch);
+            } catch (RuntimeException e) {
+                // Put the batch back so the next run retries it
+                pending.addAll(batch);
+                log.warn("Search index flush failed for {} issues: {}", batch.size(), e.getMessage());
+                return;
+            }
+        }
+    }
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void reindexOnStartup() {
+        if (searchEngine.isEphemeral()) {
+            reindexAll();
+        }
+    }
+
+    public long reindexAll() {
+        long indexed = 0;
+        int page = 0;
+        List<UUID> ids;
+        do {
+            PageRequest pageRequest = PageRequest.of(page++, batchSize, Sort.by("id"));
+            ids = readOnlyTransaction.execute(status -> {
+                Page<Issue> issues = issueRepository.findAll(pageRequest);
+                List<UUID> pageIds = new ArrayList<>(issues.getNumberOfElements());
+                issues.forEach(issue -> pageIds.add(issue.getId()));
+                return pageIds;
+            });
+            if (ids != null && !ids.isEmpty()) {
+                indexBatch(ids);
+                indexed += ids.size();
+            }
+        } while (ids != null && ids.size() == batchSize);
+        log.info("Reindexed {} issues for search", indexed);
+        return indexed;
+    }
+
+    private void indexBatch(Collection<UUID> issueIds) {
+        List<IssueSearchDocument> documents = readOnlyTransaction.execute(status -> loadDocuments(issueIds));
+        Set<UUID> missing = new HashSet<>(issueIds);
+        if (documents != null && !documents.isEmpty()) {
+            documents.forEach(document -> missing.remove(UUID.fromString(document.getId())));
+            searchEngine.index(documents);
+        }
+        if (!missing.isEmpty()) {
+            searchEngine.delete(missing);
+        }
+    }
+
+    private List<IssueSearchDocument> loadDocuments(Collection<UUID> issueIds) {
+        List<Issue> issues = issueRepository.findAllById(issueIds);
+        if (issues.isEmpty()) {
+            return List.of();
+        }
+        Map<UUID, List<String>> labels = groupByIssue(issueRepository.findLabelNamesByIssueIds(issueIds));
+        Map<UUID, List<String>> comments = groupByIssue(commentRepository.findContentByIssueIds(issueIds));
+
+        List<IssueSearchDocument> documents = new ArrayList<>(issues.size());
+        for (Issue issue : issues) {
+            IssueSearchDocument document = new IssueSearchDocument();
+            document.setId(issue.getId().toString());
+            document.setProjectId(issue.getProject().getId().toString());
+            document.setKey(issue.getKey());
+            document.setTitle(issue.getTitle());
+            document.setDescription(issue.getDescription());
+            document.setType(issue.getType() != null ? issue.getType().name() : null);
+            document.setStatus(issue.getStatus() != null ? issue.getStatus().name() : null);
+            document.setPriority(issue.getPriority() != null ? issue.getPriority().name() : null);
+            document.setAssigneeId(issue.getAssignee() != null ? issue.getAssignee().getId().toString() : null);
+            document.setLabels(labels.getOrDefault(issue.getId(), new ArrayList<>()));
+            document.setComments(comments.getOrDefault(issue.getId(), new ArrayList<>()));
+            document.setUpdatedAt(issue.getUpdatedAt());
+            documents.add(document);
+        }
+        return documents;
+    }
+
+    private static Map<UUID, List<String>> groupByIssue(List<Object[]> rows) {
+        Map<UUID, List<String>> grouped = new HashMap<>();
+        for (Object[] row : rows) {
+            grouped.computeIfAbsent((UUID) row[0], id -> new ArrayList<>()).add((String) row[1]);
+        }
+        return grouped;
+    }
+}
@@ -0,0 +1,24 @@
+package com.nexuspm.nexus_pm_backend.search;
+
+import com.nexuspm.nexus_pm_backend.model.Issue;
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+@Data
+public class IssueSearchQuery {
+    private String text;
+    private UUID projectId;
+    private List<Issue.IssueStatus> statuses = new ArrayList<>();
+    private List<Issue.IssuePriority> priorities = new ArrayList<>();
+    private UUID assigneeId;
+    private List<String> labels = new ArrayList<>();
+    private int page = 0;
+    private int size = 20;
+
+    public boolean hasText() {
+        return text != null && !text.isBlank();
+    }
+}
@@ -0,0 +1,33 @@
+package com.nexuspm.nexus_pm_backend.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class IssueSearchResult {
+    private long total;
+    private int page;
+    private int size;
+    private List<Hit> hits;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Hit {
+        private String id;
+        private String key;
+        private String title;
+        private String status;
+        private String priority;
+        private String assigneeId;
+        private float score;
+        // field name -> HTML-escaped fragments with matches wrapped in <em>
+        private Map<String, List<String>> highlights;
+    }
+}
@@ -0,0 +1,32 @@
+package com.nexuspm.nexus_pm_backend.security;
+
+import com.nexuspm.nexus_pm_backend.model.User;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.UUID;
+
+/**
+ * Id of the authenticated user on the current thread, whether the principal is a token
+ * snapshot or a loaded {@link User}; {@code null} for anonymous requests and background work.
+ */
+public final class CurrentUser {
+
+    private CurrentUser() {
+    }
+
+    public static UUID id() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null) {
+            return null;
+        }
+        Object principal = authentication.getPrincipal();
+        if (principal instanceof JwtPrincipal jwtPrincipal) {
+            return jwtPrincipal.getUserId();
+        }
+        if (principal instanceof User user) {
+            return user.getId();
+        }
+        return null;
+    }
+}
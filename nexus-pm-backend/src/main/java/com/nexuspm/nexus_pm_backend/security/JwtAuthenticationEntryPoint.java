@@ -9,7 +9,7 @@ import org.springframework.stereotype.Component;
 
 import java.io.IOException;
 
-// @Slf4j
+@Slf4j
 // @Component
 public class JwtAuthenticationEntryPoint implements AuthenticationEntryPoint {
 
@@ -0,0 +1,34 @@
+package com.nexuspm.nexus_pm_backend.security;
+
+import lombok.Value;
+import org.springframework.security.core.AuthenticatedPrincipal;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Snapshot of the user taken from verified token claims. Authenticated requests carry this
+ * instead of a {@code User} loaded from the database; {@code getName()} is still the email, so
+ * {@code Authentication.getName()} callers are unaffected.
+ */
+@Value
+public class JwtPrincipal implements AuthenticatedPrincipal, Serializable {
+    UUID userId;
+    String email;
+    String role;
+    long securityStamp;
+    Instant expiresAt;
+
+    @Override
+    public String getName() {
+        return email;
+    }
+
+    public List<GrantedAuthority> getAuthorities() {
+        return role != null ? List.of(new SimpleGrantedAuthority("ROLE_" + role)) : List.of();
+    }
+}
@@ -1,19 +1,23 @@
 package com.nexuspm.nexus_pm_backend.security;
 
+import com.nexuspm.nexus_pm_backend.model.User;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
-import java.security.Key;
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.UUID;
 import java.util.function.Function;
 
-// @Slf4j
+@Slf4j
 // @Component
 public class JwtTokenUtil {
 
@@ -26,13 +30,28 @@ public class JwtTokenUtil {
     @Value("${app.jwt.refresh-expiration}")
     private long refreshTokenExpiration;
 
-    private Key getSigningKey() {
-        return Keys.hmacShaKeyFor(jwtSecret.getBytes());
+    static final String CLAIM_USER_ID = "uid";
+    static final String CLAIM_ROLE = "role";
+    static final String CLAIM_SECURITY_STAMP = "stamp";
+
+    // Derived once; building the key and parser per request showed up in filter profiles
+    private SecretKey signingKey;
+    private JwtParser parser;
+
+    @PostConstruct
+    void init() {
+        signingKey = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+        parser = Jwts.parser()
+                .setSigningKey(signingKey)
+                .build();
+    }
+
+    private SecretKey getSigningKey() {
+        return signingKey;
     }
 
     public String generateToken(UserDetails userDetails) {
-        Map<String, Object> claims = new HashMap<>();
-        return generateToken(claims, userDetails.getUsername());
+        return generateToken(userClaims(userDetails), userDetails.getUsername());
     }
 
     public String generateToken(Map<String, Object> extraClaims, String username) {
@@ -40,7 +59,18 @@ public class JwtTokenUtil {
     }
 
     public String generateRefreshToken(UserDetails userDetails) {
-        return buildToken(new HashMap<>(), userDetails.getUsername(), refreshTokenExpiration);
+        return buildToken(userClaims(userDetails), userDetails.getUsername(), refreshTokenExpiration);
+    }
+
+    // Enough of the user to authenticate a request without loading it again
+    private Map<String, Object> userClaims(UserDetails userDetails) {
+        Map<String, Object> claims = new HashMap<>();
+        if (userDetails instanceof User user) {
+            claims.put(CLAIM_USER_ID, user.getId().toString());
+            claims.put(CLAIM_ROLE, user.getRole().name());
+            claims.put(CLAIM_SECURITY_STAMP, user.getSecurityStamp());
+        }
+        return claims;
     }
 
     private String buildToken(Map<String, Object> extraClaims, String username, long expiration) {
@@ -67,11 +97,27 @@ public class JwtTokenUtil {
     }
 
     private Claims getAllClaimsFromToken(String token) {
-        return Jwts.parser()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        return parser.parseClaimsJws(token).getBody();
+    }
+
+    /**
+     * Verifies signature and expiry and turns the claims into a principal. Throws
+     * {@link JwtException} for any invalid token, including ones issued before tokens carried
+     * a user id and security stamp.
+     */
+    public JwtPrincipal verifyToken(String token) {
+        Claims claims = getAllClaimsFromToken(token);
+        String userId = claims.get(CLAIM_USER_ID, String.class);
+        Number stamp = claims.get(CLAIM_SECURITY_STAMP, Number.class);
+        if (userId == null || stamp == null) {
+            throw new MalformedJwtException("Token has no user id or security stamp");
+        }
+        return new JwtPrincipal(
+                UUID.fromString(userId),
+                claims.getSubject(),
+                claims.get(CLAIM_ROLE, String.class),
+                stamp.longValue(),
+                claims.getExpiration().toInstant());
     }
 
     public Boolean isTokenExpired(String token) {
@@ -81,8 +127,8 @@ public class JwtTokenUtil {
 
     public Boolean validateToken(String token, UserDetails userDetails) {
         try {
-            final String username = getUsernameFromToken(token);
-            return (username.equals(userDetails.getUsername()) && !isTokenExpired(token));
+            final Claims claims = getAllClaimsFromToken(token);
+            return (claims.getSubject().equals(userDetails.getUsername()) && claims.getExpiration().after(new Date()));
         } catch (MalformedJwtException e) {
             log.error("Invalid JWT token: {}", e.getMessage());
         } catch (ExpiredJwtException e) {
@@ -97,10 +143,7 @@ public class JwtTokenUtil {
 
     public Boolean validateToken(String token) {
         try {
-            Jwts.parser()
-                    .setSigningKey(getSigningKey())
-                    .build()
-                    .parseClaimsJws(token);
+            parser.parseClaimsJws(token);
             return true;
         } catch (JwtException | IllegalArgumentException e) {
             log.error("Invalid JWT token: {}", e.getMessage());
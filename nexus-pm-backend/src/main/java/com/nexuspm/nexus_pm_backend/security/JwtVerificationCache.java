@@ -0,0 +1,84 @@
+package com.nexuspm.nexus_pm_backend.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.function.Function;
+
+/**
+ * Remembers tokens whose signature has already been verified, keyed by SHA-256 of the token so
+ * raw tokens are never held in memory. An entry never outlives its token's expiry. Failed
+ * verifications are not cached.
+ */
+@Component
+public class JwtVerificationCache {
+
+    private final Cache<String, JwtPrincipal> cache;
+
+    public JwtVerificationCache(@Value("${app.jwt.verification-cache.max-size:50000}") long maxSize,
+                                @Value("${app.jwt.verification-cache.max-ttl:10m}") Duration maxTtl,
+                                ObjectProvider<MeterRegistry> meterRegistry) {
+        long maxTtlNanos = maxTtl.toNanos();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new Expiry<String, JwtPrincipal>() {
+                    @Override
+                    public long expireAfterCreate(String key, JwtPrincipal principal, long currentTime) {
+                        long untilExpiry = Duration.between(Instant.now(), principal.getExpiresAt()).toNanos();
+                        return Math.max(0, Math.min(maxTtlNanos, untilExpiry));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, JwtPrincipal principal, long currentTime, long currentDuration) {
+                        return expireAfterCreate(key, principal, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, JwtPrincipal principal, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+        meterRegistry.ifAvailable(registry -> CaffeineCacheMetrics.monitor(registry, cache, "jwtVerification"));
+    }
+
+    /**
+     * Returns the cached principal for this token, or runs {@code verifier} (which throws on an
+     * invalid token) and caches its result.
+     */
+    public JwtPrincipal verify(String token, Function<String, JwtPrincipal> verifier) {
+        String key = hash(token);
+        JwtPrincipal principal = cache.getIfPresent(key);
+        if (principal == null) {
+            principal = verifier.apply(token);
+            cache.put(key, principal);
+        }
+        return principal;
+    }
+
+    public void invalidate(String token) {
+        cache.invalidate(hash(token));
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.nexuspm.nexus_pm_backend.service;
+
+import com.nexuspm.nexus_pm_backend.activity.ActivityPartitionService;
+import com.nexuspm.nexus_pm_backend.dto.ActivityDto;
+import com.nexuspm.nexus_pm_backend.repository.ActivityRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Project and user activity feeds. Every page is read within a bounded {@code created_at}
+ * window, so on Postgres only the monthly partitions it covers are scanned: {@code until}
+ * defaults to now, {@code since} to {@code app.activity.feed-days} before it, and neither
+ * reaches back past the retention cutoff.
+ */
+@Service
+@Transactional(readOnly = true)
+public class ActivityService {
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final ActivityRepository activityRepository;
+    private final ActivityPartitionService activityPartitionService;
+    private final int feedDays;
+
+    public ActivityService(ActivityRepository activityRepository,
+                           ActivityPartitionService activityPartitionService,
+                           @Value("${app.activity.feed-days:30}") int feedDays) {
+        this.activityRepository = activityRepository;
+        this.activityPartitionService = activityPartitionService;
+        this.feedDays = Math.max(1, feedDays);
+    }
+
+    public Page<ActivityDto> findProjectFeed(UUID projectId, LocalDateTime since, LocalDateTime until, int page, int size) {
+        LocalDateTime end = until != null ? until : LocalDateTime.now();
+        return activityRepository.findProjectFeed(projectId, start(since, end), end, pageRequest(page, size));
+    }
+
+    public Page<ActivityDto> findUserFeed(UUID userId, LocalDateTime since, LocalDateTime until, int page, int size) {
+        LocalDateTime end = until != null ? until : LocalDateTime.now();
+        return activityRepository.findUserFeed(userId, start(since, end), end, pageRequest(page, size));
+    }
+
+    private LocalDateTime start(LocalDateTime since, LocalDateTime end) {
+        LocalDateTime start = since != null ? since : end.minusDays(feedDays);
+        LocalDateTime cutoff = activityPartitionService.retentionCutoff();
+        return start.isBefore(cutoff) ? cutoff : start;
+    }
+
+    private static PageRequest pageRequest(int page, int size) {
+        // Unsorted: the feed queries order by created_at themselves
+        return PageRequest.of(Math.max(0, page), Math.min(Math.max(1, size), MAX_PAGE_SIZE));
+    }
+}
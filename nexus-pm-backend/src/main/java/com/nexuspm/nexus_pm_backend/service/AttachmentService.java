@@ -0,0 +1,236 @@
+package com.nexuspm.nexus_pm_backend.service;
+
+import com.nexuspm.nexus_pm_backend.dto.AttachmentDto;
+import com.nexuspm.nexus_pm_backend.model.Attachment;
+import com.nexuspm.nexus_pm_backend.repository.AttachmentRepository;
+import com.nexuspm.nexus_pm_backend.repository.IssueRepository;
+import com.nexuspm.nexus_pm_backend.repository.UserRepository;
+import com.nexuspm.nexus_pm_backend.storage.AttachmentStorage;
+import com.nexuspm.nexus_pm_backend.storage.ContentLocks;
+import com.nexuspm.nexus_pm_backend.storage.ContentSpooler;
+import com.nexuspm.nexus_pm_backend.storage.SpooledContent;
+import com.nexuspm.nexus_pm_backend.thumbnail.ThumbnailContent;
+import com.nexuspm.nexus_pm_backend.thumbnail.ThumbnailService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.WritableByteChannel;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Slf4j
+@Service
+@Transactional
+public class AttachmentService {
+
+    private static final String DEFAULT_CONTENT_TYPE = "application/octet-stream";
+
+    private final AttachmentRepository attachmentRepository;
+    private final IssueRepository issueRepository;
+    private final UserRepository userRepository;
+    private final ContentSpooler contentSpooler;
+    private final AttachmentStorage attachmentStorage;
+    private final ThumbnailService thumbnailService;
+    private final IssueDetailService issueDetailService;
+    private final ContentLocks contentLocks;
+    private final TransactionTemplate blobTransaction;
+
+    public AttachmentService(AttachmentRepository attachmentRepository,
+                             IssueRepository issueRepository,
+                             UserRepository userRepository,
+                             ContentSpooler contentSpooler,
+                             AttachmentStorage attachmentStorage,
+                             ThumbnailService thumbnailService,
+                             IssueDetailService issueDetailService,
+                             ContentLocks contentLocks,
+                             PlatformTransactionManager transactionManager) {
+        this.attachmentRepository = attachmentRepository;
+        this.issueRepository = issueRepository;
+        this.userRepository = userRepository;
+        this.contentSpooler = contentSpooler;
+        this.attachmentStorage = attachmentStorage;
+        this.thumbnailService = thumbnailService;
+        this.issueDetailService = issueDetailService;
+        this.contentLocks = contentLocks;
+        this.blobTransaction = new TransactionTemplate(transactionManager);
+        // Blob collection runs from afterCommit, where joining would reuse the finished transaction
+        this.blobTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * Streams the upload to a temp file, then hands it to the storage under its hash. Spooling
+     * runs outside a transaction so no connection is held while the client is still sending bytes;
+     * storing the blob and saving the row then happen under the hash's {@link ContentLocks lock},
+     * so a concurrent delete cannot collect the blob before the new row is visible.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public AttachmentDto upload(UUID issueId, UUID uploaderId, String originalFilename,
+                                String contentType, InputStream content) throws IOException {
+        if (!issueRepository.existsById(issueId)) {
+            throw new RuntimeException("Issue not found with id: " + issueId);
+        }
+        if (!userRepository.existsById(uploaderId)) {
+            throw new RuntimeException("User not found with id: " + uploaderId);
+        }
+
+        Attachment draft = new Attachment();
+        draft.setIssue(issueRepository.getReferenceById(issueId));
+        draft.setUploadedBy(userRepository.getReferenceById(uploaderId));
+        draft.setOriginalFilename(sanitizeFilename(originalFilename));
+        draft.setContentType(normalizeContentType(contentType));
+        draft.setIsImage(draft.getContentType().startsWith("image/"));
+
+        String sha256;
+        long size;
+        boolean[] created = new boolean[1];
+        Attachment attachment;
+        try (SpooledContent spooled = contentSpooler.spool(content)) {
+            sha256 = spooled.getSha256();
+            size = spooled.getSize();
+            draft.setFilename(sha256);
+            draft.setFilePath(AttachmentStorage.keyFor(sha256));
+            draft.setContentSha256(sha256);
+            draft.setFileSize(size);
+            try {
+                attachment = blobTransaction.execute(status -> {
+                    contentLocks.lock(sha256);
+                    try {
+                        created[0] = attachmentStorage.put(sha256, spooled.getFile());
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                    return attachmentRepository.save(draft);
+                });
+            } catch (RuntimeException e) {
+                if (created[0]) {
+                    deleteBlobIfUnreferenced(sha256);
+                }
+                if (e instanceof UncheckedIOException io) {
+                    throw io.getCause();
+                }
+                throw e;
+            }
+        }
+
+        issueDetailService.evict(issueId);
+        if (attachment.getIsImage()) {
+            thumbnailService.enqueue(sha256);
+        }
+
+        log.info("Attachment {} uploaded to issue {} ({} bytes, {})", attachment.getId(), issueId, size,
+                created[0] ? "new blob" : "deduplicated");
+        return toDto(attachment, issueId, uploaderId);
+    }
+
+    @Transactional(readOnly = true)
+    public List<AttachmentDto> findByIssueId(UUID issueId) {
+        return attachmentRepository.findByIssueId(issueId).stream()
+                .map(a -> toDto(a, a.getIssue().getId(), a.getUploadedBy().getId()))
+                .toList();
+    }
+
+    @Transactional(readOnly = true)
+    public Attachment getAttachment(UUID id) {
+        return attachmentRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Attachment not found with id: " + id));
+    }
+
+    public void transferTo(Attachment attachment, long position, long count, WritableByteChannel target) throws IOException {
+        attachmentStorage.transferTo(attachment.getContentSha256(), position, count, target);
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<ThumbnailContent> findThumbnail(Attachment attachment, Integer size) {
+        return thumbnailService.find(attachment.getContentSha256(), size);
+    }
+
+    public boolean isThumbnailPending(Attachment attachment) {
+        return thumbnailService.isPending(attachment.getContentSha256());
+    }
+
+    public void deleteAttachment(UUID id) {
+        Attachment attachment = getAttachment(id);
+        String sha256 = attachment.getContentSha256();
+        UUID issueId = attachment.getIssue().getId();
+        attachmentRepository.delete(attachment);
+        log.info("Attachment {} deleted", id);
+
+        // The blob may be shared with other attachments; only drop it once the last one is gone
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                issueDetailService.evict(issueId);
+                deleteBlobIfUnreferenced(sha256);
+            }
+        });
+    }
+
+    private void deleteBlobIfUnreferenced(String sha256) {
+        try {
+            blobTransaction.executeWithoutResult(status -> {
+                // Under the same lock as upload, so a row saved concurrently is counted here
+                contentLocks.lock(sha256);
+                if (attachmentRepository.countByContentSha256(sha256) == 0) {
+                    thumbnailService.purge(sha256);
+                    try {
+                        attachmentStorage.delete(sha256);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }
+            });
+        } catch (RuntimeException e) {
+            log.warn("Could not delete attachment blob {}: {}", sha256, e.getMessage());
+        }
+    }
+
+    private static String normalizeContentType(String contentType) {
+        if (!StringUtils.hasText(contentType)) {
+            return DEFAULT_CONTENT_TYPE;
+        }
+        try {
+            return MediaType.parseMediaType(contentType).toString();
+        } catch (InvalidMediaTypeException e) {
+            return DEFAULT_CONTENT_TYPE;
+        }
+    }
+
+    private static String sanitizeFilename(String filename) {
+        if (!StringUtils.hasText(filename)) {
+            return "file";
+        }
+        // Browsers may send a full client path; keep only the last segment
+        String name = filename.substring(Math.max(filename.lastIndexOf('/'), filename.lastIndexOf('\\')) + 1);
+        if (!StringUtils.hasText(name)) {
+            return "file";
+        }
+        return name.length() > 255 ? name.substring(name.length() - 255) : name;
+    }
+
+    private static AttachmentDto toDto(Attachment attachment, UUID issueId, UUID uploaderId) {
+        return new AttachmentDto(
+                attachment.getId(),
+                issueId,
+                attachment.getOriginalFilename(),
+                attachment.getContentType(),
+                attachment.getFileSize(),
+                attachment.getContentSha256(),
+                attachment.getIsImage(),
+                uploaderId,
+                attachment.getCreatedAt());
+    }
+}
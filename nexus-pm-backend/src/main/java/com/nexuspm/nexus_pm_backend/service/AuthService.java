@@ -5,7 +5,9 @@ import com.nexuspm.nexus_pm_backend.dto.LoginRequest;
 import com.nexuspm.nexus_pm_backend.dto.SignupRequest;
 import com.nexuspm.nexus_pm_backend.dto.UserInfoDto;
 import com.nexuspm.nexus_pm_backend.model.User;
+import com.nexuspm.nexus_pm_backend.security.JwtPrincipal;
 import com.nexuspm.nexus_pm_backend.security.JwtTokenUtil;
+import io.micrometer.core.annotation.Timed;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -21,7 +23,8 @@ import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
 
-// @Slf4j
+@Slf4j
+@Timed("service.calls")
 // @Service
 // @Transactional
 public class AuthService {
@@ -135,9 +138,14 @@ public class AuthService {
 
     public Map<String, Object> refreshToken(String refreshToken) {
         try {
-            if (jwtTokenUtil.validateToken(refreshToken)) {
-                String username = jwtTokenUtil.getUsernameFromToken(refreshToken);
-                UserDetails userDetails = userService.loadUserByUsername(username);
+            JwtPrincipal principal = jwtTokenUtil.verifyToken(refreshToken);
+            User user = userService.findById(principal.getUserId())
+                    .orElseThrow(() -> new RuntimeException("Invalid refresh token"));
+            
+            // Refresh tokens issued before a password change or "log out everywhere" are dead
+            if (Boolean.TRUE.equals(user.getIsActive()) && user.getSecurityStamp() == principal.getSecurityStamp()) {
+                String username = user.getEmail();
+                UserDetails userDetails = user;
                 
                 String newAccessToken = jwtTokenUtil.generateToken(userDetails);
                 
@@ -156,6 +164,14 @@ public class AuthService {
         }
     }
 
+    public void logoutEverywhere(String email) {
+        User user = userService.findByEmail(email)
+                .orElseThrow(() -> new RuntimeException("User not found"));
+        
+        userService.revokeTokens(user.getId());
+        log.info("Revoked all sessions for user: {}", email);
+    }
+
     @Transactional(readOnly = true)
     public UserInfoDto getCurrentUser(String email) {
         User user = userService.findByEmail(email)
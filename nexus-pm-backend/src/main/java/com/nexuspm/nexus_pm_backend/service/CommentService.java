@@ -0,0 +1,190 @@
+package com.nexuspm.nexus_pm_backend.service;
+
+import com.nexuspm.nexus_pm_backend.dto.CommentDto;
+import com.nexuspm.nexus_pm_backend.dto.CommentRequest;
+import com.nexuspm.nexus_pm_backend.event.CommentChangedEvent;
+import com.nexuspm.nexus_pm_backend.model.Comment;
+import com.nexuspm.nexus_pm_backend.model.Issue;
+import com.nexuspm.nexus_pm_backend.model.User;
+import com.nexuspm.nexus_pm_backend.repository.CommentRepository;
+import com.nexuspm.nexus_pm_backend.repository.CommentThreadRepository;
+import com.nexuspm.nexus_pm_backend.repository.IssueRepository;
+import com.nexuspm.nexus_pm_backend.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Comment threads are read as flat rows (author joined in) and assembled into trees in memory,
+ * so loading a thread costs a fixed number of queries regardless of how deep replies nest.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class CommentService {
+
+    private final CommentRepository commentRepository;
+    private final CommentThreadRepository commentThreadRepository;
+    private final IssueRepository issueRepository;
+    private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${app.comments.max-depth:50}")
+    private int maxDepth;
+
+    /**
+     * One page of top-level comments with their reply counts, and with every reply beneath them
+     * when {@code includeReplies} is set. Three queries: the page, its count, and one CTE.
+     */
+    @Transactional(readOnly = true)
+    public Page<CommentDto> getThreads(UUID issueId, boolean includeInternal, boolean includeReplies, int page, int size) {
+        Page<CommentDto> roots = commentRepository.findTopLevelDtosByIssueId(issueId, includeInternal, PageRequest.of(page, size));
+        List<UUID> rootIds = roots.getContent().stream().map(CommentDto::getId).toList();
+        if (includeReplies) {
+            assemble(roots.getContent(), commentThreadRepository.findDescendants(rootIds, includeInternal, maxDepth));
+        } else {
+            Map<UUID, Long> counts = commentThreadRepository.countDescendants(rootIds, includeInternal, maxDepth);
+            roots.getContent().forEach(root -> root.setReplyCount(counts.getOrDefault(root.getId(), 0L)));
+        }
+        return roots;
+    }
+
+    /**
+     * The entire thread of an issue in a single query; fine for typical issues, prefer
+     * {@link #getThreads} when an issue has thousands of comments.
+     */
+    @Transactional(readOnly = true)
+    public List<CommentDto> getThread(UUID issueId, boolean includeInternal) {
+        List<CommentDto> rows = commentRepository.findDtosByIssueId(issueId, includeInternal);
+        List<CommentDto> roots = new ArrayList<>();
+        List<CommentDto> replies = new ArrayList<>();
+        for (CommentDto row : rows) {
+            (row.getParentId() == null ? roots : replies).add(row);
+        }
+        assemble(roots, replies);
+        return roots;
+    }
+
+    /**
+     * Replies at any depth below one comment, for expanding a collapsed thread.
+     */
+    @Transactional(readOnly = true)
+    public List<CommentDto> getReplies(UUID commentId, boolean includeInternal) {
+        if (!commentRepository.existsById(commentId)) {
+            throw new RuntimeException("Comment not found with id: " + commentId);
+        }
+        CommentDto anchor = new CommentDto();
+        anchor.setId(commentId);
+        assemble(List.of(anchor), commentThreadRepository.findDescendants(List.of(commentId), includeInternal, maxDepth));
+        return anchor.getReplies();
+    }
+
+    public CommentDto addComment(UUID authorId, CommentRequest request) {
+        Issue issue = issueRepository.findById(request.getIssueId())
+                .orElseThrow(() -> new RuntimeException("Issue not found with id: " + request.getIssueId()));
+        User author = userRepository.findById(authorId)
+                .orElseThrow(() -> new RuntimeException("User not found with id: " + authorId));
+
+        Comment comment = new Comment();
+        comment.setIssue(issue);
+        comment.setAuthor(author);
+        comment.setContent(request.getContent());
+        comment.setIsInternal(Boolean.TRUE.equals(request.getIsInternal()));
+        if (request.getParentId() != null) {
+            Comment parent = commentRepository.findById(request.getParentId())
+                    .orElseThrow(() -> new RuntimeException("Comment not found with id: " + request.getParentId()));
+            if (!parent.getIssue().getId().equals(issue.getId())) {
+                throw new RuntimeException("Parent comment belongs to a different issue");
+            }
+            comment.setParent(parent);
+        }
+
+        Comment saved = commentRepository.save(comment);
+        log.info("Comment {} added to issue {}", saved.getId(), issue.getId());
+        publish(saved, CommentChangedEvent.ChangeType.CREATED);
+        return toDto(saved);
+    }
+
+    public CommentDto updateComment(UUID id, String content) {
+        if (!StringUtils.hasText(content)) {
+            throw new RuntimeException("Content is required");
+        }
+        Comment comment = getComment(id);
+        comment.setContent(content);
+        Comment saved = commentRepository.save(comment);
+        log.info("Comment {} updated", id);
+        publish(saved, CommentChangedEvent.ChangeType.UPDATED);
+        return toDto(saved);
+    }
+
+    public void deleteComment(UUID id) {
+        Comment comment = getComment(id);
+        publish(comment, CommentChangedEvent.ChangeType.DELETED);
+        // Replies go with it through ON DELETE CASCADE on parent_id
+        commentRepository.delete(comment);
+        log.info("Comment {} deleted", id);
+    }
+
+    private Comment getComment(UUID id) {
+        return commentRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Comment not found with id: " + id));
+    }
+
+    /**
+     * Hangs {@code replies} (parents before children) under {@code roots} and fills in reply
+     * counts. Replies whose parent is not in the set are dropped.
+     */
+    private static void assemble(List<CommentDto> roots, List<CommentDto> replies) {
+        Map<UUID, CommentDto> byId = new HashMap<>();
+        roots.forEach(root -> byId.put(root.getId(), root));
+        for (CommentDto reply : replies) {
+            CommentDto parent = byId.get(reply.getParentId());
+            if (parent != null) {
+                parent.getReplies().add(reply);
+                byId.put(reply.getId(), reply);
+            }
+        }
+        roots.forEach(CommentService::countReplies);
+    }
+
+    private static long countReplies(CommentDto comment) {
+        long count = 0;
+        for (CommentDto reply : comment.getReplies()) {
+            count += 1 + countReplies(reply);
+        }
+        comment.setReplyCount(count);
+        return count;
+    }
+
+    private void publish(Comment comment, CommentChangedEvent.ChangeType changeType) {
+        Issue issue = comment.getIssue();
+        eventPublisher.publishEvent(new CommentChangedEvent(comment.getId(), issue.getId(),
+                issue.getProject().getId(), changeType));
+    }
+
+    private static CommentDto toDto(Comment comment) {
+        User author = comment.getAuthor();
+        return new CommentDto(comment.getId(),
+                comment.getParent() != null ? comment.getParent().getId() : null,
+                comment.getContent(),
+                comment.getIsInternal(),
+                comment.getCreatedAt(),
+                comment.getUpdatedAt(),
+                author.getId(),
+                author.getFullName(),
+                author.getAvatarUrl());
+    }
+}
@@ -0,0 +1,98 @@
+package com.nexuspm.nexus_pm_backend.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Hi/lo allocator: each project gets its own in-memory block of numbers reserved from
+ * {@code project_issue_sequences}. Numbers inside a block are handed out lock-free; only
+ * the thread that exhausts a block goes to the database, and only for that project.
+ * Unused numbers of a block are lost on restart, so keys may have gaps.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.issue-keys.allocator", havingValue = "database", matchIfMissing = true)
+public class DatabaseIssueKeyAllocator implements IssueKeyAllocator {
+
+    private final IssueSequenceService sequenceService;
+    private final int blockSize;
+    private final ConcurrentMap<UUID, ProjectBlock> blocks = new ConcurrentHashMap<>();
+
+    public DatabaseIssueKeyAllocator(IssueSequenceService sequenceService,
+                                     @Value("${app.issue-keys.block-size:20}") int blockSize) {
+        this.sequenceService = sequenceService;
+        this.blockSize = Math.max(1, blockSize);
+    }
+
+    @Override
+    public long nextNumber(UUID projectId) {
+        ProjectBlock block = blocks.computeIfAbsent(projectId, id -> new ProjectBlock());
+        while (true) {
+            long next = block.tryNext();
+            if (next > 0) {
+                return next;
+            }
+            synchronized (block) {
+                if (block.isExhausted()) {
+                    long first = reserveFromDatabase(projectId, blockSize);
+                    block.refill(first, first + blockSize);
+                }
+            }
+        }
+    }
+
+    @Override
+    public long reserve(UUID projectId, int count) {
+        // Large reservations (bulk import) go straight to the sequence row instead of the local block
+        return reserveFromDatabase(projectId, count);
+    }
+
+    private long reserveFromDatabase(UUID projectId, int count) {
+        try {
+            return sequenceService.reserveBlock(projectId, count);
+        } catch (DataIntegrityViolationException e) {
+            // Another node seeded the sequence row concurrently; it exists now
+            log.debug("Issue sequence for project {} created concurrently, retrying", projectId);
+            return sequenceService.reserveBlock(projectId, count);
+        }
+    }
+
+    private static final class ProjectBlock {
+
+        private volatile Range current = new Range(0, 0);
+
+        long tryNext() {
+            Range range = current;
+            long next = range.cursor.getAndIncrement();
+            return next < range.limit ? next : -1;
+        }
+
+        boolean isExhausted() {
+            Range range = current;
+            return range.cursor.get() >= range.limit;
+        }
+
+        void refill(long first, long limit) {
+            current = new Range(first, limit);
+        }
+    }
+
+    private static final class Range {
+
+        private final AtomicLong cursor;
+        private final long limit;
+
+        Range(long first, long limit) {
+            this.cursor = new AtomicLong(first);
+            this.limit = limit;
+        }
+    }
+}
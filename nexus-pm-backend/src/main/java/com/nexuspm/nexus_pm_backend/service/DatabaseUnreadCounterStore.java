@@ -0,0 +1,64 @@
+package com.nexuspm.nexus_pm_backend.service;
+
+import com.nexuspm.nexus_pm_backend.repository.NotificationCounterRepository;
+import com.nexuspm.nexus_pm_backend.repository.NotificationRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Counters in the {@code notification_counters} table, updated in the same transaction as the
+ * notification rows so the two never disagree. Rows are created on first use.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.notifications.counter-store", havingValue = "database", matchIfMissing = true)
+public class DatabaseUnreadCounterStore implements UnreadCounterStore {
+
+    private final NotificationCounterRepository counterRepository;
+    private final NotificationRepository notificationRepository;
+
+    @Override
+    @Transactional
+    public void increment(Collection<UUID> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        Set<UUID> missing = new HashSet<>(userIds);
+        missing.removeAll(counterRepository.findExistingUserIds(userIds));
+        missing.forEach(counterRepository::insertIfMissing);
+        counterRepository.increment(userIds, 1);
+    }
+
+    @Override
+    @Transactional
+    public void decrement(UUID userId, long count) {
+        if (count > 0) {
+            counterRepository.decrement(userId, count);
+        }
+    }
+
+    @Override
+    @Transactional
+    public void set(UUID userId, long count) {
+        counterRepository.insertIfMissing(userId);
+        counterRepository.set(userId, count);
+    }
+
+    @Override
+    @Transactional
+    public long get(UUID userId) {
+        // First read for a user seeds the row from the notifications table
+        return counterRepository.findUnreadCount(userId).orElseGet(() -> {
+            long count = notificationRepository.countUnreadByUserId(userId);
+            set(userId, count);
+            return count;
+        });
+    }
+}
@@ -0,0 +1,162 @@
+package com.nexuspm.nexus_pm_backend.service;
+
+import com.nexuspm.nexus_pm_backend.dto.NotificationDigest;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.stereotype.Component;
+import org.thymeleaf.TemplateEngine;
+import org.thymeleaf.context.Context;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Renders digests with the {@code mail/notification-digest} template and sends them in groups
+ * over a single SMTP connection each ({@link JavaMailSender#send(MimeMessage...)}), paced to
+ * {@code rate-per-second} so a large run does not trip the relay's limits. Messages the relay
+ * rejects, or a whole group when the connection fails, are retried with exponential backoff.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.mail.digest.enabled", havingValue = "true")
+public class DigestMailSender {
+
+    static final String TEMPLATE = "mail/notification-digest";
+
+    private final JavaMailSender mailSender;
+    private final TemplateEngine templateEngine;
+    private final String from;
+    private final String appUrl;
+    private final int messagesPerConnection;
+    private final long minIntervalNanos;
+    private final int maxAttempts;
+    private final long initialBackoffMs;
+    private long nextSendAt = System.nanoTime();
+
+    public DigestMailSender(JavaMailSender mailSender,
+                            TemplateEngine templateEngine,
+                            @Value("${app.mail.from:no-reply@nexuspm.local}") String from,
+                            @Value("${app.mail.app-url:http://localhost:3000}") String appUrl,
+                            @Value("${app.mail.messages-per-connection:50}") int messagesPerConnection,
+                            @Value("${app.mail.rate-per-second:10}") double ratePerSecond,
+                            @Value("${app.mail.max-attempts:3}") int maxAttempts,
+                            @Value("${app.mail.initial-backoff-ms:2000}") long initialBackoffMs) {
+        this.mailSender = mailSender;
+        this.templateEngine = templateEngine;
+        this.from = from;
+        this.appUrl = appUrl;
+        this.messagesPerConnection = Math.max(1, messagesPerConnection);
+        this.minIntervalNanos = ratePerSecond > 0 ? (long) (1_000_000_000L / ratePerSecond) : 0;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.initialBackoffMs = Math.max(0, initialBackoffMs);
+    }
+
+    /**
+     * Sends the digests and returns the users whose digest was accepted by the relay.
+     */
+    public Set<UUID> send(List<NotificationDigest> digests) {
+        Set<UUID> delivered = new HashSet<>();
+        for (int start = 0; start < digests.size(); start += messagesPerConnection) {
+            List<NotificationDigest> group = digests.subList(start, Math.min(digests.size(), start + messagesPerConnection));
+            delivered.addAll(sendGroup(group));
+        }
+        return delivered;
+    }
+
+    private Set<UUID> sendGroup(List<NotificationDigest> group) {
+        Map<MimeMessage, UUID> pending = new IdentityHashMap<>();
+        for (NotificationDigest digest : group) {
+            try {
+                pending.put(render(digest), digest.getUserId());
+            } catch (MessagingException | RuntimeException e) {
+                log.warn("Could not render digest for user {}: {}", digest.getUserId(), e.getMessage());
+            }
+        }
+
+        Set<UUID> delivered = new HashSet<>(pending.values());
+        for (int attempt = 1; !pending.isEmpty(); attempt++) {
+            List<MimeMessage> messages = new ArrayList<>(pending.keySet());
+            try {
+                throttle(messages.size());
+                mailSender.send(messages.toArray(new MimeMessage[0]));
+                return delivered;
+            } catch (MailSendException e) {
+                // Keep only the messages that failed; with a connection failure that is all of them
+                Map<Object, Exception> failed = e.getFailedMessages();
+                if (!failed.isEmpty()) {
+                    pending.keySet().retainAll(failed.keySet());
+                }
+                if (attempt >= maxAttempts) {
+                    break;
+                }
+                log.warn("Digest send attempt {} failed for {} messages, retrying: {}", attempt, pending.size(), e.getMessage());
+                if (!backoff(attempt)) {
+                    break;
+                }
+            } catch (MailException e) {
+                // Authentication or configuration problems will not fix themselves between retries
+                log.error("Digest send failed: {}", e.getMessage());
+                return Set.of();
+            }
+        }
+        delivered.removeAll(pending.values());
+        log.warn("Giving up on {} digests after {} attempts", pending.size(), maxAttempts);
+        return delivered;
+    }
+
+    MimeMessage render(NotificationDigest digest) throws MessagingException {
+        Context context = new Context();
+        context.setVariable("digest", digest);
+        context.setVariable("appUrl", appUrl);
+        String html = templateEngine.process(TEMPLATE, context);
+
+        MimeMessage message = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, false, StandardCharsets.UTF_8.name());
+        helper.setFrom(from);
+        helper.setTo(digest.getEmail());
+        helper.setSubject(digest.getTotalCount() == 1
+                ? "You have 1 new notification"
+                : "You have " + digest.getTotalCount() + " new notifications");
+        helper.setText(html, true);
+        return message;
+    }
+
+    private synchronized void throttle(int messages) {
+        if (minIntervalNanos == 0) {
+            return;
+        }
+        long now = System.nanoTime();
+        long waitNanos = nextSendAt - now;
+        nextSendAt = Math.max(now, nextSendAt) + minIntervalNanos * messages;
+        if (waitNanos > 0) {
+            sleep(waitNanos / 1_000_000L);
+        }
+    }
+
+    private boolean backoff(int attempt) {
+        return sleep(initialBackoffMs << (attempt - 1));
+    }
+
+    private static boolean sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
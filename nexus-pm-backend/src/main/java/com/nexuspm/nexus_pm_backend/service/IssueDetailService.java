@@ -0,0 +1,170 @@
+package com.nexuspm.nexus_pm_backend.service;
+
+import com.nexuspm.nexus_pm_backend.cache.CacheNames;
+import com.nexuspm.nexus_pm_backend.dto.IssueDetailDto;
+import com.nexuspm.nexus_pm_backend.event.CommentChangedEvent;
+import com.nexuspm.nexus_pm_backend.event.IssueChangedEvent;
+import com.nexuspm.nexus_pm_backend.model.Issue;
+import com.nexuspm.nexus_pm_backend.model.User;
+import com.nexuspm.nexus_pm_backend.repository.AttachmentRepository;
+import com.nexuspm.nexus_pm_backend.repository.CommentRepository;
+import com.nexuspm.nexus_pm_backend.repository.IssueRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Builds issue detail read models without fetch-joining several collections at once (which
+ * multiplies rows). The issue and its to-one references come from one query; each collection
+ * then comes from one IN-list query covering every requested issue, so the cost is six
+ * queries whether one issue or fifty are loaded. Single issues are cached and evicted per issue.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class IssueDetailService {
+
+    private final IssueRepository issueRepository;
+    private final CommentRepository commentRepository;
+    private final AttachmentRepository attachmentRepository;
+    private final CacheManager cacheManager;
+
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheNames.ISSUE_DETAIL, key = "#issueId")
+    public IssueDetailDto getIssueDetail(UUID issueId) {
+        List<IssueDetailDto> details = getIssueDetails(List.of(issueId));
+        if (details.isEmpty()) {
+            throw new RuntimeException("Issue not found with id: " + issueId);
+        }
+        return details.get(0);
+    }
+
+    /**
+     * Details for several issues at once, in no particular order; missing ids are skipped.
+     */
+    @Transactional(readOnly = true)
+    public List<IssueDetailDto> getIssueDetails(Collection<UUID> issueIds) {
+        if (issueIds.isEmpty()) {
+            return List.of();
+        }
+        List<Issue> issues = issueRepository.findWithReferencesByIdIn(issueIds);
+        if (issues.isEmpty()) {
+            return List.of();
+        }
+        List<UUID> ids = issues.stream().map(Issue::getId).toList();
+
+        Map<UUID, List<IssueDetailDto.LabelRef>> labels = new HashMap<>();
+        for (Object[] row : issueRepository.findLabelRowsByIssueIds(ids)) {
+            labels.computeIfAbsent((UUID) row[0], id -> new ArrayList<>())
+                    .add(new IssueDetailDto.LabelRef((UUID) row[1], (String) row[2], (String) row[3]));
+        }
+        Map<UUID, List<IssueDetailDto.UserRef>> watchers = new HashMap<>();
+        for (Object[] row : issueRepository.findWatcherRowsByIssueIds(ids)) {
+            watchers.computeIfAbsent((UUID) row[0], id -> new ArrayList<>())
+                    .add(new IssueDetailDto.UserRef((UUID) row[1], row[2] + " " + row[3], (String) row[4]));
+        }
+        Map<UUID, List<IssueDetailDto.IssueRef>> subtasks = new HashMap<>();
+        for (Object[] row : issueRepository.findSubtaskRowsByParentIds(ids)) {
+            subtasks.computeIfAbsent((UUID) row[0], id -> new ArrayList<>())
+                    .add(new IssueDetailDto.IssueRef((UUID) row[1], (String) row[2], (String) row[3], (Issue.IssueStatus) row[4]));
+        }
+        Map<UUID, List<IssueDetailDto.AttachmentRef>> attachments = new HashMap<>();
+        for (Object[] row : attachmentRepository.findRowsByIssueIds(ids)) {
+            attachments.computeIfAbsent((UUID) row[0], id -> new ArrayList<>())
+                    .add(new IssueDetailDto.AttachmentRef((UUID) row[1], (String) row[2], (String) row[3],
+                            (Long) row[4], (Boolean) row[5], (UUID) row[7], row[8] + " " + row[9],
+                            (LocalDateTime) row[6]));
+        }
+        Map<UUID, Long> commentCounts = new HashMap<>();
+        for (Object[] row : commentRepository.countByIssueIds(ids)) {
+            commentCounts.put((UUID) row[0], ((Number) row[1]).longValue());
+        }
+
+        return issues.stream()
+                .map(issue -> toDto(issue,
+                        subtasks.getOrDefault(issue.getId(), List.of()),
+                        labels.getOrDefault(issue.getId(), List.of()),
+                        watchers.getOrDefault(issue.getId(), List.of()),
+                        attachments.getOrDefault(issue.getId(), List.of()),
+                        commentCounts.getOrDefault(issue.getId(), 0L)))
+                .toList();
+    }
+
+    public void evict(UUID issueId) {
+        Cache cache = cacheManager.getCache(CacheNames.ISSUE_DETAIL);
+        if (cache != null) {
+            // evictIfPresent runs immediately; a plain evict would be deferred to a commit that already happened
+            cache.evictIfPresent(issueId);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onIssueChanged(IssueChangedEvent event) {
+        evict(event.getIssueId());
+        // The parent lists this issue among its subtasks
+        if (event.getParentId() != null) {
+            evict(event.getParentId());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCommentChanged(CommentChangedEvent event) {
+        evict(event.getIssueId());
+    }
+
+    private static IssueDetailDto toDto(Issue issue,
+                                        List<IssueDetailDto.IssueRef> subtasks,
+                                        List<IssueDetailDto.LabelRef> labels,
+                                        List<IssueDetailDto.UserRef> watchers,
+                                        List<IssueDetailDto.AttachmentRef> attachments,
+                                        long commentCount) {
+        Issue parent = issue.getParent();
+        return new IssueDetailDto(
+                issue.getId(),
+                issue.getKey(),
+                issue.getTitle(),
+                issue.getDescription(),
+                issue.getType(),
+                issue.getStatus(),
+                issue.getPriority(),
+                issue.getStoryPoints(),
+                issue.getEstimateHours(),
+                issue.getTimeSpentHours(),
+                issue.getResolution(),
+                issue.getDueDate(),
+                issue.getCreatedAt(),
+                issue.getUpdatedAt(),
+                issue.getResolvedAt(),
+                issue.getProject().getId(),
+                issue.getProject().getKey(),
+                issue.getProject().getName(),
+                toUserRef(issue.getReporter()),
+                toUserRef(issue.getAssignee()),
+                issue.getSprint() != null ? issue.getSprint().getId() : null,
+                issue.getSprint() != null ? issue.getSprint().getName() : null,
+                parent != null ? new IssueDetailDto.IssueRef(parent.getId(), parent.getKey(), parent.getTitle(), parent.getStatus()) : null,
+                List.copyOf(subtasks),
+                List.copyOf(labels),
+                List.copyOf(watchers),
+                List.copyOf(attachments),
+                commentCount);
+    }
+
+    private static IssueDetailDto.UserRef toUserRef(User user) {
+        return user != null ? new IssueDetailDto.UserRef(user.getId(), user.getFullName(), user.getAvatarUrl()) : null;
+    }
+}
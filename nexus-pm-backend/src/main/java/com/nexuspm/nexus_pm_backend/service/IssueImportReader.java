@@ -0,0 +1,199 @@
+package com.nexuspm.nexus_pm_backend.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.nexuspm.nexus_pm_backend.dto.IssueImportRow;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Pulls import rows one at a time from an NDJSON or CSV stream; nothing beyond the current
+ * record is held in memory.
+ */
+abstract class IssueImportReader implements Closeable {
+
+    protected final BufferedReader reader;
+    protected long lineNumber;
+
+    protected IssueImportReader(InputStream input) {
+        this.reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+    }
+
+    static IssueImportReader open(InputStream input, IssueImportService.Format format, ObjectMapper objectMapper) {
+        return format == IssueImportService.Format.CSV
+                ? new CsvReader(input)
+                : new NdjsonReader(input, objectMapper);
+    }
+
+    /**
+     * Returns the next row, or {@code null} at end of input.
+     */
+    abstract ParsedRow next() throws IOException;
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    static final class ParsedRow {
+        final long line;
+        final IssueImportRow row;
+        final String error;
+
+        ParsedRow(long line, IssueImportRow row, String error) {
+            this.line = line;
+            this.row = row;
+            this.error = error;
+        }
+    }
+
+    private static final class NdjsonReader extends IssueImportReader {
+
+        private final ObjectReader rowReader;
+
+        NdjsonReader(InputStream input, ObjectMapper objectMapper) {
+            super(input);
+            this.rowReader = objectMapper.readerFor(IssueImportRow.class)
+                    .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        }
+
+        @Override
+        ParsedRow next() throws IOException {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                try {
+                    return new ParsedRow(lineNumber, rowReader.readValue(line), null);
+                } catch (JsonProcessingException e) {
+                    return new ParsedRow(lineNumber, null, "Invalid JSON: " + e.getOriginalMessage());
+                }
+            }
+            return null;
+        }
+    }
+
+    private static final class CsvReader extends IssueImportReader {
+
+        private List<String> header;
+
+        CsvReader(InputStream input) {
+            super(input);
+        }
+
+        @Override
+        ParsedRow next() throws IOException {
+            if (header == null) {
+                List<String> names = readRecord();
+                if (names == null) {
+                    return null;
+                }
+                header = new ArrayList<>(names.size());
+                for (String name : names) {
+                    header.add(normalize(name));
+                }
+            }
+
+            List<String> values;
+            do {
+                values = readRecord();
+                if (values == null) {
+                    return null;
+                }
+            } while (values.size() == 1 && values.get(0).isBlank());
+
+            long recordLine = lineNumber;
+            if (values.size() > header.size()) {
+                return new ParsedRow(recordLine, null,
+                        "Expected at most " + header.size() + " columns but found " + values.size());
+            }
+
+            Map<String, String> fields = new HashMap<>();
+            for (int i = 0; i < values.size(); i++) {
+                fields.put(header.get(i), values.get(i));
+            }
+            return new ParsedRow(recordLine, toRow(fields), null);
+        }
+
+        // RFC 4180: quoted fields may contain commas, doubled quotes and line breaks
+        private List<String> readRecord() throws IOException {
+            int c = reader.read();
+            if (c == -1) {
+                return null;
+            }
+            lineNumber++;
+
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean quoted = false;
+            while (c != -1) {
+                if (quoted) {
+                    if (c == '"') {
+                        reader.mark(1);
+                        int following = reader.read();
+                        if (following == '"') {
+                            field.append('"');
+                        } else {
+                            quoted = false;
+                            if (following != -1) {
+                                reader.reset();
+                            }
+                        }
+                    } else {
+                        if (c == '\n') {
+                            lineNumber++;
+                        }
+                        field.append((char) c);
+                    }
+                } else if (c == '"' && field.length() == 0) {
+                    quoted = true;
+                } else if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else if (c == '\n') {
+                    break;
+                } else if (c != '\r') {
+                    field.append((char) c);
+                }
+                c = reader.read();
+            }
+            fields.add(field.toString());
+            return fields;
+        }
+
+        private static String normalize(String column) {
+            return column.trim().replace("_", "").replace("-", "").toLowerCase(Locale.ROOT);
+        }
+
+        private static IssueImportRow toRow(Map<String, String> fields) {
+            IssueImportRow row = new IssueImportRow();
+            row.setProjectId(fields.get("projectid"));
+            row.setProjectKey(fields.get("projectkey"));
+            row.setTitle(fields.get("title"));
+            row.setDescription(fields.get("description"));
+            row.setType(fields.get("type"));
+            row.setStatus(fields.get("status"));
+            row.setPriority(fields.get("priority"));
+            row.setStoryPoints(fields.get("storypoints"));
+            row.setEstimateHours(fields.get("estimatehours"));
+            row.setDueDate(fields.get("duedate"));
+            row.setReporterEmail(fields.get("reporteremail"));
+            row.setAssigneeEmail(fields.get("assigneeemail"));
+            return row;
+        }
+    }
+}
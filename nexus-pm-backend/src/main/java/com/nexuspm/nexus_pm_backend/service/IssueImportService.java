@@ -0,0 +1,406 @@
+package com.nexuspm.nexus_pm_backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nexuspm.nexus_pm_backend.dto.IssueImportResult;
+import com.nexuspm.nexus_pm_backend.dto.IssueImportRow;
+import com.nexuspm.nexus_pm_backend.event.IssueChangedEvent;
+import com.nexuspm.nexus_pm_backend.model.Issue;
+import com.nexuspm.nexus_pm_backend.model.Project;
+import com.nexuspm.nexus_pm_backend.model.User;
+import com.nexuspm.nexus_pm_backend.repository.ProjectRepository;
+import com.nexuspm.nexus_pm_backend.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Streams issues from NDJSON/CSV input into the database in batches. Each batch resolves its
+ * projects and users with one query each, reserves a key range per project and is written in
+ * its own transaction with JDBC batching ({@code hibernate.jdbc.batch_size}).
+ */
+@Slf4j
+@Service
+public class IssueImportService {
+
+    private static final int MAX_TRACKED_JOBS = 100;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final ProjectRepository projectRepository;
+    private final UserRepository userRepository;
+    private final IssueKeyAllocator issueKeyAllocator;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxReportedErrors;
+    private final Map<String, ImportJob> jobs = Collections.synchronizedMap(new LinkedHashMap<String, ImportJob>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, ImportJob> eldest) {
+            return size() > MAX_TRACKED_JOBS;
+        }
+    });
+
+    public IssueImportService(ProjectRepository projectRepository,
+                              UserRepository userRepository,
+                              IssueKeyAllocator issueKeyAllocator,
+                              ObjectMapper objectMapper,
+                              ApplicationEventPublisher eventPublisher,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${app.import.batch-size:500}") int batchSize,
+                              @Value("${app.import.max-reported-errors:1000}") int maxReportedErrors) {
+        this.projectRepository = projectRepository;
+        this.userRepository = userRepository;
+        this.issueKeyAllocator = issueKeyAllocator;
+        this.objectMapper = objectMapper;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = Math.max(1, batchSize);
+        this.maxReportedErrors = maxReportedErrors;
+    }
+
+    public IssueImportResult importIssues(InputStream input, Format format, UUID defaultProjectId,
+                                          UUID defaultReporterId, String jobId) {
+        ImportJob job = new ImportJob(jobId != null ? jobId : UUID.randomUUID().toString());
+        jobs.put(job.id, job);
+        ImportContext context = new ImportContext(defaultProjectId, defaultReporterId);
+        log.info("Starting issue import {} ({})", job.id, format);
+
+        try (IssueImportReader reader = IssueImportReader.open(input, format, objectMapper)) {
+            List<IssueImportReader.ParsedRow> batch = new ArrayList<>(batchSize);
+            IssueImportReader.ParsedRow parsed;
+            while ((parsed = reader.next()) != null) {
+                job.rowsRead.incrementAndGet();
+                if (parsed.error != null) {
+                    job.fail(parsed.line, parsed.error);
+                    continue;
+                }
+                batch.add(parsed);
+                if (batch.size() == batchSize) {
+                    writeBatch(batch, context, job);
+                    batch.clear();
+                }
+            }
+            if (!batch.isEmpty()) {
+                writeBatch(batch, context, job);
+            }
+            job.finish(IssueImportResult.ImportStatus.COMPLETED);
+        } catch (IOException | RuntimeException e) {
+            log.error("Issue import {} aborted: {}", job.id, e.getMessage());
+            job.fail(job.rowsRead.get(), "Import aborted: " + e.getMessage());
+            job.finish(IssueImportResult.ImportStatus.FAILED);
+        }
+
+        log.info("Finished issue import {}: {} imported, {} failed", job.id, job.imported.get(), job.failed.get());
+        return job.snapshot();
+    }
+
+    public Optional<IssueImportResult> getImportStatus(String jobId) {
+        return Optional.ofNullable(jobs.get(jobId)).map(ImportJob::snapshot);
+    }
+
+    private void writeBatch(List<IssueImportReader.ParsedRow> batch, ImportContext context, ImportJob job) {
+        try {
+            Integer written = transactionTemplate.execute(status -> persistBatch(batch, context, job));
+            job.imported.addAndGet(written != null ? written : 0);
+        } catch (RuntimeException e) {
+            // The whole batch was rolled back; rows rejected during validation were already counted
+            log.warn("Issue import {} batch ending at line {} failed: {}", job.id, batch.get(batch.size() - 1).line, e.getMessage());
+            for (IssueImportReader.ParsedRow parsed : batch) {
+                if (!job.isRejected(parsed.line)) {
+                    job.fail(parsed.line, "Batch write failed: " + e.getMessage());
+                }
+            }
+        } finally {
+            job.rejectedLines.clear();
+        }
+        log.debug("Issue import {} progress: {} rows read, {} imported, {} failed",
+                job.id, job.rowsRead.get(), job.imported.get(), job.failed.get());
+    }
+
+    private int persistBatch(List<IssueImportReader.ParsedRow> batch, ImportContext context, ImportJob job) {
+        resolveReferences(batch, context);
+
+        Map<UUID, List<Issue>> issuesByProject = new LinkedHashMap<>();
+        for (IssueImportReader.ParsedRow parsed : batch) {
+            try {
+                Issue issue = toIssue(parsed.row, context);
+                issuesByProject.computeIfAbsent(issue.getProject().getId(), id -> new ArrayList<>()).add(issue);
+            } catch (IllegalArgumentException e) {
+                job.reject(parsed.line, e.getMessage());
+            }
+        }
+
+        int written = 0;
+        for (Map.Entry<UUID, List<Issue>> entry : issuesByProject.entrySet()) {
+            List<Issue> issues = entry.getValue();
+            String projectKey = context.projectKeys.get(entry.getKey());
+            long number = issueKeyAllocator.reserve(entry.getKey(), issues.size());
+            for (Issue issue : issues) {
+                issue.setKey(projectKey + "-" + number++);
+                entityManager.persist(issue);
+                eventPublisher.publishEvent(new IssueChangedEvent(issue.getId(), entry.getKey(), null,
+                        IssueChangedEvent.ChangeType.CREATED));
+                written++;
+            }
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+        return written;
+    }
+
+    // Looks up only the projects and users this batch references that earlier batches have not seen
+    private void resolveReferences(List<IssueImportReader.ParsedRow> batch, ImportContext context) {
+        Set<UUID> projectIds = new HashSet<>();
+        Set<String> projectKeys = new HashSet<>();
+        Set<String> emails = new HashSet<>();
+        for (IssueImportReader.ParsedRow parsed : batch) {
+            IssueImportRow row = parsed.row;
+            UUID projectId = parseUuid(row.getProjectId());
+            if (projectId != null && !context.projectKeys.containsKey(projectId)) {
+                projectIds.add(projectId);
+            }
+            if (hasText(row.getProjectKey()) && !context.projectIdsByKey.containsKey(upper(row.getProjectKey()))) {
+                projectKeys.add(upper(row.getProjectKey()));
+            }
+            addEmail(emails, row.getReporterEmail(), context);
+            addEmail(emails, row.getAssigneeEmail(), context);
+        }
+        if (context.defaultProjectId != null && !context.projectKeys.containsKey(context.defaultProjectId)) {
+            projectIds.add(context.defaultProjectId);
+        }
+
+        if (!projectIds.isEmpty()) {
+            projectRepository.findAllById(projectIds).forEach(context::addProject);
+        }
+        if (!projectKeys.isEmpty()) {
+            projectRepository.findByKeyIn(projectKeys).forEach(context::addProject);
+        }
+        if (!emails.isEmpty()) {
+            for (User user : userRepository.findByEmailsIgnoreCase(emails)) {
+                context.userIdsByEmail.put(user.getEmail().toLowerCase(Locale.ROOT), user.getId());
+            }
+        }
+    }
+
+    private Issue toIssue(IssueImportRow row, ImportContext context) {
+        if (!hasText(row.getTitle())) {
+            throw new IllegalArgumentException("Title is required");
+        }
+
+        UUID projectId = resolveProjectId(row, context);
+        UUID reporterId = hasText(row.getReporterEmail())
+                ? resolveUserId(row.getReporterEmail(), context)
+                : context.defaultReporterId;
+        if (reporterId == null) {
+            throw new IllegalArgumentException("Reporter is required");
+        }
+
+        Issue issue = new Issue();
+        issue.setTitle(row.getTitle().trim());
+        issue.setDescription(row.getDescription());
+        issue.setProject(entityManager.getReference(Project.class, projectId));
+        issue.setReporter(entityManager.getReference(User.class, reporterId));
+        if (hasText(row.getAssigneeEmail())) {
+            issue.setAssignee(entityManager.getReference(User.class, resolveUserId(row.getAssigneeEmail(), context)));
+        }
+        if (hasText(row.getType())) {
+            issue.setType(parseEnum(Issue.IssueType.class, row.getType(), "type"));
+        }
+        if (hasText(row.getStatus())) {
+            issue.setStatus(parseEnum(Issue.IssueStatus.class, row.getStatus(), "status"));
+        }
+        if (hasText(row.getPriority())) {
+            issue.setPriority(parseEnum(Issue.IssuePriority.class, row.getPriority(), "priority"));
+        }
+        if (hasText(row.getStoryPoints())) {
+            issue.setStoryPoints(parseNumber(row.getStoryPoints(), "storyPoints").intValue());
+        }
+        if (hasText(row.getEstimateHours())) {
+            issue.setEstimateHours(parseNumber(row.getEstimateHours(), "estimateHours"));
+        }
+        if (hasText(row.getDueDate())) {
+            issue.setDueDate(parseDateTime(row.getDueDate()));
+        }
+        if (issue.getStatus() == Issue.IssueStatus.RESOLVED || issue.getStatus() == Issue.IssueStatus.CLOSED) {
+            issue.setResolvedAt(LocalDateTime.now());
+        }
+        return issue;
+    }
+
+    private UUID resolveProjectId(IssueImportRow row, ImportContext context) {
+        if (hasText(row.getProjectKey())) {
+            UUID projectId = context.projectIdsByKey.get(upper(row.getProjectKey()));
+            if (projectId == null) {
+                throw new IllegalArgumentException("Project not found with key: " + row.getProjectKey());
+            }
+            return projectId;
+        }
+        UUID projectId = hasText(row.getProjectId()) ? parseUuid(row.getProjectId()) : context.defaultProjectId;
+        if (projectId == null) {
+            throw new IllegalArgumentException(hasText(row.getProjectId())
+                    ? "Invalid project id: " + row.getProjectId()
+                    : "Project is required");
+        }
+        if (!context.projectKeys.containsKey(projectId)) {
+            throw new IllegalArgumentException("Project not found with id: " + projectId);
+        }
+        return projectId;
+    }
+
+    private UUID resolveUserId(String email, ImportContext context) {
+        UUID userId = context.userIdsByEmail.get(email.trim().toLowerCase(Locale.ROOT));
+        if (userId == null) {
+            throw new IllegalArgumentException("User not found with email: " + email);
+        }
+        return userId;
+    }
+
+    private static void addEmail(Set<String> emails, String email, ImportContext context) {
+        if (hasText(email)) {
+            String normalized = email.trim().toLowerCase(Locale.ROOT);
+            if (!context.userIdsByEmail.containsKey(normalized)) {
+                emails.add(normalized);
+            }
+        }
+    }
+
+    private static <E extends Enum<E>> E parseEnum(Class<E> type, String value, String field) {
+        try {
+            return Enum.valueOf(type, value.trim().toUpperCase(Locale.ROOT).replace(' ', '_'));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid " + field + ": " + value);
+        }
+    }
+
+    private static Double parseNumber(String value, String field) {
+        try {
+            return Double.valueOf(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid " + field + ": " + value);
+        }
+    }
+
+    private static LocalDateTime parseDateTime(String value) {
+        String text = value.trim();
+        try {
+            return text.length() == 10 ? LocalDate.parse(text).atStartOfDay() : LocalDateTime.parse(text);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid dueDate: " + value);
+        }
+    }
+
+    private static UUID parseUuid(String value) {
+        if (!hasText(value)) {
+            return null;
+        }
+        try {
+            return UUID.fromString(value.trim());
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.isBlank();
+    }
+
+    private static String upper(String value) {
+        return value.trim().toUpperCase(Locale.ROOT);
+    }
+
+    public enum Format {
+        NDJSON, CSV
+    }
+
+    private static final class ImportContext {
+        private final UUID defaultProjectId;
+        private final UUID defaultReporterId;
+        private final Map<UUID, String> projectKeys = new HashMap<>();
+        private final Map<String, UUID> projectIdsByKey = new HashMap<>();
+        private final Map<String, UUID> userIdsByEmail = new HashMap<>();
+
+        ImportContext(UUID defaultProjectId, UUID defaultReporterId) {
+            this.defaultProjectId = defaultProjectId;
+            this.defaultReporterId = defaultReporterId;
+        }
+
+        void addProject(Project project) {
+            projectKeys.put(project.getId(), project.getKey());
+            projectIdsByKey.put(upper(project.getKey()), project.getId());
+        }
+    }
+
+    private final class ImportJob {
+        private final String id;
+        private final LocalDateTime startedAt = LocalDateTime.now();
+        private final AtomicLong rowsRead = new AtomicLong();
+        private final AtomicLong imported = new AtomicLong();
+        private final AtomicLong failed = new AtomicLong();
+        private final List<IssueImportResult.RowError> errors = Collections.synchronizedList(new ArrayList<>());
+        private final Set<Long> rejectedLines = ConcurrentHashMap.newKeySet();
+        private volatile IssueImportResult.ImportStatus status = IssueImportResult.ImportStatus.RUNNING;
+        private volatile LocalDateTime finishedAt;
+
+        ImportJob(String id) {
+            this.id = id;
+        }
+
+        void fail(long line, String message) {
+            failed.incrementAndGet();
+            if (errors.size() < maxReportedErrors) {
+                errors.add(new IssueImportResult.RowError(line, message));
+            }
+        }
+
+        // Validation failures inside the current batch; remembered so a rollback does not count them twice
+        void reject(long line, String message) {
+            rejectedLines.add(line);
+            fail(line, message);
+        }
+
+        boolean isRejected(long line) {
+            return rejectedLines.contains(line);
+        }
+
+        void finish(IssueImportResult.ImportStatus finalStatus) {
+            finishedAt = LocalDateTime.now();
+            status = finalStatus;
+        }
+
+        IssueImportResult snapshot() {
+            List<IssueImportResult.RowError> reported;
+            synchronized (errors) {
+                reported = new ArrayList<>(errors);
+            }
+            return new IssueImportResult(id, status, rowsRead.get(), imported.get(), failed.get(),
+                    reported, failed.get() > reported.size(), startedAt, finishedAt);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.nexuspm.nexus_pm_backend.service;
+
+import java.util.UUID;
+
+/**
+ * Hands out the numeric part of issue keys ({@code KEY-<number>}) per project.
+ * Implementations must never return the same number twice for a project; gaps are allowed.
+ */
+public interface IssueKeyAllocator {
+
+    /**
+     * Returns the next issue number for the project.
+     */
+    long nextNumber(UUID projectId);
+
+    /**
+     * Reserves {@code count} consecutive issue numbers and returns the first one.
+     */
+    long reserve(UUID projectId, int count);
+}
@@ -0,0 +1,62 @@
+package com.nexuspm.nexus_pm_backend.service;
+
+import com.nexuspm.nexus_pm_backend.model.ProjectIssueSequence;
+import com.nexuspm.nexus_pm_backend.repository.IssueRepository;
+import com.nexuspm.nexus_pm_backend.repository.ProjectIssueSequenceRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.UUID;
+
+/**
+ * Row-level access to {@code project_issue_sequences}. Reservations run in their own short
+ * transaction so the row lock is released before the caller inserts its issues.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class IssueSequenceService {
+
+    private final ProjectIssueSequenceRepository sequenceRepository;
+    private final IssueRepository issueRepository;
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public long reserveBlock(UUID projectId, int count) {
+        if (count < 1) {
+            throw new IllegalArgumentException("Block size must be positive: " + count);
+        }
+
+        ProjectIssueSequence sequence = sequenceRepository.findByProjectIdForUpdate(projectId)
+                .orElseGet(() -> createFromExistingIssues(projectId));
+
+        long first = sequence.getNextValue();
+        sequence.setNextValue(first + count);
+        sequenceRepository.save(sequence);
+        log.debug("Reserved issue numbers {}..{} for project {}", first, first + count - 1, projectId);
+        return first;
+    }
+
+    /**
+     * Highest issue number that may already be in use for the project, used to seed external counters.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public long findHighestUsedNumber(UUID projectId) {
+        long fromSequence = sequenceRepository.findById(projectId)
+                .map(sequence -> sequence.getNextValue() - 1)
+                .orElse(0L);
+        Integer fromIssues = issueRepository.findMaxIssueNumberByProjectId(projectId);
+        return Math.max(fromSequence, fromIssues != null ? fromIssues : 0);
+    }
+
+    // Projects created before the sequence table existed are seeded once from their issues.
+    private ProjectIssueSequence createFromExistingIssues(UUID projectId) {
+        Integer maxNumber = issueRepository.findMaxIssueNumberByProjectId(projectId);
+        long nextValue = maxNumber != null ? maxNumber + 1L : 1L;
+        log.info("Initializing issue sequence for project {} at {}", projectId, nextValue);
+        // The inserted row stays locked by this transaction until the reservation commits
+        return sequenceRepository.saveAndFlush(new ProjectIssueSequence(projectId, nextValue));
+    }
+}
@@ -1,32 +1,55 @@
 package com.nexuspm.nexus_pm_backend.service;
 
+import com.nexuspm.nexus_pm_backend.dto.CursorPage;
+import com.nexuspm.nexus_pm_backend.dto.IssueSummaryDto;
+import com.nexuspm.nexus_pm_backend.event.IssueChangedEvent;
 import com.nexuspm.nexus_pm_backend.model.Issue;
 import com.nexuspm.nexus_pm_backend.model.Project;
 import com.nexuspm.nexus_pm_backend.model.Sprint;
 import com.nexuspm.nexus_pm_backend.model.User;
+import com.nexuspm.nexus_pm_backend.repository.LikePatterns;
 import com.nexuspm.nexus_pm_backend.repository.IssueRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 @Slf4j
+@Timed("service.calls")
 @Service
 @RequiredArgsConstructor
 @Transactional
 public class IssueService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final String FULLTEXT_MODE = "fulltext";
+
     private final IssueRepository issueRepository;
     private final ProjectService projectService;
     private final UserService userService;
     private final SprintService sprintService;
+    private final IssueKeyAllocator issueKeyAllocator;
+    private final SprintAggregateService sprintAggregateService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // like: portable LIKE scans; fulltext: tsvector/trigram indexes from V5 (Postgres only)
+    @Value("${app.search.sql-mode:like}")
+    private String sqlSearchMode;
 
     @Transactional(readOnly = true)
     public List<Issue> findAll() {
@@ -48,6 +71,30 @@ public class IssueService {
         return issueRepository.findByProjectId(projectId);
     }
 
+    /**
+     * Keyset-paginated listing ordered by (createdAt, id) descending. Each page is a bounded
+     * index range scan no matter how deep the client pages.
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<IssueSummaryDto> findIssueSummariesByProject(UUID projectId, String cursor, int size) {
+        int limit = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        // Fetch one extra row to learn whether another page exists
+        Pageable pageable = PageRequest.of(0, limit + 1);
+
+        List<IssueSummaryDto> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = issueRepository.findSummariesByProject(projectId, pageable);
+        } else {
+            CursorPosition position = decodeCursor(cursor);
+            rows = issueRepository.findSummariesByProjectAfter(projectId, position.createdAt(), position.id(), pageable);
+        }
+
+        boolean hasMore = rows.size() > limit;
+        List<IssueSummaryDto> items = hasMore ? new ArrayList<>(rows.subList(0, limit)) : rows;
+        String nextCursor = hasMore ? encodeCursor(items.get(items.size() - 1)) : null;
+        return new CursorPage<>(items, nextCursor, hasMore);
+    }
+
     @Transactional(readOnly = true)
     public List<Issue> findByAssigneeId(UUID assigneeId) {
         return issueRepository.findByAssigneeId(assigneeId);
@@ -65,6 +112,12 @@ public class IssueService {
 
     @Transactional(readOnly = true)
     public Page<Issue> searchIssuesByProject(UUID projectId, String search, Pageable pageable) {
+        if (FULLTEXT_MODE.equalsIgnoreCase(sqlSearchMode)) {
+            // Results come back in rank order, so the caller's sort is dropped
+            String text = search.trim();
+            return issueRepository.fullTextSearchIssuesByProject(projectId, text, LikePatterns.prefix(text),
+                    PageRequest.of(pageable.getPageNumber(), pageable.getPageSize()));
+        }
         return issueRepository.searchIssuesByProject(projectId, search, pageable);
     }
 
@@ -101,13 +154,16 @@ public class IssueService {
         }
 
         Issue savedIssue = issueRepository.save(issue);
+        sprintAggregateService.apply(null, SprintAggregateService.Contribution.of(savedIssue));
         log.info("Created issue {} in project {}", savedIssue.getKey(), project.getKey());
+        publish(savedIssue, IssueChangedEvent.ChangeType.CREATED);
         return savedIssue;
     }
 
     public Issue updateIssue(UUID issueId, Issue issueUpdate) {
         Issue existingIssue = issueRepository.findById(issueId)
                 .orElseThrow(() -> new RuntimeException("Issue not found with id: " + issueId));
+        SprintAggregateService.Contribution before = SprintAggregateService.Contribution.of(existingIssue);
 
         // Update allowed fields
         if (issueUpdate.getTitle() != null) {
@@ -136,7 +192,9 @@ public class IssueService {
         }
 
         Issue savedIssue = issueRepository.save(existingIssue);
+        sprintAggregateService.apply(before, SprintAggregateService.Contribution.of(savedIssue));
         log.info("Updated issue with id: {}", issueId);
+        publish(savedIssue, IssueChangedEvent.ChangeType.UPDATED);
         return savedIssue;
     }
 
@@ -145,6 +203,7 @@ public class IssueService {
                 .orElseThrow(() -> new RuntimeException("Issue not found with id: " + issueId));
 
         Issue.IssueStatus oldStatus = issue.getStatus();
+        SprintAggregateService.Contribution before = SprintAggregateService.Contribution.of(issue);
         issue.setStatus(status);
 
         // Set resolution timestamp
@@ -154,7 +213,9 @@ public class IssueService {
         }
 
         Issue savedIssue = issueRepository.save(issue);
+        sprintAggregateService.apply(before, SprintAggregateService.Contribution.of(savedIssue));
         log.info("Updated issue {} status from {} to {}", issue.getKey(), oldStatus, status);
+        publish(savedIssue, IssueChangedEvent.ChangeType.STATUS_CHANGED);
         return savedIssue;
     }
 
@@ -168,6 +229,7 @@ public class IssueService {
         issue.setAssignee(assignee);
         Issue savedIssue = issueRepository.save(issue);
         log.info("Assigned issue {} to user {}", issue.getKey(), assignee.getEmail());
+        publish(savedIssue, IssueChangedEvent.ChangeType.ASSIGNED);
         return savedIssue;
     }
 
@@ -179,12 +241,14 @@ public class IssueService {
         issue.setAssignee(null);
         Issue savedIssue = issueRepository.save(issue);
         log.info("Unassigned issue {} from user {}", issue.getKey(), previousAssignee);
+        publish(savedIssue, IssueChangedEvent.ChangeType.UNASSIGNED);
         return savedIssue;
     }
 
     public Issue moveIssueToSprint(UUID issueId, UUID sprintId) {
         Issue issue = issueRepository.findById(issueId)
                 .orElseThrow(() -> new RuntimeException("Issue not found with id: " + issueId));
+        SprintAggregateService.Contribution before = SprintAggregateService.Contribution.of(issue);
 
         if (sprintId != null) {
             Sprint sprint = sprintService.findById(sprintId)
@@ -196,7 +260,10 @@ public class IssueService {
             log.info("Moved issue {} to backlog", issue.getKey());
         }
 
-        return issueRepository.save(issue);
+        Issue savedIssue = issueRepository.save(issue);
+        sprintAggregateService.apply(before, SprintAggregateService.Contribution.of(savedIssue));
+        publish(savedIssue, IssueChangedEvent.ChangeType.MOVED);
+        return savedIssue;
     }
 
     public Issue addWatcher(UUID issueId, UUID userId) {
@@ -209,6 +276,7 @@ public class IssueService {
         issue.addWatcher(user);
         Issue savedIssue = issueRepository.save(issue);
         log.info("Added watcher {} to issue {}", user.getEmail(), issue.getKey());
+        publish(savedIssue, IssueChangedEvent.ChangeType.WATCHERS_CHANGED);
         return savedIssue;
     }
 
@@ -222,6 +290,7 @@ public class IssueService {
         issue.removeWatcher(user);
         Issue savedIssue = issueRepository.save(issue);
         log.info("Removed watcher {} from issue {}", user.getEmail(), issue.getKey());
+        publish(savedIssue, IssueChangedEvent.ChangeType.WATCHERS_CHANGED);
         return savedIssue;
     }
 
@@ -234,6 +303,7 @@ public class IssueService {
 
         Issue savedIssue = issueRepository.save(issue);
         log.info("Logged {} hours to issue {}", hoursSpent, issue.getKey());
+        publish(savedIssue, IssueChangedEvent.ChangeType.TIME_LOGGED);
         return savedIssue;
     }
 
@@ -241,8 +311,10 @@ public class IssueService {
         Issue issue = issueRepository.findById(issueId)
                 .orElseThrow(() -> new RuntimeException("Issue not found with id: " + issueId));
 
+        sprintAggregateService.apply(SprintAggregateService.Contribution.of(issue), null);
         issueRepository.delete(issue);
         log.info("Deleted issue with id: {}", issueId);
+        publish(issue, IssueChangedEvent.ChangeType.DELETED);
     }
 
     @Transactional(readOnly = true)
@@ -260,9 +332,37 @@ public class IssueService {
         return issueRepository.findWatchedIssuesByUserId(userId);
     }
 
+    private static String encodeCursor(IssueSummaryDto last) {
+        String position = last.getCreatedAt() + "|" + last.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(position.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @throws IllegalArgumentException for anything that is not a cursor this service issued
+     */
+    private static CursorPosition decodeCursor(String cursor) {
+        try {
+            String position = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = position.split("\\|", 2);
+            if (parts.length != 2) {
+                throw new IllegalArgumentException();
+            }
+            return new CursorPosition(LocalDateTime.parse(parts[0]), UUID.fromString(parts[1]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
+    }
+
+    private record CursorPosition(LocalDateTime createdAt, UUID id) {
+    }
+
+    private void publish(Issue issue, IssueChangedEvent.ChangeType changeType) {
+        UUID parentId = issue.getParent() != null ? issue.getParent().getId() : null;
+        eventPublisher.publishEvent(new IssueChangedEvent(issue.getId(), issue.getProject().getId(), parentId, changeType));
+    }
+
     private String generateIssueKey(Project project) {
-        Integer maxNumber = issueRepository.findMaxIssueNumberByProjectId(project.getId());
-        int nextNumber = maxNumber != null ? maxNumber + 1 : 1;
+        long nextNumber = issueKeyAllocator.nextNumber(project.getId());
         return project.getKey() + "-" + nextNumber;
     }
 }
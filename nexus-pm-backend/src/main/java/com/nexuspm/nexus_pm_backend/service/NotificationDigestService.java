@@ -0,0 +1,153 @@
+package com.nexuspm.nexus_pm_backend.service;
+
+import com.nexuspm.nexus_pm_backend.dto.NotificationDigest;
+import com.nexuspm.nexus_pm_backend.dto.NotificationDto;
+import com.nexuspm.nexus_pm_backend.model.Notification;
+import com.nexuspm.nexus_pm_backend.model.User;
+import com.nexuspm.nexus_pm_backend.repository.NotificationRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Emails unread notifications as one digest per user per window instead of one message per
+ * notification. A notification becomes eligible once it is {@code min-age} old, so anything
+ * read in the app shortly after arriving never goes out by mail. Users whose digest the relay
+ * rejects are backed off exponentially (in memory, so a restart gives them a fresh attempt).
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "app.mail.digest.enabled", havingValue = "true")
+public class NotificationDigestService {
+
+    private final NotificationRepository notificationRepository;
+    private final DigestMailSender digestMailSender;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Duration minAge;
+    private final int usersPerBatch;
+    private final int maxItems;
+    private final Duration failureBackoff;
+    private final Duration maxFailureBackoff;
+    private final Map<UUID, FailedAttempts> failedAttempts = new ConcurrentHashMap<>();
+
+    private record FailedAttempts(int count, LocalDateTime retryAt) {
+    }
+
+    public NotificationDigestService(NotificationRepository notificationRepository,
+                                     DigestMailSender digestMailSender,
+                                     PlatformTransactionManager transactionManager,
+                                     @Value("${app.mail.digest.min-age:10m}") Duration minAge,
+                                     @Value("${app.mail.digest.users-per-batch:200}") int usersPerBatch,
+                                     @Value("${app.mail.digest.max-items:20}") int maxItems,
+                                     @Value("${app.mail.digest.failure-backoff:1h}") Duration failureBackoff,
+                                     @Value("${app.mail.digest.max-failure-backoff:24h}") Duration maxFailureBackoff) {
+        this.notificationRepository = notificationRepository;
+        this.digestMailSender = digestMailSender;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.minAge = minAge;
+        this.usersPerBatch = Math.max(1, usersPerBatch);
+        this.maxItems = Math.max(1, maxItems);
+        this.failureBackoff = failureBackoff;
+        this.maxFailureBackoff = maxFailureBackoff;
+    }
+
+    @Scheduled(fixedDelayString = "${app.mail.digest.interval-ms:900000}")
+    public void sendDigests() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime cutoff = now.minus(minAge);
+        int sent = 0;
+        // Keyset paging by user id walks every candidate once, so users whose send fails
+        // (and who therefore stay candidates) cannot crowd out the rest
+        UUID lastUserId = null;
+        while (true) {
+            PageRequest page = PageRequest.of(0, usersPerBatch);
+            List<UUID> userIds = lastUserId == null
+                    ? notificationRepository.findUserIdsWithPendingEmail(cutoff, page)
+                    : notificationRepository.findUserIdsWithPendingEmailAfter(cutoff, lastUserId, page);
+            if (userIds.isEmpty()) {
+                break;
+            }
+            lastUserId = userIds.get(userIds.size() - 1);
+            List<UUID> due = userIds.stream().filter(id -> isDue(id, now)).toList();
+            if (!due.isEmpty()) {
+                sent += sendBatch(due, cutoff, now);
+            }
+            if (userIds.size() < usersPerBatch) {
+                break;
+            }
+        }
+        if (sent > 0) {
+            log.info("Sent {} notification digests", sent);
+        }
+    }
+
+    private int sendBatch(List<UUID> userIds, LocalDateTime cutoff, LocalDateTime now) {
+        List<NotificationDigest> digests = readOnlyTransaction.execute(status -> buildDigests(userIds, cutoff));
+        if (digests == null || digests.isEmpty()) {
+            return 0;
+        }
+        Set<UUID> delivered = digestMailSender.send(digests);
+        if (!delivered.isEmpty()) {
+            transactionTemplate.executeWithoutResult(status -> notificationRepository.markEmailSent(delivered, cutoff));
+        }
+        for (NotificationDigest digest : digests) {
+            if (delivered.contains(digest.getUserId())) {
+                failedAttempts.remove(digest.getUserId());
+            } else {
+                recordFailure(digest.getUserId(), now);
+            }
+        }
+        return delivered.size();
+    }
+
+    private boolean isDue(UUID userId, LocalDateTime now) {
+        FailedAttempts attempts = failedAttempts.get(userId);
+        return attempts == null || !now.isBefore(attempts.retryAt());
+    }
+
+    private void recordFailure(UUID userId, LocalDateTime now) {
+        FailedAttempts previous = failedAttempts.get(userId);
+        int count = previous == null ? 1 : previous.count() + 1;
+        Duration backoff = failureBackoff.multipliedBy(1L << Math.min(count - 1, 20));
+        if (backoff.compareTo(maxFailureBackoff) > 0) {
+            backoff = maxFailureBackoff;
+        }
+        failedAttempts.put(userId, new FailedAttempts(count, now.plus(backoff)));
+        log.warn("Digest for user {} failed {} time(s); retrying after {}", userId, count, backoff);
+    }
+
+    private List<NotificationDigest> buildDigests(List<UUID> userIds, LocalDateTime cutoff) {
+        Map<UUID, NotificationDigest> digests = new LinkedHashMap<>();
+        for (Notification notification : notificationRepository.findPendingEmailByUserIds(userIds, cutoff)) {
+            User user = notification.getUser();
+            NotificationDigest digest = digests.computeIfAbsent(user.getId(), id ->
+                    new NotificationDigest(id, user.getEmail(), user.getFullName(), new ArrayList<>(), 0));
+            digest.setTotalCount(digest.getTotalCount() + 1);
+            if (digest.getNotifications().size() < maxItems) {
+                digest.getNotifications().add(new NotificationDto(notification.getId(), notification.getTitle(),
+                        notification.getMessage(), notification.getType(), notification.getIsRead(),
+                        notification.getEntityType(), notification.getEntityId(), notification.getActionUrl(),
+                        notification.getCreatedAt(), notification.getReadAt()));
+            }
+        }
+        return new ArrayList<>(digests.values());
+    }
+}
@@ -0,0 +1,173 @@
+package com.nexuspm.nexus_pm_backend.service;
+
+import com.nexuspm.nexus_pm_backend.event.CommentChangedEvent;
+import com.nexuspm.nexus_pm_backend.event.IssueChangedEvent;
+import com.nexuspm.nexus_pm_backend.model.Notification;
+import com.nexuspm.nexus_pm_backend.repository.IssueRepository;
+import com.nexuspm.nexus_pm_backend.security.CurrentUser;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Creates notifications for the people involved in an issue (watchers, assignee, reporter,
+ * minus whoever made the change). Runs after commit on a small bounded pool so a change to an
+ * issue with hundreds of watchers costs the request nothing; each fan-out is one JDBC batch
+ * insert plus one relative counter update in a single transaction. When the pool's queue is
+ * full the publishing thread runs the fan-out itself, still in a transaction of its own.
+ */
+@Slf4j
+@Service
+public class NotificationFanoutService {
+
+    private static final String INSERT_SQL = "INSERT INTO notifications (id, user_id, type, title, message, " +
+            "entity_type, entity_id, is_read, is_email_sent, created_at) VALUES (?, ?, ?, ?, ?, ?, ?, false, false, ?)";
+
+    private final IssueRepository issueRepository;
+    private final UnreadCounterStore unreadCounterStore;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolTaskExecutor executor;
+    private final int batchSize;
+
+    public NotificationFanoutService(IssueRepository issueRepository,
+                                     UnreadCounterStore unreadCounterStore,
+                                     DataSource dataSource,
+                                     PlatformTransactionManager transactionManager,
+                                     @Value("${app.notifications.fanout-threads:2}") int threads,
+                                     @Value("${app.notifications.queue-capacity:5000}") int queueCapacity,
+                                     @Value("${app.notifications.batch-size:500}") int batchSize) {
+        this.issueRepository = issueRepository;
+        this.unreadCounterStore = unreadCounterStore;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        // With CallerRunsPolicy fanOut can run inside the publisher's afterCommit callback, where
+        // joining would write into the transaction that has already committed
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.batchSize = Math.max(1, batchSize);
+
+        this.executor = new ThreadPoolTaskExecutor();
+        this.executor.setCorePoolSize(Math.max(1, threads));
+        this.executor.setMaxPoolSize(Math.max(1, threads));
+        this.executor.setQueueCapacity(Math.max(1, queueCapacity));
+        this.executor.setThreadNamePrefix("notify-");
+        this.executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        this.executor.setWaitForTasksToCompleteOnShutdown(true);
+        this.executor.setAwaitTerminationSeconds(30);
+        this.executor.initialize();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onIssueChanged(IssueChangedEvent event) {
+        Notification.NotificationType type = switch (event.getChangeType()) {
+            case CREATED, UPDATED, MOVED -> Notification.NotificationType.INFO;
+            case STATUS_CHANGED -> Notification.NotificationType.STATUS_CHANGE;
+            case ASSIGNED, UNASSIGNED -> Notification.NotificationType.ASSIGNMENT;
+            // Nothing to tell watchers about, or nothing left to link to
+            case WATCHERS_CHANGED, TIME_LOGGED, DELETED -> null;
+        };
+        if (type != null) {
+            submit(event.getIssueId(), type, verb(event.getChangeType()));
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCommentChanged(CommentChangedEvent event) {
+        if (event.getChangeType() == CommentChangedEvent.ChangeType.CREATED) {
+            submit(event.getIssueId(), Notification.NotificationType.COMMENT, "has a new comment");
+        }
+    }
+
+    private void submit(UUID issueId, Notification.NotificationType type, String verb) {
+        // Captured here: the pool thread has no security context
+        UUID actorId = CurrentUser.id();
+        executor.execute(() -> {
+            try {
+                int sent = fanOut(issueId, type, verb, actorId);
+                if (sent > 0) {
+                    log.debug("Sent {} {} notifications for issue {}", sent, type, issueId);
+                }
+            } catch (RuntimeException e) {
+                log.warn("Notification fan-out failed for issue {}: {}", issueId, e.getMessage());
+            }
+        });
+    }
+
+    int fanOut(UUID issueId, Notification.NotificationType type, String verb, UUID actorId) {
+        Integer sent = transactionTemplate.execute(status -> {
+            List<Object[]> header = issueRepository.findNotificationHeader(issueId);
+            if (header.isEmpty()) {
+                // Deleted before we got to it
+                return 0;
+            }
+            Object[] row = header.get(0);
+            String key = (String) row[0];
+            String issueTitle = (String) row[1];
+
+            Set<UUID> recipients = new LinkedHashSet<>(issueRepository.findActiveWatcherIds(issueId));
+            if (row[2] != null) {
+                recipients.add((UUID) row[2]);
+            }
+            if (row[3] != null) {
+                recipients.add((UUID) row[3]);
+            }
+            if (actorId != null) {
+                recipients.remove(actorId);
+            }
+            if (recipients.isEmpty()) {
+                return 0;
+            }
+
+            String title = key + " " + verb;
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            List<UUID> recipientList = new ArrayList<>(recipients);
+            jdbcTemplate.batchUpdate(INSERT_SQL, recipientList, batchSize, (ps, userId) -> {
+                ps.setObject(1, UUID.randomUUID());
+                ps.setObject(2, userId);
+                ps.setString(3, type.name());
+                ps.setString(4, title);
+                ps.setString(5, issueTitle);
+                ps.setString(6, "ISSUE");
+                ps.setString(7, issueId.toString());
+                ps.setTimestamp(8, now);
+            });
+            unreadCounterStore.increment(recipientList);
+            return recipientList.size();
+        });
+        return sent != null ? sent : 0;
+    }
+
+    private static String verb(IssueChangedEvent.ChangeType changeType) {
+        return switch (changeType) {
+            case CREATED -> "was created";
+            case STATUS_CHANGED -> "changed status";
+            case ASSIGNED -> "was assigned";
+            case UNASSIGNED -> "was unassigned";
+            case MOVED -> "was moved";
+            default -> "was updated";
+        };
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,61 @@
+package com.nexuspm.nexus_pm_backend.service;
+
+import com.nexuspm.nexus_pm_backend.dto.NotificationDto;
+import com.nexuspm.nexus_pm_backend.repository.NotificationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class NotificationService {
+
+    private final NotificationRepository notificationRepository;
+    private final UnreadCounterStore unreadCounterStore;
+
+    @Transactional(readOnly = true)
+    public Page<NotificationDto> findByUserId(UUID userId, boolean unreadOnly, int page, int size) {
+        return notificationRepository.findDtosByUserId(userId, unreadOnly,
+                PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt")));
+    }
+
+    public long getUnreadCount(UUID userId) {
+        return unreadCounterStore.get(userId);
+    }
+
+    public int markAsRead(UUID userId, List<UUID> notificationIds) {
+        if (notificationIds == null || notificationIds.isEmpty()) {
+            return 0;
+        }
+        int updated = notificationRepository.markAsReadByUserIdAndIds(userId, notificationIds, LocalDateTime.now());
+        unreadCounterStore.decrement(userId, updated);
+        return updated;
+    }
+
+    public int markAllAsRead(UUID userId) {
+        // Decrement rather than reset: a notification inserted meanwhile stays counted
+        int updated = notificationRepository.markAllAsReadByUserId(userId, LocalDateTime.now());
+        unreadCounterStore.decrement(userId, updated);
+        log.info("Marked {} notifications as read for user {}", updated, userId);
+        return updated;
+    }
+
+    /**
+     * Rebuilds the counter from the notifications table, for repairing drift.
+     */
+    public long recountUnread(UUID userId) {
+        long count = notificationRepository.countUnreadByUserId(userId);
+        unreadCounterStore.set(userId, count);
+        return count;
+    }
+}
@@ -1,13 +1,25 @@
 package com.nexuspm.nexus_pm_backend.service;
 
+import com.nexuspm.nexus_pm_backend.cache.CacheNames;
+import com.nexuspm.nexus_pm_backend.event.ProjectMemberChangedEvent;
 import com.nexuspm.nexus_pm_backend.model.Project;
+import com.nexuspm.nexus_pm_backend.model.ProjectIssueSequence;
 import com.nexuspm.nexus_pm_backend.model.ProjectMember;
 import com.nexuspm.nexus_pm_backend.model.User;
+import com.nexuspm.nexus_pm_backend.repository.ProjectIssueSequenceRepository;
 import com.nexuspm.nexus_pm_backend.repository.ProjectRepository;
+import com.nexuspm.nexus_pm_backend.repository.LikePatterns;
 import com.nexuspm.nexus_pm_backend.repository.ProjectMemberRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -18,14 +30,23 @@ import java.util.Optional;
 import java.util.UUID;
 
 @Slf4j
+@Timed("service.calls")
 @Service
 @RequiredArgsConstructor
 @Transactional
 public class ProjectService {
 
+    private static final String FULLTEXT_MODE = "fulltext";
+
     private final ProjectRepository projectRepository;
     private final ProjectMemberRepository projectMemberRepository;
+    private final ProjectIssueSequenceRepository issueSequenceRepository;
     private final UserService userService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // like: portable LIKE scans; fulltext: tsvector/trigram indexes from V5 (Postgres only)
+    @Value("${app.search.sql-mode:like}")
+    private String sqlSearchMode;
 
     @Transactional(readOnly = true)
     public List<Project> findAll() {
@@ -54,6 +75,12 @@ public class ProjectService {
 
     @Transactional(readOnly = true)
     public Page<Project> searchProjects(String search, Pageable pageable) {
+        if (FULLTEXT_MODE.equalsIgnoreCase(sqlSearchMode)) {
+            // Results come back in rank order, so the caller's sort is dropped
+            String text = search.trim();
+            return projectRepository.fullTextSearchProjects(text, LikePatterns.prefix(text),
+                    PageRequest.of(pageable.getPageNumber(), pageable.getPageSize()));
+        }
         return projectRepository.searchProjects(search, pageable);
     }
 
@@ -89,6 +116,9 @@ public class ProjectService {
         leadMember.setRole(ProjectMember.MemberRole.LEAD);
         projectMemberRepository.save(leadMember);
 
+        // Start issue numbering at 1
+        issueSequenceRepository.save(new ProjectIssueSequence(savedProject.getId(), 1L));
+
         log.info("Created project {} with key {}", savedProject.getName(), savedProject.getKey());
         return savedProject;
     }
@@ -153,15 +183,24 @@ public class ProjectService {
         return updateProjectStatus(projectId, Project.ProjectStatus.COMPLETED);
     }
 
+    @CacheEvict(cacheNames = {CacheNames.PROJECT_MEMBERSHIP, CacheNames.ACTIVE_SPRINT_IDS, CacheNames.PROJECT_SUMMARY},
+            allEntries = true)
     public void deleteProject(UUID projectId) {
         Project project = projectRepository.findById(projectId)
                 .orElseThrow(() -> new RuntimeException("Project not found with id: " + projectId));
 
+        // Before the project: on Flyway schemas the FK cascade would otherwise remove the row
+        // first and this delete would hit a row count of zero at flush
+        issueSequenceRepository.deleteById(projectId);
         projectRepository.delete(project);
         log.info("Deleted project with id: {}", projectId);
     }
 
     // Project Members Management
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheNames.PROJECT_MEMBERSHIP, key = "#projectId + ':' + #userId"),
+            @CacheEvict(cacheNames = CacheNames.PROJECT_SUMMARY, key = "#projectId")
+    })
     public ProjectMember addMemberToProject(UUID projectId, UUID userId, ProjectMember.MemberRole role) {
         Project project = projectRepository.findById(projectId)
                 .orElseThrow(() -> new RuntimeException("Project not found with id: " + projectId));
@@ -180,6 +219,7 @@ public class ProjectService {
         member.setRole(role);
 
         ProjectMember savedMember = projectMemberRepository.save(member);
+        eventPublisher.publishEvent(new ProjectMemberChangedEvent(projectId, userId, ProjectMemberChangedEvent.ChangeType.ADDED));
         log.info("Added user {} to project {} with role {}", userId, projectId, role);
         return savedMember;
     }
@@ -190,10 +230,15 @@ public class ProjectService {
 
         member.setRole(newRole);
         ProjectMember savedMember = projectMemberRepository.save(member);
+        eventPublisher.publishEvent(new ProjectMemberChangedEvent(projectId, userId, ProjectMemberChangedEvent.ChangeType.ROLE_CHANGED));
         log.info("Updated user {} role in project {} to {}", userId, projectId, newRole);
         return savedMember;
     }
 
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheNames.PROJECT_MEMBERSHIP, key = "#projectId + ':' + #userId"),
+            @CacheEvict(cacheNames = CacheNames.PROJECT_SUMMARY, key = "#projectId")
+    })
     public void removeMemberFromProject(UUID projectId, UUID userId) {
         ProjectMember member = projectMemberRepository.findByProjectIdAndUserId(projectId, userId)
                 .orElseThrow(() -> new RuntimeException("User is not a member of this project"));
@@ -204,15 +249,17 @@ public class ProjectService {
         }
 
         projectMemberRepository.delete(member);
+        eventPublisher.publishEvent(new ProjectMemberChangedEvent(projectId, userId, ProjectMemberChangedEvent.ChangeType.REMOVED));
         log.info("Removed user {} from project {}", userId, projectId);
     }
 
     @Transactional(readOnly = true)
     public List<ProjectMember> getProjectMembers(UUID projectId) {
-        return projectMemberRepository.findByProjectId(projectId);
+        return projectMemberRepository.findByProjectIdWithUser(projectId);
     }
 
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheNames.PROJECT_MEMBERSHIP, key = "#projectId + ':' + #userId")
     public boolean isUserMemberOfProject(UUID projectId, UUID userId) {
         return projectMemberRepository.findByProjectIdAndUserId(projectId, userId).isPresent();
     }
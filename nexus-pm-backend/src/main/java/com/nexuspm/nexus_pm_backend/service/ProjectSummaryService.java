@@ -0,0 +1,121 @@
+package com.nexuspm.nexus_pm_backend.service;
+
+import com.nexuspm.nexus_pm_backend.cache.CacheNames;
+import com.nexuspm.nexus_pm_backend.dto.ProjectSummaryDto;
+import com.nexuspm.nexus_pm_backend.event.IssueChangedEvent;
+import com.nexuspm.nexus_pm_backend.model.Issue;
+import com.nexuspm.nexus_pm_backend.model.Sprint;
+import com.nexuspm.nexus_pm_backend.repository.IssueRepository;
+import com.nexuspm.nexus_pm_backend.repository.ProjectMemberRepository;
+import com.nexuspm.nexus_pm_backend.repository.SprintRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Builds the project dashboard from one grouped query over the project's issues plus two
+ * small lookups (sprint counts, member count). Results are cached briefly per project and
+ * evicted whenever an issue of the project is written.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProjectSummaryService {
+
+    private final IssueRepository issueRepository;
+    private final SprintRepository sprintRepository;
+    private final ProjectMemberRepository projectMemberRepository;
+    private final SprintService sprintService;
+    private final CacheManager cacheManager;
+
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheNames.PROJECT_SUMMARY, key = "#projectId")
+    public ProjectSummaryDto getSummary(UUID projectId) {
+        ProjectSummaryDto summary = new ProjectSummaryDto();
+        summary.setProjectId(projectId);
+        // Zero-filled so the dashboard always gets every bucket
+        for (Issue.IssueStatus status : Issue.IssueStatus.values()) {
+            summary.getIssuesByStatus().put(status.name(), 0L);
+        }
+        for (Issue.IssuePriority priority : Issue.IssuePriority.values()) {
+            summary.getIssuesByPriority().put(priority.name(), 0L);
+        }
+        for (Issue.IssueType type : Issue.IssueType.values()) {
+            summary.getIssuesByType().put(type.name(), 0L);
+        }
+
+        Map<UUID, ProjectSummaryDto.AssigneeSummary> assignees = new LinkedHashMap<>();
+        for (Object[] cell : issueRepository.summarizeByProjectId(projectId, LocalDateTime.now())) {
+            Issue.IssueStatus status = (Issue.IssueStatus) cell[0];
+            long count = ((Number) cell[6]).longValue();
+            long points = ((Number) cell[7]).longValue();
+            boolean completed = status == Issue.IssueStatus.RESOLVED || status == Issue.IssueStatus.CLOSED;
+
+            summary.setTotalIssues(summary.getTotalIssues() + count);
+            summary.setTotalStoryPoints(summary.getTotalStoryPoints() + points);
+            summary.setOverdueIssues(summary.getOverdueIssues() + ((Number) cell[8]).longValue());
+            if (completed) {
+                summary.setCompletedIssues(summary.getCompletedIssues() + count);
+                summary.setCompletedStoryPoints(summary.getCompletedStoryPoints() + points);
+            } else {
+                summary.setOpenIssues(summary.getOpenIssues() + count);
+            }
+            summary.getIssuesByStatus().merge(status.name(), count, Long::sum);
+            summary.getIssuesByPriority().merge(((Issue.IssuePriority) cell[1]).name(), count, Long::sum);
+            summary.getIssuesByType().merge(((Issue.IssueType) cell[2]).name(), count, Long::sum);
+
+            UUID assigneeId = (UUID) cell[3];
+            if (assigneeId == null) {
+                summary.setUnassignedIssues(summary.getUnassignedIssues() + count);
+                continue;
+            }
+            ProjectSummaryDto.AssigneeSummary assignee = assignees.computeIfAbsent(assigneeId,
+                    id -> new ProjectSummaryDto.AssigneeSummary(id, cell[4] + " " + cell[5], 0, 0, 0));
+            assignee.setIssueCount(assignee.getIssueCount() + count);
+            assignee.setStoryPoints(assignee.getStoryPoints() + points);
+            if (!completed) {
+                assignee.setOpenIssueCount(assignee.getOpenIssueCount() + count);
+            }
+        }
+        assignees.values().stream()
+                .sorted(Comparator.comparingLong(ProjectSummaryDto.AssigneeSummary::getOpenIssueCount).reversed())
+                .forEach(summary.getIssuesByAssignee()::add);
+
+        for (Sprint.SprintStatus status : Sprint.SprintStatus.values()) {
+            summary.getSprintsByStatus().put(status.name(), 0L);
+        }
+        for (Object[] row : sprintRepository.countByProjectIdGroupByStatus(projectId)) {
+            summary.getSprintsByStatus().put(((Sprint.SprintStatus) row[0]).name(), ((Number) row[1]).longValue());
+        }
+        Optional<Sprint> activeSprint = sprintService.findActiveSprintByProjectId(projectId);
+        activeSprint.ifPresent(sprint -> summary.setActiveSprint(new ProjectSummaryDto.ActiveSprintSummary(
+                sprint.getId(), sprint.getName(), sprint.getEndDate(),
+                sprint.getTotalStoryPoints(), sprint.getCompletedStoryPoints(), sprint.getProgress())));
+
+        summary.setMemberCount(projectMemberRepository.countByProjectId(projectId));
+        summary.setGeneratedAt(LocalDateTime.now());
+        return summary;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onIssueChanged(IssueChangedEvent event) {
+        Cache cache = cacheManager.getCache(CacheNames.PROJECT_SUMMARY);
+        if (cache != null) {
+            // evictIfPresent runs immediately; a plain evict would be deferred to a commit that already happened
+            cache.evictIfPresent(event.getProjectId());
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.nexuspm.nexus_pm_backend.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * Multi-node allocator backed by a Redis counter per project ({@code INCRBY}). The counter holds
+ * the last number handed out and is seeded from the database the first time a project is seen.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.issue-keys.allocator", havingValue = "redis")
+public class RedisIssueKeyAllocator implements IssueKeyAllocator {
+
+    private static final String KEY_PREFIX = "nexuspm:issue-seq:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final IssueSequenceService sequenceService;
+
+    @Override
+    public long nextNumber(UUID projectId) {
+        return reserve(projectId, 1);
+    }
+
+    @Override
+    public long reserve(UUID projectId, int count) {
+        if (count < 1) {
+            throw new IllegalArgumentException("Reservation size must be positive: " + count);
+        }
+
+        String key = KEY_PREFIX + projectId;
+        if (!Boolean.TRUE.equals(redisTemplate.hasKey(key))) {
+            long highestUsed = sequenceService.findHighestUsedNumber(projectId);
+            if (Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(key, Long.toString(highestUsed)))) {
+                log.info("Seeded Redis issue counter for project {} at {}", projectId, highestUsed);
+            }
+        }
+
+        Long last = redisTemplate.opsForValue().increment(key, count);
+        if (last == null) {
+            throw new IllegalStateException("Redis did not return an issue number for project: " + projectId);
+        }
+        return last - count + 1;
+    }
+}
@@ -0,0 +1,88 @@
+package com.nexuspm.nexus_pm_backend.service;
+
+import com.nexuspm.nexus_pm_backend.repository.NotificationRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Counters in one Redis hash ({@code HINCRBY}), shared by all nodes. Changes are applied after
+ * the surrounding transaction commits; a user missing from the hash is seeded from the
+ * database on first read.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.notifications.counter-store", havingValue = "redis")
+public class RedisUnreadCounterStore implements UnreadCounterStore {
+
+    private static final String KEY = "nexuspm:notifications:unread";
+
+    private final StringRedisTemplate redisTemplate;
+    private final NotificationRepository notificationRepository;
+
+    @Override
+    public void increment(Collection<UUID> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        List<UUID> recipients = List.copyOf(userIds);
+        afterCommit(() -> redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            byte[] key = KEY.getBytes(StandardCharsets.UTF_8);
+            for (UUID userId : recipients) {
+                connection.hashCommands().hIncrBy(key, userId.toString().getBytes(StandardCharsets.UTF_8), 1);
+            }
+            return null;
+        }));
+    }
+
+    @Override
+    public void decrement(UUID userId, long count) {
+        if (count > 0) {
+            afterCommit(() -> {
+                Long remaining = redisTemplate.opsForHash().increment(KEY, userId.toString(), -count);
+                if (remaining != null && remaining < 0) {
+                    redisTemplate.opsForHash().put(KEY, userId.toString(), "0");
+                }
+            });
+        }
+    }
+
+    @Override
+    public void set(UUID userId, long count) {
+        afterCommit(() -> redisTemplate.opsForHash().put(KEY, userId.toString(), Long.toString(count)));
+    }
+
+    @Override
+    public long get(UUID userId) {
+        Object value = redisTemplate.opsForHash().get(KEY, userId.toString());
+        if (value != null) {
+            return Long.parseLong(value.toString());
+        }
+        long count = notificationRepository.countUnreadByUserId(userId);
+        // Another node may have seeded or incremented it meanwhile; keep theirs
+        redisTemplate.opsForHash().putIfAbsent(KEY, userId.toString(), Long.toString(count));
+        return count;
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.nexuspm.nexus_pm_backend.service;
+
+import com.nexuspm.nexus_pm_backend.activity.ActivityPartitionService;
+import com.nexuspm.nexus_pm_backend.repository.ActivityRepository;
+import com.nexuspm.nexus_pm_backend.repository.NotificationRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.function.IntSupplier;
+
+/**
+ * Purges read notifications (and activities, where they are not partitioned) past their
+ * retention. Each chunk is a single {@code DELETE ... WHERE id IN (SELECT ... LIMIT k)} in its
+ * own short transaction: nothing is loaded into the heap and no lock is held for longer than
+ * one chunk.
+ */
+@Slf4j
+@Service
+public class RetentionService {
+
+    private final NotificationRepository notificationRepository;
+    private final ActivityRepository activityRepository;
+    private final ActivityPartitionService activityPartitionService;
+    private final TransactionTemplate transactionTemplate;
+    private final int notificationDays;
+    private final int chunkSize;
+    private final long chunkPauseMs;
+
+    public RetentionService(NotificationRepository notificationRepository,
+                            ActivityRepository activityRepository,
+                            ActivityPartitionService activityPartitionService,
+                            PlatformTransactionManager transactionManager,
+                            @Value("${app.retention.notification-days:90}") int notificationDays,
+                            @Value("${app.retention.chunk-size:5000}") int chunkSize,
+                            @Value("${app.retention.chunk-pause-ms:50}") long chunkPauseMs) {
+        this.notificationRepository = notificationRepository;
+        this.activityRepository = activityRepository;
+        this.activityPartitionService = activityPartitionService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.notificationDays = notificationDays;
+        this.chunkSize = Math.max(1, chunkSize);
+        this.chunkPauseMs = Math.max(0, chunkPauseMs);
+    }
+
+    @Scheduled(cron = "${app.retention.cron:0 0 4 * * *}")
+    public void purge() {
+        purgeNotifications();
+        // Partitioned activities expire a month at a time in ActivityPartitionService
+        if (!activityPartitionService.isPartitioned()) {
+            purgeActivities();
+        }
+    }
+
+    public long purgeNotifications() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(notificationDays);
+        long deleted = deleteInChunks(() -> notificationRepository.deleteReadCreatedBefore(cutoff, chunkSize));
+        log.info("Purged {} read notifications older than {} days", deleted, notificationDays);
+        return deleted;
+    }
+
+    public long purgeActivities() {
+        // Same cutoff as partition expiry, from app.activity.retention-months
+        LocalDateTime cutoff = activityPartitionService.retentionCutoff();
+        long deleted = deleteInChunks(() -> activityRepository.deleteCreatedBefore(cutoff, chunkSize));
+        log.info("Purged {} activities created before {}", deleted, cutoff);
+        return deleted;
+    }
+
+    private long deleteInChunks(IntSupplier chunk) {
+        long total = 0;
+        while (true) {
+            Integer deleted = transactionTemplate.execute(status -> chunk.getAsInt());
+            int count = deleted != null ? deleted : 0;
+            total += count;
+            if (count < chunkSize) {
+                return total;
+            }
+            // Give replication and concurrent writers room between chunks
+            if (chunkPauseMs > 0) {
+                try {
+                    Thread.sleep(chunkPauseMs);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return total;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package com.nexuspm.nexus_pm_backend.service;
+
+import com.nexuspm.nexus_pm_backend.dto.SprintProgressDto;
+import com.nexuspm.nexus_pm_backend.model.Issue;
+import com.nexuspm.nexus_pm_backend.model.SprintStats;
+import com.nexuspm.nexus_pm_backend.model.SprintStatusCount;
+import com.nexuspm.nexus_pm_backend.repository.IssueRepository;
+import com.nexuspm.nexus_pm_backend.repository.SprintStatsRepository;
+import com.nexuspm.nexus_pm_backend.repository.SprintStatusCountRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Maintains {@link SprintStats} and {@link SprintStatusCount} as issues change. Callers take a
+ * {@link Contribution} of the issue before and after the change; the difference is applied
+ * with relative updates inside the caller's transaction, so reading sprint progress never has
+ * to touch the issues table. Every applied change also appends a burndown sample.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(propagation = Propagation.MANDATORY)
+public class SprintAggregateService {
+
+    private final SprintStatsRepository sprintStatsRepository;
+    private final SprintStatusCountRepository sprintStatusCountRepository;
+    private final IssueRepository issueRepository;
+    private final SprintBurndownService sprintBurndownService;
+
+    /**
+     * What one issue adds to its sprint's counters. {@code null} stands for "not in a sprint".
+     */
+    public record Contribution(UUID sprintId, Issue.IssueStatus status, int storyPoints) {
+
+        public static Contribution of(Issue issue) {
+            if (issue == null || issue.getSprint() == null) {
+                return null;
+            }
+            return new Contribution(issue.getSprint().getId(), issue.getStatus(),
+                    issue.getStoryPoints() != null ? issue.getStoryPoints() : 0);
+        }
+
+        boolean isCompleted() {
+            return status == Issue.IssueStatus.RESOLVED || status == Issue.IssueStatus.CLOSED;
+        }
+    }
+
+    public void initialize(UUID sprintId) {
+        sprintStatsRepository.save(new SprintStats(sprintId));
+        for (Issue.IssueStatus status : Issue.IssueStatus.values()) {
+            sprintStatusCountRepository.save(new SprintStatusCount(sprintId, status, 0));
+        }
+    }
+
+    public void apply(Contribution before, Contribution after) {
+        if (Objects.equals(before, after)) {
+            return;
+        }
+        // A recount already reflects the change, so it must not be applied to that sprint twice
+        UUID recounted = null;
+        if (before != null && !applyContribution(before, -1)) {
+            recounted = before.sprintId();
+        }
+        if (after != null && !after.sprintId().equals(recounted)) {
+            applyContribution(after, 1);
+        }
+
+        // One burndown sample per touched sprint, carrying its net scope change
+        Map<UUID, Integer> scopeChanges = new LinkedHashMap<>();
+        if (before != null) {
+            scopeChanges.merge(before.sprintId(), -before.storyPoints(), Integer::sum);
+        }
+        if (after != null) {
+            scopeChanges.merge(after.sprintId(), after.storyPoints(), Integer::sum);
+        }
+        scopeChanges.forEach(sprintBurndownService::record);
+    }
+
+    public void delete(UUID sprintId) {
+        sprintStatusCountRepository.deleteBySprintId(sprintId);
+        sprintStatsRepository.deleteById(sprintId);
+    }
+
+    /**
+     * Rebuilds a sprint's counters from its issues, e.g. after data was changed outside
+     * {@code IssueService}.
+     */
+    @Transactional
+    public SprintProgressDto recompute(UUID sprintId) {
+        SprintStats stats = sprintStatsRepository.findById(sprintId).orElseGet(() -> new SprintStats(sprintId));
+        Map<Issue.IssueStatus, SprintStatusCount> counts = new LinkedHashMap<>();
+        for (Issue.IssueStatus status : Issue.IssueStatus.values()) {
+            counts.put(status, new SprintStatusCount(sprintId, status, 0));
+        }
+        stats.setTotalStoryPoints(0);
+        stats.setCompletedStoryPoints(0);
+        stats.setIssueCount(0);
+        stats.setCompletedIssueCount(0);
+
+        for (Object[] row : issueRepository.aggregateBySprintIdGroupByStatus(sprintId)) {
+            Contribution group = new Contribution(sprintId, (Issue.IssueStatus) row[0], ((Number) row[2]).intValue());
+            int issues = ((Number) row[1]).intValue();
+            stats.setTotalStoryPoints(stats.getTotalStoryPoints() + group.storyPoints());
+            stats.setIssueCount(stats.getIssueCount() + issues);
+            if (group.isCompleted()) {
+                stats.setCompletedStoryPoints(stats.getCompletedStoryPoints() + group.storyPoints());
+                stats.setCompletedIssueCount(stats.getCompletedIssueCount() + issues);
+            }
+            counts.get(group.status()).setIssueCount(issues);
+        }
+
+        sprintStatsRepository.save(stats);
+        sprintStatusCountRepository.saveAll(counts.values());
+        log.info("Recomputed counters for sprint {}", sprintId);
+        return getProgress(sprintId);
+    }
+
+    /**
+     * Completed points from the counters. A sprint without a stats row (created outside
+     * {@code SprintService}) has its counters rebuilt first rather than failing.
+     */
+    public int completedStoryPoints(UUID sprintId) {
+        List<Object[]> totals = sprintStatsRepository.findPointTotals(sprintId);
+        if (totals.isEmpty()) {
+            return recompute(sprintId).getCompletedStoryPoints();
+        }
+        return ((Number) totals.get(0)[1]).intValue();
+    }
+
+    @Transactional(readOnly = true)
+    public SprintProgressDto getProgress(UUID sprintId) {
+        SprintStats stats = sprintStatsRepository.findById(sprintId)
+                .orElseThrow(() -> new RuntimeException("Sprint not found with id: " + sprintId));
+        Map<String, Integer> byStatus = new LinkedHashMap<>();
+        List<SprintStatusCount> counts = sprintStatusCountRepository.findBySprintId(sprintId);
+        for (SprintStatusCount count : counts) {
+            byStatus.put(count.getStatus().name(), count.getIssueCount());
+        }
+        return new SprintProgressDto(sprintId, stats.getTotalStoryPoints(), stats.getCompletedStoryPoints(),
+                stats.getRemainingStoryPoints(), stats.getIssueCount(), stats.getCompletedIssueCount(),
+                stats.getProgress(), byStatus);
+    }
+
+    private boolean applyContribution(Contribution contribution, int sign) {
+        int points = sign * contribution.storyPoints();
+        boolean completed = contribution.isCompleted();
+        int updated = sprintStatsRepository.applyDelta(contribution.sprintId(), points, completed ? points : 0,
+                sign, completed ? sign : 0, LocalDateTime.now());
+        if (updated == 0) {
+            // Sprint created before counters existed; rebuild from its issues instead
+            recompute(contribution.sprintId());
+            return false;
+        }
+        if (contribution.status() != null) {
+            sprintStatusCountRepository.applyDelta(contribution.sprintId(), contribution.status(), sign);
+        }
+        return true;
+    }
+}
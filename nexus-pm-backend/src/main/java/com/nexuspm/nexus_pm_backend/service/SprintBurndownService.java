@@ -0,0 +1,150 @@
+package com.nexuspm.nexus_pm_backend.service;
+
+import com.nexuspm.nexus_pm_backend.dto.BurndownPointDto;
+import com.nexuspm.nexus_pm_backend.dto.SprintBurndownDto;
+import com.nexuspm.nexus_pm_backend.model.Sprint;
+import com.nexuspm.nexus_pm_backend.model.SprintBurndownPoint;
+import com.nexuspm.nexus_pm_backend.repository.SprintBurndownPointRepository;
+import com.nexuspm.nexus_pm_backend.repository.SprintRepository;
+import com.nexuspm.nexus_pm_backend.repository.SprintStatsRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Append-only time series of sprint totals behind the burndown/burnup charts. Samples are
+ * written in the same transaction as the counter change that caused them, and closed buckets
+ * are periodically compacted down to one sample each.
+ */
+@Slf4j
+@Service
+public class SprintBurndownService {
+
+    private final SprintBurndownPointRepository burndownPointRepository;
+    private final SprintStatsRepository sprintStatsRepository;
+    private final SprintRepository sprintRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final long bucketSeconds;
+
+    public SprintBurndownService(SprintBurndownPointRepository burndownPointRepository,
+                                 SprintStatsRepository sprintStatsRepository,
+                                 SprintRepository sprintRepository,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${app.burndown.bucket:1h}") Duration bucket) {
+        this.burndownPointRepository = burndownPointRepository;
+        this.sprintStatsRepository = sprintStatsRepository;
+        this.sprintRepository = sprintRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.bucketSeconds = Math.max(60, bucket.getSeconds());
+    }
+
+    /**
+     * Appends a sample with the sprint's current totals. {@code scopeChange} is the change in
+     * total points caused by this write (issues entering or leaving, estimates changing).
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(UUID sprintId, int scopeChange) {
+        List<Object[]> totals = sprintStatsRepository.findPointTotals(sprintId);
+        if (totals.isEmpty()) {
+            return;
+        }
+        SprintBurndownPoint point = new SprintBurndownPoint();
+        point.setSprintId(sprintId);
+        point.setRecordedAt(LocalDateTime.now());
+        point.setTotalPoints(((Number) totals.get(0)[0]).intValue());
+        point.setCompletedPoints(((Number) totals.get(0)[1]).intValue());
+        point.setScopeAdded(Math.max(scopeChange, 0));
+        point.setScopeRemoved(Math.max(-scopeChange, 0));
+        burndownPointRepository.save(point);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void delete(UUID sprintId) {
+        burndownPointRepository.deleteBySprintId(sprintId);
+    }
+
+    @Transactional(readOnly = true)
+    public SprintBurndownDto getBurndown(UUID sprintId) {
+        Sprint sprint = sprintRepository.findById(sprintId)
+                .orElseThrow(() -> new RuntimeException("Sprint not found with id: " + sprintId));
+        List<BurndownPointDto> points = burndownPointRepository.findSeriesBySprintId(sprintId);
+
+        // Remaining points at the start: the last sample up to startDate (startSprint records one)
+        Integer committedPoints = null;
+        if (sprint.getStartDate() != null) {
+            for (BurndownPointDto point : points) {
+                if (point.getAt().isAfter(sprint.getStartDate())) {
+                    if (committedPoints == null) {
+                        committedPoints = point.getRemainingPoints();
+                    }
+                    break;
+                }
+                committedPoints = point.getRemainingPoints();
+            }
+        }
+        return new SprintBurndownDto(sprintId, sprint.getStartDate(), sprint.getEndDate(), committedPoints, points);
+    }
+
+    @Scheduled(fixedDelayString = "${app.burndown.compaction-interval-ms:600000}")
+    public void compact() {
+        LocalDateTime currentBucket = bucketStart(LocalDateTime.now());
+        List<UUID> sprintIds = burndownPointRepository.findSprintIdsWithRawPointsBefore(currentBucket);
+        for (UUID sprintId : sprintIds) {
+            try {
+                Integer removed = transactionTemplate.execute(status -> compactSprint(sprintId, currentBucket));
+                log.debug("Compacted burndown for sprint {}: {} samples removed", sprintId, removed);
+            } catch (RuntimeException e) {
+                log.warn("Burndown compaction failed for sprint {}: {}", sprintId, e.getMessage());
+            }
+        }
+    }
+
+    private int compactSprint(UUID sprintId, LocalDateTime before) {
+        List<SprintBurndownPoint> raw = burndownPointRepository.findRawPointsBefore(sprintId, before);
+        List<UUID> obsolete = new ArrayList<>();
+        int i = 0;
+        while (i < raw.size()) {
+            LocalDateTime bucket = bucketStart(raw.get(i).getRecordedAt());
+            SprintBurndownPoint last = raw.get(i);
+            int added = 0;
+            int removed = 0;
+            int j = i;
+            while (j < raw.size() && bucketStart(raw.get(j).getRecordedAt()).equals(bucket)) {
+                SprintBurndownPoint point = raw.get(j);
+                added += point.getScopeAdded();
+                removed += point.getScopeRemoved();
+                if (point != last) {
+                    obsolete.add(last.getId());
+                }
+                last = point;
+                j++;
+            }
+            // The bucket's closing totals survive, carrying the whole bucket's scope churn
+            last.setScopeAdded(added);
+            last.setScopeRemoved(removed);
+            last.setResolution(SprintBurndownPoint.Resolution.BUCKET);
+            i = j;
+        }
+        if (!obsolete.isEmpty()) {
+            burndownPointRepository.deleteByIdIn(obsolete);
+        }
+        return obsolete.size();
+    }
+
+    private LocalDateTime bucketStart(LocalDateTime time) {
+        long epochSeconds = time.toEpochSecond(ZoneOffset.UTC);
+        return LocalDateTime.ofEpochSecond(epochSeconds - Math.floorMod(epochSeconds, bucketSeconds), 0, ZoneOffset.UTC);
+    }
+}
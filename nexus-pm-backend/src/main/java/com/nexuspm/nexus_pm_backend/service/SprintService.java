@@ -1,10 +1,15 @@
 package com.nexuspm.nexus_pm_backend.service;
 
+import com.nexuspm.nexus_pm_backend.cache.CacheNames;
+import com.nexuspm.nexus_pm_backend.event.SprintChangedEvent;
 import com.nexuspm.nexus_pm_backend.model.Project;
 import com.nexuspm.nexus_pm_backend.model.Sprint;
 import com.nexuspm.nexus_pm_backend.repository.SprintRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -14,6 +19,7 @@ import java.util.Optional;
 import java.util.UUID;
 
 @Slf4j
+@Timed("service.calls")
 @Service
 @RequiredArgsConstructor
 @Transactional
@@ -21,6 +27,9 @@ public class SprintService {
 
     private final SprintRepository sprintRepository;
     private final ProjectService projectService;
+    private final SprintAggregateService sprintAggregateService;
+    private final SprintBurndownService sprintBurndownService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional(readOnly = true)
     public List<Sprint> findAll() {
@@ -39,7 +48,8 @@ public class SprintService {
 
     @Transactional(readOnly = true)
     public Optional<Sprint> findActiveSprintByProjectId(UUID projectId) {
-        return sprintRepository.findActiveSprintByProjectId(projectId);
+        // Cached id lookup, then the sprint itself from the second-level cache
+        return sprintRepository.findActiveSprintIdByProjectId(projectId).flatMap(sprintRepository::findById);
     }
 
     @Transactional(readOnly = true)
@@ -52,6 +62,7 @@ public class SprintService {
         return sprintRepository.findCompletedSprintsByProjectId(projectId);
     }
 
+    @CacheEvict(cacheNames = CacheNames.PROJECT_SUMMARY, key = "#projectId")
     public Sprint createSprint(Sprint sprint, UUID projectId) {
         // Get project
         Project project = projectService.findById(projectId)
@@ -65,10 +76,14 @@ public class SprintService {
         }
 
         Sprint savedSprint = sprintRepository.save(sprint);
+        sprintAggregateService.initialize(savedSprint.getId());
+        publish(savedSprint, SprintChangedEvent.ChangeType.CREATED);
         log.info("Created sprint {} in project {}", savedSprint.getName(), project.getName());
         return savedSprint;
     }
 
+    // The summary shows the active sprint's name and end date
+    @CacheEvict(cacheNames = CacheNames.PROJECT_SUMMARY, key = "#result.project.id")
     public Sprint updateSprint(UUID sprintId, Sprint sprintUpdate) {
         Sprint existingSprint = sprintRepository.findById(sprintId)
                 .orElseThrow(() -> new RuntimeException("Sprint not found with id: " + sprintId));
@@ -94,10 +109,12 @@ public class SprintService {
         }
 
         Sprint savedSprint = sprintRepository.save(existingSprint);
+        publish(savedSprint, SprintChangedEvent.ChangeType.UPDATED);
         log.info("Updated sprint with id: {}", sprintId);
         return savedSprint;
     }
 
+    @CacheEvict(cacheNames = {CacheNames.ACTIVE_SPRINT_IDS, CacheNames.PROJECT_SUMMARY}, key = "#result.project.id")
     public Sprint startSprint(UUID sprintId) {
         Sprint sprint = sprintRepository.findById(sprintId)
                 .orElseThrow(() -> new RuntimeException("Sprint not found with id: " + sprintId));
@@ -118,10 +135,14 @@ public class SprintService {
         }
 
         Sprint savedSprint = sprintRepository.save(sprint);
+        // Baseline sample: the committed scope the burndown starts from
+        sprintBurndownService.record(savedSprint.getId(), 0);
+        publish(savedSprint, SprintChangedEvent.ChangeType.STARTED);
         log.info("Started sprint {} in project {}", sprint.getName(), sprint.getProject().getName());
         return savedSprint;
     }
 
+    @CacheEvict(cacheNames = {CacheNames.ACTIVE_SPRINT_IDS, CacheNames.PROJECT_SUMMARY}, key = "#result.project.id")
     public Sprint completeSprint(UUID sprintId) {
         Sprint sprint = sprintRepository.findById(sprintId)
                 .orElseThrow(() -> new RuntimeException("Sprint not found with id: " + sprintId));
@@ -133,15 +154,17 @@ public class SprintService {
         sprint.setStatus(Sprint.SprintStatus.COMPLETED);
         sprint.setCompletedAt(LocalDateTime.now());
 
-        // Calculate velocity (completed story points)
-        Integer completedStoryPoints = sprint.getCompletedStoryPoints();
+        // Velocity is the completed story points, read from the maintained counters
+        int completedStoryPoints = sprintAggregateService.completedStoryPoints(sprintId);
         sprint.setVelocity(completedStoryPoints);
 
         Sprint savedSprint = sprintRepository.save(sprint);
+        publish(savedSprint, SprintChangedEvent.ChangeType.COMPLETED);
         log.info("Completed sprint {} with velocity {}", sprint.getName(), completedStoryPoints);
         return savedSprint;
     }
 
+    @CacheEvict(cacheNames = {CacheNames.ACTIVE_SPRINT_IDS, CacheNames.PROJECT_SUMMARY}, key = "#result.project.id")
     public Sprint cancelSprint(UUID sprintId) {
         Sprint sprint = sprintRepository.findById(sprintId)
                 .orElseThrow(() -> new RuntimeException("Sprint not found with id: " + sprintId));
@@ -153,10 +176,12 @@ public class SprintService {
         sprint.setStatus(Sprint.SprintStatus.CANCELLED);
 
         Sprint savedSprint = sprintRepository.save(sprint);
+        publish(savedSprint, SprintChangedEvent.ChangeType.CANCELLED);
         log.info("Cancelled sprint {}", sprint.getName());
         return savedSprint;
     }
 
+    @CacheEvict(cacheNames = CacheNames.PROJECT_SUMMARY, allEntries = true)
     public void deleteSprint(UUID sprintId) {
         Sprint sprint = sprintRepository.findById(sprintId)
                 .orElseThrow(() -> new RuntimeException("Sprint not found with id: " + sprintId));
@@ -169,6 +194,9 @@ public class SprintService {
         sprint.getIssues().forEach(issue -> issue.setSprint(null));
 
         sprintRepository.delete(sprint);
+        sprintAggregateService.delete(sprintId);
+        sprintBurndownService.delete(sprintId);
+        publish(sprint, SprintChangedEvent.ChangeType.DELETED);
         log.info("Deleted sprint with id: {}", sprintId);
     }
 
@@ -201,4 +229,8 @@ public class SprintService {
     public List<Sprint> findSprintsByProjectAndDateRange(UUID projectId, LocalDateTime startDate, LocalDateTime endDate) {
         return sprintRepository.findSprintsByProjectAndDateRange(projectId, startDate, endDate);
     }
+
+    private void publish(Sprint sprint, SprintChangedEvent.ChangeType changeType) {
+        eventPublisher.publishEvent(new SprintChangedEvent(sprint.getId(), sprint.getProject().getId(), changeType));
+    }
 }
@@ -0,0 +1,22 @@
+package com.nexuspm.nexus_pm_backend.service;
+
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * Per-user unread notification counts. Implementations are called inside the transaction that
+ * changes {@code notifications} and must not make a change visible before it commits.
+ */
+public interface UnreadCounterStore {
+
+    void increment(Collection<UUID> userIds);
+
+    void decrement(UUID userId, long count);
+
+    /**
+     * Overwrites the count, e.g. with zero after "mark all read" or with a fresh COUNT.
+     */
+    void set(UUID userId, long count);
+
+    long get(UUID userId);
+}
@@ -0,0 +1,32 @@
+package com.nexuspm.nexus_pm_backend.service;
+
+import com.nexuspm.nexus_pm_backend.cache.CacheNames;
+import com.nexuspm.nexus_pm_backend.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.UUID;
+
+/**
+ * Current security stamp per user. Tokens carry the stamp they were issued with; bumping the
+ * stamp in {@link UserService} (password or role change, deactivation, logout everywhere)
+ * revokes every token issued before it.
+ */
+@Service
+@RequiredArgsConstructor
+public class UserSecurityStampService {
+
+    private final UserRepository userRepository;
+
+    /**
+     * {@code null} when the user no longer exists or is inactive.
+     */
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheNames.USER_SECURITY_STAMPS, key = "#userId")
+    public Long currentStamp(UUID userId) {
+        return userRepository.findActiveSecurityStampById(userId).orElse(null);
+    }
+
+}
@@ -1,9 +1,11 @@
 package com.nexuspm.nexus_pm_backend.service;
 
+import com.nexuspm.nexus_pm_backend.cache.CacheNames;
 import com.nexuspm.nexus_pm_backend.model.User;
 import com.nexuspm.nexus_pm_backend.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -115,15 +117,18 @@ public class UserService implements UserDetailsService {
         return userRepository.save(existingUser);
     }
 
+    @CacheEvict(cacheNames = CacheNames.USER_SECURITY_STAMPS, key = "#userId")
     public User updateUserRole(UUID userId, User.UserRole newRole) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new RuntimeException("User not found with id: " + userId));
         
         user.setRole(newRole);
+        bumpSecurityStamp(user);
         log.info("Updated user role for user {} to {}", userId, newRole);
         return userRepository.save(user);
     }
 
+    @CacheEvict(cacheNames = CacheNames.USER_SECURITY_STAMPS, key = "#userId")
     public User activateUser(UUID userId) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new RuntimeException("User not found with id: " + userId));
@@ -133,11 +138,13 @@ public class UserService implements UserDetailsService {
         return userRepository.save(user);
     }
 
+    @CacheEvict(cacheNames = CacheNames.USER_SECURITY_STAMPS, key = "#userId")
     public User deactivateUser(UUID userId) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new RuntimeException("User not found with id: " + userId));
         
         user.setIsActive(false);
+        bumpSecurityStamp(user);
         log.info("Deactivated user with id: {}", userId);
         return userRepository.save(user);
     }
@@ -151,6 +158,7 @@ public class UserService implements UserDetailsService {
         return userRepository.save(user);
     }
 
+    @CacheEvict(cacheNames = CacheNames.USER_SECURITY_STAMPS, key = "#userId")
     public boolean changePassword(UUID userId, String currentPassword, String newPassword) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new RuntimeException("User not found with id: " + userId));
@@ -160,12 +168,26 @@ public class UserService implements UserDetailsService {
         }
         
         user.setPasswordHash(passwordEncoder.encode(newPassword));
+        bumpSecurityStamp(user);
         userRepository.save(user);
         
         log.info("Password changed for user with id: {}", userId);
         return true;
     }
 
+    /**
+     * Invalidates every access and refresh token issued to the user so far.
+     */
+    @CacheEvict(cacheNames = CacheNames.USER_SECURITY_STAMPS, key = "#userId")
+    public void revokeTokens(UUID userId) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new RuntimeException("User not found with id: " + userId));
+        
+        bumpSecurityStamp(user);
+        userRepository.save(user);
+        log.info("Revoked all tokens for user with id: {}", userId);
+    }
+
     public void updateLastLogin(UUID userId) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new RuntimeException("User not found with id: " + userId));
@@ -194,4 +216,8 @@ public class UserService implements UserDetailsService {
     public List<User> findUsersByRole(User.UserRole role) {
         return userRepository.findByIsActiveTrueAndRole(role);
     }
+
+    private void bumpSecurityStamp(User user) {
+        user.setSecurityStamp(user.getSecurityStamp() == null ? 1L : user.getSecurityStamp() + 1);
+    }
 }
@@ -0,0 +1,37 @@
+package com.nexuspm.nexus_pm_backend.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+
+/**
+ * Content-addressed blob store behind attachments. Blobs are keyed by the SHA-256 of their
+ * bytes, so identical uploads share one blob and a stored blob never changes.
+ */
+public interface AttachmentStorage {
+
+    /**
+     * Stores a spooled file under its content hash. The source is consumed (moved or deleted)
+     * either way; returns {@code false} when the blob was already present.
+     */
+    boolean put(String sha256, Path source) throws IOException;
+
+    boolean exists(String sha256) throws IOException;
+
+    InputStream open(String sha256) throws IOException;
+
+    /**
+     * Writes {@code count} bytes of the blob starting at {@code position} to {@code target}.
+     */
+    void transferTo(String sha256, long position, long count, WritableByteChannel target) throws IOException;
+
+    void delete(String sha256) throws IOException;
+
+    /**
+     * Relative location of a blob, fanned out by hash prefix: {@code ab/cd/abcd...}.
+     */
+    static String keyFor(String sha256) {
+        return sha256.substring(0, 2) + "/" + sha256.substring(2, 4) + "/" + sha256;
+    }
+}
@@ -0,0 +1,64 @@
+package com.nexuspm.nexus_pm_backend.storage;
+
+import com.nexuspm.nexus_pm_backend.config.DatabasePlatform;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Transaction-scoped locks on a content hash. Storing a blob together with the row that
+ * references it, and deleting a blob once nothing references it, both run under the hash's lock,
+ * so a blob cannot be collected between an upload finding it present and committing its row.
+ *
+ * <p>On Postgres this is {@code pg_advisory_xact_lock}, which holds across nodes and is released
+ * by commit or rollback. Other databases (H2 in development and tests) get a striped in-process
+ * lock released after completion, which only serializes a single node.
+ */
+@Component
+public class ContentLocks {
+
+    // First key of the two-int advisory lock form, so these cannot collide with other lock users
+    private static final int LOCK_CLASS = 0x61747463;
+    private static final int STRIPES = 64;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean advisory;
+    private final ReentrantLock[] stripes = new ReentrantLock[STRIPES];
+
+    public ContentLocks(DataSource dataSource, DatabasePlatform databasePlatform) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.advisory = databasePlatform.isPostgres();
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * Blocks until the current transaction holds the lock for {@code sha256}; it is released when
+     * the transaction completes.
+     */
+    public void lock(String sha256) {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("Content locks are transaction-scoped; no transaction is active");
+        }
+        int key = (int) Long.parseLong(sha256.substring(0, 8), 16);
+        if (advisory) {
+            jdbcTemplate.query("SELECT pg_advisory_xact_lock(?, ?)", (ResultSetExtractor<Void>) rs -> null,
+                    LOCK_CLASS, key);
+            return;
+        }
+        ReentrantLock lock = stripes[Math.floorMod(key, STRIPES)];
+        lock.lock();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                lock.unlock();
+            }
+        });
+    }
+}
@@ -0,0 +1,73 @@
+package com.nexuspm.nexus_pm_backend.storage;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * Copies an upload stream to a temp file through a single direct buffer, hashing each chunk
+ * as it passes, so an upload is never held in memory and is read exactly once.
+ */
+@Component
+public class ContentSpooler {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Path spoolDir;
+    private final long maxSize;
+
+    public ContentSpooler(@Value("${app.file.upload-dir:./uploads}") String uploadDir,
+                          @Value("${app.file.max-size:10MB}") DataSize maxSize) throws IOException {
+        this.spoolDir = Files.createDirectories(Paths.get(uploadDir).toAbsolutePath().normalize().resolve("tmp"));
+        this.maxSize = maxSize.toBytes();
+    }
+
+    public SpooledContent spool(InputStream in) throws IOException {
+        MessageDigest digest = sha256();
+        Path file = Files.createTempFile(spoolDir, "upload-", ".part");
+        long size = 0;
+        try (ReadableByteChannel source = Channels.newChannel(in);
+             FileChannel target = FileChannel.open(file, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+            while (source.read(buffer) != -1) {
+                buffer.flip();
+                size += buffer.remaining();
+                if (size > maxSize) {
+                    throw new RuntimeException("File exceeds the maximum upload size of " + maxSize + " bytes");
+                }
+                digest.update(buffer.duplicate());
+                while (buffer.hasRemaining()) {
+                    target.write(buffer);
+                }
+                buffer.clear();
+            }
+            target.force(false);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        }
+        return new SpooledContent(file, HexFormat.of().formatHex(digest.digest()), size);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
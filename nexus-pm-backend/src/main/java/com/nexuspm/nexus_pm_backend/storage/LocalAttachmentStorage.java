@@ -0,0 +1,90 @@
+package com.nexuspm.nexus_pm_backend.storage;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Blobs on the local filesystem under {@code app.file.upload-dir/blobs}. Spooled uploads live on
+ * the same volume, so storing one is a rename. Reads stream just the requested range through
+ * {@link FileChannel#transferTo}; the response is a plain servlet stream rather than a file or
+ * socket channel, so the JDK copies through a small heap buffer, not the kernel's sendfile path.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.file.storage", havingValue = "local", matchIfMissing = true)
+public class LocalAttachmentStorage implements AttachmentStorage {
+
+    private final Path root;
+
+    public LocalAttachmentStorage(@Value("${app.file.upload-dir:./uploads}") String uploadDir) throws IOException {
+        this.root = Files.createDirectories(Paths.get(uploadDir).toAbsolutePath().normalize().resolve("blobs"));
+    }
+
+    @Override
+    public boolean put(String sha256, Path source) throws IOException {
+        Path target = pathFor(sha256);
+        if (Files.exists(target)) {
+            Files.deleteIfExists(source);
+            return false;
+        }
+        Files.createDirectories(target.getParent());
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (FileAlreadyExistsException e) {
+            // Same content finished uploading concurrently; it is byte-for-byte what we have
+            Files.deleteIfExists(source);
+            return false;
+        }
+        log.info("Stored attachment blob {}", sha256);
+        return true;
+    }
+
+    @Override
+    public boolean exists(String sha256) {
+        return Files.exists(pathFor(sha256));
+    }
+
+    @Override
+    public InputStream open(String sha256) throws IOException {
+        return Files.newInputStream(pathFor(sha256));
+    }
+
+    @Override
+    public void transferTo(String sha256, long position, long count, WritableByteChannel target) throws IOException {
+        try (FileChannel channel = FileChannel.open(pathFor(sha256), StandardOpenOption.READ)) {
+            long end = Math.min(position + count, channel.size());
+            long offset = position;
+            while (offset < end) {
+                long written = channel.transferTo(offset, end - offset, target);
+                if (written <= 0) {
+                    break;
+                }
+                offset += written;
+            }
+        }
+    }
+
+    @Override
+    public void delete(String sha256) throws IOException {
+        if (Files.deleteIfExists(pathFor(sha256))) {
+            log.info("Deleted attachment blob {}", sha256);
+        }
+    }
+
+    private Path pathFor(String sha256) {
+        return root.resolve(AttachmentStorage.keyFor(sha256));
+    }
+}
@@ -0,0 +1,131 @@
+package com.nexuspm.nexus_pm_backend.storage;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3ClientBuilder;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Blobs in an S3-compatible bucket, e.g. MinIO locally with {@code path-style: true}.
+ * Ranged downloads map onto ranged GETs, so only the requested bytes leave the bucket.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.file.storage", havingValue = "s3")
+public class S3AttachmentStorage implements AttachmentStorage {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final S3Client s3;
+    private final String bucket;
+    private final String prefix;
+
+    public S3AttachmentStorage(@Value("${app.file.s3.endpoint:}") String endpoint,
+                               @Value("${app.file.s3.region:us-east-1}") String region,
+                               @Value("${app.file.s3.bucket:nexus-pm-attachments}") String bucket,
+                               @Value("${app.file.s3.prefix:attachments/}") String prefix,
+                               @Value("${app.file.s3.access-key:}") String accessKey,
+                               @Value("${app.file.s3.secret-key:}") String secretKey,
+                               @Value("${app.file.s3.path-style:true}") boolean pathStyle) {
+        S3ClientBuilder builder = S3Client.builder()
+                .region(Region.of(region))
+                .forcePathStyle(pathStyle)
+                .credentialsProvider(StringUtils.hasText(accessKey)
+                        ? StaticCredentialsProvider.create(AwsBasicCredentials.create(accessKey, secretKey))
+                        : DefaultCredentialsProvider.create());
+        if (StringUtils.hasText(endpoint)) {
+            builder.endpointOverride(URI.create(endpoint));
+        }
+        this.s3 = builder.build();
+        this.bucket = bucket;
+        this.prefix = prefix;
+    }
+
+    @Override
+    public boolean put(String sha256, Path source) throws IOException {
+        try {
+            if (exists(sha256)) {
+                return false;
+            }
+            s3.putObject(b -> b.bucket(bucket).key(keyOf(sha256)), RequestBody.fromFile(source));
+            log.info("Stored attachment blob {} in bucket {}", sha256, bucket);
+            return true;
+        } finally {
+            Files.deleteIfExists(source);
+        }
+    }
+
+    @Override
+    public boolean exists(String sha256) {
+        try {
+            s3.headObject(b -> b.bucket(bucket).key(keyOf(sha256)));
+            return true;
+        } catch (S3Exception e) {
+            if (e.statusCode() == 404) {
+                return false;
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public InputStream open(String sha256) {
+        return s3.getObject(b -> b.bucket(bucket).key(keyOf(sha256)));
+    }
+
+    @Override
+    public void transferTo(String sha256, long position, long count, WritableByteChannel target) throws IOException {
+        if (count <= 0) {
+            return;
+        }
+        String range = "bytes=" + position + "-" + (position + count - 1);
+        try (ResponseInputStream<GetObjectResponse> in = s3.getObject(b -> b.bucket(bucket).key(keyOf(sha256)).range(range));
+             ReadableByteChannel source = Channels.newChannel(in)) {
+            ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+            while (source.read(buffer) != -1) {
+                buffer.flip();
+                while (buffer.hasRemaining()) {
+                    target.write(buffer);
+                }
+                buffer.clear();
+            }
+        }
+    }
+
+    @Override
+    public void delete(String sha256) {
+        s3.deleteObject(b -> b.bucket(bucket).key(keyOf(sha256)));
+        log.info("Deleted attachment blob {} from bucket {}", sha256, bucket);
+    }
+
+    @PreDestroy
+    public void close() {
+        s3.close();
+    }
+
+    private String keyOf(String sha256) {
+        return prefix + AttachmentStorage.keyFor(sha256);
+    }
+}
@@ -0,0 +1,23 @@
+package com.nexuspm.nexus_pm_backend.storage;
+
+import lombok.Value;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * An upload written to a local temp file, with the hash and size computed on the way in.
+ * Closing it removes whatever is left of the temp file.
+ */
+@Value
+public class SpooledContent implements AutoCloseable {
+    Path file;
+    String sha256;
+    long size;
+
+    @Override
+    public void close() throws IOException {
+        Files.deleteIfExists(file);
+    }
+}
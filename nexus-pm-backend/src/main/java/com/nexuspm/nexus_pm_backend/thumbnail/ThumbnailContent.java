@@ -0,0 +1,12 @@
+package com.nexuspm.nexus_pm_backend.thumbnail;
+
+import lombok.Value;
+
+/**
+ * Encoded PNG bytes of one thumbnail, with the hash that serves as its ETag.
+ */
+@Value
+public class ThumbnailContent {
+    String sha256;
+    byte[] content;
+}
@@ -0,0 +1,104 @@
+package com.nexuspm.nexus_pm_backend.thumbnail;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Decodes an image once and produces PNG renditions bounded by each requested edge length.
+ * Large sources are subsampled while decoding, so a 40 megapixel photo is never fully expanded
+ * in memory, and each rendition is scaled down from the next larger one in halving steps.
+ */
+@Component
+public class ThumbnailRenderer {
+
+    private final long maxPixels;
+
+    public ThumbnailRenderer(@Value("${app.thumbnails.max-source-pixels:50000000}") long maxPixels) {
+        this.maxPixels = maxPixels;
+    }
+
+    /**
+     * @throws IllegalArgumentException when the content is not a decodable image or is too large;
+     *                                  retrying will not help
+     */
+    public List<ThumbnailRendition> render(InputStream in, int[] sizes) throws IOException {
+        int[] descending = Arrays.stream(sizes).boxed().sorted((a, b) -> b - a).mapToInt(Integer::intValue).toArray();
+        try (ImageInputStream input = ImageIO.createImageInputStream(in)) {
+            Iterator<ImageReader> readers = input != null ? ImageIO.getImageReaders(input) : null;
+            if (readers == null || !readers.hasNext()) {
+                throw new IllegalArgumentException("Unsupported image format");
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > maxPixels) {
+                    throw new IllegalArgumentException("Image of " + width + "x" + height + " exceeds the thumbnail source limit");
+                }
+                ImageReadParam param = reader.getDefaultReadParam();
+                int subsampling = Math.max(1, Math.max(width, height) / (descending[0] * 2));
+                if (subsampling > 1) {
+                    param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                }
+                BufferedImage current = reader.read(0, param);
+
+                List<ThumbnailRendition> renditions = new ArrayList<>(descending.length);
+                for (int size : descending) {
+                    double ratio = Math.min(1.0, (double) size / Math.max(current.getWidth(), current.getHeight()));
+                    int targetWidth = Math.max(1, (int) Math.round(current.getWidth() * ratio));
+                    int targetHeight = Math.max(1, (int) Math.round(current.getHeight() * ratio));
+                    current = scale(current, targetWidth, targetHeight);
+                    renditions.add(new ThumbnailRendition(size, targetWidth, targetHeight, encode(current)));
+                }
+                return renditions;
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private static BufferedImage scale(BufferedImage image, int targetWidth, int targetHeight) {
+        int type = image.getColorModel().hasAlpha() ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+        BufferedImage current = image;
+        int width = image.getWidth();
+        int height = image.getHeight();
+        // Bilinear in one step aliases badly past 2x; halving keeps every step within it
+        do {
+            width = Math.max(targetWidth, width / 2);
+            height = Math.max(targetHeight, height / 2);
+            BufferedImage next = new BufferedImage(width, height, type);
+            Graphics2D g = next.createGraphics();
+            try {
+                g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                g.drawImage(current, 0, 0, width, height, null);
+            } finally {
+                g.dispose();
+            }
+            current = next;
+        } while (width != targetWidth || height != targetHeight);
+        return current;
+    }
+
+    private static byte[] encode(BufferedImage image) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(32 * 1024);
+        ImageIO.write(image, "png", out);
+        return out.toByteArray();
+    }
+}
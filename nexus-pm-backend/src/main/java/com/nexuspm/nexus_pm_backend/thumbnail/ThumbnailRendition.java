@@ -0,0 +1,11 @@
+package com.nexuspm.nexus_pm_backend.thumbnail;
+
+import lombok.Value;
+
+@Value
+public class ThumbnailRendition {
+    int sizePx;
+    int width;
+    int height;
+    byte[] content;
+}
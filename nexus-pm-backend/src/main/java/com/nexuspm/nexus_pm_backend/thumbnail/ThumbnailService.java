@@ -0,0 +1,310 @@
+package com.nexuspm.nexus_pm_backend.thumbnail;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.nexuspm.nexus_pm_backend.model.Thumbnail;
+import com.nexuspm.nexus_pm_backend.model.ThumbnailJob;
+import com.nexuspm.nexus_pm_backend.repository.AttachmentRepository;
+import com.nexuspm.nexus_pm_backend.repository.ThumbnailJobRepository;
+import com.nexuspm.nexus_pm_backend.repository.ThumbnailRepository;
+import com.nexuspm.nexus_pm_backend.storage.AttachmentStorage;
+import com.nexuspm.nexus_pm_backend.storage.ContentSpooler;
+import com.nexuspm.nexus_pm_backend.storage.SpooledContent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Generates thumbnails for image attachments off the request path. Uploads only insert a
+ * {@link ThumbnailJob} row; a scheduled dispatcher claims due jobs and hands them to a small
+ * bounded pool, never claiming more than the pool has room for, so the queue lives in the
+ * database and survives restarts. Jobs are keyed by content hash, which deduplicates both the
+ * queue and the generated thumbnails across attachments sharing a blob.
+ */
+@Slf4j
+@Service
+public class ThumbnailService {
+
+    private final ThumbnailJobRepository jobRepository;
+    private final ThumbnailRepository thumbnailRepository;
+    private final AttachmentRepository attachmentRepository;
+    private final AttachmentStorage attachmentStorage;
+    private final ContentSpooler contentSpooler;
+    private final ThumbnailRenderer renderer;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolTaskExecutor executor;
+    private final Cache<String, byte[]> contentCache;
+    private final Set<String> inFlight = ConcurrentHashMap.newKeySet();
+    private final int[] sizes;
+    private final int capacity;
+    private final int maxAttempts;
+    private final Duration retryBackoff;
+    private final Duration staleAfter;
+
+    public ThumbnailService(ThumbnailJobRepository jobRepository,
+                            ThumbnailRepository thumbnailRepository,
+                            AttachmentRepository attachmentRepository,
+                            AttachmentStorage attachmentStorage,
+                            ContentSpooler contentSpooler,
+                            ThumbnailRenderer renderer,
+                            PlatformTransactionManager transactionManager,
+                            ObjectProvider<MeterRegistry> meterRegistry,
+                            @Value("${app.thumbnails.sizes:128,512}") int[] sizes,
+                            @Value("${app.thumbnails.threads:2}") int threads,
+                            @Value("${app.thumbnails.queue-capacity:50}") int queueCapacity,
+                            @Value("${app.thumbnails.max-attempts:3}") int maxAttempts,
+                            @Value("${app.thumbnails.retry-backoff:30s}") Duration retryBackoff,
+                            @Value("${app.thumbnails.stale-after:10m}") Duration staleAfter,
+                            @Value("${app.thumbnails.cache-size:64MB}") DataSize cacheSize) {
+        this.jobRepository = jobRepository;
+        this.thumbnailRepository = thumbnailRepository;
+        this.attachmentRepository = attachmentRepository;
+        this.attachmentStorage = attachmentStorage;
+        this.contentSpooler = contentSpooler;
+        this.renderer = renderer;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        // purge() runs from an afterCommit callback, where joining would reuse the finished transaction
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.sizes = Arrays.stream(sizes).filter(size -> size > 0).sorted().toArray();
+        if (this.sizes.length == 0) {
+            throw new IllegalArgumentException("app.thumbnails.sizes must list at least one positive size");
+        }
+        this.capacity = Math.max(1, threads) + Math.max(0, queueCapacity);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.retryBackoff = retryBackoff;
+        this.staleAfter = staleAfter;
+
+        this.executor = new ThreadPoolTaskExecutor();
+        this.executor.setCorePoolSize(Math.max(1, threads));
+        this.executor.setMaxPoolSize(Math.max(1, threads));
+        // Never rejects: the dispatcher only claims as many jobs as there is room for
+        this.executor.setQueueCapacity(this.capacity);
+        this.executor.setThreadNamePrefix("thumbnail-");
+        this.executor.setWaitForTasksToCompleteOnShutdown(false);
+        this.executor.initialize();
+
+        // Thumbnails are immutable blobs keyed by hash, so cached bytes never need invalidating
+        this.contentCache = Caffeine.newBuilder()
+                .maximumWeight(cacheSize.toBytes())
+                .weigher((String key, byte[] value) -> value.length)
+                .recordStats()
+                .build();
+        meterRegistry.ifAvailable(registry -> CaffeineCacheMetrics.monitor(registry, contentCache, "thumbnailContent"));
+    }
+
+    /**
+     * Queues thumbnail generation for an image blob unless it is already queued or done.
+     */
+    public void enqueue(String contentSha256) {
+        if (jobRepository.existsByContentSha256(contentSha256)) {
+            return;
+        }
+        ThumbnailJob job = new ThumbnailJob();
+        job.setContentSha256(contentSha256);
+        try {
+            jobRepository.save(job);
+            log.info("Queued thumbnail job for blob {}", contentSha256);
+        } catch (DataIntegrityViolationException e) {
+            // Queued concurrently by another upload of the same content
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.thumbnails.poll-interval-ms:1000}")
+    public void dispatch() {
+        int free = capacity - inFlight.size();
+        if (free <= 0) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        List<UUID> due = jobRepository.findDueIds(now, PageRequest.of(0, free));
+        for (UUID jobId : due) {
+            Integer claimed = transactionTemplate.execute(status -> jobRepository.claim(jobId, LocalDateTime.now()));
+            if (claimed == null || claimed == 0) {
+                continue;
+            }
+            jobRepository.findById(jobId).ifPresent(job -> {
+                String sha256 = job.getContentSha256();
+                if (inFlight.add(sha256)) {
+                    executor.execute(() -> process(jobId, sha256));
+                }
+            });
+        }
+    }
+
+    /**
+     * Jobs left RUNNING by a node that stopped mid-job; the worker would have touched
+     * {@code updated_at} on completion or failure long before this. A stalled run counts as an
+     * attempt, so a blob that takes its worker down every time ends up FAILED instead of looping.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${app.thumbnails.stale-check-interval-ms:60000}")
+    public void requeueStaleJobs() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime staleBefore = now.minus(staleAfter);
+        int[] counts = transactionTemplate.execute(status -> new int[] {
+                jobRepository.requeueStale(staleBefore, maxAttempts, now),
+                jobRepository.failStale(staleBefore, maxAttempts, "Stalled on every attempt", now)
+        });
+        if (counts != null && counts[0] > 0) {
+            log.info("Requeued {} stale thumbnail jobs", counts[0]);
+        }
+        if (counts != null && counts[1] > 0) {
+            log.warn("Failed {} stale thumbnail jobs permanently after {} attempts", counts[1], maxAttempts);
+        }
+    }
+
+    void process(UUID jobId, String sha256) {
+        try {
+            List<ThumbnailRendition> renditions;
+            try (InputStream in = attachmentStorage.open(sha256)) {
+                renditions = renderer.render(in, sizes);
+            }
+            List<Thumbnail> generated = new ArrayList<>(renditions.size());
+            for (ThumbnailRendition rendition : renditions) {
+                try (SpooledContent spooled = contentSpooler.spool(new ByteArrayInputStream(rendition.getContent()))) {
+                    attachmentStorage.put(spooled.getSha256(), spooled.getFile());
+                    generated.add(new Thumbnail(null, sha256, rendition.getSizePx(), spooled.getSha256(),
+                            rendition.getWidth(), rendition.getHeight(), spooled.getSize()));
+                }
+            }
+            generated.sort(Comparator.comparingInt(Thumbnail::getSizePx));
+            complete(jobId, sha256, generated);
+            log.info("Generated {} thumbnails for blob {}", generated.size(), sha256);
+        } catch (IllegalArgumentException e) {
+            fail(jobId, e.getMessage(), false);
+        } catch (Exception e) {
+            fail(jobId, e.getMessage(), true);
+        } finally {
+            inFlight.remove(sha256);
+        }
+    }
+
+    private void complete(UUID jobId, String sha256, List<Thumbnail> generated) {
+        transactionTemplate.executeWithoutResult(status -> {
+            Set<Integer> existing = new HashSet<>();
+            thumbnailRepository.findByContentSha256OrderBySizePxAsc(sha256)
+                    .forEach(thumbnail -> existing.add(thumbnail.getSizePx()));
+            thumbnailRepository.saveAll(generated.stream()
+                    .filter(thumbnail -> !existing.contains(thumbnail.getSizePx()))
+                    .toList());
+            jobRepository.findById(jobId).ifPresent(job -> {
+                job.setStatus(ThumbnailJob.Status.DONE);
+                job.setLastError(null);
+                job.setUpdatedAt(LocalDateTime.now());
+            });
+            // The smallest rendition is the one lists show
+            attachmentRepository.updateThumbnailPath(sha256,
+                    AttachmentStorage.keyFor(generated.get(0).getThumbnailSha256()));
+        });
+    }
+
+    private void fail(UUID jobId, String error, boolean retryable) {
+        transactionTemplate.executeWithoutResult(status -> jobRepository.findById(jobId).ifPresent(job -> {
+            LocalDateTime now = LocalDateTime.now();
+            job.setLastError(error != null && error.length() > 255 ? error.substring(0, 255) : error);
+            job.setUpdatedAt(now);
+            if (retryable && job.getAttempts() < maxAttempts) {
+                job.setStatus(ThumbnailJob.Status.PENDING);
+                job.setNextAttemptAt(now.plus(retryBackoff.multipliedBy(1L << (job.getAttempts() - 1))));
+                log.warn("Thumbnail job {} failed (attempt {}), retrying: {}", jobId, job.getAttempts(), error);
+            } else {
+                job.setStatus(ThumbnailJob.Status.FAILED);
+                log.warn("Thumbnail job {} failed permanently: {}", jobId, error);
+            }
+        }));
+    }
+
+    /**
+     * The smallest thumbnail at least {@code requestedSize} on its longer edge, or the largest
+     * one there is; the smallest when no size is requested.
+     */
+    public Optional<ThumbnailContent> find(String contentSha256, Integer requestedSize) {
+        List<Thumbnail> thumbnails = thumbnailRepository.findByContentSha256OrderBySizePxAsc(contentSha256);
+        if (thumbnails.isEmpty()) {
+            return Optional.empty();
+        }
+        Thumbnail chosen = thumbnails.get(thumbnails.size() - 1);
+        int wanted = requestedSize != null ? requestedSize : 0;
+        for (Thumbnail thumbnail : thumbnails) {
+            if (thumbnail.getSizePx() >= wanted) {
+                chosen = thumbnail;
+                break;
+            }
+        }
+        String thumbnailSha256 = chosen.getThumbnailSha256();
+        byte[] content = contentCache.get(thumbnailSha256, key -> {
+            try (InputStream in = attachmentStorage.open(key)) {
+                return in.readAllBytes();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return Optional.of(new ThumbnailContent(thumbnailSha256, content));
+    }
+
+    public boolean isPending(String contentSha256) {
+        return jobRepository.findByContentSha256(contentSha256)
+                .map(job -> job.getStatus() == ThumbnailJob.Status.PENDING || job.getStatus() == ThumbnailJob.Status.RUNNING)
+                .orElse(false);
+    }
+
+    /**
+     * Drops the thumbnails and job of a blob whose last attachment is gone.
+     */
+    public void purge(String contentSha256) {
+        List<Thumbnail> thumbnails = thumbnailRepository.findByContentSha256OrderBySizePxAsc(contentSha256);
+        transactionTemplate.executeWithoutResult(status -> {
+            thumbnailRepository.deleteAll(thumbnails);
+            jobRepository.findByContentSha256(contentSha256).ifPresent(jobRepository::delete);
+        });
+        for (Thumbnail thumbnail : thumbnails) {
+            String thumbnailSha256 = thumbnail.getThumbnailSha256();
+            contentCache.invalidate(thumbnailSha256);
+            // A thumbnail blob could coincide with an uploaded file or another rendition
+            if (attachmentRepository.countByContentSha256(thumbnailSha256) == 0
+                    && thumbnailRepository.countByThumbnailSha256(thumbnailSha256) == 0) {
+                try {
+                    attachmentStorage.delete(thumbnailSha256);
+                } catch (IOException | RuntimeException e) {
+                    log.warn("Could not delete thumbnail blob {}: {}", thumbnailSha256, e.getMessage());
+                }
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // Unfinished jobs stay RUNNING and are requeued once stale
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,56 @@
+-- Monthly range partitions for activities. Retention detaches and archives whole partitions
+-- (ActivityPartitionService) instead of deleting rows, and feed queries bounded by created_at
+-- only touch the months they ask for. The partition key has to be part of the primary key.
+
+ALTER TABLE activities RENAME TO activities_unpartitioned;
+ALTER INDEX activities_pkey RENAME TO activities_unpartitioned_pkey;
+DROP INDEX IF EXISTS idx_activities_entity;
+DROP INDEX IF EXISTS idx_activities_user_created;
+DROP INDEX IF EXISTS idx_activities_project_created;
+
+CREATE TABLE activities (
+    id UUID NOT NULL DEFAULT uuid_generate_v4(),
+    entity_type VARCHAR(50) NOT NULL,
+    entity_id VARCHAR(255) NOT NULL,
+    action VARCHAR(50) NOT NULL,
+    user_id UUID REFERENCES users(id),
+    project_id UUID REFERENCES projects(id),
+    description TEXT,
+    old_values JSONB,
+    new_values JSONB,
+    metadata JSONB DEFAULT '{}',
+    ip_address VARCHAR(255),
+    user_agent VARCHAR(255),
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (id, created_at)
+) PARTITION BY RANGE (created_at);
+
+-- Catches rows outside the pre-created months so an insert never fails
+CREATE TABLE activities_default PARTITION OF activities DEFAULT;
+
+DO $$
+DECLARE
+    month_start DATE := date_trunc('month', COALESCE((SELECT MIN(created_at) FROM activities_unpartitioned), CURRENT_TIMESTAMP))::date;
+    last_month DATE := (date_trunc('month', CURRENT_DATE) + INTERVAL '3 months')::date;
+BEGIN
+    WHILE month_start <= last_month LOOP
+        EXECUTE format('CREATE TABLE %I PARTITION OF activities FOR VALUES FROM (%L) TO (%L)',
+                       'activities_p' || to_char(month_start, 'YYYYMM'),
+                       month_start,
+                       (month_start + INTERVAL '1 month')::date);
+        month_start := (month_start + INTERVAL '1 month')::date;
+    END LOOP;
+END $$;
+
+INSERT INTO activities (id, entity_type, entity_id, action, user_id, project_id, description,
+                        old_values, new_values, metadata, ip_address, user_agent, created_at)
+SELECT id, entity_type, entity_id, action, user_id, project_id, description,
+       old_values, new_values, metadata, ip_address, user_agent, created_at
+FROM activities_unpartitioned;
+
+DROP TABLE activities_unpartitioned;
+
+-- Defined on the parent, created on every partition
+CREATE INDEX idx_activities_project_created ON activities(project_id, created_at DESC);
+CREATE INDEX idx_activities_user_created ON activities(user_id, created_at DESC);
+CREATE INDEX idx_activities_entity ON activities(entity_type, entity_id);
@@ -0,0 +1,20 @@
+-- Align notifications with the Notification entity
+ALTER TABLE notifications ALTER COLUMN entity_id TYPE VARCHAR(255) USING entity_id::text;
+ALTER TABLE notifications
+    ADD COLUMN action_url VARCHAR(255),
+    ADD COLUMN metadata JSONB DEFAULT '{}',
+    ADD COLUMN read_at TIMESTAMP;
+
+-- Newest-first list per user; the unread index from V1 stays for the counter recount
+CREATE INDEX idx_notifications_user_created ON notifications(user_id, created_at DESC);
+
+-- Unread badge counts maintained by the fan-out engine
+CREATE TABLE notification_counters (
+    user_id UUID PRIMARY KEY REFERENCES users(id) ON DELETE CASCADE,
+    unread_count BIGINT NOT NULL DEFAULT 0
+);
+
+INSERT INTO notification_counters (user_id, unread_count)
+SELECT user_id, COUNT(*) FROM notifications
+WHERE is_read = false AND user_id IS NOT NULL
+GROUP BY user_id;
@@ -0,0 +1,3 @@
+-- Digest candidates: unread notifications not yet emailed
+CREATE INDEX idx_notifications_email_pending ON notifications(created_at, user_id)
+    WHERE is_email_sent = false AND is_read = false;
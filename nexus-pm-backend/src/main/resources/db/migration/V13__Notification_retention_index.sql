@@ -0,0 +1,2 @@
+-- Lets each retention chunk find its oldest read notifications without scanning unread ones
+CREATE INDEX idx_notifications_read_created ON notifications(created_at) WHERE is_read = true;
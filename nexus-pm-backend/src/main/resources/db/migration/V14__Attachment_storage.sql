@@ -0,0 +1,9 @@
+-- Align attachments with the entity and key the stored content by its SHA-256
+ALTER TABLE attachments RENAME COLUMN mime_type TO content_type;
+ALTER TABLE attachments ADD COLUMN is_image BOOLEAN DEFAULT false;
+ALTER TABLE attachments ADD COLUMN thumbnail_path VARCHAR(500);
+ALTER TABLE attachments ADD COLUMN content_sha256 VARCHAR(64);
+
+CREATE INDEX idx_attachments_issue_created ON attachments(issue_id, created_at);
+-- Reference count lookup when deleting a shared blob
+CREATE INDEX idx_attachments_content_sha256 ON attachments(content_sha256);
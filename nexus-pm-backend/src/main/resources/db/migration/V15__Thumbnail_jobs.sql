@@ -0,0 +1,28 @@
+-- Persistent queue of thumbnail work, one row per image blob
+CREATE TABLE thumbnail_jobs (
+    id UUID PRIMARY KEY DEFAULT uuid_generate_v4(),
+    content_sha256 VARCHAR(64) NOT NULL UNIQUE,
+    status VARCHAR(20) NOT NULL DEFAULT 'PENDING',
+    attempts INTEGER NOT NULL DEFAULT 0,
+    last_error VARCHAR(255),
+    next_attempt_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- The dispatcher only ever looks at due PENDING jobs and stale RUNNING ones
+CREATE INDEX idx_thumbnail_jobs_due ON thumbnail_jobs(next_attempt_at) WHERE status = 'PENDING';
+CREATE INDEX idx_thumbnail_jobs_running ON thumbnail_jobs(updated_at) WHERE status = 'RUNNING';
+
+CREATE TABLE thumbnails (
+    id UUID PRIMARY KEY DEFAULT uuid_generate_v4(),
+    content_sha256 VARCHAR(64) NOT NULL,
+    size_px INTEGER NOT NULL,
+    thumbnail_sha256 VARCHAR(64) NOT NULL,
+    width INTEGER NOT NULL,
+    height INTEGER NOT NULL,
+    byte_size BIGINT NOT NULL,
+    UNIQUE (content_sha256, size_px)
+);
+
+CREATE INDEX idx_thumbnails_thumbnail_sha256 ON thumbnails(thumbnail_sha256);
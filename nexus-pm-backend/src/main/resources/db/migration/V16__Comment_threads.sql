@@ -0,0 +1,8 @@
+-- Replies and internal notes, as mapped by the Comment entity
+ALTER TABLE comments ADD COLUMN parent_id UUID REFERENCES comments(id) ON DELETE CASCADE;
+ALTER TABLE comments ADD COLUMN is_internal BOOLEAN DEFAULT false;
+
+-- Top-level page per issue in thread order
+CREATE INDEX idx_comments_issue_root_created ON comments(issue_id, created_at, id) WHERE parent_id IS NULL;
+-- Each step of the recursive reply walk
+CREATE INDEX idx_comments_parent ON comments(parent_id, created_at);
@@ -0,0 +1,22 @@
+-- V17__Sprint_stats_backfill.sql
+-- Sprint.stats is mapped as a required one-to-one; give every sprint inserted since V6 without
+-- going through SprintService (SQL imports, older nodes during a rollout) its counter rows
+
+INSERT INTO sprint_stats (sprint_id, total_story_points, completed_story_points, issue_count, completed_issue_count)
+SELECT s.id,
+       COALESCE(SUM(i.story_points), 0),
+       COALESCE(SUM(i.story_points) FILTER (WHERE i.status IN ('RESOLVED', 'CLOSED')), 0),
+       COUNT(i.id),
+       COUNT(i.id) FILTER (WHERE i.status IN ('RESOLVED', 'CLOSED'))
+FROM sprints s
+LEFT JOIN issues i ON i.sprint_id = s.id
+WHERE NOT EXISTS (SELECT 1 FROM sprint_stats ss WHERE ss.sprint_id = s.id)
+GROUP BY s.id;
+
+INSERT INTO sprint_status_counts (sprint_id, status, issue_count)
+SELECT s.id, st.status, COUNT(i.id)
+FROM sprints s
+CROSS JOIN (VALUES ('OPEN'), ('IN_PROGRESS'), ('IN_REVIEW'), ('TESTING'), ('RESOLVED'), ('CLOSED'), ('BLOCKED')) AS st(status)
+LEFT JOIN issues i ON i.sprint_id = s.id AND i.status = st.status
+WHERE NOT EXISTS (SELECT 1 FROM sprint_status_counts sc WHERE sc.sprint_id = s.id AND sc.status = st.status)
+GROUP BY s.id, st.status;
@@ -0,0 +1,15 @@
+-- V3__Issue_key_sequences.sql
+-- Per-project counters for issue key numbers (replaces the MAX() scan on every insert)
+
+CREATE TABLE project_issue_sequences (
+    project_id UUID PRIMARY KEY REFERENCES projects(id) ON DELETE CASCADE,
+    next_value BIGINT NOT NULL DEFAULT 1,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Seed counters from the issues that already exist
+INSERT INTO project_issue_sequences (project_id, next_value)
+SELECT p.id, COALESCE(MAX(CAST(SUBSTRING(i.key FROM LENGTH(p.key) + 2) AS BIGINT)), 0) + 1
+FROM projects p
+LEFT JOIN issues i ON i.project_id = p.id
+GROUP BY p.id, p.key;
@@ -0,0 +1,4 @@
+-- V4__Issue_listing_index.sql
+-- Supports keyset pagination of project issue lists on (created_at, id)
+
+CREATE INDEX idx_issues_project_created ON issues(project_id, created_at DESC, id DESC);
@@ -0,0 +1,24 @@
+-- V5__Fulltext_search.sql
+-- Postgres-native search used when app.search.sql-mode=fulltext.
+-- Stored tsvector columns give ranked word search; trigram indexes cover partial words and keys.
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+ALTER TABLE issues ADD COLUMN search_vector tsvector GENERATED ALWAYS AS (
+    setweight(to_tsvector('simple', coalesce(key, '')), 'A') ||
+    setweight(to_tsvector('english', coalesce(title, '')), 'A') ||
+    setweight(to_tsvector('english', coalesce(description, '')), 'B')
+) STORED;
+
+CREATE INDEX idx_issues_search_vector ON issues USING GIN (search_vector);
+CREATE INDEX idx_issues_title_trgm ON issues USING GIN (title gin_trgm_ops);
+CREATE INDEX idx_issues_key_trgm ON issues USING GIN (key gin_trgm_ops);
+
+ALTER TABLE projects ADD COLUMN search_vector tsvector GENERATED ALWAYS AS (
+    setweight(to_tsvector('simple', coalesce(key, '')), 'A') ||
+    setweight(to_tsvector('english', coalesce(name, '')), 'A') ||
+    setweight(to_tsvector('english', coalesce(description, '')), 'B')
+) STORED;
+
+CREATE INDEX idx_projects_search_vector ON projects USING GIN (search_vector);
+CREATE INDEX idx_projects_name_trgm ON projects USING GIN (name gin_trgm_ops);
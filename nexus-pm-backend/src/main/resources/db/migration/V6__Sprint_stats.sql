@@ -0,0 +1,35 @@
+-- V6__Sprint_stats.sql
+-- Incrementally maintained sprint counters (see SprintAggregateService), backfilled from issues
+
+CREATE TABLE sprint_stats (
+    sprint_id UUID PRIMARY KEY REFERENCES sprints(id) ON DELETE CASCADE,
+    total_story_points INTEGER NOT NULL DEFAULT 0,
+    completed_story_points INTEGER NOT NULL DEFAULT 0,
+    issue_count INTEGER NOT NULL DEFAULT 0,
+    completed_issue_count INTEGER NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE TABLE sprint_status_counts (
+    sprint_id UUID NOT NULL REFERENCES sprints(id) ON DELETE CASCADE,
+    status VARCHAR(50) NOT NULL,
+    issue_count INTEGER NOT NULL DEFAULT 0,
+    PRIMARY KEY (sprint_id, status)
+);
+
+INSERT INTO sprint_stats (sprint_id, total_story_points, completed_story_points, issue_count, completed_issue_count)
+SELECT s.id,
+       COALESCE(SUM(i.story_points), 0),
+       COALESCE(SUM(i.story_points) FILTER (WHERE i.status IN ('RESOLVED', 'CLOSED')), 0),
+       COUNT(i.id),
+       COUNT(i.id) FILTER (WHERE i.status IN ('RESOLVED', 'CLOSED'))
+FROM sprints s
+LEFT JOIN issues i ON i.sprint_id = s.id
+GROUP BY s.id;
+
+INSERT INTO sprint_status_counts (sprint_id, status, issue_count)
+SELECT s.id, st.status, COUNT(i.id)
+FROM sprints s
+CROSS JOIN (VALUES ('OPEN'), ('IN_PROGRESS'), ('IN_REVIEW'), ('TESTING'), ('RESOLVED'), ('CLOSED'), ('BLOCKED')) AS st(status)
+LEFT JOIN issues i ON i.sprint_id = s.id AND i.status = st.status
+GROUP BY s.id, st.status;
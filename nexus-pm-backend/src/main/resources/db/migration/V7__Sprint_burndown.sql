@@ -0,0 +1,22 @@
+-- V7__Sprint_burndown.sql
+-- Append-only sprint totals for burndown/burnup charts, compacted per bucket by SprintBurndownService
+
+CREATE TABLE sprint_burndown_points (
+    id UUID PRIMARY KEY DEFAULT uuid_generate_v4(),
+    sprint_id UUID NOT NULL REFERENCES sprints(id) ON DELETE CASCADE,
+    recorded_at TIMESTAMP NOT NULL,
+    total_points INTEGER NOT NULL,
+    completed_points INTEGER NOT NULL,
+    scope_added INTEGER NOT NULL DEFAULT 0,
+    scope_removed INTEGER NOT NULL DEFAULT 0,
+    resolution VARCHAR(10) NOT NULL DEFAULT 'RAW'
+);
+
+CREATE INDEX idx_burndown_sprint_recorded ON sprint_burndown_points(sprint_id, recorded_at);
+-- Compaction only looks at samples that have not been folded yet
+CREATE INDEX idx_burndown_raw ON sprint_burndown_points(recorded_at) WHERE resolution = 'RAW';
+
+-- Seed one sample per existing sprint from the V6 counters
+INSERT INTO sprint_burndown_points (sprint_id, recorded_at, total_points, completed_points, resolution)
+SELECT sprint_id, CURRENT_TIMESTAMP, total_story_points, completed_story_points, 'BUCKET'
+FROM sprint_stats;
@@ -0,0 +1,2 @@
+-- Version counter embedded in issued JWTs; bumping it revokes all earlier tokens for the user
+ALTER TABLE users ADD COLUMN security_stamp BIGINT NOT NULL DEFAULT 0;
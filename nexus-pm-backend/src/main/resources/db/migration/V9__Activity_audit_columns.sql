@@ -0,0 +1,15 @@
+-- Align activities with the Activity entity so the batch writer can insert audit rows
+ALTER TABLE activities RENAME COLUMN actor_id TO user_id;
+ALTER TABLE activities RENAME COLUMN details TO metadata;
+ALTER TABLE activities ALTER COLUMN entity_id TYPE VARCHAR(255) USING entity_id::text;
+ALTER TABLE activities ALTER COLUMN created_at SET NOT NULL;
+ALTER TABLE activities
+    ADD COLUMN description TEXT,
+    ADD COLUMN old_values JSONB,
+    ADD COLUMN new_values JSONB,
+    ADD COLUMN ip_address VARCHAR(255),
+    ADD COLUMN user_agent VARCHAR(255);
+
+CREATE INDEX idx_activities_user_created ON activities(user_id, created_at DESC);
+CREATE INDEX idx_activities_project_created ON activities(project_id, created_at DESC);
+DROP INDEX IF EXISTS idx_activities_project;
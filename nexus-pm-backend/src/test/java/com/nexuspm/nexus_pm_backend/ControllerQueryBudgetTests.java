@@ -0,0 +1,202 @@
+package com.nexuspm.nexus_pm_backend;
+
+import com.nexuspm.nexus_pm_backend.dto.CommentDto;
+import com.nexuspm.nexus_pm_backend.dto.CommentRequest;
+import com.nexuspm.nexus_pm_backend.model.Issue;
+import com.nexuspm.nexus_pm_backend.model.Project;
+import com.nexuspm.nexus_pm_backend.model.Sprint;
+import com.nexuspm.nexus_pm_backend.model.User;
+import com.nexuspm.nexus_pm_backend.observability.RequestQueryStats;
+import com.nexuspm.nexus_pm_backend.service.CommentService;
+import com.nexuspm.nexus_pm_backend.service.IssueService;
+import com.nexuspm.nexus_pm_backend.service.ProjectService;
+import com.nexuspm.nexus_pm_backend.service.SprintService;
+import com.nexuspm.nexus_pm_backend.service.UserService;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.MockMvcBuilderCustomizer;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Hits the read endpoints against a seeded project with query budgets in fail mode, so a change
+ * that reintroduces per-row lazy loading (in a service or during serialization) fails here rather
+ * than in production. Controllers catch exceptions into 500 bodies, so every request is also
+ * checked against the request's {@link RequestQueryStats}, not just its status.
+ */
+@Import(TestcontainersConfiguration.class)
+@SpringBootTest(properties = "app.observability.query-budget.mode=fail")
+@AutoConfigureMockMvc
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ControllerQueryBudgetTests {
+
+	private static final int ISSUES = 12;
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private UserService userService;
+
+	@Autowired
+	private ProjectService projectService;
+
+	@Autowired
+	private SprintService sprintService;
+
+	@Autowired
+	private IssueService issueService;
+
+	@Autowired
+	private CommentService commentService;
+
+	private User user;
+	private Project project;
+	private Sprint sprint;
+	private final List<Issue> issues = new ArrayList<>();
+
+	@BeforeAll
+	void seed() {
+		User reporter = new User();
+		reporter.setEmail("budget-" + UUID.randomUUID() + "@example.com");
+		reporter.setPasswordHash("password");
+		reporter.setFirstName("Query");
+		reporter.setLastName("Budget");
+		user = userService.createUser(reporter);
+
+		Project newProject = new Project();
+		newProject.setName("Query budget");
+		newProject.setKey("QB" + UUID.randomUUID().toString().substring(0, 6).toUpperCase());
+		project = projectService.createProject(newProject, user.getId());
+
+		Sprint newSprint = new Sprint();
+		newSprint.setName("Sprint 1");
+		sprint = sprintService.createSprint(newSprint, project.getId());
+
+		for (int i = 0; i < ISSUES; i++) {
+			Issue issue = new Issue();
+			issue.setTitle("Issue " + i);
+			issue.setStoryPoints(i % 5 + 1);
+			Issue created = issueService.createIssue(issue, project.getId(), user.getId());
+			issueService.assignIssue(created.getId(), user.getId());
+			issues.add(issueService.moveIssueToSprint(created.getId(), sprint.getId()));
+		}
+
+		// A couple of threads with replies on the first issue
+		UUID issueId = issues.get(0).getId();
+		for (int t = 0; t < 3; t++) {
+			CommentDto root = comment(issueId, null, "Thread " + t);
+			for (int r = 0; r < 3; r++) {
+				comment(issueId, root.getId(), "Reply " + r);
+			}
+		}
+	}
+
+	@Test
+	void issueListStaysWithinBudget() throws Exception {
+		mockMvc.perform(get("/api/issues/project/{projectId}", project.getId()).param("size", "50"))
+				.andExpect(status().isOk());
+	}
+
+	@Test
+	void issueSearchMapsWithoutLoadingAssociations() throws Exception {
+		mockMvc.perform(get("/api/issues/project/{projectId}", project.getId()).param("search", "Issue"))
+				.andExpect(status().isOk());
+	}
+
+	@Test
+	void issueLookupStaysWithinBudget() throws Exception {
+		mockMvc.perform(get("/api/issues/{id}", issues.get(0).getId()))
+				.andExpect(status().isOk());
+	}
+
+	@Test
+	void issueDetailStaysWithinBudget() throws Exception {
+		mockMvc.perform(get("/api/issues/{id}/detail", issues.get(0).getId()))
+				.andExpect(status().isOk());
+	}
+
+	@Test
+	void commentThreadsStayWithinBudget() throws Exception {
+		UUID issueId = issues.get(0).getId();
+		mockMvc.perform(get("/api/comments").param("issueId", issueId.toString()))
+				.andExpect(status().isOk());
+		mockMvc.perform(get("/api/comments/thread").param("issueId", issueId.toString()))
+				.andExpect(status().isOk());
+	}
+
+	@Test
+	void projectReadsStayWithinBudget() throws Exception {
+		mockMvc.perform(get("/api/projects/{id}", project.getId()))
+				.andExpect(status().isOk());
+		mockMvc.perform(get("/api/projects/{id}/members", project.getId()))
+				.andExpect(status().isOk());
+	}
+
+	@Test
+	void projectSummaryStaysWithinBudget() throws Exception {
+		mockMvc.perform(get("/api/projects/{id}/summary", project.getId()))
+				.andExpect(status().isOk());
+	}
+
+	@Test
+	void sprintReadsStayWithinBudget() throws Exception {
+		mockMvc.perform(get("/api/sprints/{id}/progress", sprint.getId()))
+				.andExpect(status().isOk());
+		mockMvc.perform(get("/api/sprints/{id}/burndown", sprint.getId()))
+				.andExpect(status().isOk());
+	}
+
+	@Test
+	void notificationReadsStayWithinBudget() throws Exception {
+		mockMvc.perform(get("/api/notifications").param("userId", user.getId().toString()))
+				.andExpect(status().isOk());
+		mockMvc.perform(get("/api/notifications/unread-count").param("userId", user.getId().toString()))
+				.andExpect(status().isOk());
+	}
+
+	private CommentDto comment(UUID issueId, UUID parentId, String content) {
+		CommentRequest request = new CommentRequest();
+		request.setIssueId(issueId);
+		request.setParentId(parentId);
+		request.setContent(content);
+		return commentService.addComment(user.getId(), request);
+	}
+
+	static ResultMatcher withinBudget() {
+		return result -> {
+			RequestQueryStats stats = (RequestQueryStats) result.getRequest().getAttribute(RequestQueryStats.ATTRIBUTE);
+			assertThat(stats).as("query stats for %s", result.getRequest().getRequestURI()).isNotNull();
+			assertThat(stats.isOverBudget())
+					.as("%s ran %d statements against a budget of %d", stats.getEndpoint(),
+							stats.getStatements(), stats.getBudget())
+					.isFalse();
+		};
+	}
+
+	@TestConfiguration(proxyBeanMethods = false)
+	static class QueryBudgetExpectations {
+
+		@Bean
+		MockMvcBuilderCustomizer queryBudgetCustomizer() {
+			return builder -> builder.alwaysExpect(withinBudget());
+		}
+
+	}
+
+}
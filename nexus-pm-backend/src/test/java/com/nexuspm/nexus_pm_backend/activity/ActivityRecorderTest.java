@@ -0,0 +1,148 @@
+package com.nexuspm.nexus_pm_backend.activity;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nexuspm.nexus_pm_backend.config.DatabasePlatform;
+import com.nexuspm.nexus_pm_backend.model.Activity;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ActivityRecorderTest {
+
+	private static final String CREATE_TABLE = "CREATE TABLE activities (id UUID PRIMARY KEY, action VARCHAR(50), "
+			+ "entity_type VARCHAR(50), entity_id VARCHAR(255), project_id UUID, user_id UUID, description VARCHAR(1000), "
+			+ "old_values VARCHAR(1000), new_values VARCHAR(1000), metadata VARCHAR(1000), ip_address VARCHAR(45), "
+			+ "user_agent VARCHAR(255), created_at TIMESTAMP)";
+
+	@TempDir
+	Path walDir;
+
+	private EmbeddedDatabase database;
+	private JdbcTemplate jdbcTemplate;
+	private TransactionTemplate transactionTemplate;
+	private ActivityRecorder recorder;
+
+	@BeforeEach
+	void setUp() {
+		database = new EmbeddedDatabaseBuilder()
+				.setType(EmbeddedDatabaseType.H2)
+				.generateUniqueName(true)
+				.build();
+		jdbcTemplate = new JdbcTemplate(database);
+		jdbcTemplate.execute(CREATE_TABLE);
+
+		DataSource dataSource = new RollbackOnReturnDataSource(database);
+		DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+		transactionTemplate = new TransactionTemplate(transactionManager);
+		// Queue of one: the second entry of a burst takes the overflow path
+		recorder = new ActivityRecorder(new ActivityBatchWriter(dataSource, new DatabasePlatform(dataSource), 500), transactionManager,
+				new ObjectMapper(), new SimpleMeterRegistry(), "async", 1, 500, walDir.toString(), false);
+	}
+
+	@AfterEach
+	void tearDown() {
+		database.shutdown();
+	}
+
+	@Test
+	void overflowWrittenAfterCommitIsCommitted() {
+		transactionTemplate.executeWithoutResult(status -> {
+			recorder.record(event("first"));
+			recorder.record(event("second"));
+		});
+
+		// The overflow row is written by the caller, the queued one only by the flush
+		assertThat(count()).isEqualTo(1);
+		assertThat(recorder.getQueueDepth()).isEqualTo(1);
+
+		recorder.flush();
+		assertThat(count()).isEqualTo(2);
+	}
+
+	@Test
+	void failedOverflowWriteIsRetriedByTheNextFlush() {
+		recorder.record(event("queued"));
+		jdbcTemplate.execute("DROP TABLE activities");
+
+		transactionTemplate.executeWithoutResult(status -> recorder.record(event("overflow")));
+
+		jdbcTemplate.execute(CREATE_TABLE);
+		recorder.flush();
+		assertThat(count()).isEqualTo(2);
+	}
+
+	@Test
+	void rolledBackWorkLeavesNoEntry() {
+		transactionTemplate.executeWithoutResult(status -> {
+			recorder.record(event("discarded"));
+			status.setRollbackOnly();
+		});
+
+		recorder.flush();
+		assertThat(count()).isZero();
+	}
+
+	private int count() {
+		return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM activities", Integer.class);
+	}
+
+	private static ActivityEvent event(String description) {
+		ActivityEvent event = new ActivityEvent();
+		event.setId(UUID.randomUUID());
+		event.setAction(Activity.ActivityAction.UPDATED);
+		event.setEntityType("ISSUE");
+		event.setEntityId(UUID.randomUUID().toString());
+		event.setDescription(description);
+		event.setCreatedAt(LocalDateTime.now());
+		return event;
+	}
+
+	/**
+	 * Discards uncommitted work when a connection leaves a transaction, as a pool does when a
+	 * connection comes back dirty. H2 on its own commits pending work when auto-commit is switched
+	 * back on, which would hide a write made into an already committed transaction.
+	 */
+	private static final class RollbackOnReturnDataSource extends DelegatingDataSource {
+
+		RollbackOnReturnDataSource(DataSource target) {
+			super(target);
+		}
+
+		@Override
+		public Connection getConnection() throws SQLException {
+			Connection connection = super.getConnection();
+			return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] {Connection.class},
+					(proxy, method, args) -> {
+						if (method.getName().equals("setAutoCommit") && Boolean.TRUE.equals(args[0])
+								&& !connection.getAutoCommit()) {
+							connection.rollback();
+						}
+						try {
+							return method.invoke(connection, args);
+						} catch (InvocationTargetException e) {
+							throw e.getCause();
+						}
+					});
+		}
+	}
+}
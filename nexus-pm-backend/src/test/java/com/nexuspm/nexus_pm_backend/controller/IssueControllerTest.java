@@ -0,0 +1,68 @@
+package com.nexuspm.nexus_pm_backend.controller;
+
+import com.nexuspm.nexus_pm_backend.dto.CursorPage;
+import com.nexuspm.nexus_pm_backend.mapper.IssueMapper;
+import com.nexuspm.nexus_pm_backend.search.IssueSearchEngine;
+import com.nexuspm.nexus_pm_backend.search.IssueSearchIndexer;
+import com.nexuspm.nexus_pm_backend.service.IssueDetailService;
+import com.nexuspm.nexus_pm_backend.service.IssueImportService;
+import com.nexuspm.nexus_pm_backend.service.IssueService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class IssueControllerTest {
+
+	private final UUID projectId = UUID.randomUUID();
+
+	private IssueService issueService;
+	private MockMvc mockMvc;
+
+	@BeforeEach
+	void setUp() {
+		issueService = mock(IssueService.class);
+		mockMvc = MockMvcBuilders.standaloneSetup(new IssueController(issueService, mock(IssueDetailService.class),
+				mock(IssueImportService.class), mock(IssueSearchEngine.class), mock(IssueSearchIndexer.class),
+				mock(IssueMapper.class))).build();
+	}
+
+	@Test
+	void listingFollowsTheCursor() throws Exception {
+		when(issueService.findIssueSummariesByProject(eq(projectId), eq("abc"), anyInt()))
+				.thenReturn(new CursorPage<>(List.of(), null, false));
+
+		mockMvc.perform(get("/api/issues/project/{projectId}", projectId).param("cursor", "abc"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.hasMore").value(false));
+	}
+
+	@Test
+	void pageAndSortParamsAreRejectedOutsideSearch() throws Exception {
+		mockMvc.perform(get("/api/issues/project/{projectId}", projectId).param("page", "3"))
+				.andExpect(status().isBadRequest());
+		mockMvc.perform(get("/api/issues/project/{projectId}", projectId).param("sortBy", "title"))
+				.andExpect(status().isBadRequest());
+	}
+
+	@Test
+	void invalidCursorIsABadRequest() throws Exception {
+		when(issueService.findIssueSummariesByProject(eq(projectId), eq("tampered"), anyInt()))
+				.thenThrow(new IllegalArgumentException("Invalid cursor: tampered"));
+
+		mockMvc.perform(get("/api/issues/project/{projectId}", projectId).param("cursor", "tampered"))
+				.andExpect(status().isBadRequest())
+				.andExpect(jsonPath("$.error").value("Invalid cursor: tampered"));
+	}
+}
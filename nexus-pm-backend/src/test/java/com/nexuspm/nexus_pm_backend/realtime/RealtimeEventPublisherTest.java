@@ -0,0 +1,66 @@
+package com.nexuspm.nexus_pm_backend.realtime;
+
+import com.nexuspm.nexus_pm_backend.event.ProjectMemberChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class RealtimeEventPublisherTest {
+
+	private final List<RealtimeEvent> sent = new ArrayList<>();
+	private RealtimeEventPublisher publisher;
+
+	@BeforeEach
+	void setUp() {
+		publisher = new RealtimeEventPublisher(sent::add, 100);
+	}
+
+	@Test
+	void changesToOneEntityCoalesce() {
+		UUID projectId = UUID.randomUUID();
+		UUID issueId = UUID.randomUUID();
+
+		publisher.enqueue(RealtimeEvent.ISSUE, issueId, projectId, null, "CREATED");
+		publisher.enqueue(RealtimeEvent.ISSUE, issueId, projectId, null, "STATUS_CHANGED");
+		publisher.flush();
+
+		assertThat(sent).singleElement().extracting(RealtimeEvent::getChange).isEqualTo("CREATED");
+	}
+
+	@Test
+	void memberEventsInDifferentProjectsStaySeparate() {
+		UUID userId = UUID.randomUUID();
+		UUID firstProject = UUID.randomUUID();
+		UUID secondProject = UUID.randomUUID();
+
+		publisher.onMemberChanged(new ProjectMemberChangedEvent(firstProject, userId,
+				ProjectMemberChangedEvent.ChangeType.ADDED));
+		publisher.onMemberChanged(new ProjectMemberChangedEvent(secondProject, userId,
+				ProjectMemberChangedEvent.ChangeType.REMOVED));
+		publisher.flush();
+
+		assertThat(sent).extracting(RealtimeEvent::getProjectId, RealtimeEvent::getChange)
+				.containsExactlyInAnyOrder(
+						tuple(firstProject, "ADDED"),
+						tuple(secondProject, "REMOVED"));
+	}
+
+	@Test
+	void overflowCollapsesIntoOneResyncPerProject() {
+		publisher = new RealtimeEventPublisher(sent::add, 1);
+		UUID projectId = UUID.randomUUID();
+
+		publisher.enqueue(RealtimeEvent.ISSUE, UUID.randomUUID(), projectId, null, "UPDATED");
+		publisher.enqueue(RealtimeEvent.ISSUE, UUID.randomUUID(), projectId, null, "UPDATED");
+		publisher.enqueue(RealtimeEvent.ISSUE, UUID.randomUUID(), projectId, null, "UPDATED");
+		publisher.flush();
+
+		assertThat(sent).singleElement().extracting(RealtimeEvent::getEntity).isEqualTo(RealtimeEvent.RESYNC);
+	}
+}
@@ -0,0 +1,97 @@
+package com.nexuspm.nexus_pm_backend.repository;
+
+import com.nexuspm.nexus_pm_backend.dto.CommentDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CommentThreadRepositoryTest {
+
+	private EmbeddedDatabase database;
+	private JdbcTemplate jdbcTemplate;
+	private CommentThreadRepository repository;
+
+	private final UUID authorId = UUID.randomUUID();
+	private final LocalDateTime start = LocalDateTime.of(2024, 1, 1, 9, 0);
+	private int sequence;
+
+	@BeforeEach
+	void setUp() {
+		database = new EmbeddedDatabaseBuilder()
+				.setType(EmbeddedDatabaseType.H2)
+				.generateUniqueName(true)
+				.build();
+		jdbcTemplate = new JdbcTemplate(database);
+		jdbcTemplate.execute("CREATE TABLE users (id UUID PRIMARY KEY, first_name VARCHAR(100), "
+				+ "last_name VARCHAR(100), avatar_url VARCHAR(255))");
+		jdbcTemplate.execute("CREATE TABLE comments (id UUID PRIMARY KEY, parent_id UUID, author_id UUID, "
+				+ "content VARCHAR(1000), is_internal BOOLEAN, created_at TIMESTAMP, updated_at TIMESTAMP)");
+		jdbcTemplate.update("INSERT INTO users VALUES (?, 'Ada', 'Lovelace', NULL)", authorId);
+		repository = new CommentThreadRepository(database);
+	}
+
+	@AfterEach
+	void tearDown() {
+		database.shutdown();
+	}
+
+	@Test
+	void findsRepliesAtEveryDepthParentsFirst() {
+		UUID root = comment(null, false);
+		UUID reply = comment(root, false);
+		UUID nested = comment(reply, false);
+		UUID deepest = comment(nested, false);
+
+		List<CommentDto> descendants = repository.findDescendants(List.of(root), true, 50);
+
+		assertThat(descendants).extracting(CommentDto::getId).containsExactly(reply, nested, deepest);
+		assertThat(descendants.get(0).getAuthorName()).isEqualTo("Ada Lovelace");
+		assertThat(repository.countDescendants(List.of(root), true, 50)).containsEntry(root, 3L);
+	}
+
+	@Test
+	void internalReplyHidesItsSubtree() {
+		UUID root = comment(null, false);
+		UUID visible = comment(root, false);
+		UUID internal = comment(root, true);
+		comment(internal, false);
+
+		assertThat(repository.findDescendants(List.of(root), false, 50))
+				.extracting(CommentDto::getId).containsExactly(visible);
+		assertThat(repository.countDescendants(List.of(root), false, 50)).containsEntry(root, 1L);
+		assertThat(repository.countDescendants(List.of(root), true, 50)).containsEntry(root, 3L);
+	}
+
+	@Test
+	void countsEachRootSeparatelyAndStopsAtMaxDepth() {
+		UUID first = comment(null, false);
+		UUID second = comment(null, false);
+		UUID quiet = comment(null, false);
+		UUID reply = comment(first, false);
+		comment(reply, false);
+		comment(second, false);
+
+		assertThat(repository.countDescendants(List.of(first, second, quiet), true, 1))
+				.containsEntry(first, 1L)
+				.containsEntry(second, 1L)
+				.doesNotContainKey(quiet);
+	}
+
+	private UUID comment(UUID parentId, boolean internal) {
+		UUID id = UUID.randomUUID();
+		LocalDateTime createdAt = start.plusMinutes(sequence++);
+		jdbcTemplate.update("INSERT INTO comments VALUES (?, ?, ?, 'text', ?, ?, ?)",
+				id, parentId, authorId, internal, createdAt, createdAt);
+		return id;
+	}
+}
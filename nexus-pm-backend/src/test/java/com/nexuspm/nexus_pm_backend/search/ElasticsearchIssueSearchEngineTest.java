@@ -0,0 +1,82 @@
+package com.nexuspm.nexus_pm_backend.search;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch.core.BulkRequest;
+import co.elastic.clients.elasticsearch.core.BulkResponse;
+import co.elastic.clients.elasticsearch.core.bulk.BulkOperation;
+import co.elastic.clients.elasticsearch.core.bulk.BulkResponseItem;
+import co.elastic.clients.elasticsearch.core.bulk.OperationType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class ElasticsearchIssueSearchEngineTest {
+
+	private final UUID first = UUID.randomUUID();
+	private final UUID second = UUID.randomUUID();
+
+	private ElasticsearchClient client;
+	private ElasticsearchIssueSearchEngine engine;
+
+	@BeforeEach
+	void setUp() {
+		ElasticsearchOperations operations = mock(ElasticsearchOperations.class);
+		when(operations.getIndexCoordinatesFor(IssueSearchDocument.class)).thenReturn(IndexCoordinates.of("issues"));
+		client = mock(ElasticsearchClient.class);
+		engine = new ElasticsearchIssueSearchEngine(operations, client);
+	}
+
+	@Test
+	void deletesTheWholeBatchInOneBulkRequest() throws Exception {
+		when(client.bulk(any(BulkRequest.class))).thenReturn(response(false, item(first, 200), item(second, 404)));
+
+		engine.delete(List.of(first, second));
+
+		ArgumentCaptor<BulkRequest> request = ArgumentCaptor.forClass(BulkRequest.class);
+		verify(client, times(1)).bulk(request.capture());
+		assertThat(request.getValue().operations()).extracting(BulkOperation::delete)
+				.extracting(delete -> delete.index() + "/" + delete.id())
+				.containsExactly("issues/" + first, "issues/" + second);
+	}
+
+	@Test
+	void failedItemsFailTheBatch() throws Exception {
+		BulkResponseItem failed = BulkResponseItem.of(i -> i.operationType(OperationType.Delete).index("issues")
+				.id(second.toString()).status(429).error(e -> e.type("es_rejected_execution_exception").reason("busy")));
+		when(client.bulk(any(BulkRequest.class))).thenReturn(response(true, item(first, 200), failed));
+
+		assertThatThrownBy(() -> engine.delete(List.of(first, second)))
+				.isInstanceOf(IllegalStateException.class)
+				.hasMessageContaining(second.toString());
+	}
+
+	@Test
+	void emptyBatchSkipsTheRequest() {
+		engine.delete(List.of());
+
+		verifyNoInteractions(client);
+	}
+
+	private static BulkResponseItem item(UUID id, int status) {
+		return BulkResponseItem.of(i -> i.operationType(OperationType.Delete).index("issues").id(id.toString())
+				.status(status));
+	}
+
+	private static BulkResponse response(boolean errors, BulkResponseItem... items) {
+		return BulkResponse.of(r -> r.errors(errors).took(1).items(List.of(items)));
+	}
+}
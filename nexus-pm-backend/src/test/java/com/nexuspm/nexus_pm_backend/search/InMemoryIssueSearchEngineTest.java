@@ -0,0 +1,79 @@
+package com.nexuspm.nexus_pm_backend.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InMemoryIssueSearchEngineTest {
+
+	private final UUID projectId = UUID.randomUUID();
+	private InMemoryIssueSearchEngine engine;
+
+	@BeforeEach
+	void setUp() {
+		engine = new InMemoryIssueSearchEngine();
+	}
+
+	@Test
+	void titleMatchOutranksCommentMatch() {
+		IssueSearchDocument inTitle = document("NEX-1", "Crash on export", null);
+		IssueSearchDocument inComment = document("NEX-2", "Slow dashboard", null);
+		inComment.setComments(List.of("Seen a crash here too"));
+		engine.index(List.of(inComment, inTitle));
+
+		assertThat(search("crash").getHits()).extracting(IssueSearchResult.Hit::getKey)
+				.containsExactly("NEX-1", "NEX-2");
+	}
+
+	@Test
+	void keySearchFindsTheIssue() {
+		engine.index(List.of(document("NEX-12", "Login redirect", null), document("NEX-13", "Logout", null)));
+
+		assertThat(search("NEX-12").getHits()).first().extracting(IssueSearchResult.Hit::getKey).isEqualTo("NEX-12");
+	}
+
+	@Test
+	void highlightsEscapeTheIndexedText() {
+		engine.index(List.of(document("NEX-3", "<script>alert(1)</script> export & import",
+				"Export <b>fails</b> when the name has \"quotes\"")));
+
+		IssueSearchResult.Hit hit = search("export").getHits().get(0);
+
+		assertThat(hit.getHighlights().get("title")).containsExactly(
+				"&lt;script&gt;alert(1)&lt;/script&gt; <em>export</em> &amp; import");
+		assertThat(hit.getHighlights().get("description")).containsExactly(
+				"<em>Export</em> &lt;b&gt;fails&lt;/b&gt; when the name has &quot;quotes&quot;");
+	}
+
+	@Test
+	void deletedIssueIsNoLongerFound() {
+		IssueSearchDocument document = document("NEX-4", "Broken pager", null);
+		engine.index(List.of(document));
+
+		engine.delete(List.of(UUID.fromString(document.getId())));
+
+		assertThat(search("pager").getTotal()).isZero();
+	}
+
+	private IssueSearchResult search(String text) {
+		IssueSearchQuery query = new IssueSearchQuery();
+		query.setText(text);
+		return engine.search(query);
+	}
+
+	private IssueSearchDocument document(String key, String title, String description) {
+		IssueSearchDocument document = new IssueSearchDocument();
+		document.setId(UUID.randomUUID().toString());
+		document.setProjectId(projectId.toString());
+		document.setKey(key);
+		document.setTitle(title);
+		document.setDescription(description);
+		document.setUpdatedAt(LocalDateTime.now());
+		return document;
+	}
+}
@@ -0,0 +1,88 @@
+package com.nexuspm.nexus_pm_backend.search;
+
+import com.nexuspm.nexus_pm_backend.event.CommentChangedEvent;
+import com.nexuspm.nexus_pm_backend.event.IssueChangedEvent;
+import com.nexuspm.nexus_pm_backend.model.Issue;
+import com.nexuspm.nexus_pm_backend.model.Project;
+import com.nexuspm.nexus_pm_backend.repository.CommentRepository;
+import com.nexuspm.nexus_pm_backend.repository.IssueRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class IssueSearchIndexerTest {
+
+	private final UUID issueId = UUID.randomUUID();
+	private final List<Object[]> comments = new ArrayList<>();
+
+	private InMemoryIssueSearchEngine engine;
+	private IssueSearchIndexer indexer;
+
+	@BeforeEach
+	void setUp() {
+		Project project = new Project();
+		project.setId(UUID.randomUUID());
+		Issue issue = new Issue();
+		issue.setId(issueId);
+		issue.setKey("NEX-1");
+		issue.setTitle("Login redirect loops");
+		issue.setProject(project);
+
+		IssueRepository issueRepository = mock(IssueRepository.class);
+		when(issueRepository.findAllById(anyCollection())).thenReturn(List.of(issue));
+		when(issueRepository.findLabelNamesByIssueIds(anyCollection())).thenReturn(List.of());
+		CommentRepository commentRepository = mock(CommentRepository.class);
+		when(commentRepository.findContentByIssueIds(anyCollection())).thenAnswer(invocation -> List.copyOf(comments));
+
+		engine = new InMemoryIssueSearchEngine();
+		indexer = new IssueSearchIndexer(engine, issueRepository, commentRepository,
+				mock(PlatformTransactionManager.class), 200);
+		indexer.onIssueChanged(new IssueChangedEvent(issueId, project.getId(), null,
+				IssueChangedEvent.ChangeType.CREATED));
+		indexer.flush();
+	}
+
+	@Test
+	void commentChangeReindexesTheIssue() {
+		assertThat(search("stacktrace").getTotal()).isZero();
+
+		comments.add(new Object[] {issueId, "Attached the stacktrace from staging"});
+		indexer.onCommentChanged(new CommentChangedEvent(UUID.randomUUID(), issueId, null,
+				CommentChangedEvent.ChangeType.CREATED));
+		indexer.flush();
+
+		assertThat(search("stacktrace").getHits()).extracting(IssueSearchResult.Hit::getId)
+				.containsExactly(issueId.toString());
+	}
+
+	@Test
+	void deletedCommentDropsOutOfTheIndex() {
+		comments.add(new Object[] {issueId, "Attached the stacktrace from staging"});
+		indexer.onCommentChanged(new CommentChangedEvent(UUID.randomUUID(), issueId, null,
+				CommentChangedEvent.ChangeType.CREATED));
+		indexer.flush();
+		assertThat(search("stacktrace").getTotal()).isEqualTo(1);
+
+		comments.clear();
+		indexer.onCommentChanged(new CommentChangedEvent(UUID.randomUUID(), issueId, null,
+				CommentChangedEvent.ChangeType.DELETED));
+		indexer.flush();
+
+		assertThat(search("stacktrace").getTotal()).isZero();
+	}
+
+	private IssueSearchResult search(String text) {
+		IssueSearchQuery query = new IssueSearchQuery();
+		query.setText(text);
+		return engine.search(query);
+	}
+}
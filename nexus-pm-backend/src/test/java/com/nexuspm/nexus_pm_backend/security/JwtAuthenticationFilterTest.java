@@ -0,0 +1,84 @@
+package com.nexuspm.nexus_pm_backend.security;
+
+import com.nexuspm.nexus_pm_backend.service.UserSecurityStampService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class JwtAuthenticationFilterTest {
+
+	private static final String TOKEN = "header.payload.signature";
+
+	private final UUID userId = UUID.randomUUID();
+
+	private UserSecurityStampService securityStampService;
+	private MockFilterChain chain;
+	private JwtAuthenticationFilter filter;
+
+	@BeforeEach
+	@SuppressWarnings("unchecked")
+	void setUp() {
+		JwtTokenUtil jwtTokenUtil = mock(JwtTokenUtil.class);
+		when(jwtTokenUtil.verifyToken(TOKEN)).thenReturn(new JwtPrincipal(userId, "ada@example.com", "MEMBER", 3L,
+				Instant.now().plus(Duration.ofHours(1))));
+		securityStampService = mock(UserSecurityStampService.class);
+		chain = new MockFilterChain();
+		filter = new JwtAuthenticationFilter(jwtTokenUtil,
+				new JwtVerificationCache(100, Duration.ofMinutes(10), mock(ObjectProvider.class)), securityStampService);
+	}
+
+	@AfterEach
+	void tearDown() {
+		SecurityContextHolder.clearContext();
+	}
+
+	@Test
+	void tokenWithTheCurrentStampAuthenticates() throws Exception {
+		when(securityStampService.currentStamp(userId)).thenReturn(3L);
+
+		filter.doFilter(bearerRequest(), new MockHttpServletResponse(), chain);
+
+		assertThat(SecurityContextHolder.getContext().getAuthentication().getPrincipal())
+				.isInstanceOfSatisfying(JwtPrincipal.class, principal -> assertThat(principal.getUserId()).isEqualTo(userId));
+		assertThat(chain.getRequest()).isNotNull();
+	}
+
+	@Test
+	void tokenIssuedBeforeAStampChangeIsRejected() throws Exception {
+		// Password change or logout-everywhere bumped the stamp after this token was issued
+		when(securityStampService.currentStamp(userId)).thenReturn(4L);
+
+		filter.doFilter(bearerRequest(), new MockHttpServletResponse(), chain);
+
+		assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+		assertThat(chain.getRequest()).isNotNull();
+	}
+
+	@Test
+	void tokenOfADeletedOrInactiveUserIsRejected() throws Exception {
+		when(securityStampService.currentStamp(userId)).thenReturn(null);
+
+		filter.doFilter(bearerRequest(), new MockHttpServletResponse(), chain);
+
+		assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+	}
+
+	private static MockHttpServletRequest bearerRequest() {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/projects");
+		request.addHeader("Authorization", "Bearer " + TOKEN);
+		return request;
+	}
+}
@@ -0,0 +1,67 @@
+package com.nexuspm.nexus_pm_backend.service;
+
+import com.nexuspm.nexus_pm_backend.activity.ActivityPartitionService;
+import com.nexuspm.nexus_pm_backend.repository.ActivityRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ActivityServiceTest {
+
+	private final UUID projectId = UUID.randomUUID();
+	private final LocalDateTime cutoff = LocalDateTime.of(2025, 9, 1, 0, 0);
+
+	private ActivityRepository activityRepository;
+	private ActivityService service;
+
+	@BeforeEach
+	void setUp() {
+		activityRepository = mock(ActivityRepository.class);
+		when(activityRepository.findProjectFeed(any(), any(), any(), any())).thenReturn(Page.empty());
+		when(activityRepository.findUserFeed(any(), any(), any(), any())).thenReturn(Page.empty());
+		ActivityPartitionService partitionService = mock(ActivityPartitionService.class);
+		when(partitionService.retentionCutoff()).thenReturn(cutoff);
+		service = new ActivityService(activityRepository, partitionService, 30);
+	}
+
+	@Test
+	void feedDefaultsToTheRecentWindow() {
+		LocalDateTime until = LocalDateTime.of(2026, 10, 1, 12, 0);
+
+		service.findProjectFeed(projectId, null, until, 0, 20);
+
+		verify(activityRepository).findProjectFeed(eq(projectId), eq(until.minusDays(30)), eq(until), any());
+	}
+
+	@Test
+	void windowNeverReachesPastRetention() {
+		LocalDateTime until = LocalDateTime.of(2026, 10, 1, 12, 0);
+		UUID userId = UUID.randomUUID();
+
+		service.findUserFeed(userId, LocalDateTime.of(2020, 1, 1, 0, 0), until, 0, 20);
+
+		verify(activityRepository).findUserFeed(eq(userId), eq(cutoff), eq(until), any());
+	}
+
+	@Test
+	void pageSizeIsCapped() {
+		service.findProjectFeed(projectId, null, null, -1, 10_000);
+
+		ArgumentCaptor<Pageable> pageable = ArgumentCaptor.forClass(Pageable.class);
+		verify(activityRepository).findProjectFeed(eq(projectId), any(), any(), pageable.capture());
+		assertThat(pageable.getValue().getPageNumber()).isZero();
+		assertThat(pageable.getValue().getPageSize()).isEqualTo(100);
+	}
+}
@@ -0,0 +1,187 @@
+package com.nexuspm.nexus_pm_backend.service;
+
+import com.nexuspm.nexus_pm_backend.config.DatabasePlatform;
+import com.nexuspm.nexus_pm_backend.dto.AttachmentDto;
+import com.nexuspm.nexus_pm_backend.model.Attachment;
+import com.nexuspm.nexus_pm_backend.model.Issue;
+import com.nexuspm.nexus_pm_backend.model.User;
+import com.nexuspm.nexus_pm_backend.repository.AttachmentRepository;
+import com.nexuspm.nexus_pm_backend.repository.IssueRepository;
+import com.nexuspm.nexus_pm_backend.repository.UserRepository;
+import com.nexuspm.nexus_pm_backend.storage.ContentLocks;
+import com.nexuspm.nexus_pm_backend.storage.ContentSpooler;
+import com.nexuspm.nexus_pm_backend.storage.LocalAttachmentStorage;
+import com.nexuspm.nexus_pm_backend.thumbnail.ThumbnailService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AttachmentServiceTest {
+
+	private static final byte[] CONTENT = "same bytes every time".getBytes(StandardCharsets.UTF_8);
+
+	@TempDir
+	Path uploadDir;
+
+	private EmbeddedDatabase database;
+	private TransactionTemplate transactionTemplate;
+	private AttachmentRepository attachmentRepository;
+	private ThumbnailService thumbnailService;
+	private LocalAttachmentStorage storage;
+	private AttachmentService service;
+
+	// Rows per content hash, standing in for the attachments table
+	private final Map<String, AtomicLong> references = new ConcurrentHashMap<>();
+	private final Map<UUID, Attachment> rows = new ConcurrentHashMap<>();
+	private volatile CountDownLatch saveGate;
+	private volatile CountDownLatch saving = new CountDownLatch(1);
+
+	private final UUID issueId = UUID.randomUUID();
+	private final UUID userId = UUID.randomUUID();
+
+	@BeforeEach
+	void setUp() throws Exception {
+		database = new EmbeddedDatabaseBuilder()
+				.setType(EmbeddedDatabaseType.H2)
+				.generateUniqueName(true)
+				.build();
+		DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(database);
+		transactionTemplate = new TransactionTemplate(transactionManager);
+
+		attachmentRepository = mock(AttachmentRepository.class);
+		when(attachmentRepository.save(any(Attachment.class))).thenAnswer(invocation -> {
+			Attachment attachment = invocation.getArgument(0);
+			saving.countDown();
+			if (saveGate != null) {
+				saveGate.await(5, TimeUnit.SECONDS);
+			}
+			attachment.setId(UUID.randomUUID());
+			rows.put(attachment.getId(), attachment);
+			references.computeIfAbsent(attachment.getContentSha256(), key -> new AtomicLong()).incrementAndGet();
+			return attachment;
+		});
+		when(attachmentRepository.countByContentSha256(anyString()))
+				.thenAnswer(invocation -> references.getOrDefault(invocation.<String>getArgument(0), new AtomicLong()).get());
+		when(attachmentRepository.findById(any(UUID.class)))
+				.thenAnswer(invocation -> Optional.ofNullable(rows.get(invocation.<UUID>getArgument(0))));
+		doAnswer(invocation -> {
+			Attachment attachment = invocation.getArgument(0);
+			rows.remove(attachment.getId());
+			references.get(attachment.getContentSha256()).decrementAndGet();
+			return null;
+		}).when(attachmentRepository).delete(any(Attachment.class));
+
+		Issue issue = new Issue();
+		issue.setId(issueId);
+		User user = new User();
+		user.setId(userId);
+		IssueRepository issueRepository = mock(IssueRepository.class);
+		when(issueRepository.existsById(issueId)).thenReturn(true);
+		when(issueRepository.getReferenceById(issueId)).thenReturn(issue);
+		UserRepository userRepository = mock(UserRepository.class);
+		when(userRepository.existsById(userId)).thenReturn(true);
+		when(userRepository.getReferenceById(userId)).thenReturn(user);
+
+		thumbnailService = mock(ThumbnailService.class);
+		storage = new LocalAttachmentStorage(uploadDir.toString());
+		service = new AttachmentService(attachmentRepository, issueRepository, userRepository,
+				new ContentSpooler(uploadDir.toString(), DataSize.ofMegabytes(1)), storage, thumbnailService,
+				mock(IssueDetailService.class), new ContentLocks(database, new DatabasePlatform(database)), transactionManager);
+	}
+
+	@AfterEach
+	void tearDown() {
+		database.shutdown();
+	}
+
+	@Test
+	void identicalUploadsShareOneBlob() throws Exception {
+		AttachmentDto first = upload("a.txt");
+		AttachmentDto second = upload("b.txt");
+
+		assertThat(second.getContentSha256()).isEqualTo(first.getContentSha256());
+		assertThat(second.getId()).isNotEqualTo(first.getId());
+		assertThat(storage.exists(first.getContentSha256())).isTrue();
+		assertThat(references.get(first.getContentSha256())).hasValue(2);
+	}
+
+	@Test
+	void blobSurvivesUntilTheLastReferenceIsDeleted() throws Exception {
+		AttachmentDto first = upload("a.txt");
+		AttachmentDto second = upload("b.txt");
+		String sha256 = first.getContentSha256();
+
+		delete(first.getId());
+		assertThat(storage.exists(sha256)).isTrue();
+		verify(thumbnailService, never()).purge(sha256);
+
+		delete(second.getId());
+		assertThat(storage.exists(sha256)).isFalse();
+		verify(thumbnailService).purge(sha256);
+	}
+
+	@Test
+	void collectionWaitsForAnUploadOfTheSameContent() throws Exception {
+		AttachmentDto existing = upload("a.txt");
+		String sha256 = existing.getContentSha256();
+
+		// The second upload finds the blob present, then stalls before its row is saved
+		saving = new CountDownLatch(1);
+		saveGate = new CountDownLatch(1);
+		CompletableFuture<AttachmentDto> upload = CompletableFuture.supplyAsync(() -> {
+			try {
+				return upload("b.txt");
+			} catch (Exception e) {
+				throw new IllegalStateException(e);
+			}
+		});
+		assertThat(saving.await(5, TimeUnit.SECONDS)).isTrue();
+
+		CompletableFuture<Void> deletion = CompletableFuture.runAsync(() -> delete(existing.getId()));
+		Thread.sleep(200);
+		assertThat(deletion).as("collection waits for the upload holding the content lock").isNotDone();
+
+		saveGate.countDown();
+		upload.get(5, TimeUnit.SECONDS);
+		deletion.get(5, TimeUnit.SECONDS);
+
+		assertThat(references.get(sha256)).hasValue(1);
+		assertThat(storage.exists(sha256)).isTrue();
+	}
+
+	private AttachmentDto upload(String filename) throws Exception {
+		return service.upload(issueId, userId, filename, "text/plain", new ByteArrayInputStream(CONTENT));
+	}
+
+	private void delete(UUID attachmentId) {
+		transactionTemplate.executeWithoutResult(status -> service.deleteAttachment(attachmentId));
+	}
+}
@@ -0,0 +1,48 @@
+package com.nexuspm.nexus_pm_backend.service;
+
+import com.nexuspm.nexus_pm_backend.dto.CommentDto;
+import com.nexuspm.nexus_pm_backend.repository.CommentRepository;
+import com.nexuspm.nexus_pm_backend.repository.CommentThreadRepository;
+import com.nexuspm.nexus_pm_backend.repository.IssueRepository;
+import com.nexuspm.nexus_pm_backend.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class CommentServiceTest {
+
+	@Test
+	void flatRowsAreAssembledIntoATreeWithDescendantCounts() {
+		UUID issueId = UUID.randomUUID();
+		CommentDto root = row(null);
+		CommentDto reply = row(root.getId());
+		CommentDto nested = row(reply.getId());
+		CommentDto sibling = row(root.getId());
+		CommentDto other = row(null);
+		CommentRepository commentRepository = mock(CommentRepository.class);
+		when(commentRepository.findDtosByIssueId(issueId, true)).thenReturn(List.of(root, reply, nested, sibling, other));
+		CommentService service = new CommentService(commentRepository, mock(CommentThreadRepository.class),
+				mock(IssueRepository.class), mock(UserRepository.class), mock(ApplicationEventPublisher.class));
+
+		List<CommentDto> thread = service.getThread(issueId, true);
+
+		assertThat(thread).containsExactly(root, other);
+		assertThat(root.getReplies()).containsExactly(reply, sibling);
+		assertThat(reply.getReplies()).containsExactly(nested);
+		assertThat(root.getReplyCount()).isEqualTo(3);
+		assertThat(reply.getReplyCount()).isEqualTo(1);
+		assertThat(other.getReplyCount()).isZero();
+	}
+
+	private static CommentDto row(UUID parentId) {
+		LocalDateTime now = LocalDateTime.now();
+		return new CommentDto(UUID.randomUUID(), parentId, "text", false, now, now, UUID.randomUUID(), "Ada Lovelace", null);
+	}
+}
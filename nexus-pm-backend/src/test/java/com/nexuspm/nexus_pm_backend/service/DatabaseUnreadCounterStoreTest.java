@@ -0,0 +1,97 @@
+package com.nexuspm.nexus_pm_backend.service;
+
+import com.nexuspm.nexus_pm_backend.config.DatabasePlatform;
+import com.nexuspm.nexus_pm_backend.repository.NotificationCounterRepository;
+import com.nexuspm.nexus_pm_backend.repository.NotificationRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class DatabaseUnreadCounterStoreTest {
+
+	private JdbcTemplate jdbcTemplate;
+	private TransactionTemplate transactionTemplate;
+	private NotificationRepository notificationRepository;
+	private DatabaseUnreadCounterStore store;
+
+	private void setUp(String mode) {
+		// The default datasource runs H2 in PostgreSQL mode, the test profile plain H2
+		DriverManagerDataSource dataSource = new DriverManagerDataSource(
+				"jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1" + mode, "sa", "");
+		jdbcTemplate = new JdbcTemplate(dataSource);
+		jdbcTemplate.execute("CREATE TABLE notification_counters (user_id UUID PRIMARY KEY, "
+				+ "unread_count BIGINT NOT NULL DEFAULT 0)");
+		transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+		notificationRepository = mock(NotificationRepository.class);
+		store = new DatabaseUnreadCounterStore(
+				new NotificationCounterRepository(dataSource, new DatabasePlatform(dataSource)), notificationRepository);
+	}
+
+	@AfterEach
+	void tearDown() {
+		jdbcTemplate.execute("SHUTDOWN");
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {";MODE=PostgreSQL;CASE_INSENSITIVE_IDENTIFIERS=TRUE", ""})
+	void incrementCreatesMissingRowsAndKeepsExistingCounts(String mode) {
+		setUp(mode);
+		UUID existing = UUID.randomUUID();
+		UUID fresh = UUID.randomUUID();
+		jdbcTemplate.update("INSERT INTO notification_counters (user_id, unread_count) VALUES (?, 4)", existing);
+
+		transactionTemplate.executeWithoutResult(status -> store.increment(List.of(existing, fresh)));
+		transactionTemplate.executeWithoutResult(status -> store.increment(List.of(fresh)));
+
+		assertThat(count(existing)).isEqualTo(5);
+		assertThat(count(fresh)).isEqualTo(2);
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {";MODE=PostgreSQL;CASE_INSENSITIVE_IDENTIFIERS=TRUE", ""})
+	void firstReadSeedsTheCounterFromNotifications(String mode) {
+		setUp(mode);
+		UUID userId = UUID.randomUUID();
+		when(notificationRepository.countUnreadByUserId(userId)).thenReturn(3L);
+
+		Long first = transactionTemplate.execute(status -> store.get(userId));
+		Long second = transactionTemplate.execute(status -> store.get(userId));
+
+		assertThat(first).isEqualTo(3);
+		assertThat(second).isEqualTo(3);
+
+		verify(notificationRepository).countUnreadByUserId(userId);
+		assertThat(count(userId)).isEqualTo(3);
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {";MODE=PostgreSQL;CASE_INSENSITIVE_IDENTIFIERS=TRUE", ""})
+	void decrementStopsAtZero(String mode) {
+		setUp(mode);
+		UUID userId = UUID.randomUUID();
+		transactionTemplate.executeWithoutResult(status -> store.set(userId, 2));
+
+		transactionTemplate.executeWithoutResult(status -> store.decrement(userId, 5));
+
+		assertThat(count(userId)).isZero();
+		verifyNoInteractions(notificationRepository);
+	}
+
+	private long count(UUID userId) {
+		return jdbcTemplate.queryForObject("SELECT unread_count FROM notification_counters WHERE user_id = ?",
+				Long.class, userId);
+	}
+}
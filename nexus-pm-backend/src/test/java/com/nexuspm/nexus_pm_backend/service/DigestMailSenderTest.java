@@ -0,0 +1,89 @@
+package com.nexuspm.nexus_pm_backend.service;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.GreenMailUtil;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import com.nexuspm.nexus_pm_backend.dto.NotificationDigest;
+import com.nexuspm.nexus_pm_backend.dto.NotificationDto;
+import com.nexuspm.nexus_pm_backend.model.Notification;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DigestMailSenderTest {
+
+	@RegisterExtension
+	static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+	private DigestMailSender sender;
+
+	@BeforeEach
+	void setUp() {
+		JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+		mailSender.setHost("localhost");
+		mailSender.setPort(ServerSetupTest.SMTP.getPort());
+
+		ClassLoaderTemplateResolver resolver = new ClassLoaderTemplateResolver();
+		resolver.setPrefix("templates/");
+		resolver.setSuffix(".html");
+		resolver.setTemplateMode(TemplateMode.HTML);
+		// SpEL dialect, as auto-configured in the application; the plain engine needs OGNL
+		SpringTemplateEngine templateEngine = new SpringTemplateEngine();
+		templateEngine.setTemplateResolver(resolver);
+
+		sender = new DigestMailSender(mailSender, templateEngine, "no-reply@nexuspm.test", "http://localhost:3000",
+				2, 0, 2, 10);
+	}
+
+	@Test
+	void sendsOneDigestPerUserOverPooledConnections() throws Exception {
+		List<NotificationDigest> digests = new ArrayList<>();
+		for (int i = 0; i < 3; i++) {
+			digests.add(digest("user" + i + "@example.com", 2));
+		}
+
+		Set<UUID> delivered = sender.send(digests);
+
+		assertThat(delivered).hasSize(3);
+		MimeMessage[] received = greenMail.getReceivedMessages();
+		assertThat(received).hasSize(3);
+		assertThat(received[0].getSubject()).isEqualTo("You have 2 new notifications");
+		assertThat(GreenMailUtil.getBody(received[0])).contains("PRJ-1 changed status");
+	}
+
+	@Test
+	void capsListedItemsAndMentionsTheRest() throws Exception {
+		NotificationDigest digest = digest("lead@example.com", 1);
+		digest.setTotalCount(5);
+
+		sender.send(List.of(digest));
+
+		MimeMessage[] received = greenMail.getReceivedMessages();
+		assertThat(received).hasSize(1);
+		assertThat(received[0].getSubject()).isEqualTo("You have 5 new notifications");
+		assertThat(GreenMailUtil.getBody(received[0])).contains("and 4 more.");
+	}
+
+	private static NotificationDigest digest(String email, int items) {
+		List<NotificationDto> notifications = new ArrayList<>();
+		for (int i = 0; i < items; i++) {
+			notifications.add(new NotificationDto(UUID.randomUUID(), "PRJ-" + (i + 1) + " changed status",
+					"Fix login redirect", Notification.NotificationType.STATUS_CHANGE, false, "ISSUE",
+					UUID.randomUUID().toString(), null, LocalDateTime.now(), null));
+		}
+		return new NotificationDigest(UUID.randomUUID(), email, "Test User", notifications, items);
+	}
+}
@@ -0,0 +1,70 @@
+package com.nexuspm.nexus_pm_backend.service;
+
+import com.nexuspm.nexus_pm_backend.cache.CacheNames;
+import com.nexuspm.nexus_pm_backend.event.IssueChangedEvent;
+import com.nexuspm.nexus_pm_backend.repository.AttachmentRepository;
+import com.nexuspm.nexus_pm_backend.repository.CommentRepository;
+import com.nexuspm.nexus_pm_backend.repository.IssueRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class IssueDetailServiceTest {
+
+	private final UUID projectId = UUID.randomUUID();
+	private final UUID issueId = UUID.randomUUID();
+	private final UUID oldParentId = UUID.randomUUID();
+	private final UUID newParentId = UUID.randomUUID();
+	private final UUID unrelatedId = UUID.randomUUID();
+
+	private Cache cache;
+	private IssueDetailService service;
+
+	@BeforeEach
+	void setUp() {
+		ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager(CacheNames.ISSUE_DETAIL);
+		cache = cacheManager.getCache(CacheNames.ISSUE_DETAIL);
+		for (UUID id : new UUID[] {issueId, oldParentId, newParentId, unrelatedId}) {
+			cache.put(id, "cached detail");
+		}
+		service = new IssueDetailService(mock(IssueRepository.class), mock(CommentRepository.class),
+				mock(AttachmentRepository.class), cacheManager);
+	}
+
+	@Test
+	void creatingASubtaskEvictsItsParent() {
+		service.onIssueChanged(new IssueChangedEvent(issueId, projectId, newParentId,
+				IssueChangedEvent.ChangeType.CREATED));
+
+		assertThat(cache.get(issueId)).isNull();
+		assertThat(cache.get(newParentId)).isNull();
+		assertThat(cache.get(oldParentId)).isNotNull();
+		assertThat(cache.get(unrelatedId)).isNotNull();
+	}
+
+	@Test
+	void deletingASubtaskEvictsItsParent() {
+		service.onIssueChanged(new IssueChangedEvent(issueId, projectId, oldParentId,
+				IssueChangedEvent.ChangeType.DELETED));
+
+		assertThat(cache.get(issueId)).isNull();
+		assertThat(cache.get(oldParentId)).isNull();
+		assertThat(cache.get(newParentId)).isNotNull();
+	}
+
+	@Test
+	void topLevelChangeEvictsOnlyTheIssue() {
+		service.onIssueChanged(new IssueChangedEvent(issueId, projectId, null,
+				IssueChangedEvent.ChangeType.STATUS_CHANGED));
+
+		assertThat(cache.get(issueId)).isNull();
+		assertThat(cache.get(oldParentId)).isNotNull();
+		assertThat(cache.get(newParentId)).isNotNull();
+	}
+}
@@ -0,0 +1,113 @@
+package com.nexuspm.nexus_pm_backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nexuspm.nexus_pm_backend.dto.IssueImportResult;
+import com.nexuspm.nexus_pm_backend.model.Issue;
+import com.nexuspm.nexus_pm_backend.model.Project;
+import com.nexuspm.nexus_pm_backend.model.User;
+import com.nexuspm.nexus_pm_backend.repository.ProjectRepository;
+import com.nexuspm.nexus_pm_backend.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class IssueImportServiceTest {
+
+	private final UUID projectId = UUID.randomUUID();
+	private final UUID reporterId = UUID.randomUUID();
+
+	private ProjectRepository projectRepository;
+	private IssueKeyAllocator issueKeyAllocator;
+	private EntityManager entityManager;
+	private IssueImportService service;
+	private final List<Issue> persisted = new ArrayList<>();
+
+	@BeforeEach
+	void setUp() {
+		Project project = new Project();
+		project.setId(projectId);
+		project.setKey("PRJ");
+		projectRepository = mock(ProjectRepository.class);
+		when(projectRepository.findAllById(anyCollection())).thenReturn(List.of(project));
+
+		issueKeyAllocator = mock(IssueKeyAllocator.class);
+		AtomicLong nextNumber = new AtomicLong(1);
+		when(issueKeyAllocator.reserve(eq(projectId), anyInt()))
+				.thenAnswer(invocation -> nextNumber.getAndAdd(invocation.<Integer>getArgument(1)));
+
+		entityManager = mock(EntityManager.class);
+		when(entityManager.getReference(eq(Project.class), any())).thenReturn(project);
+		when(entityManager.getReference(eq(User.class), any())).thenReturn(new User());
+		doAnswer(invocation -> persisted.add(invocation.getArgument(0))).when(entityManager).persist(any(Issue.class));
+
+		PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+		when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+		service = new IssueImportService(projectRepository, mock(UserRepository.class), issueKeyAllocator,
+				new ObjectMapper(), mock(ApplicationEventPublisher.class), transactionManager, 2, 1000);
+		ReflectionTestUtils.setField(service, "entityManager", entityManager);
+	}
+
+	@Test
+	void invalidRowsAreReportedAndTheRestImportedInBatches() {
+		IssueImportResult result = service.importIssues(ndjson(
+				"{\"title\":\"First\"}",
+				"{\"title\":\"\"}",
+				"not json",
+				"{\"title\":\"Second\"}",
+				"{\"title\":\"Third\",\"priority\":\"SOMEDAY\"}",
+				"{\"title\":\"Fourth\"}"), IssueImportService.Format.NDJSON, projectId, reporterId, "job-1");
+
+		assertThat(result.getStatus()).isEqualTo(IssueImportResult.ImportStatus.COMPLETED);
+		assertThat(result.getRowsRead()).isEqualTo(6);
+		assertThat(result.getImported()).isEqualTo(3);
+		assertThat(result.getFailed()).isEqualTo(3);
+		assertThat(result.getErrors()).extracting(IssueImportResult.RowError::getLine).containsExactlyInAnyOrder(2L, 3L, 5L);
+		// Rejected rows are dropped before each batch reserves its key range, so no numbers are skipped
+		assertThat(persisted).extracting(Issue::getKey).containsExactly("PRJ-1", "PRJ-2", "PRJ-3");
+		verify(projectRepository).findAllById(anyCollection());
+		verify(entityManager, times(3)).flush();
+		assertThat(service.getImportStatus("job-1")).contains(result);
+	}
+
+	@Test
+	void failedBatchCountsEveryRowInIt() {
+		doThrow(new IllegalStateException("constraint violated")).doNothing().when(entityManager).flush();
+
+		IssueImportResult result = service.importIssues(ndjson(
+				"{\"title\":\"First\"}",
+				"{\"title\":\"Second\"}",
+				"{\"title\":\"Third\"}"), IssueImportService.Format.NDJSON, projectId, reporterId, null);
+
+		assertThat(result.getImported()).isEqualTo(1);
+		assertThat(result.getFailed()).isEqualTo(2);
+		assertThat(result.getErrors()).extracting(IssueImportResult.RowError::getMessage)
+				.allMatch(message -> message.startsWith("Batch write failed"));
+	}
+
+	private static ByteArrayInputStream ndjson(String... lines) {
+		return new ByteArrayInputStream(String.join("\n", lines).getBytes(StandardCharsets.UTF_8));
+	}
+}
@@ -0,0 +1,99 @@
+package com.nexuspm.nexus_pm_backend.service;
+
+import com.nexuspm.nexus_pm_backend.dto.CursorPage;
+import com.nexuspm.nexus_pm_backend.dto.IssueSummaryDto;
+import com.nexuspm.nexus_pm_backend.repository.IssueRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class IssueServiceTest {
+
+	private final UUID projectId = UUID.randomUUID();
+
+	private IssueRepository issueRepository;
+	private IssueService service;
+
+	@BeforeEach
+	void setUp() {
+		issueRepository = mock(IssueRepository.class);
+		service = new IssueService(issueRepository, mock(ProjectService.class), mock(UserService.class),
+				mock(SprintService.class), mock(IssueKeyAllocator.class), mock(SprintAggregateService.class),
+				mock(ApplicationEventPublisher.class));
+	}
+
+	@Test
+	void cursorResumesAfterTheLastRowOfThePage() {
+		LocalDateTime now = LocalDateTime.of(2024, 5, 1, 12, 0, 0, 123_000_000);
+		IssueSummaryDto first = summary(now);
+		IssueSummaryDto second = summary(now.minusMinutes(1));
+		IssueSummaryDto third = summary(now.minusMinutes(2));
+		// The extra row only signals that another page exists
+		when(issueRepository.findSummariesByProject(eq(projectId), any(Pageable.class)))
+				.thenReturn(List.of(first, second, third));
+		when(issueRepository.findSummariesByProjectAfter(eq(projectId), eq(second.getCreatedAt()), eq(second.getId()),
+				any(Pageable.class))).thenReturn(List.of(third));
+
+		CursorPage<IssueSummaryDto> page = service.findIssueSummariesByProject(projectId, null, 2);
+		assertThat(page.getItems()).containsExactly(first, second);
+		assertThat(page.isHasMore()).isTrue();
+
+		CursorPage<IssueSummaryDto> next = service.findIssueSummariesByProject(projectId, page.getNextCursor(), 2);
+		assertThat(next.getItems()).containsExactly(third);
+		assertThat(next.isHasMore()).isFalse();
+		assertThat(next.getNextCursor()).isNull();
+	}
+
+	@Test
+	void pageSizeIsCapped() {
+		when(issueRepository.findSummariesByProject(eq(projectId), any(Pageable.class))).thenAnswer(invocation -> {
+			assertThat(invocation.<Pageable>getArgument(1).getPageSize()).isEqualTo(101);
+			return List.of();
+		});
+
+		CursorPage<IssueSummaryDto> page = service.findIssueSummariesByProject(projectId, "", 10_000);
+
+		assertThat(page.getItems()).isEmpty();
+		assertThat(page.isHasMore()).isFalse();
+	}
+
+	@Test
+	void malformedCursorIsRejected() {
+		assertThatThrownBy(() -> service.findIssueSummariesByProject(projectId, "not a cursor", 20))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessageStartingWith("Invalid cursor");
+	}
+
+	@Test
+	void tamperedCursorIsRejected() {
+		for (String position : new String[] {"yesterday|" + UUID.randomUUID(), LocalDateTime.now() + "|not-a-uuid"}) {
+			String cursor = Base64.getUrlEncoder().withoutPadding()
+					.encodeToString(position.getBytes(StandardCharsets.UTF_8));
+
+			assertThatThrownBy(() -> service.findIssueSummariesByProject(projectId, cursor, 20))
+					.isInstanceOf(IllegalArgumentException.class)
+					.hasMessageStartingWith("Invalid cursor");
+		}
+	}
+
+	private static IssueSummaryDto summary(LocalDateTime createdAt) {
+		IssueSummaryDto summary = new IssueSummaryDto();
+		summary.setId(UUID.randomUUID());
+		summary.setCreatedAt(createdAt);
+		return summary;
+	}
+}
@@ -0,0 +1,91 @@
+package com.nexuspm.nexus_pm_backend.service;
+
+import com.nexuspm.nexus_pm_backend.dto.NotificationDigest;
+import com.nexuspm.nexus_pm_backend.model.Notification;
+import com.nexuspm.nexus_pm_backend.model.User;
+import com.nexuspm.nexus_pm_backend.repository.NotificationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class NotificationDigestServiceTest {
+
+	private final UUID failing = new UUID(0, 1);
+	private final UUID second = new UUID(0, 2);
+	private final UUID third = new UUID(0, 3);
+
+	private NotificationRepository notificationRepository;
+	private List<Set<UUID>> sendCalls;
+	private NotificationDigestService service;
+
+	@BeforeEach
+	void setUp() {
+		notificationRepository = mock(NotificationRepository.class);
+		// A user stays a candidate until delivered; "failing" never is
+		when(notificationRepository.findUserIdsWithPendingEmail(any(), any())).thenReturn(List.of(failing, second));
+		when(notificationRepository.findUserIdsWithPendingEmailAfter(any(), eq(second), any())).thenReturn(List.of(third));
+		when(notificationRepository.findPendingEmailByUserIds(anyCollection(), any())).thenAnswer(invocation -> {
+			Collection<UUID> userIds = invocation.getArgument(0);
+			return userIds.stream().map(NotificationDigestServiceTest::pending).toList();
+		});
+
+		sendCalls = new ArrayList<>();
+		DigestMailSender digestMailSender = mock(DigestMailSender.class);
+		when(digestMailSender.send(any())).thenAnswer(invocation -> {
+			List<NotificationDigest> digests = invocation.getArgument(0);
+			Set<UUID> userIds = digests.stream().map(NotificationDigest::getUserId).collect(Collectors.toSet());
+			sendCalls.add(userIds);
+			return userIds.stream().filter(id -> !id.equals(failing)).collect(Collectors.toSet());
+		});
+
+		service = new NotificationDigestService(notificationRepository, digestMailSender,
+				mock(PlatformTransactionManager.class), Duration.ofMinutes(10), 2, 20,
+				Duration.ofHours(1), Duration.ofHours(24));
+	}
+
+	@Test
+	void failingUserDoesNotStarveLaterCandidates() {
+		service.sendDigests();
+
+		assertThat(sendCalls).containsExactly(Set.of(failing, second), Set.of(third));
+	}
+
+	@Test
+	void failingUserIsBackedOffOnTheNextRun() {
+		service.sendDigests();
+		sendCalls.clear();
+
+		service.sendDigests();
+
+		assertThat(sendCalls).containsExactly(Set.of(second), Set.of(third));
+	}
+
+	private static Notification pending(UUID userId) {
+		User user = new User();
+		user.setId(userId);
+		user.setEmail(userId + "@example.com");
+		Notification notification = new Notification();
+		notification.setId(UUID.randomUUID());
+		notification.setUser(user);
+		notification.setTitle("Assigned");
+		notification.setMessage("You were assigned an issue");
+		notification.setCreatedAt(LocalDateTime.now().minusHours(1));
+		return notification;
+	}
+}
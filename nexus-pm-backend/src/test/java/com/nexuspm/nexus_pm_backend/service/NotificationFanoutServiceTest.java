@@ -0,0 +1,133 @@
+package com.nexuspm.nexus_pm_backend.service;
+
+import com.nexuspm.nexus_pm_backend.model.Notification;
+import com.nexuspm.nexus_pm_backend.repository.IssueRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class NotificationFanoutServiceTest {
+
+	private EmbeddedDatabase database;
+	private JdbcTemplate jdbcTemplate;
+	private TransactionTemplate outerTransaction;
+	private IssueRepository issueRepository;
+	private CommittedCounterStore counterStore;
+	private NotificationFanoutService service;
+
+	@BeforeEach
+	void setUp() {
+		database = new EmbeddedDatabaseBuilder()
+				.setType(EmbeddedDatabaseType.H2)
+				.generateUniqueName(true)
+				.build();
+		jdbcTemplate = new JdbcTemplate(database);
+		jdbcTemplate.execute("CREATE TABLE notifications (id UUID PRIMARY KEY, user_id UUID, type VARCHAR(50), "
+				+ "title VARCHAR(255), message VARCHAR(1000), entity_type VARCHAR(50), entity_id UUID, "
+				+ "is_read BOOLEAN, is_email_sent BOOLEAN, created_at TIMESTAMP)");
+
+		DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(database);
+		outerTransaction = new TransactionTemplate(transactionManager);
+		issueRepository = mock(IssueRepository.class);
+		counterStore = new CommittedCounterStore();
+		service = new NotificationFanoutService(issueRepository, counterStore, database, transactionManager, 1, 10, 500);
+	}
+
+	@AfterEach
+	void tearDown() {
+		service.shutdown();
+		database.shutdown();
+	}
+
+	@Test
+	void fanOutFromAfterCommitCallbackCommitsItsOwnTransaction() {
+		UUID issueId = UUID.randomUUID();
+		UUID reporterId = UUID.randomUUID();
+		UUID watcherId = UUID.randomUUID();
+		List<Object[]> header = new ArrayList<>();
+		header.add(new Object[] {"PRJ-1", "Fix login redirect", reporterId, null});
+		when(issueRepository.findNotificationHeader(issueId)).thenReturn(header);
+		when(issueRepository.findActiveWatcherIds(issueId)).thenReturn(List.of(watcherId));
+
+		// What CallerRunsPolicy does when the queue is full: the listener thread runs the fan-out
+		// from the committed transaction's afterCommit phase
+		AtomicInteger sent = new AtomicInteger();
+		outerTransaction.executeWithoutResult(status -> TransactionSynchronizationManager.registerSynchronization(
+				new TransactionSynchronization() {
+					@Override
+					public void afterCommit() {
+						sent.set(service.fanOut(issueId, Notification.NotificationType.INFO, "was updated", null));
+					}
+				}));
+
+		assertThat(sent.get()).isEqualTo(2);
+		assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM notifications", Integer.class)).isEqualTo(2);
+		assertThat(counterStore.committed).containsExactlyInAnyOrder(reporterId, watcherId);
+	}
+
+	@Test
+	void skipsTheActor() {
+		UUID issueId = UUID.randomUUID();
+		UUID reporterId = UUID.randomUUID();
+		List<Object[]> header = new ArrayList<>();
+		header.add(new Object[] {"PRJ-2", "Typo on dashboard", reporterId, reporterId});
+		when(issueRepository.findNotificationHeader(issueId)).thenReturn(header);
+		when(issueRepository.findActiveWatcherIds(issueId)).thenReturn(List.of(reporterId));
+
+		int sent = service.fanOut(issueId, Notification.NotificationType.INFO, "was updated", reporterId);
+
+		assertThat(sent).isZero();
+		assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM notifications", Integer.class)).isZero();
+	}
+
+	/**
+	 * Applies increments after commit, like the Redis store, so a fan-out that never commits
+	 * leaves the counts untouched.
+	 */
+	private static final class CommittedCounterStore implements UnreadCounterStore {
+
+		private final List<UUID> committed = new ArrayList<>();
+
+		@Override
+		public void increment(Collection<UUID> userIds) {
+			List<UUID> ids = List.copyOf(userIds);
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					committed.addAll(ids);
+				}
+			});
+		}
+
+		@Override
+		public void decrement(UUID userId, long count) {
+		}
+
+		@Override
+		public void set(UUID userId, long count) {
+		}
+
+		@Override
+		public long get(UUID userId) {
+			return 0;
+		}
+	}
+}
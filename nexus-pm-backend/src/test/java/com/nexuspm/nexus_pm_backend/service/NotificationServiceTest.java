@@ -0,0 +1,101 @@
+package com.nexuspm.nexus_pm_backend.service;
+
+import com.nexuspm.nexus_pm_backend.repository.NotificationCounterRepository;
+import com.nexuspm.nexus_pm_backend.repository.NotificationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class NotificationServiceTest {
+
+	private final UUID userId = UUID.randomUUID();
+
+	private NotificationRepository notificationRepository;
+	private NotificationCounterRepository counterRepository;
+	private NotificationService service;
+
+	@BeforeEach
+	void setUp() {
+		notificationRepository = mock(NotificationRepository.class);
+		counterRepository = mock(NotificationCounterRepository.class);
+		service = new NotificationService(notificationRepository,
+				new DatabaseUnreadCounterStore(counterRepository, notificationRepository));
+	}
+
+	@Test
+	void markingReadDecrementsOnlyByRowsThatWereUnread() {
+		List<UUID> ids = List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+		// One of the three was already read
+		when(notificationRepository.markAsReadByUserIdAndIds(eq(userId), eq(ids), any(LocalDateTime.class))).thenReturn(2);
+
+		assertThat(service.markAsRead(userId, ids)).isEqualTo(2);
+
+		verify(counterRepository).decrement(userId, 2);
+	}
+
+	@Test
+	void markingAllReadDecrementsInsteadOfResetting() {
+		when(notificationRepository.markAllAsReadByUserId(eq(userId), any(LocalDateTime.class))).thenReturn(5);
+
+		service.markAllAsRead(userId);
+
+		verify(counterRepository).decrement(userId, 5);
+		verify(counterRepository, never()).set(any(UUID.class), anyLong());
+	}
+
+	@Test
+	void nothingMarkedLeavesTheCounterAlone() {
+		when(notificationRepository.markAllAsReadByUserId(eq(userId), any(LocalDateTime.class))).thenReturn(0);
+
+		service.markAllAsRead(userId);
+
+		verify(counterRepository, never()).decrement(any(UUID.class), anyLong());
+	}
+
+	@Test
+	void firstReadSeedsTheCounterFromTheNotificationsTable() {
+		when(counterRepository.findUnreadCount(userId)).thenReturn(Optional.empty());
+		when(notificationRepository.countUnreadByUserId(userId)).thenReturn(7L);
+
+		assertThat(service.getUnreadCount(userId)).isEqualTo(7);
+
+		verify(counterRepository).insertIfMissing(userId);
+		verify(counterRepository).set(userId, 7);
+	}
+
+	@Test
+	void existingCounterIsReadWithoutCounting() {
+		when(counterRepository.findUnreadCount(userId)).thenReturn(Optional.of(4L));
+
+		assertThat(service.getUnreadCount(userId)).isEqualTo(4);
+
+		verify(notificationRepository, never()).countUnreadByUserId(any(UUID.class));
+	}
+
+	@Test
+	void incrementCreatesOnlyMissingCounterRows() {
+		UUID existing = UUID.randomUUID();
+		UUID fresh = UUID.randomUUID();
+		List<UUID> recipients = List.of(existing, fresh);
+		when(counterRepository.findExistingUserIds(recipients)).thenReturn(List.of(existing));
+
+		new DatabaseUnreadCounterStore(counterRepository, notificationRepository).increment(recipients);
+
+		verify(counterRepository).insertIfMissing(fresh);
+		verify(counterRepository, never()).insertIfMissing(existing);
+		verify(counterRepository).increment(recipients, 1);
+	}
+}
@@ -0,0 +1,56 @@
+package com.nexuspm.nexus_pm_backend.service;
+
+import com.nexuspm.nexus_pm_backend.model.Project;
+import com.nexuspm.nexus_pm_backend.repository.ProjectIssueSequenceRepository;
+import com.nexuspm.nexus_pm_backend.repository.ProjectMemberRepository;
+import com.nexuspm.nexus_pm_backend.repository.ProjectRepository;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ProjectServiceTest {
+
+	@Test
+	void issueSequenceIsDeletedBeforeItsProject() {
+		UUID projectId = UUID.randomUUID();
+		Project project = new Project();
+		project.setId(projectId);
+		ProjectRepository projectRepository = mock(ProjectRepository.class);
+		when(projectRepository.findById(projectId)).thenReturn(Optional.of(project));
+		ProjectIssueSequenceRepository sequenceRepository = mock(ProjectIssueSequenceRepository.class);
+		ProjectService service = new ProjectService(projectRepository, mock(ProjectMemberRepository.class),
+				sequenceRepository, mock(UserService.class), mock(ApplicationEventPublisher.class));
+
+		service.deleteProject(projectId);
+
+		// The FK cascade from projects would otherwise remove the sequence row first
+		InOrder order = inOrder(sequenceRepository, projectRepository);
+		order.verify(sequenceRepository).deleteById(projectId);
+		order.verify(projectRepository).delete(project);
+	}
+
+	@Test
+	void keyPrefixSearchMatchesWildcardsLiterally() {
+		ProjectRepository projectRepository = mock(ProjectRepository.class);
+		ProjectService service = new ProjectService(projectRepository, mock(ProjectMemberRepository.class),
+				mock(ProjectIssueSequenceRepository.class), mock(UserService.class), mock(ApplicationEventPublisher.class));
+		ReflectionTestUtils.setField(service, "sqlSearchMode", "fulltext");
+
+		service.searchProjects(" 50%_off\\ ", PageRequest.of(0, 20));
+
+		verify(projectRepository).fullTextSearchProjects(eq("50%_off\\"), eq("50\\%\\_off\\\\%"), any(Pageable.class));
+	}
+}
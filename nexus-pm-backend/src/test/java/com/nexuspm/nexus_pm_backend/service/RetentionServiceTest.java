@@ -0,0 +1,67 @@
+package com.nexuspm.nexus_pm_backend.service;
+
+import com.nexuspm.nexus_pm_backend.activity.ActivityPartitionService;
+import com.nexuspm.nexus_pm_backend.repository.ActivityRepository;
+import com.nexuspm.nexus_pm_backend.repository.NotificationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RetentionServiceTest {
+
+	private static final int CHUNK_SIZE = 100;
+
+	private final LocalDateTime cutoff = LocalDateTime.of(2025, 9, 1, 0, 0);
+
+	private NotificationRepository notificationRepository;
+	private ActivityRepository activityRepository;
+	private ActivityPartitionService partitionService;
+	private RetentionService service;
+
+	@BeforeEach
+	void setUp() {
+		notificationRepository = mock(NotificationRepository.class);
+		activityRepository = mock(ActivityRepository.class);
+		partitionService = mock(ActivityPartitionService.class);
+		when(partitionService.retentionCutoff()).thenReturn(cutoff);
+		service = new RetentionService(notificationRepository, activityRepository, partitionService,
+				mock(PlatformTransactionManager.class), 90, CHUNK_SIZE, 0);
+	}
+
+	@Test
+	void deletesInChunksUntilOneComesBackShort() {
+		when(notificationRepository.deleteReadCreatedBefore(any(), eq(CHUNK_SIZE))).thenReturn(100, 100, 37);
+
+		assertThat(service.purgeNotifications()).isEqualTo(237);
+		verify(notificationRepository, times(3)).deleteReadCreatedBefore(any(), eq(CHUNK_SIZE));
+	}
+
+	@Test
+	void activitiesUseThePartitionRetentionCutoff() {
+		when(activityRepository.deleteCreatedBefore(cutoff, CHUNK_SIZE)).thenReturn(12);
+
+		assertThat(service.purgeActivities()).isEqualTo(12);
+	}
+
+	@Test
+	void partitionedActivitiesAreLeftToPartitionMaintenance() {
+		when(partitionService.isPartitioned()).thenReturn(true);
+
+		service.purge();
+
+		verify(notificationRepository).deleteReadCreatedBefore(any(), eq(CHUNK_SIZE));
+		verify(activityRepository, never()).deleteCreatedBefore(any(), anyInt());
+	}
+}
@@ -0,0 +1,71 @@
+package com.nexuspm.nexus_pm_backend.service;
+
+import com.nexuspm.nexus_pm_backend.model.Issue;
+import com.nexuspm.nexus_pm_backend.repository.IssueRepository;
+import com.nexuspm.nexus_pm_backend.repository.SprintStatsRepository;
+import com.nexuspm.nexus_pm_backend.repository.SprintStatusCountRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class SprintAggregateServiceTest {
+
+	private final UUID fromSprint = UUID.randomUUID();
+	private final UUID toSprint = UUID.randomUUID();
+
+	private SprintStatsRepository sprintStatsRepository;
+	private SprintStatusCountRepository sprintStatusCountRepository;
+	private SprintBurndownService sprintBurndownService;
+	private SprintAggregateService service;
+
+	@BeforeEach
+	void setUp() {
+		sprintStatsRepository = mock(SprintStatsRepository.class);
+		when(sprintStatsRepository.applyDelta(any(), anyInt(), anyInt(), anyInt(), anyInt(), any())).thenReturn(1);
+		sprintStatusCountRepository = mock(SprintStatusCountRepository.class);
+		sprintBurndownService = mock(SprintBurndownService.class);
+		service = new SprintAggregateService(sprintStatsRepository, sprintStatusCountRepository,
+				mock(IssueRepository.class), sprintBurndownService);
+	}
+
+	@Test
+	void movingAnIssueMovesItsPointsBetweenSprints() {
+		service.apply(new SprintAggregateService.Contribution(fromSprint, Issue.IssueStatus.RESOLVED, 5),
+				new SprintAggregateService.Contribution(toSprint, Issue.IssueStatus.OPEN, 5));
+
+		verify(sprintStatsRepository).applyDelta(eq(fromSprint), eq(-5), eq(-5), eq(-1), eq(-1), any());
+		verify(sprintStatsRepository).applyDelta(eq(toSprint), eq(5), eq(0), eq(1), eq(0), any());
+		verify(sprintStatusCountRepository).applyDelta(fromSprint, Issue.IssueStatus.RESOLVED, -1);
+		verify(sprintStatusCountRepository).applyDelta(toSprint, Issue.IssueStatus.OPEN, 1);
+		verify(sprintBurndownService).record(fromSprint, -5);
+		verify(sprintBurndownService).record(toSprint, 5);
+	}
+
+	@Test
+	void completingAnIssueInPlaceRecordsNoScopeChange() {
+		service.apply(new SprintAggregateService.Contribution(toSprint, Issue.IssueStatus.IN_REVIEW, 3),
+				new SprintAggregateService.Contribution(toSprint, Issue.IssueStatus.CLOSED, 3));
+
+		verify(sprintStatsRepository).applyDelta(eq(toSprint), eq(-3), eq(0), eq(-1), eq(0), any());
+		verify(sprintStatsRepository).applyDelta(eq(toSprint), eq(3), eq(3), eq(1), eq(1), any());
+		verify(sprintBurndownService).record(toSprint, 0);
+	}
+
+	@Test
+	void unchangedContributionIsNotApplied() {
+		SprintAggregateService.Contribution same = new SprintAggregateService.Contribution(toSprint, Issue.IssueStatus.OPEN, 2);
+
+		service.apply(same, same);
+
+		verifyNoInteractions(sprintStatsRepository, sprintStatusCountRepository, sprintBurndownService);
+	}
+}
@@ -0,0 +1,80 @@
+package com.nexuspm.nexus_pm_backend.service;
+
+import com.nexuspm.nexus_pm_backend.cache.CacheNames;
+import com.nexuspm.nexus_pm_backend.model.Project;
+import com.nexuspm.nexus_pm_backend.model.Sprint;
+import com.nexuspm.nexus_pm_backend.repository.SprintRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SprintServiceCacheTest {
+
+	private static final UUID PROJECT_ID = UUID.randomUUID();
+	private static final UUID SPRINT_ID = UUID.randomUUID();
+
+	private AnnotationConfigApplicationContext context;
+	private Cache summaries;
+
+	@BeforeEach
+	void setUp() {
+		context = new AnnotationConfigApplicationContext(CachingConfig.class);
+		summaries = context.getBean(CacheManager.class).getCache(CacheNames.PROJECT_SUMMARY);
+		summaries.put(PROJECT_ID, "cached summary");
+	}
+
+	@AfterEach
+	void tearDown() {
+		context.close();
+	}
+
+	@Test
+	void renamingASprintEvictsItsProjectSummary() {
+		Sprint update = new Sprint();
+		update.setName("Sprint 8 - hardening");
+
+		context.getBean(SprintService.class).updateSprint(SPRINT_ID, update);
+
+		assertThat(summaries.get(PROJECT_ID)).isNull();
+	}
+
+	@Configuration
+	@EnableCaching
+	static class CachingConfig {
+
+		@Bean
+		CacheManager cacheManager() {
+			return new ConcurrentMapCacheManager(CacheNames.PROJECT_SUMMARY, CacheNames.ACTIVE_SPRINT_IDS);
+		}
+
+		@Bean
+		SprintService sprintService() {
+			Project project = new Project();
+			project.setId(PROJECT_ID);
+			Sprint sprint = new Sprint();
+			sprint.setId(SPRINT_ID);
+			sprint.setProject(project);
+			SprintRepository sprintRepository = mock(SprintRepository.class);
+			when(sprintRepository.findById(SPRINT_ID)).thenReturn(Optional.of(sprint));
+			when(sprintRepository.save(any(Sprint.class))).thenAnswer(invocation -> invocation.getArgument(0));
+			return new SprintService(sprintRepository, mock(ProjectService.class), mock(SprintAggregateService.class),
+					mock(SprintBurndownService.class), mock(ApplicationEventPublisher.class));
+		}
+	}
+}
@@ -0,0 +1,92 @@
+package com.nexuspm.nexus_pm_backend.service;
+
+import com.nexuspm.nexus_pm_backend.model.Issue;
+import com.nexuspm.nexus_pm_backend.model.Project;
+import com.nexuspm.nexus_pm_backend.model.Sprint;
+import com.nexuspm.nexus_pm_backend.model.SprintStats;
+import com.nexuspm.nexus_pm_backend.repository.IssueRepository;
+import com.nexuspm.nexus_pm_backend.repository.SprintRepository;
+import com.nexuspm.nexus_pm_backend.repository.SprintStatsRepository;
+import com.nexuspm.nexus_pm_backend.repository.SprintStatusCountRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SprintServiceTest {
+
+	private final UUID sprintId = UUID.randomUUID();
+
+	private SprintStatsRepository sprintStatsRepository;
+	private IssueRepository issueRepository;
+	private SprintService service;
+
+	@BeforeEach
+	void setUp() {
+		Project project = new Project();
+		project.setId(UUID.randomUUID());
+		Sprint sprint = new Sprint();
+		sprint.setId(sprintId);
+		sprint.setName("Sprint 7");
+		sprint.setStatus(Sprint.SprintStatus.ACTIVE);
+		sprint.setProject(project);
+
+		SprintRepository sprintRepository = mock(SprintRepository.class);
+		when(sprintRepository.findById(sprintId)).thenReturn(Optional.of(sprint));
+		when(sprintRepository.save(any(Sprint.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+		sprintStatsRepository = mock(SprintStatsRepository.class);
+		when(sprintStatsRepository.save(any(SprintStats.class))).thenAnswer(invocation -> {
+			SprintStats stats = invocation.getArgument(0);
+			when(sprintStatsRepository.findById(sprintId)).thenReturn(Optional.of(stats));
+			return stats;
+		});
+		issueRepository = mock(IssueRepository.class);
+		SprintAggregateService aggregateService = new SprintAggregateService(sprintStatsRepository,
+				mock(SprintStatusCountRepository.class), issueRepository, mock(SprintBurndownService.class));
+
+		service = new SprintService(sprintRepository, mock(ProjectService.class), aggregateService,
+				mock(SprintBurndownService.class), mock(ApplicationEventPublisher.class));
+	}
+
+	@Test
+	void velocityComesFromTheCounters() {
+		when(sprintStatsRepository.findPointTotals(sprintId)).thenReturn(rows(new Object[] {21, 13}));
+
+		Sprint completed = service.completeSprint(sprintId);
+
+		assertThat(completed.getStatus()).isEqualTo(Sprint.SprintStatus.COMPLETED);
+		assertThat(completed.getVelocity()).isEqualTo(13);
+		verify(issueRepository, never()).aggregateBySprintIdGroupByStatus(sprintId);
+	}
+
+	@Test
+	void sprintWithoutStatsRowHasItsCountersRebuilt() {
+		when(sprintStatsRepository.findPointTotals(sprintId)).thenReturn(List.of());
+		when(sprintStatsRepository.findById(sprintId)).thenReturn(Optional.empty());
+		when(issueRepository.aggregateBySprintIdGroupByStatus(sprintId)).thenReturn(rows(
+				new Object[] {Issue.IssueStatus.CLOSED, 2L, 8L},
+				new Object[] {Issue.IssueStatus.RESOLVED, 1L, 3L},
+				new Object[] {Issue.IssueStatus.IN_PROGRESS, 2L, 5L}));
+
+		Sprint completed = service.completeSprint(sprintId);
+
+		assertThat(completed.getVelocity()).isEqualTo(11);
+		verify(sprintStatsRepository).save(any(SprintStats.class));
+	}
+
+	private static List<Object[]> rows(Object[]... rows) {
+		return new ArrayList<>(List.of(rows));
+	}
+}
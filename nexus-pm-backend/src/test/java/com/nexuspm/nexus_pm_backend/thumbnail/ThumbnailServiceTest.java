@@ -0,0 +1,63 @@
+package com.nexuspm.nexus_pm_backend.thumbnail;
+
+import com.nexuspm.nexus_pm_backend.repository.AttachmentRepository;
+import com.nexuspm.nexus_pm_backend.repository.ThumbnailJobRepository;
+import com.nexuspm.nexus_pm_backend.repository.ThumbnailRepository;
+import com.nexuspm.nexus_pm_backend.storage.AttachmentStorage;
+import com.nexuspm.nexus_pm_backend.storage.ContentSpooler;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ThumbnailServiceTest {
+
+	@TempDir
+	Path uploadDir;
+
+	private ThumbnailJobRepository jobRepository;
+	private ThumbnailService service;
+
+	@BeforeEach
+	@SuppressWarnings("unchecked")
+	void setUp() throws Exception {
+		jobRepository = mock(ThumbnailJobRepository.class);
+		PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+		TransactionStatus transaction = new SimpleTransactionStatus();
+		when(transactionManager.getTransaction(any())).thenReturn(transaction);
+		service = new ThumbnailService(jobRepository, mock(ThumbnailRepository.class), mock(AttachmentRepository.class),
+				mock(AttachmentStorage.class), new ContentSpooler(uploadDir.toString(), DataSize.ofMegabytes(1)),
+				new ThumbnailRenderer(50_000_000L), transactionManager, mock(ObjectProvider.class),
+				new int[] {128, 512}, 1, 10, 3, Duration.ofSeconds(30), Duration.ofMinutes(10), DataSize.ofMegabytes(1));
+	}
+
+	@AfterEach
+	void tearDown() {
+		service.shutdown();
+	}
+
+	@Test
+	void staleJobsAreOnlyRequeuedBelowTheAttemptCap() {
+		service.requeueStaleJobs();
+
+		// A job whose worker died on its last attempt is failed rather than claimed again
+		verify(jobRepository).requeueStale(any(LocalDateTime.class), eq(3), any(LocalDateTime.class));
+		verify(jobRepository).failStale(any(LocalDateTime.class), eq(3), anyString(), any(LocalDateTime.class));
+	}
+}